@@ -11,8 +11,7 @@ import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,12 +34,18 @@ public class DefaultExecutionQueue implements ExecutionQueue {
           "io.camunda.db.rdbms.sql.IncidentMapper.updateHistoryCleanupDate",
           "io.camunda.db.rdbms.sql.DecisionInstanceMapper.updateHistoryCleanupDate",
           "io.camunda.db.rdbms.sql.VariableMapper.updateHistoryCleanupDate");
+  private static final int INITIAL_INDEX_CAPACITY = 64;
+  private static final int NO_SLOT = -1;
 
   private final SqlSessionFactory sessionFactory;
   private final List<PreFlushListener> preFlushListeners = new ArrayList<>();
   private final List<PostFlushListener> postFlushListeners = new ArrayList<>();
 
-  private final LinkedList<QueueItem> queue = new LinkedList<>();
+  private final List<QueueItem> queue = new ArrayList<>();
+  // the slot of the last queued item per key; the previous slots of the same key are chained via
+  // previousSlots, such that mergers only need to look at the items of their entity
+  private final Map<QueueItemKey, Integer> lastSlotByKey = new HashMap<>();
+  private int[] previousSlots = new int[INITIAL_INDEX_CAPACITY];
 
   private final long partitionId; // for addressing the logger
   private final int queueFlushLimit;
@@ -66,6 +71,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
         metrics.startFlushLatencyMeasurement();
       }
 
+      indexItem(entry, queue.size());
       queue.add(entry);
       metrics.recordEnqueuedStatement(entry.statementId());
       checkQueueForFlush();
@@ -112,29 +118,50 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   }
 
   /**
-   * Iterate from end over the queue and try to find a last added compatible queueItem. The
-   * queueItem will be replaced with a new, combined queueItem.
+   * Try to find the last added compatible queueItem. The queueItem will be replaced with a new,
+   * combined queueItem. If all combiners provide a {@link QueueItemMerger#key()}, only the items
+   * with these keys are looked at; otherwise, the whole queue is iterated from the end.
    */
   @Override
   public boolean tryMergeWithExistingQueueItem(final QueueItemMerger... combiners) {
     synchronized (queue) {
-      int index = queue.size() - 1;
-      for (final Iterator<QueueItem> it = queue.descendingIterator(); it.hasNext(); ) {
-        final QueueItem item = it.next();
+      int mergeSlot = NO_SLOT;
+      QueueItemMerger mergeCombiner = null;
 
+      if (Arrays.stream(combiners).allMatch(merger -> merger.key() != null)) {
         for (final QueueItemMerger merger : combiners) {
-          if (merger.canBeMerged(item)) {
-            LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
-            queue.set(index, merger.merge(item));
-            metrics.recordMergedQueueItem(item.contextType(), item.statementId());
-            return true;
+          // an item at the same slot was already accepted by a previous combiner, which wins
+          int slot = lastSlotByKey.getOrDefault(merger.key(), NO_SLOT);
+          while (slot > mergeSlot) {
+            if (merger.canBeMerged(queue.get(slot))) {
+              mergeSlot = slot;
+              mergeCombiner = merger;
+              break;
+            }
+            slot = previousSlots[slot];
           }
         }
+      } else {
+        for (int slot = queue.size() - 1; slot >= 0 && mergeCombiner == null; slot--) {
+          for (final QueueItemMerger merger : combiners) {
+            if (merger.canBeMerged(queue.get(slot))) {
+              mergeSlot = slot;
+              mergeCombiner = merger;
+              break;
+            }
+          }
+        }
+      }
 
-        index--;
+      if (mergeCombiner == null) {
+        return false;
       }
 
-      return false;
+      final QueueItem item = queue.get(mergeSlot);
+      LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
+      queue.set(mergeSlot, mergeCombiner.merge(item));
+      metrics.recordMergedQueueItem(item.contextType(), item.statementId());
+      return true;
     }
   }
 
@@ -152,11 +179,14 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     final var optimizedItems = optimizeQueueOrder(queue);
 
     try {
-      for (final var entry : optimizedItems) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
-        session.update(entry.statementId(), entry.parameter());
-        queue.remove();
-        flushedElements++;
+      try {
+        for (final var entry : optimizedItems) {
+          LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
+          session.update(entry.statementId(), entry.parameter());
+          flushedElements++;
+        }
+      } finally {
+        removeFirstItems(flushedElements);
       }
 
       if (!preFlushListeners.isEmpty()) {
@@ -237,10 +267,34 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     return resultList;
   }
 
-  LinkedList<QueueItem> getQueue() {
+  List<QueueItem> getQueue() {
     return queue;
   }
 
+  private void indexItem(final QueueItem item, final int slot) {
+    if (slot == previousSlots.length) {
+      previousSlots = Arrays.copyOf(previousSlots, slot * 2);
+    }
+
+    final Integer previousSlot = lastSlotByKey.put(QueueItemKey.of(item), slot);
+    previousSlots[slot] = previousSlot != null ? previousSlot : NO_SLOT;
+  }
+
+  private void removeFirstItems(final int count) {
+    if (count == queue.size()) {
+      queue.clear();
+      lastSlotByKey.clear();
+      return;
+    }
+
+    // only happens if a flush fails, so the index is simply rebuilt for the remaining items
+    queue.subList(0, count).clear();
+    lastSlotByKey.clear();
+    for (int slot = 0; slot < queue.size(); slot++) {
+      indexItem(queue.get(slot), slot);
+    }
+  }
+
   private void checkQueueForFlush() {
     if (queueFlushLimit <= 0) {
       // no limits, exporter must take care of it
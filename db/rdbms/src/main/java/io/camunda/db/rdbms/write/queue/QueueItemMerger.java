@@ -11,5 +11,21 @@ public interface QueueItemMerger {
 
   boolean canBeMerged(QueueItem queueItem);
 
+  /**
+   * Merges the given item with the new one. The merged item must keep the {@link
+   * QueueItem#contextType()} and {@link QueueItem#id()} of the original item.
+   */
   QueueItem merge(QueueItem originalItem);
+
+  /**
+   * Returns the key of the items this merger can merge with, if it only merges with items of a
+   * single entity. This allows the queue to look up the candidates directly instead of iterating
+   * over all queued items.
+   *
+   * @return the key of all items which {@link #canBeMerged(QueueItem)} can accept, or null if any
+   *     item may be merged
+   */
+  default QueueItemKey key() {
+    return null;
+  }
 }
@@ -41,4 +41,9 @@ public class UpsertMerger<T extends Copyable<T>> implements QueueItemMerger {
     return originalItem.copy(
         b -> b.parameter(((Copyable<T>) originalItem.parameter()).copy(mergeFunction)));
   }
+
+  @Override
+  public QueueItemKey key() {
+    return new QueueItemKey(contextType, id);
+  }
 }
@@ -18,6 +18,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import java.util.function.Predicate;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -270,6 +271,130 @@ class DefaultExecutionQueueTest {
     assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
   }
 
+  @Test
+  public void shouldMergeWithLastItemOfKey() {
+    // given
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "statement1", "p1");
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 2L, "statement2", "p2");
+    final var item3 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.UPDATE, 1L, "statement3", "p3");
+    final var item4 =
+        new QueueItem(ContextType.FLOW_NODE, WriteStatementType.INSERT, 1L, "statement4", "p4");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+    executionQueue.executeInQueue(item3);
+    executionQueue.executeInQueue(item4);
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            keyedMerger(ContextType.PROCESS_INSTANCE, 1L, item -> true));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("p1", "p2", "p3+", "p4");
+  }
+
+  @Test
+  public void shouldSkipItemsOfKeyWhichCannotBeMerged() {
+    // given
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "statement1", "p1");
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.UPDATE, 1L, "statement2", "p2");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            keyedMerger(
+                ContextType.PROCESS_INSTANCE,
+                1L,
+                item -> item.statementType() == WriteStatementType.INSERT));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("p1+", "p2");
+  }
+
+  @Test
+  public void shouldMergeWithLastItemAcceptedByAnyKeyedMerger() {
+    // given
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "statement1", "p1"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 2L, "statement2", "p2"));
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            keyedMerger(ContextType.PROCESS_INSTANCE, 1L, item -> true),
+            keyedMerger(ContextType.PROCESS_INSTANCE, 2L, item -> true));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("p1", "p2+");
+  }
+
+  @Test
+  public void shouldNotMergeWithFlushedItems() {
+    // given
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "statement1", "p1"));
+    executionQueue.flush();
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 2L, "statement2", "p2"));
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            keyedMerger(ContextType.PROCESS_INSTANCE, 1L, item -> true));
+
+    // then
+    assertThat(result).isFalse();
+    assertThat(executionQueue.getQueue()).extracting(QueueItem::parameter).containsExactly("p2");
+  }
+
+  @Test
+  public void shouldMergeWithRemainingItemsAfterFailedFlush() {
+    // given
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "statement1", "p1"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 2L, "statement2", "p2"));
+    when(session.update(eq("statement2"), any())).thenThrow(new RuntimeException("expected"));
+    assertThatThrownBy(() -> executionQueue.flush()).hasMessage("expected");
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            keyedMerger(ContextType.PROCESS_INSTANCE, 2L, item -> true));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue()).extracting(QueueItem::parameter).containsExactly("p2+");
+  }
+
   @Test
   public void shouldSortQueueItemsDuringFlush() {
     executionQueue.executeInQueue(
@@ -322,4 +447,26 @@ class DefaultExecutionQueueTest {
     verify(session).update(eq("statement1"), any());
     verify(session).update(eq("statement3"), any());
   }
+
+  private static QueueItemMerger keyedMerger(
+      final ContextType contextType, final Object id, final Predicate<QueueItem> canBeMerged) {
+    return new QueueItemMerger() {
+      @Override
+      public boolean canBeMerged(final QueueItem queueItem) {
+        return queueItem.contextType() == contextType
+            && queueItem.id().equals(id)
+            && canBeMerged.test(queueItem);
+      }
+
+      @Override
+      public QueueItem merge(final QueueItem originalItem) {
+        return originalItem.copy(b -> b.parameter(originalItem.parameter() + "+"));
+      }
+
+      @Override
+      public QueueItemKey key() {
+        return new QueueItemKey(contextType, id);
+      }
+    };
+  }
 }
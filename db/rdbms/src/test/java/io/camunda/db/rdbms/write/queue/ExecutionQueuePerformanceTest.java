@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of merging with and flushing the {@link DefaultExecutionQueue} as it grows. The
+ * statements are executed against a no-op session, so only the queue itself is measured.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ExecutionQueuePerformanceTest {
+
+  @Param({"100", "1000", "10000", "50000"})
+  public int queueSize;
+
+  private DefaultExecutionQueue queue;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    queue = newQueue();
+    fillQueue();
+  }
+
+  @JMHTest("measureMerge")
+  void shouldMergeIndependentlyOfQueueSize() {
+    // given
+    final var smallQueueScore = new double[1];
+    mergeTestCase(100)
+        .run()
+        .satisfies(result -> smallQueueScore[0] = result.getPrimaryResult().getScore());
+
+    // when
+    final var assertResult = mergeTestCase(10_000).run();
+
+    // then - a linear scan would be about two orders of magnitude slower; allow some slowdown for
+    // the larger working set
+    assertResult.isAtLeast(smallQueueScore[0] / 10, 0.1);
+  }
+
+  @Benchmark
+  public boolean measureMerge() {
+    final long id = ThreadLocalRandom.current().nextLong(queueSize);
+    return queue.tryMergeWithExistingQueueItem(new AppendingMerger(id));
+  }
+
+  @Benchmark
+  public int measureFillAndFlush() {
+    fillQueue();
+    return queue.flush();
+  }
+
+  private void fillQueue() {
+    for (long id = 0; id < queueSize; id++) {
+      final var contextType = id % 2 == 0 ? ContextType.PROCESS_INSTANCE : ContextType.FLOW_NODE;
+      queue.executeInQueue(
+          new QueueItem(contextType, WriteStatementType.INSERT, id, "insert", "parameter"));
+    }
+  }
+
+  private static DefaultExecutionQueue newQueue() {
+    final var session =
+        (SqlSession)
+            Proxy.newProxyInstance(
+                SqlSession.class.getClassLoader(),
+                new Class<?>[] {SqlSession.class},
+                (proxy, method, args) ->
+                    switch (method.getName()) {
+                      case "update" -> 1;
+                      case "flushStatements" -> List.of();
+                      default -> null;
+                    });
+    final var sessionFactory =
+        (SqlSessionFactory)
+            Proxy.newProxyInstance(
+                SqlSessionFactory.class.getClassLoader(),
+                new Class<?>[] {SqlSessionFactory.class},
+                (proxy, method, args) -> session);
+
+    return new DefaultExecutionQueue(
+        sessionFactory, 1, 0, new RdbmsWriterMetrics(new SimpleMeterRegistry()));
+  }
+
+  private static JMHTestCase mergeTestCase(final int queueSize) {
+    return JMHTestCase.of(
+        ExecutionQueuePerformanceTest.class,
+        "measureMerge",
+        options -> options.param("queueSize", String.valueOf(queueSize)));
+  }
+
+  /** Merges with the queued process instance of the given id, without copying its parameter. */
+  private record AppendingMerger(long id) implements QueueItemMerger {
+
+    @Override
+    public boolean canBeMerged(final QueueItem queueItem) {
+      return queueItem.contextType() == ContextType.PROCESS_INSTANCE && queueItem.id().equals(id);
+    }
+
+    @Override
+    public QueueItem merge(final QueueItem originalItem) {
+      return originalItem;
+    }
+
+    @Override
+    public QueueItemKey key() {
+      return new QueueItemKey(ContextType.PROCESS_INSTANCE, id);
+    }
+  }
+}
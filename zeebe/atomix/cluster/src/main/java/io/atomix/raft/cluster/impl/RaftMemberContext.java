@@ -20,6 +20,7 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.protocol.ProtocolVersionHandler;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
@@ -51,6 +52,8 @@ public final class RaftMemberContext {
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
   private IndexedRaftLogEntry currentEntry;
+  private int appendVersion = ProtocolVersionHandler.SBE_APPEND_VERSION;
+  private long appendVersionFallbackTime;
 
   RaftMemberContext(
       final DefaultRaftMember member,
@@ -74,6 +77,8 @@ public final class RaftMemberContext {
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
+    appendVersion = ProtocolVersionHandler.SBE_APPEND_VERSION;
+    appendVersionFallbackTime = 0;
 
     if (reader != null) {
       closeReader();
@@ -238,6 +243,23 @@ public final class RaftMemberContext {
     return failures;
   }
 
+  /**
+   * Returns the version of the append requests sent to the member; this is lowered if the member
+   * does not support the latest version yet. The latest version is tried again after some time, see
+   * {@link ProtocolVersionHandler#retryAppendVersion(int, long, long)}.
+   */
+  public int getAppendVersion() {
+    appendVersion =
+        ProtocolVersionHandler.retryAppendVersion(
+            appendVersion, appendVersionFallbackTime, System.currentTimeMillis());
+    return appendVersion;
+  }
+
+  public void setAppendVersion(final int appendVersion) {
+    this.appendVersion = appendVersion;
+    appendVersionFallbackTime = System.currentTimeMillis();
+  }
+
   /** Resets the member failure count. */
   public void resetFailureCount() {
     failures = 0;
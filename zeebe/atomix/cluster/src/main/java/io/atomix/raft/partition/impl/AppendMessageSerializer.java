@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.serializer.AppendRequestDecoder;
+import io.atomix.raft.protocol.serializer.AppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.protocol.serializer.AppendRequestEncoder;
+import io.atomix.raft.protocol.serializer.AppendRequestEncoder.EntriesEncoder;
+import io.atomix.raft.protocol.serializer.AppendResponseDecoder;
+import io.atomix.raft.protocol.serializer.AppendResponseEncoder;
+import io.atomix.raft.protocol.serializer.BooleanType;
+import io.atomix.raft.protocol.serializer.MessageHeaderDecoder;
+import io.atomix.raft.protocol.serializer.MessageHeaderEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Encodes append requests and responses with SBE, which is used instead of Kryo for append requests
+ * of at least version {@link ProtocolVersionHandler#SBE_APPEND_VERSION}.
+ *
+ * <p>Compared to Kryo, the size of the encoded message is computed upfront, so the entries are
+ * copied exactly once into a buffer of the right size, instead of into a growing output buffer
+ * which is copied again to create the resulting byte array.
+ *
+ * <p>The methods are thread-safe, as the flyweights are created per message.
+ */
+final class AppendMessageSerializer {
+
+  private AppendMessageSerializer() {}
+
+  static byte[] encodeRequest(final VersionedAppendRequest request) {
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final List<ReplicatableJournalRecord> entries = request.entries();
+
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendRequestEncoder.BLOCK_LENGTH
+            + EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+    for (final var entry : entries) {
+      length +=
+          EntriesEncoder.sbeBlockLength()
+              + EntriesEncoder.serializedJournalRecordHeaderLength()
+              + entry.serializedJournalRecord().length;
+    }
+
+    final var bytes = new byte[length];
+    final var buffer = new UnsafeBuffer(bytes);
+    final var encoder =
+        new AppendRequestEncoder()
+            .wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder())
+            .term(request.term())
+            .prevLogIndex(request.prevLogIndex())
+            .prevLogTerm(request.prevLogTerm())
+            .commitIndex(request.commitIndex());
+
+    final var entriesEncoder = encoder.entriesCount(entries.size());
+    for (final var entry : entries) {
+      final byte[] serializedRecord = entry.serializedJournalRecord();
+      entriesEncoder
+          .next()
+          .term(entry.term())
+          .index(entry.index())
+          .checksum(entry.checksum())
+          .putSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+    }
+    encoder.putLeader(leader, 0, leader.length);
+
+    return bytes;
+  }
+
+  static VersionedAppendRequest decodeRequest(final byte[] bytes) {
+    final var decoder =
+        new AppendRequestDecoder()
+            .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderDecoder());
+    final long term = decoder.term();
+    final long prevLogIndex = decoder.prevLogIndex();
+    final long prevLogTerm = decoder.prevLogTerm();
+    final long commitIndex = decoder.commitIndex();
+
+    final EntriesDecoder entriesDecoder = decoder.entries();
+    final List<ReplicatableJournalRecord> entries = new ArrayList<>(entriesDecoder.count());
+    for (final var entry : entriesDecoder) {
+      final long entryTerm = entry.term();
+      final long index = entry.index();
+      final long checksum = entry.checksum();
+      final var serializedRecord = new byte[entry.serializedJournalRecordLength()];
+      entry.getSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+      entries.add(new ReplicatableJournalRecord(entryTerm, index, checksum, serializedRecord));
+    }
+
+    return new VersionedAppendRequest(
+        ProtocolVersionHandler.SBE_APPEND_VERSION,
+        term,
+        decoder.leader(),
+        prevLogIndex,
+        prevLogTerm,
+        entries,
+        commitIndex);
+  }
+
+  static byte[] encodeResponse(final AppendResponse response) {
+    final RaftError error = response.status() == Status.ERROR ? response.error() : null;
+    final byte[] errorType =
+        error != null ? error.type().name().getBytes(StandardCharsets.UTF_8) : new byte[0];
+    final byte[] errorMessage =
+        error != null && error.message() != null
+            ? error.message().getBytes(StandardCharsets.UTF_8)
+            : new byte[0];
+
+    final int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendResponseEncoder.BLOCK_LENGTH
+            + AppendResponseEncoder.errorTypeHeaderLength()
+            + errorType.length
+            + AppendResponseEncoder.errorMessageHeaderLength()
+            + errorMessage.length;
+
+    final var bytes = new byte[length];
+    new AppendResponseEncoder()
+        .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderEncoder())
+        .succeeded(response.succeeded() ? BooleanType.TRUE : BooleanType.FALSE)
+        .term(response.term())
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .configurationIndex(response.configurationIndex())
+        .putErrorType(errorType, 0, errorType.length)
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+
+    return bytes;
+  }
+
+  static AppendResponse decodeResponse(final byte[] bytes) {
+    final var decoder =
+        new AppendResponseDecoder()
+            .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderDecoder());
+    final boolean succeeded = decoder.succeeded() == BooleanType.TRUE;
+    final long term = decoder.term();
+    final long lastLogIndex = decoder.lastLogIndex();
+    final long lastSnapshotIndex = decoder.lastSnapshotIndex();
+    final long configurationIndex = decoder.configurationIndex();
+    final String errorType = decoder.errorType();
+    final String errorMessage = decoder.errorMessage();
+
+    final RaftError error =
+        errorType.isEmpty()
+            ? null
+            : new RaftError(
+                RaftError.Type.valueOf(errorType), errorMessage.isEmpty() ? null : errorMessage);
+    return new AppendResponse(
+        error == null ? Status.OK : Status.ERROR,
+        error,
+        term,
+        succeeded,
+        lastLogIndex,
+        lastSnapshotIndex,
+        configurationIndex);
+  }
+}
@@ -34,6 +34,7 @@ import io.atomix.raft.protocol.LeaveRequest;
 import io.atomix.raft.protocol.LeaveResponse;
 import io.atomix.raft.protocol.PollRequest;
 import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
 import io.atomix.raft.protocol.RaftMessage;
 import io.atomix.raft.protocol.RaftServerProtocol;
 import io.atomix.raft.protocol.ReconfigureRequest;
@@ -139,6 +140,16 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
+    if (request.version() >= ProtocolVersionHandler.SBE_APPEND_VERSION) {
+      metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+      return clusterCommunicator.send(
+          context.appendV3subject,
+          request,
+          AppendMessageSerializer::encodeRequest,
+          AppendMessageSerializer::decodeResponse,
+          memberId,
+          requestTimeout);
+    }
     return sendAndReceive(context.appendV2subject, request, memberId);
   }
 
@@ -295,12 +306,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.appendV3subject,
+        AppendMessageSerializer::decodeRequest,
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        AppendMessageSerializer::encodeResponse);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendV3subject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -24,6 +24,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -35,6 +37,10 @@ import java.util.Objects;
  * received by the follower, the snapshot is reconstructed based on the provided {@link #chunkId()}
  * and other metadata. The last install request will be sent with {@link #complete()} being {@code
  * true} to indicate that all chunks of the snapshot have been sent.
+ *
+ * <p>The first request contains the checksums of all files of the snapshot. The follower can reuse
+ * the files which are unchanged compared to its own latest snapshot, and tells the leader to skip
+ * them in the {@link InstallResponse}.
  */
 public class InstallRequest extends AbstractRaftRequest {
 
@@ -58,6 +64,9 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the checksums of all files of the snapshot (only set for the first chunk, may be null); members
+  // of a previous version skip this field, and it is null if sent by such a member
+  private final Map<String, Long> fileChecksums;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,7 +78,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final Map<String, Long> fileChecksums) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +90,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.fileChecksums = fileChecksums;
   }
 
   /**
@@ -170,10 +181,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the checksums of all files of the snapshot, by file name. Only the first chunk of a
+   * snapshot contains the checksums, and only if sent by a leader which supports to reuse files.
+   *
+   * @return the checksums of the snapshot files, or an empty map if none are given
+   */
+  public Map<String, Long> fileChecksums() {
+    return fileChecksums == null ? Map.of() : fileChecksums;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        fileChecksums);
   }
 
   @Override
@@ -194,7 +225,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(fileChecksums, that.fileChecksums);
   }
 
   @Override
@@ -212,6 +244,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("fileChecksums", fileChecksums == null ? 0 : fileChecksums.size())
         .toString();
   }
 
@@ -233,6 +266,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private Map<String, Long> fileChecksums;
 
     /**
      * Sets the request current term.
@@ -346,6 +380,18 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the checksums of all files of the snapshot.
+     *
+     * @param fileChecksums the checksums of the snapshot files, by file name
+     * @return the request builder
+     */
+    public Builder withFileChecksums(final Map<String, Long> fileChecksums) {
+      checkNotNull(fileChecksums, "fileChecksums cannot be null");
+      this.fileChecksums = new HashMap<>(fileChecksums);
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +399,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          fileChecksums);
     }
 
     @Override
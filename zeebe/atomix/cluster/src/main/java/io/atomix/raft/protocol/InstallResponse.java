@@ -20,33 +20,52 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Besides indicating whether or not the request was successful, the response to the
+ * first request of a snapshot contains the files which the follower reuses from its own latest
+ * snapshot, and which the leader doesn't need to send.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the names of the files which the follower reuses (may be null); members of a previous version
+  // skip this field, and it is null if sent by such a member
+  protected Set<String> reusedFiles;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final Set<String> reusedFiles) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusedFiles = reusedFiles;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * @return the names of the snapshot files which the follower reuses, or an empty set if none
+   */
+  public Set<String> reusedFiles() {
+    return reusedFiles == null ? Set.of() : reusedFiles;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusedFiles", reusedFiles == null ? 0 : reusedFiles.size())
         .toString();
   }
 
@@ -62,17 +81,23 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected Set<String> reusedFiles;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, reusedFiles);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusedFiles(final Set<String> reusedFiles) {
+      this.reusedFiles = reusedFiles.isEmpty() ? null : new HashSet<>(reusedFiles);
+      return this;
+    }
   }
 }
@@ -7,8 +7,29 @@
  */
 package io.atomix.raft.protocol;
 
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
 public final class ProtocolVersionHandler {
 
+  /**
+   * Append requests of at least this version are encoded with SBE instead of Kryo. Members which do
+   * not know this version yet have no handler for it, in which case the leader falls back to {@link
+   * #KRYO_APPEND_VERSION}; see {@link #negotiateAppendVersion(int, Throwable)}.
+   */
+  public static final int SBE_APPEND_VERSION = 3;
+
+  /** The latest version of append requests which are encoded with Kryo. */
+  public static final int KRYO_APPEND_VERSION = 2;
+
+  /**
+   * After falling back to {@link #KRYO_APPEND_VERSION} for a member, the leader tries {@link
+   * #SBE_APPEND_VERSION} again after this interval. A member of the current version may have no
+   * handler for it only because it is still starting.
+   */
+  public static final Duration SBE_APPEND_RETRY_INTERVAL = Duration.ofSeconds(10);
+
   private ProtocolVersionHandler() {
     // To hide the public constructor
   }
@@ -32,4 +53,29 @@ public final class ProtocolVersionHandler {
         request.commitIndex(),
         request.entries());
   }
+
+  /**
+   * Returns the version of the append requests to send to a member, after an append request of the
+   * given version to it failed with the given error.
+   */
+  public static int negotiateAppendVersion(final int version, final Throwable error) {
+    final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+    if (version >= SBE_APPEND_VERSION && cause instanceof NoRemoteHandler) {
+      return KRYO_APPEND_VERSION;
+    }
+    return version;
+  }
+
+  /**
+   * Returns the version of the append requests to send to a member, which fell back to the given
+   * version at the given time. Once the retry interval has passed, the SBE version is tried again.
+   */
+  public static int retryAppendVersion(
+      final int version, final long fallbackTimestamp, final long currentTimestamp) {
+    if (version < SBE_APPEND_VERSION
+        && currentTimestamp - fallbackTimestamp >= SBE_APPEND_RETRY_INTERVAL.toMillis()) {
+      return SBE_APPEND_VERSION;
+    }
+    return version;
+  }
 }
@@ -34,6 +34,7 @@ import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
 import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
 import io.atomix.raft.protocol.RaftRequest;
 import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
@@ -129,7 +130,7 @@ final class LeaderAppender {
     final IndexedRaftLogEntry prevEntry = member.getCurrentEntry();
 
     final DefaultRaftMember leader = raft.getLeader();
-    return builderWithPreviousEntry(prevEntry)
+    return builderWithPreviousEntry(member, prevEntry)
         .withTerm(raft.getTerm())
         .withLeader(leader.memberId())
         .withEntries(Collections.emptyList())
@@ -138,7 +139,7 @@ final class LeaderAppender {
   }
 
   private VersionedAppendRequest.Builder builderWithPreviousEntry(
-      final IndexedRaftLogEntry prevEntry) {
+      final RaftMemberContext member, final IndexedRaftLogEntry prevEntry) {
     long prevIndex = 0;
     long prevTerm = 0;
 
@@ -152,7 +153,10 @@ final class LeaderAppender {
         prevTerm = currentSnapshot.getTerm();
       }
     }
-    return VersionedAppendRequest.builder().withPrevLogTerm(prevTerm).withPrevLogIndex(prevIndex);
+    return VersionedAppendRequest.builder()
+        .withVersion(member.getAppendVersion())
+        .withPrevLogTerm(prevTerm)
+        .withPrevLogIndex(prevIndex);
   }
 
   /** Builds a populated AppendEntries request. */
@@ -162,7 +166,7 @@ final class LeaderAppender {
 
     final DefaultRaftMember leader = raft.getLeader();
     final VersionedAppendRequest.Builder builder =
-        builderWithPreviousEntry(prevEntry)
+        builderWithPreviousEntry(member, prevEntry)
             .withTerm(raft.getTerm())
             .withLeader(leader.memberId())
             .withCommitIndex(raft.getCommitIndex());
@@ -413,8 +417,9 @@ final class LeaderAppender {
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
       final DefaultRaftMember leader = raft.getLeader();
+      final boolean initial = member.getNextSnapshotChunk() == null;
 
-      final InstallRequest request =
+      final var request =
           InstallRequest.builder()
               .withCurrentTerm(raft.getTerm())
               .withLeader(leader.memberId())
@@ -423,11 +428,14 @@ final class LeaderAppender {
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(initial)
               .withComplete(!reader.hasNext())
-              .withNextChunkId(reader.nextId())
-              .build();
-      return Optional.of(request);
+              .withNextChunkId(reader.nextId());
+      if (initial && persistedSnapshot.getChecksums() != null) {
+        // allows the member to reuse the unchanged files of its own snapshot
+        request.withFileChecksums(persistedSnapshot.getChecksums().getChecksums());
+      }
+      return Optional.of(request.build());
     } catch (final UncheckedIOException e) {
       LOGGER.warn(
           "Expected to send next chunk of Snapshot {} to {}. But could not read SnapshotChunk. Snapshot may have been deleted. Will retry.",
@@ -499,6 +507,10 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // the member reuses these files from its own snapshot, so they must not be sent anymore
+    if (!response.reusedFiles().isEmpty()) {
+      member.getSnapshotChunkReader().skip(response.reusedFiles());
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -628,6 +640,17 @@ final class LeaderAppender {
       final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
     failHeartbeat();
 
+    final int appendVersion =
+        ProtocolVersionHandler.negotiateAppendVersion(request.version(), error);
+    if (appendVersion != request.version()) {
+      LOGGER.info(
+          "{} does not support append requests of version {}, falling back to version {}",
+          member.getMember().memberId(),
+          request.version(),
+          appendVersion);
+      member.setAppendVersion(appendVersion);
+    }
+
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
   }
@@ -62,6 +62,8 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -75,6 +77,7 @@ public class PassiveRole extends InactiveRole {
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
+  private Set<String> reusedSnapshotFiles = Set.of();
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -230,6 +233,10 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
+    if (request.isInitial() && !request.complete() && !request.fileChecksums().isEmpty()) {
+      reusedSnapshotFiles = reuseSnapshotFiles(request);
+    }
+
     // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
     // snapshot offset.
     if (request.complete()) {
@@ -259,6 +266,7 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      reusedSnapshotFiles = Set.of();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
@@ -273,9 +281,30 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withReusedFiles(request.isInitial() ? reusedSnapshotFiles : Set.of())
                 .build()));
   }
 
+  private Set<String> reuseSnapshotFiles(final InstallRequest request) {
+    try {
+      final var reusedFiles =
+          pendingSnapshot.reuseFiles(new TreeMap<>(request.fileChecksums())).join();
+      log.debug(
+          "Reuse {} of {} files of snapshot {} from the latest snapshot",
+          reusedFiles.size(),
+          request.fileChecksums().size(),
+          pendingSnapshot.snapshotId());
+      return reusedFiles;
+    } catch (final Exception e) {
+      // the leader sends all files, as it does for a follower which can't reuse files
+      log.warn(
+          "Failed to reuse files of the latest snapshot for snapshot {}, receiving all files instead",
+          pendingSnapshot.snapshotId(),
+          e);
+      return Set.of();
+    }
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -431,18 +460,21 @@ public class PassiveRole extends InactiveRole {
   // further.
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
     if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
-      // Duplicate request for the same chunk that was previously processed
+      // Duplicate request for the same chunk that was previously processed; the response to the
+      // first chunk may have been lost, so the reused files are repeated
       return Either.left(
           logResponse(
               InstallResponse.builder()
                   .withStatus(Status.OK)
                   .withPreferredChunkSize(snapshotChunkSize)
+                  .withReusedFiles(reusedSnapshotFiles)
                   .build()));
     }
 
     // if null assume it is first chunk of file
     if (nextPendingSnapshotChunkId != null
-        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
+        && !nextPendingSnapshotChunkId.equals(request.chunkId())
+        && !isFirstChunkAfterReusedFiles(request.chunkId())) {
       final var errMsg =
           "Expected chunkId of ["
               + new SnapshotChunkId(nextPendingSnapshotChunkId)
@@ -510,6 +542,21 @@ public class PassiveRole extends InactiveRole {
     return Either.right(null);
   }
 
+  // the leader skips the reused files, so the next chunk may belong to a later file than expected
+  private boolean isFirstChunkAfterReusedFiles(final ByteBuffer chunkId) {
+    if (reusedSnapshotFiles.isEmpty()) {
+      return false;
+    }
+
+    final var expectedChunkId = new SnapshotChunkId(nextPendingSnapshotChunkId);
+    final var receivedChunkId = new SnapshotChunkId(chunkId);
+    final var receivedFileName = receivedChunkId.fileName();
+    return reusedSnapshotFiles.contains(expectedChunkId.fileName())
+        && !reusedSnapshotFiles.contains(receivedFileName)
+        && receivedFileName.compareTo(expectedChunkId.fileName()) > 0
+        && receivedChunkId.offset() == 0;
+  }
+
   private CompletableFuture<InstallResponse> failIfSnapshotAlreadyExists(
       final ExecutionException errorCreatingPendingSnapshot,
       final SnapshotChunkImpl snapshotChunk) {
@@ -551,6 +598,7 @@ public class PassiveRole extends InactiveRole {
     if (pendingSnapshot != null) {
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      reusedSnapshotFiles = Set.of();
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
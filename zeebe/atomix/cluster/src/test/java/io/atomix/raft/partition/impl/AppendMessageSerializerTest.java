@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class AppendMessageSerializerTest {
+
+  @Test
+  void shouldEncodeAndDecodeRequest() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withVersion(ProtocolVersionHandler.SBE_APPEND_VERSION)
+            .withTerm(3)
+            .withLeader(MemberId.from("leader"))
+            .withPrevLogIndex(10)
+            .withPrevLogTerm(2)
+            .withCommitIndex(9)
+            .withEntries(
+                List.of(
+                    new ReplicatableJournalRecord(3, 11, 123, new byte[] {1, 2, 3}),
+                    new ReplicatableJournalRecord(3, 12, 456, new byte[0]),
+                    new ReplicatableJournalRecord(3, 13, 789, new byte[1024])))
+            .build();
+
+    // when
+    final var decoded =
+        AppendMessageSerializer.decodeRequest(AppendMessageSerializer.encodeRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldEncodeAndDecodeRequestWithoutEntries() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withVersion(ProtocolVersionHandler.SBE_APPEND_VERSION)
+            .withTerm(1)
+            .withLeader(MemberId.from("1"))
+            .withPrevLogIndex(0)
+            .withPrevLogTerm(0)
+            .withCommitIndex(0)
+            .withEntries(List.of())
+            .build();
+
+    // when
+    final var decoded =
+        AppendMessageSerializer.decodeRequest(AppendMessageSerializer.encodeRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.leader()).isEqualTo(MemberId.from("1"));
+  }
+
+  @Test
+  void shouldEncodeAndDecodeResponse() {
+    // given
+    final var response =
+        AppendResponse.builder()
+            .withStatus(Status.OK)
+            .withTerm(3)
+            .withSucceeded(true)
+            .withLastLogIndex(12)
+            .withLastSnapshotIndex(5)
+            .withConfigurationIndex(7)
+            .build();
+
+    // when
+    final var decoded =
+        AppendMessageSerializer.decodeResponse(AppendMessageSerializer.encodeResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error()).isNull();
+  }
+
+  @Test
+  void shouldEncodeAndDecodeErrorResponse() {
+    // given
+    final var response =
+        AppendResponse.builder()
+            .withStatus(Status.ERROR)
+            .withError(RaftError.Type.UNAVAILABLE, "not ready")
+            .build();
+
+    // when
+    final var decoded =
+        AppendMessageSerializer.decodeResponse(AppendMessageSerializer.encodeResponse(response));
+
+    // then
+    assertThat(decoded.status()).isEqualTo(Status.ERROR);
+    assertThat(decoded.error().type()).isEqualTo(RaftError.Type.UNAVAILABLE);
+    assertThat(decoded.error().message()).isEqualTo("not ready");
+  }
+}
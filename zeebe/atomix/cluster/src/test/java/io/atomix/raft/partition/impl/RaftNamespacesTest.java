@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AbstractRaftRequest;
+import io.atomix.raft.protocol.AbstractRaftResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.utils.serializer.Namespace;
+import io.atomix.utils.serializer.Namespaces;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that install requests and responses can be exchanged with members which don't know the
+ * fields to reuse snapshot files, e.g. during a rolling update. The previous versions of the
+ * messages are registered with the same ids as the current ones.
+ */
+final class RaftNamespacesTest {
+
+  private static final Namespace PREVIOUS_RAFT_PROTOCOL =
+      new Namespace.Builder()
+          .register(Namespaces.BASIC)
+          .nextId(Namespaces.BEGIN_USER_CUSTOM_ID + 4)
+          .register(PreviousInstallRequest.class)
+          .register(PreviousInstallResponse.class)
+          .nextId(Namespaces.BEGIN_USER_CUSTOM_ID + 12)
+          .register(Status.class)
+          .register(RaftError.class)
+          .register(RaftError.Type.class)
+          .nextId(522)
+          .register(MemberId.class)
+          .name("PreviousRaftProtocol")
+          .build();
+
+  @Test
+  void shouldSkipFileChecksumsOfInstallRequestOnPreviousVersion() {
+    // given
+    final var request =
+        newInstallRequest().withFileChecksums(Map.of("000001.sst", 123L, "CURRENT", 456L)).build();
+
+    // when
+    final PreviousInstallRequest decoded =
+        PREVIOUS_RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(request));
+
+    // then
+    assertThat(decoded.currentTerm).isEqualTo(request.currentTerm());
+    assertThat(decoded.leader).isEqualTo(request.leader());
+    assertThat(decoded.index).isEqualTo(request.index());
+    assertThat(decoded.term).isEqualTo(request.term());
+    assertThat(decoded.version).isEqualTo(1);
+    assertThat(decoded.chunkId).isEqualTo(request.chunkId());
+    assertThat(decoded.nextChunkId).isEqualTo(request.nextChunkId());
+    assertThat(decoded.data).isEqualTo(request.data());
+    assertThat(decoded.initial).isEqualTo(request.isInitial());
+    assertThat(decoded.complete).isEqualTo(request.complete());
+  }
+
+  @Test
+  void shouldReadInstallRequestOfPreviousVersionWithoutFileChecksums() {
+    // given
+    final var request = new PreviousInstallRequest();
+
+    // when
+    final InstallRequest decoded =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(PREVIOUS_RAFT_PROTOCOL.serialize(request));
+
+    // then
+    assertThat(decoded).isEqualTo(newInstallRequest().build());
+    assertThat(decoded.fileChecksums()).isEmpty();
+  }
+
+  @Test
+  void shouldSkipReusedFilesOfInstallResponseOnPreviousVersion() {
+    // given
+    final var response =
+        InstallResponse.builder()
+            .withStatus(Status.OK)
+            .withPreferredChunkSize(1024)
+            .withReusedFiles(Set.of("000001.sst"))
+            .build();
+
+    // when
+    final PreviousInstallResponse decoded =
+        PREVIOUS_RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(response));
+
+    // then
+    assertThat(decoded.status()).isEqualTo(Status.OK);
+    assertThat(decoded.preferredChunkSize).isEqualTo(1024);
+  }
+
+  @Test
+  void shouldReadInstallResponseOfPreviousVersionWithoutReusedFiles() {
+    // given
+    final var response = new PreviousInstallResponse(Status.OK, 1024);
+
+    // when
+    final InstallResponse decoded =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(PREVIOUS_RAFT_PROTOCOL.serialize(response));
+
+    // then
+    assertThat(decoded.status()).isEqualTo(Status.OK);
+    assertThat(decoded.preferredChunkSize()).isEqualTo(1024);
+    assertThat(decoded.reusedFiles()).isEmpty();
+  }
+
+  private static InstallRequest.Builder newInstallRequest() {
+    return InstallRequest.builder()
+        .withCurrentTerm(3)
+        .withLeader(MemberId.from("leader"))
+        .withIndex(100)
+        .withTerm(2)
+        .withVersion(1)
+        .withChunkId(ByteBuffer.wrap(new byte[] {1}))
+        .withNextChunkId(ByteBuffer.wrap(new byte[] {2}))
+        .withData(ByteBuffer.wrap(new byte[] {3, 4, 5}))
+        .withInitial(true)
+        .withComplete(false);
+  }
+
+  /** The install request before the file checksums were added. */
+  private static final class PreviousInstallRequest extends AbstractRaftRequest {
+    private final long currentTerm;
+    private final MemberId leader;
+    private final long index;
+    private final long term;
+    private final int version;
+    private final ByteBuffer chunkId;
+    private final ByteBuffer nextChunkId;
+    private final ByteBuffer data;
+    private final boolean initial;
+    private final boolean complete;
+
+    private PreviousInstallRequest() {
+      currentTerm = 3;
+      leader = MemberId.from("leader");
+      index = 100;
+      term = 2;
+      version = 1;
+      chunkId = ByteBuffer.wrap(new byte[] {1});
+      nextChunkId = ByteBuffer.wrap(new byte[] {2});
+      data = ByteBuffer.wrap(new byte[] {3, 4, 5});
+      initial = true;
+      complete = false;
+    }
+
+    @Override
+    public MemberId from() {
+      return leader;
+    }
+  }
+
+  /** The install response before the reused files were added. */
+  private static final class PreviousInstallResponse extends AbstractRaftResponse {
+    private final int preferredChunkSize;
+
+    private PreviousInstallResponse(final Status status, final int preferredChunkSize) {
+      super(status, null);
+      this.preferredChunkSize = preferredChunkSize;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.MessagingException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+final class ProtocolVersionHandlerTest {
+
+  @Test
+  void shouldFallBackToKryoIfMemberHasNoSbeHandler() {
+    // given
+    final var error = new CompletionException(new MessagingException.NoRemoteHandler("append"));
+
+    // when
+    final int version =
+        ProtocolVersionHandler.negotiateAppendVersion(
+            ProtocolVersionHandler.SBE_APPEND_VERSION, error);
+
+    // then
+    assertThat(version).isEqualTo(ProtocolVersionHandler.KRYO_APPEND_VERSION);
+  }
+
+  @Test
+  void shouldKeepVersionOnOtherErrors() {
+    // given
+    final var error = new CompletionException(new TimeoutException());
+
+    // when
+    final int version =
+        ProtocolVersionHandler.negotiateAppendVersion(
+            ProtocolVersionHandler.SBE_APPEND_VERSION, error);
+
+    // then
+    assertThat(version).isEqualTo(ProtocolVersionHandler.SBE_APPEND_VERSION);
+  }
+
+  @Test
+  void shouldNotDowngradeKryoVersion() {
+    // given
+    final var error = new MessagingException.NoRemoteHandler("append");
+
+    // when
+    final int version =
+        ProtocolVersionHandler.negotiateAppendVersion(
+            ProtocolVersionHandler.KRYO_APPEND_VERSION, error);
+
+    // then
+    assertThat(version).isEqualTo(ProtocolVersionHandler.KRYO_APPEND_VERSION);
+  }
+
+  @Test
+  void shouldKeepKryoVersionWithinRetryInterval() {
+    // given
+    final long fallbackTimestamp = 1_000;
+
+    // when
+    final int version =
+        ProtocolVersionHandler.retryAppendVersion(
+            ProtocolVersionHandler.KRYO_APPEND_VERSION,
+            fallbackTimestamp,
+            fallbackTimestamp + ProtocolVersionHandler.SBE_APPEND_RETRY_INTERVAL.toMillis() - 1);
+
+    // then
+    assertThat(version).isEqualTo(ProtocolVersionHandler.KRYO_APPEND_VERSION);
+  }
+
+  @Test
+  void shouldRetrySbeVersionAfterRetryInterval() {
+    // given
+    final long fallbackTimestamp = 1_000;
+
+    // when
+    final int version =
+        ProtocolVersionHandler.retryAppendVersion(
+            ProtocolVersionHandler.KRYO_APPEND_VERSION,
+            fallbackTimestamp,
+            fallbackTimestamp + ProtocolVersionHandler.SBE_APPEND_RETRY_INTERVAL.toMillis());
+
+    // then
+    assertThat(version).isEqualTo(ProtocolVersionHandler.SBE_APPEND_VERSION);
+  }
+}
@@ -33,6 +33,7 @@ import java.nio.file.Path;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.zip.CRC32C;
@@ -131,6 +132,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public void setMaximumChunkSize(final int maximumChunkSize) {}
 
+      @Override
+      public void skip(final Set<String> chunkNames) {
+        // files of in-memory snapshots are never reused
+      }
+
       @Override
       public void close() {
         iterator = null;
@@ -212,6 +218,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Set<String>> reuseFiles(final SortedMap<String, Long> fileChecksums) {
+    return CompletableActorFuture.completed(Set.of());
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
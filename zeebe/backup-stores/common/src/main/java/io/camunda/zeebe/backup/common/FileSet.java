@@ -43,9 +43,21 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * A file stored as part of a backup.
+   *
+   * @param name the name of the file, unique within its file set
+   * @param checksum the hex encoded SHA-256 digest of the file's content if the file is stored in a
+   *     content addressed store shared by incremental backups, or null if the file is stored as
+   *     part of the backup itself
+   */
+  public record NamedFile(String name, String checksum) {
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null);
+    }
   }
 }
@@ -93,6 +93,12 @@ public sealed interface Manifest {
 
     CompletedManifest complete();
 
+    /**
+     * Completes the backup, replacing the file sets with the given ones. Used by incremental
+     * backups, which only know the checksums of the stored files once they were saved.
+     */
+    CompletedManifest complete(final FileSet snapshot, final FileSet segments);
+
     FailedManifest fail(final String failureReason);
   }
 
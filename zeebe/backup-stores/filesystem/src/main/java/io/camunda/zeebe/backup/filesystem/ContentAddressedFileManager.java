@@ -0,0 +1,222 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.FileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the files of incremental backups by their content. Every file is stored once as a blob
+ * named after the SHA-256 digest of its content, such that consecutive backups which share most
+ * files (e.g. unchanged SST files and older segments) only store the files which changed. The
+ * manifest of a backup references the blobs through the checksums of its {@link NamedFile}s.
+ *
+ * <p>Blobs are scoped per partition and node, so only a single broker ever writes to or collects
+ * garbage in a blob directory.
+ */
+final class ContentAddressedFileManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ContentAddressedFileManager.class);
+
+  // The path format is constructed by basePath/blobs/partitionId/nodeId/
+  private static final String PATH_FORMAT = "%s/blobs/%s/%s/";
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final String TMP_SUFFIX = ".tmp";
+  private static final HexFormat HEX_FORMAT = HexFormat.of();
+  private final String basePath;
+
+  ContentAddressedFileManager(final String basePath) {
+    this.basePath = basePath;
+  }
+
+  /**
+   * Stores the content of all files which are not yet known to the store, and returns the file set
+   * referencing the stored content by checksum.
+   */
+  FileSet save(final BackupIdentifier id, final NamedFileSet fileSet) {
+    final var blobsPath = blobsPath(id);
+    final List<NamedFile> files = new ArrayList<>();
+
+    for (final var namedFile : fileSet.namedFiles().entrySet()) {
+      final var sourceFileName = namedFile.getKey();
+      final var sourceFilePath = namedFile.getValue();
+
+      try {
+        var checksum = checksum(sourceFilePath);
+        if (Files.exists(blobPath(blobsPath, checksum))) {
+          LOGGER.trace(
+              "Reuse stored content {} for file {} of backup {}", checksum, sourceFileName, id);
+        } else {
+          checksum = storeBlob(blobsPath, sourceFilePath);
+        }
+        files.add(new NamedFile(sourceFileName, checksum));
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Unable to store file " + sourceFilePath, e);
+      }
+    }
+
+    return new FileSet(files);
+  }
+
+  NamedFileSet restore(final BackupIdentifier id, final FileSet fileSet, final Path targetFolder) {
+    final var blobsPath = blobsPath(id);
+    final var pathByName = new HashMap<String, Path>();
+
+    for (final var file : fileSet.files()) {
+      final var filePath = targetFolder.resolve(file.name());
+      try {
+        Files.copy(
+            blobPath(blobsPath, file.checksum()), filePath, StandardCopyOption.REPLACE_EXISTING);
+        FileUtil.flush(filePath);
+      } catch (final NoSuchFileException e) {
+        throw new UncheckedIOException(
+            "Unable to restore file %s of backup %s, its content %s does not exist"
+                .formatted(file.name(), id, file.checksum()),
+            e);
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Unable to restore file " + file.name(), e);
+      }
+      pathByName.put(file.name(), filePath);
+    }
+
+    try {
+      FileUtil.flushDirectory(targetFolder);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          "Unable to flush directory "
+              + targetFolder
+              + ", the restored backup "
+              + id
+              + " may be incomplete and inconsistent!",
+          e);
+    }
+
+    return new NamedFileSetImpl(pathByName);
+  }
+
+  boolean hasBlobs(final BackupIdentifier id) {
+    return Files.isDirectory(blobsPath(id));
+  }
+
+  /**
+   * Deletes all blobs of the partition and node of the given backup which are not referenced by any
+   * of the given file sets, as well as leftovers of interrupted saves. Must not run concurrently
+   * with {@link #save(BackupIdentifier, NamedFileSet)} for the same partition and node, as blobs
+   * reused by a backup which is not completed yet are not referenced by its manifest.
+   *
+   * @return the number of deleted blobs
+   */
+  int collectGarbage(final BackupIdentifier id, final Stream<FileSet> referencedFileSets) {
+    final var blobsPath = blobsPath(id);
+    final Set<String> referencedChecksums = new HashSet<>();
+    referencedFileSets
+        .flatMap(fileSet -> fileSet.files().stream())
+        .map(NamedFile::checksum)
+        .forEach(referencedChecksums::add);
+
+    final List<Path> unreferencedBlobs;
+    try (final var blobs = Files.walk(blobsPath)) {
+      unreferencedBlobs =
+          blobs
+              .filter(Files::isRegularFile)
+              .filter(blob -> !referencedChecksums.contains(blob.getFileName().toString()))
+              .toList();
+    } catch (final NoSuchFileException e) {
+      return 0;
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to list stored content in " + blobsPath, e);
+    }
+
+    for (final var blob : unreferencedBlobs) {
+      try {
+        Files.deleteIfExists(blob);
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Unable to delete unreferenced content " + blob, e);
+      }
+    }
+
+    if (!unreferencedBlobs.isEmpty()) {
+      LOGGER.debug(
+          "Deleted {} unreferenced blobs of partition {} and node {}",
+          unreferencedBlobs.size(),
+          id.partitionId(),
+          id.nodeId());
+    }
+    return unreferencedBlobs.size();
+  }
+
+  /**
+   * Copies the file into the store and returns its checksum. The checksum is computed over the
+   * copied bytes, so it matches the stored content even if the source was modified concurrently.
+   */
+  private String storeBlob(final Path blobsPath, final Path sourceFilePath) throws IOException {
+    FileUtil.ensureDirectoryExists(blobsPath);
+    final var tmpPath = Files.createTempFile(blobsPath, null, TMP_SUFFIX);
+    final var digest = newDigest();
+    try (final var input = new DigestInputStream(Files.newInputStream(sourceFilePath), digest)) {
+      Files.copy(input, tmpPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+    FileUtil.flush(tmpPath);
+
+    final var checksum = HEX_FORMAT.formatHex(digest.digest());
+    final var blobPath = blobPath(blobsPath, checksum);
+    FileUtil.ensureDirectoryExists(blobPath.getParent());
+    FileUtil.moveDurably(tmpPath, blobPath, StandardCopyOption.ATOMIC_MOVE);
+    return checksum;
+  }
+
+  private String checksum(final Path file) throws IOException {
+    final var digest = newDigest();
+    try (final InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+      input.transferTo(OutputStream.nullOutputStream());
+    }
+    return HEX_FORMAT.formatHex(digest.digest());
+  }
+
+  private Path blobsPath(final BackupIdentifier id) {
+    return Path.of(PATH_FORMAT.formatted(basePath, id.partitionId(), id.nodeId()));
+  }
+
+  private Path blobPath(final Path blobsPath, final String checksum) {
+    // spread the blobs over sub directories to keep the directories small
+    return blobsPath.resolve(checksum.substring(0, 2)).resolve(checksum);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -7,11 +7,21 @@
  */
 package io.camunda.zeebe.backup.filesystem;
 
-public record FilesystemBackupConfig(String basePath) {
+/**
+ * @param basePath the base path to store all related backup files in
+ * @param incremental whether to store the files of backups by content, such that files shared by
+ *     consecutive backups are only stored once
+ */
+public record FilesystemBackupConfig(String basePath, boolean incremental) {
+
+  public FilesystemBackupConfig(final String basePath) {
+    this(basePath, false);
+  }
 
   public static class Builder {
 
     private String basePath;
+    private boolean incremental;
 
     /**
      * The base path to store all related backup files in.
@@ -24,9 +34,22 @@ public record FilesystemBackupConfig(String basePath) {
       return this;
     }
 
+    /**
+     * Enables incremental backups: files are stored once by their content and shared by all backups
+     * of the same partition and node which contain them. Files which are not referenced by any
+     * backup anymore are garbage collected when deleting backups.
+     *
+     * @param incremental true to store backups incrementally
+     * @return the builder for chaining
+     */
+    public Builder withIncremental(final boolean incremental) {
+      this.incremental = incremental;
+      return this;
+    }
+
     public FilesystemBackupConfig build() {
 
-      return new FilesystemBackupConfig(basePath);
+      return new FilesystemBackupConfig(basePath, incremental);
     }
   }
 }
@@ -13,15 +13,24 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
+import io.camunda.zeebe.backup.common.Manifest.StatusCode;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +39,11 @@ import org.slf4j.LoggerFactory;
  *
  * <p>All created object keys are prefixed by the {@link BackupIdentifier}, with the following
  * scheme: {@code basePath/partitionId/checkpointId/nodeId}.
+ *
+ * <p>If {@link FilesystemBackupConfig#incremental()} is enabled, the files of new backups are
+ * instead stored by content in {@code basePath/blobs/partitionId/nodeId}, and their manifests
+ * reference the stored content by checksum. Backups are always restored the way they were saved,
+ * regardless of the current configuration.
  */
 public final class FilesystemBackupStore implements BackupStore {
 
@@ -43,14 +57,21 @@ public final class FilesystemBackupStore implements BackupStore {
   private final ExecutorService executor;
   private final FileSetManager fileSetManager;
   private final ManifestManager manifestManager;
+  private final ContentAddressedFileManager contentAddressedFileManager;
+  private final boolean incremental;
+  // saving incremental backups may reuse stored content which is not yet referenced by a completed
+  // manifest, so garbage collection must wait for concurrent saves
+  private final ReadWriteLock contentLock = new ReentrantReadWriteLock();
 
   public FilesystemBackupStore(
       final FilesystemBackupConfig config, final ExecutorService executor) {
     validateConfig(config);
     this.executor = executor;
+    incremental = config.incremental();
 
     fileSetManager = new FileSetManager(config.basePath());
     manifestManager = new ManifestManager(config.basePath());
+    contentAddressedFileManager = new ContentAddressedFileManager(config.basePath());
   }
 
   @Override
@@ -59,9 +80,13 @@ public final class FilesystemBackupStore implements BackupStore {
         () -> {
           final var manifest = manifestManager.createInitialManifest(backup);
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
-            manifestManager.completeManifest(manifest);
+            if (incremental) {
+              saveIncremental(backup, manifest);
+            } else {
+              fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
+              fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+              manifestManager.completeManifest(manifest);
+            }
           } catch (final Exception e) {
             manifestManager.markAsFailed(manifest.id(), e.getMessage());
             throw e;
@@ -94,9 +119,15 @@ public final class FilesystemBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
+          final var manifest = manifestManager.getManifest(id);
           manifestManager.deleteManifest(id);
-          fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
-          fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          if (!isContentAddressed(manifest)) {
+            fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
+            fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          }
+          if (contentAddressedFileManager.hasBlobs(id)) {
+            collectGarbage(id);
+          }
         },
         executor);
   }
@@ -116,11 +147,9 @@ public final class FilesystemBackupStore implements BackupStore {
             case COMPLETED -> {
               final var completed = manifest.asCompleted();
               final var snapshot =
-                  fileSetManager.restore(
-                      id, SNAPSHOT_FILESET_NAME, completed.snapshot(), targetFolder);
+                  restoreFileSet(id, SNAPSHOT_FILESET_NAME, completed.snapshot(), targetFolder);
               final var segments =
-                  fileSetManager.restore(
-                      id, SEGMENTS_FILESET_NAME, completed.segments(), targetFolder);
+                  restoreFileSet(id, SEGMENTS_FILESET_NAME, completed.segments(), targetFolder);
               yield new BackupImpl(id, manifest.descriptor(), snapshot, segments);
             }
           };
@@ -157,6 +186,57 @@ public final class FilesystemBackupStore implements BackupStore {
         });
   }
 
+  private void saveIncremental(final Backup backup, final InProgressManifest manifest) {
+    contentLock.readLock().lock();
+    try {
+      final var snapshot = contentAddressedFileManager.save(backup.id(), backup.snapshot());
+      final var segments = contentAddressedFileManager.save(backup.id(), backup.segments());
+      manifestManager.completeManifest(manifest, snapshot, segments);
+    } finally {
+      contentLock.readLock().unlock();
+    }
+  }
+
+  private NamedFileSet restoreFileSet(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final FileSet fileSet,
+      final Path targetFolder) {
+    if (isContentAddressed(fileSet)) {
+      return contentAddressedFileManager.restore(id, fileSet, targetFolder);
+    }
+    return fileSetManager.restore(id, fileSetName, fileSet, targetFolder);
+  }
+
+  private void collectGarbage(final BackupIdentifier id) {
+    contentLock.writeLock().lock();
+    try {
+      final var wildcard =
+          new BackupIdentifierWildcardImpl(
+              Optional.of(id.nodeId()), Optional.of(id.partitionId()), Optional.empty());
+      final var referencedFileSets =
+          manifestManager.listManifests(wildcard).stream()
+              .filter(manifest -> manifest.statusCode() == StatusCode.COMPLETED)
+              .map(Manifest::asCompleted)
+              .flatMap(completed -> Stream.of(completed.snapshot(), completed.segments()));
+      contentAddressedFileManager.collectGarbage(id, referencedFileSets);
+    } finally {
+      contentLock.writeLock().unlock();
+    }
+  }
+
+  private static boolean isContentAddressed(final Manifest manifest) {
+    if (manifest == null || manifest.statusCode() != StatusCode.COMPLETED) {
+      return false;
+    }
+    final var completed = manifest.asCompleted();
+    return isContentAddressed(completed.snapshot()) || isContentAddressed(completed.segments());
+  }
+
+  private static boolean isContentAddressed(final FileSet fileSet) {
+    return fileSet.files().stream().anyMatch(file -> file.checksum() != null);
+  }
+
   public static void validateConfig(final FilesystemBackupConfig config) {
     if (config.basePath() == null || config.basePath().isBlank()) {
       throw new IllegalArgumentException("Base directory is required");
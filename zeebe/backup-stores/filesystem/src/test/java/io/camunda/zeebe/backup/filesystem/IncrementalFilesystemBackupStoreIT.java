@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Runs the same tests as {@link FilesystemBackupStoreIT}, but with incremental backups. */
+public class IncrementalFilesystemBackupStoreIT extends FilesystemBackupStoreIT {
+
+  @TempDir Path sourceDir;
+
+  @Override
+  @BeforeEach
+  public void setUpStore() {
+    backupConfig =
+        new FilesystemBackupConfig.Builder()
+            .withBasePath(backupDir.toString())
+            .withIncremental(true)
+            .build();
+    backupStore =
+        new FilesystemBackupStore(backupConfig, Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  @Test
+  void shouldStoreSharedFilesOnlyOnce() throws IOException {
+    // given
+    final var shared = createFile("shared.sst", "shared");
+    final var first = backup(1, Map.of("shared.sst", shared), createFile("1.log", "first"));
+    final var second = backup(2, Map.of("shared.sst", shared), createFile("2.log", "second"));
+
+    // when
+    backupStore.save(first).join();
+    backupStore.save(second).join();
+
+    // then
+    assertThat(storedBlobs()).hasSize(3);
+  }
+
+  @Test
+  void shouldRestoreBackupFromStoredContent(@TempDir final Path targetDir) throws IOException {
+    // given
+    final var shared = createFile("shared.sst", "shared");
+    backupStore.save(backup(1, Map.of("shared.sst", shared), createFile("1.log", "first"))).join();
+    final var second = backup(2, Map.of("shared.sst", shared), createFile("2.log", "second"));
+    backupStore.save(second).join();
+
+    // when
+    final var restored = backupStore.restore(second.id(), targetDir).join();
+
+    // then
+    assertThat(restored.snapshot().namedFiles())
+        .containsExactly(Map.entry("shared.sst", targetDir.resolve("shared.sst")));
+    assertThat(targetDir.resolve("shared.sst")).hasContent("shared");
+    assertThat(targetDir.resolve("segment.log")).hasContent("second");
+  }
+
+  @Test
+  void shouldKeepContentReferencedByRemainingBackupsOnDelete(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var shared = createFile("shared.sst", "shared");
+    final var first = backup(1, Map.of("shared.sst", shared), createFile("1.log", "first"));
+    final var second = backup(2, Map.of("shared.sst", shared), createFile("2.log", "second"));
+    backupStore.save(first).join();
+    backupStore.save(second).join();
+
+    // when
+    backupStore.delete(first.id()).join();
+
+    // then
+    assertThat(storedBlobs()).hasSize(2);
+    backupStore.restore(second.id(), targetDir).join();
+    assertThat(targetDir.resolve("shared.sst")).hasContent("shared");
+    assertThat(targetDir.resolve("segment.log")).hasContent("second");
+  }
+
+  @Test
+  void shouldDeleteAllContentWithLastBackup() throws IOException {
+    // given
+    final var backup =
+        backup(
+            1,
+            Map.of("shared.sst", createFile("shared.sst", "shared")),
+            createFile("1.log", "first"));
+    backupStore.save(backup).join();
+
+    // when
+    backupStore.delete(backup.id()).join();
+
+    // then
+    assertThat(storedBlobs()).isEmpty();
+  }
+
+  @Test
+  void shouldRestoreBackupSavedBeforeEnablingIncrementalBackups(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var fullBackupStore =
+        new FilesystemBackupStore(
+            new FilesystemBackupConfig.Builder().withBasePath(backupDir.toString()).build(),
+            Executors.newVirtualThreadPerTaskExecutor());
+    final var backup =
+        backup(
+            1,
+            Map.of("shared.sst", createFile("shared.sst", "shared")),
+            createFile("1.log", "first"));
+    fullBackupStore.save(backup).join();
+    fullBackupStore.closeAsync().join();
+
+    // when
+    backupStore.restore(backup.id(), targetDir).join();
+
+    // then
+    assertThat(targetDir.resolve("shared.sst")).hasContent("shared");
+    assertThat(targetDir.resolve("segment.log")).hasContent("first");
+    assertThat(storedBlobs()).isEmpty();
+  }
+
+  private Backup backup(
+      final long checkpointId, final Map<String, Path> snapshot, final Path segment) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, 2, checkpointId),
+        new BackupDescriptorImpl(Optional.of("snapshot-" + checkpointId), 4, 5, "test"),
+        new NamedFileSetImpl(snapshot),
+        new NamedFileSetImpl(Map.of("segment.log", segment)));
+  }
+
+  private Path createFile(final String name, final String content) throws IOException {
+    return Files.writeString(sourceDir.resolve(name), content);
+  }
+
+  private Stream<Path> storedBlobs() throws IOException {
+    final var blobsDir = backupDir.resolve("blobs");
+    if (!Files.exists(blobsDir)) {
+      return Stream.empty();
+    }
+
+    try (final var files = Files.walk(blobsDir)) {
+      return files.filter(Files::isRegularFile).toList().stream();
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.benchmarks.jmh;
+
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Map;
+
+/** Records which resemble the ones written by the broker, shared by the benchmarks. */
+public final class BenchmarkRecords {
+
+  private static final byte[] VARIABLES =
+      MsgPackConverter.convertToMsgPack(
+          Map.of("orderId", "order-4711", "amount", 99.95, "express", true));
+  private static final byte[] CUSTOM_HEADERS =
+      MsgPackConverter.convertToMsgPack(Map.of("region", "eu-west", "priority", "high"));
+
+  private BenchmarkRecords() {}
+
+  public static JobRecord jobRecord() {
+    return new JobRecord()
+        .setType("payment-service")
+        .setWorker("payment-worker-1")
+        .setRetries(3)
+        .setDeadline(1_700_000_000_000L)
+        .setBpmnProcessId("order-process")
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessDefinitionVersion(1)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("collect-payment")
+        .setElementInstanceKey(2251799813685260L)
+        .setCustomHeaders(BufferUtil.wrapArray(CUSTOM_HEADERS))
+        .setVariables(BufferUtil.wrapArray(VARIABLES));
+  }
+
+  public static ProcessInstanceRecord processInstanceRecord() {
+    return new ProcessInstanceRecord()
+        .setBpmnProcessId("order-process")
+        .setVersion(1)
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("collect-payment")
+        .setFlowScopeKey(2251799813685251L)
+        .setBpmnElementType(BpmnElementType.SERVICE_TASK);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.benchmarks.jmh.db;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures point reads and writes of a transactional column family, on a database which is
+ * configured like the broker's, but without consistency checks. Each write runs in its own
+ * transaction, like a small processing step in the engine.
+ *
+ * <p>The bulk benchmarks compare upserting many keys in one transaction one by one with upserting
+ * them in a single write batch; their results are reported per key.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TransactionalColumnFamilyBenchmark {
+  private static final int PREFILLED_KEYS = 100_000;
+  private static final int BULK_SIZE = 1_000;
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("column-family-benchmark");
+    db =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(),
+                new AccessMetricsConfiguration(Kind.NONE, 1),
+                SimpleMeterRegistry::new)
+            .createDb(directory.toFile());
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+    context.runInTransaction(
+        () -> {
+          for (long i = 0; i < PREFILLED_KEYS; i++) {
+            key.wrapLong(i);
+            value.wrapLong(i);
+            columnFamily.upsert(key, value);
+          }
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public DbLong measureGet() {
+    key.wrapLong(ThreadLocalRandom.current().nextLong(PREFILLED_KEYS));
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public void measureUpsertInTransaction() {
+    final long nextKey = ThreadLocalRandom.current().nextLong(PREFILLED_KEYS);
+    context.runInTransaction(
+        () -> {
+          key.wrapLong(nextKey);
+          value.wrapLong(nextKey + 1);
+          columnFamily.upsert(key, value);
+        });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BULK_SIZE)
+  public void measureBulkUpsert() {
+    final long firstKey = ThreadLocalRandom.current().nextLong(PREFILLED_KEYS - BULK_SIZE);
+    context.runInTransaction(
+        () -> {
+          for (long i = firstKey; i < firstKey + BULK_SIZE; i++) {
+            key.wrapLong(i);
+            value.wrapLong(i + 1);
+            columnFamily.upsert(key, value);
+          }
+        });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BULK_SIZE)
+  public void measureBulkUpsertInWriteBatch() {
+    final long firstKey = ThreadLocalRandom.current().nextLong(PREFILLED_KEYS - BULK_SIZE);
+    context.runInTransaction(
+        () ->
+            columnFamily.writeBatch(
+                batch -> {
+                  for (long i = firstKey; i < firstKey + BULK_SIZE; i++) {
+                    key.wrapLong(i);
+                    value.wrapLong(i + 1);
+                    batch.upsert(key, value);
+                  }
+                }));
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.benchmarks.jmh.engine;
+
+import io.camunda.zeebe.benchmarks.jmh.BenchmarkRecords;
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of looking up a batch of activatable jobs for a single tenant, when the jobs
+ * of many tenants share the same job type. The jobs of the tenants are interleaved by their keys,
+ * as if they were created concurrently. Use e.g. {@code -p jobsPerTenant=100000} to measure with a
+ * larger state, and {@code maxJobsToActivate} to measure small and large activations.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JobActivationBenchmark {
+  private static final int JOBS_PER_TRANSACTION = 10_000;
+
+  @Param("100")
+  public int tenantCount;
+
+  @Param("1000")
+  public int jobsPerTenant;
+
+  @Param({"32", "1000"})
+  public int maxJobsToActivate;
+
+  private final MutableInteger activatedJobs = new MutableInteger();
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private DbJobState jobState;
+  private DirectBuffer jobType;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("job-activation-benchmark");
+    db =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(),
+                new AccessMetricsConfiguration(Kind.NONE, 1),
+                SimpleMeterRegistry::new)
+            .createDb(directory.toFile());
+    final TransactionContext context = db.createContext();
+    jobState = new DbJobState(db, context);
+
+    final var job = BenchmarkRecords.jobRecord();
+    jobType = BufferUtil.cloneBuffer(job.getTypeBuffer());
+
+    final long jobCount = (long) tenantCount * jobsPerTenant;
+    for (long firstKey = 0; firstKey < jobCount; firstKey += JOBS_PER_TRANSACTION) {
+      final long batchStart = firstKey;
+      context.runInTransaction(
+          () -> {
+            final long batchEnd = Math.min(batchStart + JOBS_PER_TRANSACTION, jobCount);
+            for (long key = batchStart; key < batchEnd; key++) {
+              job.setTenantId(tenantId((int) (key % tenantCount)));
+              jobState.create(key + 1, job);
+            }
+          });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public int measureCollectActivatableJobsOfOneTenant() {
+    final var tenantId = tenantId(ThreadLocalRandom.current().nextInt(tenantCount));
+    activatedJobs.set(0);
+    jobState.forEachActivatableJobs(
+        jobType,
+        List.of(tenantId),
+        (key, job) -> activatedJobs.incrementAndGet() < maxJobsToActivate);
+    return activatedJobs.get();
+  }
+
+  private static String tenantId(final int tenant) {
+    return "tenant-" + tenant;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.benchmarks.jmh.engine;
+
+import io.camunda.zeebe.engine.perf.TestEngine;
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to complete a process instance with a parallel multi-instance body over a large
+ * input collection, on a single partition engine. The inner activity is a manual task, so the
+ * measurement is dominated by the activation and completion of the child instances, including the
+ * evaluation of the input collection.
+ *
+ * <p>The body has no output collection. The output collection is still rewritten on the completion
+ * of every child instance, so its cost grows quadratically with the size of the collection and is
+ * not covered here. The recording exporter keeps all records in memory, which limits the size of
+ * the input collection for the given heap.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MultiInstanceBenchmark {
+  private static final Duration MAX_WAIT_TIME = Duration.ofMinutes(30);
+
+  @Param({"10000", "50000"})
+  private int items;
+
+  private AutoCloseableRule autoCloseableRule;
+  private TestEngine engine;
+  private ProcessInstanceClient processInstanceClient;
+  private List<Integer> inputCollection;
+
+  @Setup
+  public void setup() throws IOException {
+    autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+    autoCloseableRule.manage(temporaryFolder::delete);
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+
+    engine =
+        TestEngine.createSinglePartitionEngine(
+            new TestContext(actorScheduler, temporaryFolder, autoCloseableRule));
+    engine
+        .createDeploymentClient()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .manualTask("task")
+                .multiInstance(
+                    m ->
+                        m.parallel()
+                            .zeebeInputCollectionExpression("items")
+                            .zeebeInputElement("item"))
+                .endEvent()
+                .done())
+        .deploy();
+    processInstanceClient = engine.createProcessInstanceClient();
+    inputCollection = IntStream.range(0, items).boxed().toList();
+  }
+
+  @TearDown
+  public void tearDown() {
+    autoCloseableRule.after();
+  }
+
+  @Benchmark
+  public Record<ProcessInstanceRecordValue> measureMultiInstanceCompletion() {
+    // the creation and the completion of a large collection take much longer than the default wait
+    // time
+    RecordingExporter.setMaximumWaitTime(MAX_WAIT_TIME.toMillis());
+    final long processInstanceKey =
+        processInstanceClient
+            .ofBpmnProcessId("process")
+            .withVariable("items", inputCollection)
+            .create();
+
+    final var completed =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withRecordKey(processInstanceKey)
+            .getFirst();
+
+    // drop the recorded records, so the exporter doesn't accumulate them over the run
+    engine.reset();
+    return completed;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.benchmarks.jmh.journal;
+
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending to and reading from a {@link SegmentedJournal}, without flushing. Old segments
+ * are deleted while appending, so the journal does not fill up the disk during long runs.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+  private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final int READ_ENTRIES = 100_000;
+  private static final int COMPACTION_INTERVAL = 100_000;
+
+  @Param({"128", "1024"})
+  public int entrySize;
+
+  private final DirectBufferWriter entryWriter = new DirectBufferWriter();
+  private Path directory;
+  private Journal journal;
+  private JournalReader reader;
+  private long asqn;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-benchmark");
+    journal =
+        SegmentedJournal.builder(new SimpleMeterRegistry())
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withMetaStore(new JournalMetaStore.InMemory())
+            .build();
+
+    final var entry = new byte[entrySize];
+    ThreadLocalRandom.current().nextBytes(entry);
+    entryWriter.wrap(new UnsafeBuffer(entry));
+
+    for (int i = 0; i < READ_ENTRIES; i++) {
+      journal.append(++asqn, entryWriter);
+    }
+    reader = journal.openReader();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    reader.close();
+    journal.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public JournalRecord measureAppend() {
+    final var record = journal.append(++asqn, entryWriter);
+    if (record.index() % COMPACTION_INTERVAL == 0) {
+      // only keep the most recent entries, so the journal doesn't grow unbounded
+      journal.deleteUntil(record.index() - READ_ENTRIES);
+    }
+    return record;
+  }
+
+  @Benchmark
+  public JournalRecord measureSeekAndRead() {
+    final long firstIndex = journal.getFirstIndex();
+    final long lastIndex = journal.getLastIndex();
+    reader.seek(ThreadLocalRandom.current().nextLong(firstIndex, lastIndex + 1));
+    return reader.next();
+  }
+}
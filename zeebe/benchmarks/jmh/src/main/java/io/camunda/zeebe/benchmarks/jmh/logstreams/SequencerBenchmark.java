@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.benchmarks.jmh.logstreams;
+
+import io.camunda.zeebe.benchmarks.jmh.BenchmarkRecords;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing batches through the sequencer of a {@link LogStream}, including flow control and
+ * serializing the batch. The log storage only serializes the batch into a reusable buffer and
+ * commits it right away, so the storage itself is not part of the measurement.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SequencerBenchmark {
+
+  @Param({"1", "10"})
+  public int batchSize;
+
+  private LogStream logStream;
+  private LogStreamWriter writer;
+  private List<LogAppendEntry> batch;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    logStream =
+        LogStream.builder()
+            .withPartitionId(1)
+            .withLogName("sequencer-benchmark")
+            .withLogStorage(new DiscardingLogStorage())
+            .withClock(InstantSource.system())
+            .withMeterRegistry(new SimpleMeterRegistry())
+            .build();
+    writer = logStream.newLogStreamWriter();
+
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.COMMAND)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.COMPLETE);
+    final var record = BenchmarkRecords.jobRecord();
+    batch = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      batch.add(LogAppendEntry.of(metadata, record));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    logStream.close();
+  }
+
+  @Benchmark
+  public Either<WriteFailure, Long> measureWrite() {
+    return writer.tryWrite(WriteContext.internal(), batch);
+  }
+
+  private static final class DiscardingLogStorage implements LogStorage {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private long index;
+
+    @Override
+    public LogStorageReader newReader() {
+      return new EmptyLogStorageReader();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      bufferWriter.write(buffer, 0);
+      index++;
+      listener.onWrite(index, highestPosition);
+      listener.onCommit(index, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+
+  private static final class EmptyLogStorageReader implements LogStorageReader {
+
+    @Override
+    public void seek(final long position) {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public DirectBuffer next() {
+      throw new NoSuchElementException();
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.benchmarks.jmh.msgpack;
+
+import io.camunda.zeebe.benchmarks.jmh.BenchmarkRecords;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding records to and decoding them from MessagePack, as done for every record which
+ * is written to or read from the log. Decoding reuses the same record instance, like the engine
+ * does.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RecordEncodingBenchmark {
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final JobRecord decodedJob = new JobRecord();
+  private final ProcessInstanceRecord decodedProcessInstance = new ProcessInstanceRecord();
+
+  private JobRecord job;
+  private ProcessInstanceRecord processInstance;
+  private DirectBuffer encodedJob;
+  private DirectBuffer encodedProcessInstance;
+
+  @Setup
+  public void setup() {
+    job = BenchmarkRecords.jobRecord();
+    processInstance = BenchmarkRecords.processInstanceRecord();
+    encodedJob = BufferUtil.createCopy(job);
+    encodedProcessInstance = BufferUtil.createCopy(processInstance);
+  }
+
+  @Benchmark
+  public int measureEncodeJob() {
+    job.write(writeBuffer, 0);
+    return job.getLength();
+  }
+
+  @Benchmark
+  public JobRecord measureDecodeJob() {
+    decodedJob.wrap(encodedJob);
+    return decodedJob;
+  }
+
+  @Benchmark
+  public int measureEncodeProcessInstance() {
+    processInstance.write(writeBuffer, 0);
+    return processInstance.getLength();
+  }
+
+  @Benchmark
+  public ProcessInstanceRecord measureDecodeProcessInstance() {
+    decodedProcessInstance.wrap(encodedProcessInstance);
+    return decodedProcessInstance;
+  }
+}
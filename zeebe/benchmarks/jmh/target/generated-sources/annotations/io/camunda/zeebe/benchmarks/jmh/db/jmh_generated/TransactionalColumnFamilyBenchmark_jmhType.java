@@ -0,0 +1,4 @@
+package io.camunda.zeebe.benchmarks.jmh.db.jmh_generated;
+public class TransactionalColumnFamilyBenchmark_jmhType extends TransactionalColumnFamilyBenchmark_jmhType_B3 {
+}
+
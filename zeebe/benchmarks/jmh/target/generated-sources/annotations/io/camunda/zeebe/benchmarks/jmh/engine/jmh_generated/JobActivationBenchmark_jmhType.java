@@ -0,0 +1,4 @@
+package io.camunda.zeebe.benchmarks.jmh.engine.jmh_generated;
+public class JobActivationBenchmark_jmhType extends JobActivationBenchmark_jmhType_B3 {
+}
+
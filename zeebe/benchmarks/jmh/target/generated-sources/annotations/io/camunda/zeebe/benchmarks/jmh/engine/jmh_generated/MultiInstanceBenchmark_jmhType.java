@@ -0,0 +1,4 @@
+package io.camunda.zeebe.benchmarks.jmh.engine.jmh_generated;
+public class MultiInstanceBenchmark_jmhType extends MultiInstanceBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.camunda.zeebe.benchmarks.jmh.engine.jmh_generated;
+public class ProcessInstanceCreationBenchmark_jmhType extends ProcessInstanceCreationBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.camunda.zeebe.benchmarks.jmh.logstreams.jmh_generated;
+public class SequencerBenchmark_jmhType extends SequencerBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.camunda.zeebe.benchmarks.jmh.msgpack.jmh_generated;
+public class RecordEncodingBenchmark_jmhType extends RecordEncodingBenchmark_jmhType_B3 {
+}
+
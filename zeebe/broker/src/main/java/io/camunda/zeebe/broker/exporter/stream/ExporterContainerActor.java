@@ -0,0 +1,444 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+
+/**
+ * Exports the records of the log stream to a single {@link ExporterContainer}. Each container has
+ * its own actor and reader, such that a slow or failing exporter doesn't hold back the others. The
+ * {@link ExporterDirector} coordinates the lifecycle and the phase of all containers.
+ *
+ * <p>The container is bound to this actor once it is started, i.e. all calls to the exporter and
+ * the updates of its position in the {@link ExportersState} happen on this actor.
+ */
+final class ExporterContainerActor extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FROM_POSITION_FAILED =
+      "Expected to find event with the position %s in log stream, but nothing was found. Failed to recover '%s'.";
+
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+  private final String name;
+  private final int partitionId;
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final ExporterMetrics metrics;
+  private final RecordExporter recordExporter;
+  private final EventFilter eventFilter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final int maxBatchSize;
+  private final long startPosition;
+  private final Runnable progressListener;
+  private final Consumer<Throwable> failureListener;
+  private final RecordMetadata skippedRecordMetadata = new RecordMetadata();
+  private LogStreamReader logStreamReader;
+  private ExporterPhase exporterPhase;
+  private boolean inExportingPhase;
+
+  // read by the director to coordinate the lowest exported position of all exporters
+  private volatile long lastReadPosition;
+  private volatile long lastExportedPosition;
+
+  ExporterContainerActor(
+      final String directorName,
+      final int partitionId,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final ExporterMetrics metrics,
+      final InstantSource clock,
+      final EventFilter positionsToSkipFilter,
+      final int maxBatchSize,
+      final ExporterPhase exporterPhase,
+      final long startPosition,
+      final Runnable progressListener,
+      final Consumer<Throwable> failureListener) {
+    name = directorName + "-" + container.getId();
+    this.partitionId = partitionId;
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.maxBatchSize = maxBatchSize;
+    this.exporterPhase = exporterPhase;
+    this.startPosition = startPosition;
+    this.progressListener = progressListener;
+    this.failureListener = failureListener;
+    lastReadPosition = Math.max(container.getPosition(), startPosition);
+    lastExportedPosition = lastReadPosition;
+
+    this.metrics = metrics;
+    recordExporter = new RecordExporter(metrics, List.of(container), partitionId, clock);
+    eventFilter = positionsToSkipFilter.and(createEventFilter(container.getContext().getFilter()));
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+  }
+
+  String getId() {
+    return container.getId();
+  }
+
+  /** Returns the position of the last record which was read from the log stream. */
+  long getLastReadPosition() {
+    return lastReadPosition;
+  }
+
+  /** Returns the position of the last record which was handed to the exporter or skipped. */
+  long getLastExportedPosition() {
+    return lastExportedPosition;
+  }
+
+  /**
+   * Returns the position which was last acknowledged by the exporter. The future completes after
+   * all pending position updates of the exporter were applied to the state.
+   */
+  ActorFuture<Long> getPosition() {
+    return actor.call(container::getPosition);
+  }
+
+  ActorFuture<Void> pauseExporting() {
+    return actor.call(
+        () -> {
+          exporterPhase = ExporterPhase.PAUSED;
+        });
+  }
+
+  ActorFuture<Void> softPauseExporting() {
+    return actor.call(
+        () -> {
+          container.softPauseExporter();
+          exporterPhase = ExporterPhase.SOFT_PAUSED;
+        });
+  }
+
+  ActorFuture<Void> resumeExporting() {
+    return actor.call(
+        () -> {
+          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+            container.undoSoftPauseExporter();
+          }
+          exporterPhase = ExporterPhase.EXPORTING;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    logStreamReader = logStream.newLogStreamReader();
+  }
+
+  @Override
+  protected void onActorStarted() {
+    isOpened.set(true);
+    container.initContainer(
+        actor, metrics, new ExportersState(zeebeDb, zeebeDb.createContext()), exporterPhase);
+
+    final var openFuture =
+        new BackOffRetryStrategy(actor, Duration.ofSeconds(10), Duration.ofMillis(150))
+            .runWithRetry(
+                () -> {
+                  try {
+                    container.openExporter();
+                    return true;
+                  } catch (final Exception e) {
+                    LOG.error("Failed to open exporter '{}'. Retrying...", getId(), e);
+                    return false;
+                  }
+                },
+                this::isClosed);
+
+    // Don't need to handle error as any are caught within the runWithRetry try catch
+    actor.runOnCompletion(openFuture, (opened, error) -> startExporting());
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    logStream.removeRecordAvailableListener(this);
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    actor.fail(failure);
+    failureListener.accept(failure);
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextEvent);
+  }
+
+  private void startExporting() {
+    final long position = Math.max(container.getPosition(), startPosition);
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_RECOVER_FROM_POSITION_FAILED, position, getName()));
+    }
+
+    logStream.registerRecordAvailableListener(this);
+    if (exporterPhase != ExporterPhase.PAUSED) {
+      actor.submit(this::readNextEvent);
+    }
+  }
+
+  private void readNextEvent() {
+    if (maxBatchSize > 1) {
+      exportBatch();
+    } else if (shouldExport()) {
+      final LoggedEvent currentEvent = readEvent();
+      if (eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+        actor.submit(this::readNextEvent);
+      }
+    }
+  }
+
+  private boolean shouldExport() {
+    return isOpened.get()
+        && logStreamReader.hasNext()
+        && !inExportingPhase
+        && exporterPhase != ExporterPhase.PAUSED;
+  }
+
+  private LoggedEvent readEvent() {
+    final LoggedEvent event = logStreamReader.next();
+    lastReadPosition = event.getPosition();
+    return event;
+  }
+
+  /**
+   * Reads up to {@link #maxBatchSize} records and hands them to the exporter within a single actor
+   * job, without going through the retry strategies. Only when wrapping or exporting a record
+   * fails, it falls back to {@link #exportEvent(LoggedEvent)} for that record, which continues with
+   * the next batch once the record was exported.
+   */
+  private void exportBatch() {
+    int batchSize = 0;
+    try (final var timer = metrics.startExportingBatchTimer()) {
+      while (batchSize < maxBatchSize && shouldExport()) {
+        final LoggedEvent currentEvent = readEvent();
+        batchSize++;
+
+        if (eventFilter.applies(currentEvent)) {
+          inExportingPhase = true;
+          if (!tryExportEvent(currentEvent)) {
+            break;
+          }
+          onEventExported();
+        } else {
+          skipRecord(currentEvent);
+        }
+      }
+    }
+
+    if (batchSize > 0) {
+      metrics.exportingBatchSize(batchSize);
+      if (!inExportingPhase) {
+        actor.submit(this::readNextEvent);
+      }
+    }
+  }
+
+  /**
+   * Tries to export the given record once. If this fails, the record is exported with retries
+   * asynchronously, and false is returned.
+   */
+  private boolean tryExportEvent(final LoggedEvent event) {
+    try {
+      recordExporter.wrap(event);
+    } catch (final Exception e) {
+      LOG.debug("Failed to read record '{}', will retry", event, e);
+      exportEvent(event);
+      return false;
+    }
+
+    boolean exported;
+    try {
+      exported = recordExporter.export();
+    } catch (final Exception e) {
+      LOG.debug("Failed to export record '{}', will retry", event, e);
+      exported = false;
+    }
+
+    if (!exported) {
+      exportWrappedEventWithRetry(event);
+    }
+    return exported;
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            this::isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+          exportWrappedEventWithRetry(event);
+        });
+  }
+
+  private void exportWrappedEventWithRetry(final LoggedEvent event) {
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+            onFailure(throwable);
+          } else {
+            onEventExported();
+            actor.submit(this::readNextEvent);
+          }
+        });
+  }
+
+  private void onEventExported() {
+    metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+    inExportingPhase = false;
+    onProgress(recordExporter.getTypedEvent().getPosition());
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    final long eventPosition = currentEvent.getPosition();
+
+    currentEvent.readMetadata(skippedRecordMetadata);
+    metrics.eventSkipped(skippedRecordMetadata.getValueType());
+
+    // increase the position if the exporter is up to date - that is, if it has acknowledged the
+    // last record we passed to it
+    container.updatePositionOnSkipIfUpToDate(eventPosition);
+    onProgress(eventPosition);
+  }
+
+  private void onProgress(final long position) {
+    lastExportedPosition = position;
+    progressListener.run();
+  }
+
+  private void onFailure(final Throwable failure) {
+    isOpened.set(false);
+    actor.close();
+    // the director fails as well, such that the failed exporter is reflected in its health
+    failureListener.accept(failure);
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+
+  private static EventFilter createEventFilter(final Context.RecordFilter recordFilter) {
+    final Map<RecordType, Boolean> acceptRecordTypes =
+        Arrays.stream(RecordType.values())
+            .collect(Collectors.toMap(Function.identity(), recordFilter::acceptType));
+    final Map<ValueType, Boolean> acceptValueTypes =
+        Arrays.stream(ValueType.values())
+            .collect(Collectors.toMap(Function.identity(), recordFilter::acceptValue));
+    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
+  }
+
+  private static final class ExporterEventFilter implements EventFilter {
+
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final Map<RecordType, Boolean> acceptRecordTypes;
+    private final Map<ValueType, Boolean> acceptValueTypes;
+
+    ExporterEventFilter(
+        final Map<RecordType, Boolean> acceptRecordTypes,
+        final Map<ValueType, Boolean> acceptValueTypes) {
+      this.acceptRecordTypes = acceptRecordTypes;
+      this.acceptValueTypes = acceptValueTypes;
+    }
+
+    @Override
+    public boolean applies(final LoggedEvent event) {
+      event.readMetadata(metadata);
+
+      final RecordType recordType = metadata.getRecordType();
+      final ValueType valueType = metadata.getValueType();
+
+      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
+    }
+
+    @Override
+    public String toString() {
+      return "ExporterEventFilter{"
+          + "acceptRecordTypes="
+          + acceptRecordTypes
+          + ", acceptValueTypes="
+          + acceptValueTypes
+          + '}';
+    }
+  }
+}
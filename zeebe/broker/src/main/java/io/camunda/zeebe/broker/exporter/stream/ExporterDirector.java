@@ -12,14 +12,7 @@ import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
-import io.camunda.zeebe.exporter.api.context.Context;
-import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
-import io.camunda.zeebe.logstreams.log.LogStreamReader;
-import io.camunda.zeebe.logstreams.log.LoggedEvent;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.record.RecordType;
-import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
@@ -27,8 +20,6 @@ import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
@@ -38,7 +29,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -50,12 +41,17 @@ import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
-public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
+/**
+ * Coordinates the exporters of a partition. In active mode, each exporter container is exported to
+ * by its own {@link ExporterContainerActor}, which reads the log stream independently of the
+ * others. The director manages their lifecycle and phase, distributes the exporter state to the
+ * followers and reports the lowest exported position of all exporters to the flow control.
+ *
+ * <p>In passive mode, no records are exported, and the director only keeps the exporter state in
+ * sync with the state distributed by the leader.
+ */
+public final class ExporterDirector extends Actor implements HealthMonitorable {
 
-  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
-  private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
-      "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
@@ -63,22 +59,21 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   // Use concrete type because it must be modifiable
   private final ArrayList<ExporterContainer> containers;
+  // the actors of the exporter containers by exporter id, only used in active mode
+  private final Map<String, ExporterContainerActor> containerActors = new HashMap<>();
+  private final AtomicBoolean exportedPositionUpdateScheduled = new AtomicBoolean();
   private final LogStream logStream;
-  private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
+  private final int maxBatchSize;
   private final Set<FailureListener> listeners = new HashSet<>();
-  private LogStreamReader logStreamReader;
-  private EventFilter eventFilter;
+  private ActorSchedulingService actorSchedulingService;
   private ExportersState state;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport;
 
-  private boolean inExportingPhase;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
@@ -114,9 +109,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
             .collect(Collectors.toCollection(ArrayList::new));
     metrics = new ExporterMetrics(meterRegistry);
     metrics.initializeExporterState(exporterPhase);
-    recordExporter = new RecordExporter(metrics, containers, partitionId, clock);
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    recordWrapStrategy = new EndlessRetryStrategy(actor);
     zeebeDb = context.getZeebeDb();
     this.exporterPhase = exporterPhase;
     partitionMessagingService = context.getPartitionMessagingService();
@@ -124,12 +116,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    maxBatchSize = context.getMaxBatchSize();
 
     // needs name to be initialized
     healthReport = HealthReport.healthy(this);
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -151,11 +145,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
+    return callOnContainerActors(
         () -> {
           metrics.setExporterPaused();
           exporterPhase = ExporterPhase.PAUSED;
-        });
+        },
+        ExporterContainerActor::pauseExporting);
   }
 
   /**
@@ -173,12 +168,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
+    return callOnContainerActors(
         () -> {
-          containers.stream().forEach(ExporterContainer::softPauseExporter);
+          if (exporterMode == ExporterMode.PASSIVE) {
+            containers.forEach(ExporterContainer::softPauseExporter);
+          }
           exporterPhase = ExporterPhase.SOFT_PAUSED;
           metrics.setExporterSoftPaused();
-        });
+        },
+        ExporterContainerActor::softPauseExporting);
   }
 
   /**
@@ -194,17 +192,42 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
+    return callOnContainerActors(
         () -> {
-          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
-            containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
+          if (exporterMode == ExporterMode.PASSIVE && exporterPhase == ExporterPhase.SOFT_PAUSED) {
+            containers.forEach(ExporterContainer::undoSoftPauseExporter);
           }
           exporterPhase = ExporterPhase.EXPORTING;
           metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
-          }
+        },
+        ExporterContainerActor::resumeExporting);
+  }
+
+  /**
+   * Runs the given action on the director, and afterward applies the given operation to all
+   * exporter container actors. The returned future is completed when all container actors completed
+   * the operation.
+   */
+  private ActorFuture<Void> callOnContainerActors(
+      final Runnable action,
+      final Function<ExporterContainerActor, ActorFuture<Void>> containerActorOperation) {
+    final var result = new CompletableActorFuture<Void>();
+    actor.run(
+        () -> {
+          action.run();
+          final List<ActorFuture<Void>> futures =
+              containerActors.values().stream().map(containerActorOperation).toList();
+          actor.runOnCompletion(
+              futures,
+              error -> {
+                if (error == null) {
+                  result.complete(null);
+                } else {
+                  result.completeExceptionally(error);
+                }
+              });
         });
+    return result;
   }
 
   /**
@@ -219,30 +242,51 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(() -> removeExporter(exporterId));
+    final var result = new CompletableActorFuture<Void>();
+    actor.run(() -> removeExporter(exporterId, result));
+    return result;
   }
 
-  private void removeExporter(final String exporterId) {
+  private void removeExporter(final String exporterId, final CompletableActorFuture<Void> result) {
     containers.stream()
         .filter(c -> c.getId().equals(exporterId))
         .findFirst()
         .ifPresentOrElse(
-            container -> removeExporter(exporterId, container),
-            () -> LOG.debug("Exporter '{}' is not found. It may be already removed.", exporterId));
+            container -> removeExporter(exporterId, container, result),
+            () -> {
+              LOG.debug("Exporter '{}' is not found. It may be already removed.", exporterId);
+              result.complete(null);
+            });
   }
 
-  private void removeExporter(final String exporterId, final ExporterContainer container) {
-    container.close();
+  private void removeExporter(
+      final String exporterId,
+      final ExporterContainer container,
+      final CompletableActorFuture<Void> result) {
     containers.remove(container);
-    state.removeExporterState(exporterId);
-    // After removing this exporter, the exporter index has changed. Reset it so that we don't
-    // miss to export the record to any of the exporters whose index has changed.
-    recordExporter.resetExporterIndex();
-    LOG.debug("Exporter '{}' is removed.", exporterId);
-
-    if (containers.isEmpty()) {
-      becomeIdle();
+    final var containerActor = containerActors.remove(exporterId);
+    final ActorFuture<Void> closed;
+    if (containerActor != null) {
+      closed = containerActor.closeAsync();
+    } else {
+      container.close();
+      closed = CompletableActorFuture.completed(null);
     }
+
+    actor.runOnCompletion(
+        closed,
+        (nothing, error) -> {
+          state.removeExporterState(exporterId);
+          LOG.debug("Exporter '{}' is removed.", exporterId);
+
+          if (containers.isEmpty()) {
+            becomeIdle();
+          } else {
+            // the removed exporter may have been the one holding back the exported position
+            updateExportedPosition();
+          }
+          result.complete(null);
+        });
   }
 
   /**
@@ -324,7 +368,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     // initializes metadata and position in the runtime state
     container.initMetadata();
     if (exporterMode == ExporterMode.ACTIVE) {
-      container.openExporter();
+      // the exporter starts with the records which were not read by the other exporters yet
+      startContainerActor(container, getHighestReadPosition());
     }
     containers.add(container);
     LOG.debug("Exporter '{}' is enabled.", exporterId);
@@ -353,13 +398,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return name;
   }
 
-  @Override
-  protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
-      logStreamReader = logStream.newLogStreamReader();
-    }
-  }
-
   @Override
   protected void onActorStarted() {
     try {
@@ -390,14 +428,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
   }
 
-  @Override
-  protected void onActorClosing() {
-    if (logStreamReader != null) {
-      logStreamReader.close();
-    }
-    logStream.removeRecordAvailableListener(this);
-  }
-
   @Override
   protected void onActorClosed() {
     LOG.debug("Closed exporter director '{}'.", getName());
@@ -407,7 +437,22 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    containers.forEach(ExporterContainer::close);
+    for (final ExporterContainer container : containers) {
+      if (!containerActors.containsKey(container.getId())) {
+        container.close();
+      }
+    }
+    for (final ExporterContainerActor containerActor : containerActors.values()) {
+      // the exporters may still update their position on close, so we wait until they are closed
+      actor.runOnCompletionBlockingCurrentPhase(
+          containerActor.closeAsync(),
+          (nothing, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter '{}'", containerActor.getId(), error);
+            }
+          });
+    }
+    containerActors.clear();
     exporterDistributionService.close();
   }
 
@@ -420,6 +465,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         failure,
         failure);
     actor.fail(failure);
+    containerActors.values().forEach(ExporterContainerActor::closeAsync);
 
     if (failure instanceof UnrecoverableException) {
       healthReport = HealthReport.dead(this).withIssue(failure, clock.instant());
@@ -449,9 +495,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.initContainer(actor, metrics, state, exporterPhase);
       container.configureExporter();
     }
-
-    eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
-    LOG.debug("Set event filter for exporters: {}", eventFilter);
   }
 
   private void recoverFromSnapshot() {
@@ -463,28 +506,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
-
-    final List<Context.RecordFilter> recordFilters =
-        containers.stream().map(c -> c.getContext().getFilter()).toList();
-
-    final Map<RecordType, Boolean> acceptRecordTypes =
-        Arrays.stream(RecordType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptType(type))));
-
-    final Map<ValueType, Boolean> acceptValueTypes =
-        Arrays.stream(ValueType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
-
-    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
-  }
-
   private void onFailure() {
     isOpened.set(false);
     actor.close();
@@ -493,24 +514,18 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private void becomeIdle() {
     idle = true;
     LOG.debug("No exporters are configured. Going idle.");
-    logStream.removeRecordAvailableListener(this);
     exporterDistributionService.close();
     if (exporterDistributionTimer != null) {
       // closing the service do not stop the repeated timer task scheduled in this actor
       exporterDistributionTimer.cancel();
       exporterDistributionTimer = null;
     }
-    if (logStreamReader != null) {
-      // We have to close it, otherwise it will prevent journal segment deletion
-      logStreamReader.close();
-      logStreamReader = null;
-    }
   }
 
   private void becomeLive() {
     LOG.debug("New exporters are configured. Restart exporting.");
     if (exporterMode == ExporterMode.ACTIVE) {
-      restartActiveExportingMode();
+      startExporterStateDistribution();
     } else {
       restartPassiveExportingMode();
     }
@@ -518,56 +533,44 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingMode() {
-    final var containerOpenFutures = new ArrayList<ActorFuture<Boolean>>();
+    // initializes the positions of all exporters before any of them starts exporting, such that
+    // the log is not compacted beyond the position of an exporter which is still opening
     for (final ExporterContainer container : containers) {
       container.initMetadata();
-      final var openFuture =
-          new BackOffRetryStrategy(actor, Duration.ofSeconds(10), Duration.ofMillis(150))
-              .runWithRetry(
-                  () -> {
-                    try {
-                      container.openExporter();
-                      return true;
-                    } catch (final Exception e) {
-                      LOG.error("Failed to open exporter '{}'. Retrying...", container.getId(), e);
-                      return false;
-                    }
-                  },
-                  this::isClosed);
-
-      containerOpenFutures.add(openFuture);
     }
 
-    // Don't need to handle error as any are caught within the runWithRetry try catch
-    actor.runOnCompletion(
-        containerOpenFutures,
-        (error) -> {
-          if (state.hasExporters()) {
-            final long snapshotPosition = state.getLowestPosition();
-            // start reading and exporting
-            startActiveExportingFrom(snapshotPosition);
-          } else {
-            becomeIdle();
-          }
-        });
-  }
-
-  private void restartActiveExportingMode() {
-    logStreamReader = logStream.newLogStreamReader();
-    startActiveExportingFrom(-1);
-  }
-
-  private void startActiveExportingFrom(final long snapshotPosition) {
-    final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
-    if (failedToRecoverReader) {
-      throw new IllegalStateException(
-          String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, -1, getName()));
-    }
-    logStream.registerRecordAvailableListener(this);
-    if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
-      actor.submit(this::readNextEvent);
+    if (!state.hasExporters()) {
+      becomeIdle();
+      return;
     }
 
+    for (final ExporterContainer container : containers) {
+      startContainerActor(container, ExportersState.VALUE_NOT_FOUND);
+    }
+    startExporterStateDistribution();
+  }
+
+  private void startContainerActor(final ExporterContainer container, final long startPosition) {
+    final var containerActor =
+        new ExporterContainerActor(
+            name,
+            partitionId,
+            container,
+            logStream,
+            zeebeDb,
+            metrics,
+            clock,
+            positionsToSkipFilter,
+            maxBatchSize,
+            exporterPhase,
+            startPosition,
+            this::onContainerActorProgress,
+            this::onContainerActorFailure);
+    containerActors.put(container.getId(), containerActor);
+    actorSchedulingService.submitActor(containerActor, SchedulingHints.ioBound());
+  }
+
+  private void startExporterStateDistribution() {
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
   }
@@ -598,75 +601,40 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterState(exporterStateMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
+  /**
+   * Called by the container actors after they exported or skipped a record. Coalesces the updates
+   * of the exported position, such that the director doesn't need to run for every record.
+   */
+  private void onContainerActorProgress() {
+    if (exportedPositionUpdateScheduled.compareAndSet(false, true)) {
+      actor.run(this::updateExportedPosition);
     }
-
-    actor.submit(this::readNextEvent);
   }
 
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
-      }
+  private void updateExportedPosition() {
+    exportedPositionUpdateScheduled.set(false);
+    if (containerActors.isEmpty()) {
+      return;
     }
-  }
 
-  private boolean shouldExport() {
-    return isOpened.get()
-        && !idle
-        && logStreamReader.hasNext()
-        && !inExportingPhase
-        && !exporterPhase.equals(ExporterPhase.PAUSED);
+    long lowestExportedPosition = Long.MAX_VALUE;
+    for (final ExporterContainerActor containerActor : containerActors.values()) {
+      lowestExportedPosition =
+          Math.min(lowestExportedPosition, containerActor.getLastExportedPosition());
+    }
+    logStream.getFlowControl().onExported(lowestExportedPosition);
   }
 
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+  private void onContainerActorFailure(final Throwable failure) {
+    actor.run(() -> handleFailure(failure));
+  }
 
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
-        });
+  private long getHighestReadPosition() {
+    long highestReadPosition = ExportersState.VALUE_NOT_FOUND;
+    for (final ExporterContainerActor containerActor : containerActors.values()) {
+      highestReadPosition = Math.max(highestReadPosition, containerActor.getLastReadPosition());
+    }
+    return highestReadPosition;
   }
 
   private void clearExporterState() {
@@ -708,16 +676,23 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     actor.run(() -> listeners.remove(failureListener));
   }
 
-  @Override
-  public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
-  }
-
+  /**
+   * Returns the lowest position which was acknowledged by all exporters. Pending position updates
+   * of the exporters are applied before the position is read from the state.
+   */
   public ActorFuture<Long> getLowestPosition() {
     if (actor.isClosed()) {
       return CompletableActorFuture.completed(ExportersState.VALUE_NOT_FOUND);
     }
-    return actor.call(() -> state.getLowestPosition());
+
+    final var result = new CompletableActorFuture<Long>();
+    actor.run(
+        () -> {
+          final List<ActorFuture<Long>> positions =
+              containerActors.values().stream().map(ExporterContainerActor::getPosition).toList();
+          actor.runOnCompletion(positions, error -> result.complete(state.getLowestPosition()));
+        });
+    return result;
   }
 
   /**
@@ -725,38 +700,4 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    * @param initializeFrom the id of the exporter to initialize the metadata of the exporter from
    */
   public record ExporterInitializationInfo(long metadataVersion, String initializeFrom) {}
-
-  private static class ExporterEventFilter implements EventFilter {
-
-    private final RecordMetadata metadata = new RecordMetadata();
-    private final Map<RecordType, Boolean> acceptRecordTypes;
-    private final Map<ValueType, Boolean> acceptValueTypes;
-
-    ExporterEventFilter(
-        final Map<RecordType, Boolean> acceptRecordTypes,
-        final Map<ValueType, Boolean> acceptValueTypes) {
-      this.acceptRecordTypes = acceptRecordTypes;
-      this.acceptValueTypes = acceptValueTypes;
-    }
-
-    @Override
-    public boolean applies(final LoggedEvent event) {
-      event.readMetadata(metadata);
-
-      final RecordType recordType = metadata.getRecordType();
-      final ValueType valueType = metadata.getValueType();
-
-      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
-    }
-
-    @Override
-    public String toString() {
-      return "ExporterEventFilter{"
-          + "acceptRecordTypes="
-          + acceptRecordTypes
-          + ", acceptValueTypes="
-          + acceptValueTypes
-          + '}';
-    }
-  }
 }
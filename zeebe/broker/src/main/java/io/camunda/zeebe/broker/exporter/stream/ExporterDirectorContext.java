@@ -21,6 +21,7 @@ import java.util.Map;
 public final class ExporterDirectorContext {
 
   public static final Duration DEFAULT_DISTRIBUTION_INTERVAL = Duration.ofSeconds(15);
+  public static final int DEFAULT_MAX_BATCH_SIZE = 1;
 
   private int id;
   private String name;
@@ -33,6 +34,7 @@ public final class ExporterDirectorContext {
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
 
   public int getId() {
     return id;
@@ -78,6 +80,10 @@ public final class ExporterDirectorContext {
     return clock;
   }
 
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -135,6 +141,15 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * Sets how many records the director may hand to the exporters within a single actor job. With
+   * the default of 1, every record is exported in its own job.
+   */
+  public ExporterDirectorContext maxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
@@ -14,33 +14,43 @@ import io.camunda.zeebe.util.collection.Table;
 import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
+/** Metrics of the exporters of a partition, shared by the actors of all exporter containers. */
 public final class ExporterMetrics {
   private static final String LABEL_NAME_EXPORTER = "exporter";
   private static final String LABEL_NAME_ACTION = "action";
   private static final String LABEL_NAME_VALUE_TYPE = "valueType";
 
-  private final Map<String, AtomicLong> lastExportedPositions = new HashMap<>();
-  private final Map<String, AtomicLong> lastUpdatedExportedPositions = new HashMap<>();
+  private final Map<String, AtomicLong> lastExportedPositions = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> lastUpdatedExportedPositions = new ConcurrentHashMap<>();
   private final AtomicInteger exporterState = new AtomicInteger();
-  private final Map<ValueType, Timer> exportingLatency = new HashMap<>();
-  private final Table<String, ValueType, Timer> exporterExportingDuration = Table.simple();
+  private final Map<ValueType, Timer> exportingLatency = new ConcurrentHashMap<>();
+  private final Table<String, ValueType, Timer> exporterExportingDuration = Table.concurrent();
   private final Table<ExporterActionKeyNames, ValueType, Counter> exporterEvents =
       Table.ofEnum(ExporterActionKeyNames.class, ValueType.class, Counter[]::new);
 
   private final MeterRegistry meterRegistry;
+  private final DistributionSummary exportingBatchSize;
+  private final Timer exportingBatchDuration;
 
   public ExporterMetrics(final MeterRegistry meterRegistry) {
     this.meterRegistry = Objects.requireNonNull(meterRegistry, "must specify a meter registry");
+    exportingBatchSize =
+        MicrometerUtil.buildSummary(ExporterMetricsDoc.EXPORTING_BATCH_SIZE)
+            .register(meterRegistry);
+    exportingBatchDuration =
+        MicrometerUtil.buildTimer(ExporterMetricsDoc.EXPORTING_BATCH_DURATION)
+            .register(meterRegistry);
   }
 
   public void setExporterActive() {
@@ -96,6 +106,14 @@ public final class ExporterMetrics {
     return MicrometerUtil.timer(timer, Timer.start(meterRegistry));
   }
 
+  public CloseableSilently startExportingBatchTimer() {
+    return MicrometerUtil.timer(exportingBatchDuration, Timer.start(meterRegistry));
+  }
+
+  public void exportingBatchSize(final int batchSize) {
+    exportingBatchSize.record(batchSize);
+  }
+
   private void event(final ExporterActionKeyNames action, final ValueType valueType) {
     exporterEvents
         .computeIfAbsent(action, valueType, this::registerExporterEventCounter)
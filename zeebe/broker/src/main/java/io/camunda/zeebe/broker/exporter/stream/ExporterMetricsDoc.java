@@ -11,6 +11,7 @@ import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
 import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
 
 /**
  * Documents the various generic exporter related metrics as used by the {@link ExporterDirector}.
@@ -112,6 +113,71 @@ public enum ExporterMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /**
+   * Number of records which were read and handed to the exporters within a single actor job, when
+   * exporting in batches
+   */
+  EXPORTING_BATCH_SIZE {
+    private static final double[] BUCKETS = {1, 2, 4, 8, 16, 32, 64, 128, 256, 512};
+
+    @Override
+    public String getName() {
+      return "zeebe.exporter.batch.size";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of records which were read and handed to the exporters within a single batch";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+  },
+
+  /**
+   * Time spent exporting a batch of records (in seconds); together with {@link
+   * #EXPORTING_BATCH_SIZE}, this gives the number of records exported per second
+   */
+  EXPORTING_BATCH_DURATION {
+    private static final Duration[] BUCKETS = {
+      Duration.ofNanos(100_000), // 100 micros
+      Duration.ofMillis(1),
+      Duration.ofMillis(10),
+      Duration.ofMillis(100),
+      Duration.ofMillis(250),
+      Duration.ofMillis(500),
+      Duration.ofSeconds(1),
+      Duration.ofSeconds(2)
+    };
+
+    @Override
+    public String getName() {
+      return "zeebe.exporter.batch.duration";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time spent exporting a batch of records (in seconds)";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return BUCKETS;
+    }
+  },
+
   /** Number of events processed by exporter by action (see {@link ExporterActionKeyNames} */
   EXPORTER_EVENTS {
     @Override
@@ -90,8 +90,4 @@ final class RecordExporter {
   TypedRecordImpl getTypedEvent() {
     return typedEvent;
   }
-
-  public void resetExporterIndex() {
-    exporterIndex = 0;
-  }
 }
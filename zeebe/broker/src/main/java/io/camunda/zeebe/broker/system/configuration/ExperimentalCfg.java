@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.broker.system.configuration.RaftCfg.FlushConfig;
 import io.camunda.zeebe.broker.system.configuration.engine.EngineCfg;
+import java.time.Duration;
 import java.util.Optional;
 import org.springframework.util.unit.DataSize;
 
@@ -21,6 +22,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
 
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 6;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
+  public static final Duration DEFAULT_MAX_APPEND_LINGER = Duration.ZERO;
+  public static final DataSize DEFAULT_APPEND_LINGER_FLUSH_THRESHOLD = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   public static final boolean DEFAULT_VERSION_CHECK_ENABLED = true;
 
@@ -32,6 +35,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
+  private Duration maxAppendLinger = DEFAULT_MAX_APPEND_LINGER;
+  private DataSize appendLingerFlushThreshold = DEFAULT_APPEND_LINGER_FLUSH_THRESHOLD;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
@@ -76,6 +81,29 @@ public class ExperimentalCfg implements ConfigurationEntry {
     return Optional.ofNullable(maxAppendBatchSize).orElse(DEFAULT_MAX_APPEND_BATCH_SIZE).toBytes();
   }
 
+  public Duration getMaxAppendLinger() {
+    return maxAppendLinger;
+  }
+
+  public void setMaxAppendLinger(final Duration maxAppendLinger) {
+    this.maxAppendLinger = maxAppendLinger;
+  }
+
+  public DataSize getAppendLingerFlushThreshold() {
+    return appendLingerFlushThreshold;
+  }
+
+  public void setAppendLingerFlushThreshold(final DataSize appendLingerFlushThreshold) {
+    this.appendLingerFlushThreshold = appendLingerFlushThreshold;
+  }
+
+  public int getAppendLingerFlushThresholdInBytes() {
+    return (int)
+        Optional.ofNullable(appendLingerFlushThreshold)
+            .orElse(DEFAULT_APPEND_LINGER_FLUSH_THRESHOLD)
+            .toBytes();
+  }
+
   /**
    * @deprecated Deprecated in favor of {@link RaftCfg#getFlush()}. The equivalent is a null
    *     configuration, e.g. {@link new FlushConfig(null)}. Will be removed in 8.3.0.
@@ -158,6 +186,10 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", maxAppendLinger="
+        + maxAppendLinger
+        + ", appendLingerFlushThreshold="
+        + appendLingerFlushThreshold
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
         + ", rocksdb="
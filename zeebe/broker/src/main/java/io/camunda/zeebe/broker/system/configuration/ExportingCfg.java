@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_DISTRIBUTION_INTERVAL;
+import static io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.DEFAULT_MAX_BATCH_SIZE;
 
 import java.time.Duration;
 import java.util.Set;
@@ -16,15 +17,25 @@ import java.util.Set;
  * Exporting component configuration. This configuration pertains to configurations that are common
  * to all exporters.
  */
-public record ExportingCfg(Set<Long> skipRecords, Duration distributionInterval) {
+public record ExportingCfg(
+    Set<Long> skipRecords, Duration distributionInterval, Integer maxBatchSize) {
 
-  public ExportingCfg(final Set<Long> skipRecords, final Duration distributionInterval) {
+  public ExportingCfg(
+      final Set<Long> skipRecords,
+      final Duration distributionInterval,
+      final Integer maxBatchSize) {
     this.skipRecords = skipRecords == null ? Set.of() : skipRecords;
     this.distributionInterval =
         distributionInterval == null ? DEFAULT_DISTRIBUTION_INTERVAL : distributionInterval;
+    this.maxBatchSize = maxBatchSize == null ? DEFAULT_MAX_BATCH_SIZE : maxBatchSize;
+
+    if (this.maxBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "maxBatchSize must be >= 1 but was %s".formatted(this.maxBatchSize));
+    }
   }
 
   public static ExportingCfg defaultExportingCfg() {
-    return new ExportingCfg(null, null);
+    return new ExportingCfg(null, null, null);
   }
 }
@@ -9,6 +9,11 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -18,6 +23,7 @@ import org.springframework.util.unit.DataSize;
 public final class RocksdbCfg implements ConfigurationEntry {
 
   private Properties columnFamilyOptions;
+  private Map<String, Properties> dedicatedColumnFamilies = new HashMap<>();
   private boolean enableStatistics = RocksDbConfiguration.DEFAULT_STATISTICS_ENABLED;
   private AccessMetricsConfiguration.Kind accessMetrics = AccessMetricsConfiguration.Kind.NONE;
   private DataSize memoryLimit = DataSize.ofBytes(RocksDbConfiguration.DEFAULT_MEMORY_LIMIT);
@@ -39,6 +45,30 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    // the names refer to the ZbColumnFamilies constants, but may have been provided as environment
+    // variables just like the options
+    final var dedicated = new HashMap<String, Properties>();
+    dedicatedColumnFamilies.forEach(
+        (name, options) -> {
+          final var columnFamily =
+              RocksDBColumnFamilyOption.replaceAllDotCharsWithUnderscore(name)
+                  .toUpperCase(Locale.ROOT);
+          if (!isKnownColumnFamily(columnFamily)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Expected dedicated column family '%s' to be one of %s",
+                    name, Arrays.toString(ZbColumnFamilies.values())));
+          }
+          dedicated.put(
+              columnFamily, options == null ? new Properties() : initColumnFamilyOptions(options));
+        });
+    dedicatedColumnFamilies = dedicated;
+  }
+
+  private static boolean isKnownColumnFamily(final String name) {
+    return Arrays.stream(ZbColumnFamilies.values())
+        .anyMatch(columnFamily -> columnFamily.name().equals(name));
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -57,6 +87,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.columnFamilyOptions = columnFamilyOptions;
   }
 
+  public Map<String, Properties> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public void setDedicatedColumnFamilies(final Map<String, Properties> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+  }
+
   public boolean isEnableStatistics() {
     return enableStatistics;
   }
@@ -132,6 +170,7 @@ public final class RocksdbCfg implements ConfigurationEntry {
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
+        .setDedicatedColumnFamilies(dedicatedColumnFamilies)
         .setMaxOpenFiles(maxOpenFiles)
         .setMaxWriteBufferNumber(maxWriteBufferNumber)
         .setMemoryLimit(memoryLimit.toBytes())
@@ -147,6 +186,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
     return "RocksdbCfg{"
         + "columnFamilyOptions="
         + columnFamilyOptions
+        + ", dedicatedColumnFamilies="
+        + dedicatedColumnFamilies
         + ", enableStatistics="
         + enableStatistics
         + ", accessMetrics="
@@ -14,6 +14,7 @@ import java.util.Objects;
 public class FilesystemBackupStoreConfig implements ConfigurationEntry {
 
   private String basePath;
+  private boolean incremental;
 
   public String getBasePath() {
     return basePath;
@@ -23,13 +24,24 @@ public class FilesystemBackupStoreConfig implements ConfigurationEntry {
     this.basePath = basePath;
   }
 
+  public boolean isIncremental() {
+    return incremental;
+  }
+
+  public void setIncremental(final boolean incremental) {
+    this.incremental = incremental;
+  }
+
   public static FilesystemBackupConfig toStoreConfig(final FilesystemBackupStoreConfig config) {
-    return new FilesystemBackupConfig.Builder().withBasePath(config.getBasePath()).build();
+    return new FilesystemBackupConfig.Builder()
+        .withBasePath(config.getBasePath())
+        .withIncremental(config.isIncremental())
+        .build();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(basePath);
+    return Objects.hash(basePath, incremental);
   }
 
   @Override
@@ -41,11 +53,17 @@ public class FilesystemBackupStoreConfig implements ConfigurationEntry {
       return false;
     }
     final FilesystemBackupStoreConfig that = (FilesystemBackupStoreConfig) o;
-    return Objects.equals(basePath, that.basePath);
+    return incremental == that.incremental && Objects.equals(basePath, that.basePath);
   }
 
   @Override
   public String toString() {
-    return "FilesystemBackupStoreConfig{" + "basePath='" + basePath + '\'' + '}';
+    return "FilesystemBackupStoreConfig{"
+        + "basePath='"
+        + basePath
+        + '\''
+        + ", incremental="
+        + incremental
+        + '}';
   }
 }
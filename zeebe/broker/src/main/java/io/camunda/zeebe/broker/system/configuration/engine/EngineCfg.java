@@ -16,6 +16,7 @@ public final class EngineCfg implements ConfigurationEntry {
   private MessagesCfg messages = new MessagesCfg();
   private CachesCfg caches = new CachesCfg();
   private JobsCfg jobs = new JobsCfg();
+  private TimersCfg timers = new TimersCfg();
   private ValidatorsCfg validators = new ValidatorsCfg();
   private int maxProcessDepth = EngineConfiguration.DEFAULT_MAX_PROCESS_DEPTH;
 
@@ -24,6 +25,7 @@ public final class EngineCfg implements ConfigurationEntry {
     messages.init(globalConfig, brokerBase);
     caches.init(globalConfig, brokerBase);
     jobs.init(globalConfig, brokerBase);
+    timers.init(globalConfig, brokerBase);
     validators.init(globalConfig, brokerBase);
   }
 
@@ -51,6 +53,14 @@ public final class EngineCfg implements ConfigurationEntry {
     this.jobs = jobs;
   }
 
+  public TimersCfg getTimers() {
+    return timers;
+  }
+
+  public void setTimers(final TimersCfg timers) {
+    this.timers = timers;
+  }
+
   public ValidatorsCfg getValidators() {
     return validators;
   }
@@ -76,6 +86,8 @@ public final class EngineCfg implements ConfigurationEntry {
         + caches
         + ", jobs="
         + jobs
+        + ", timers="
+        + timers
         + ", validators="
         + validators
         + ", maxProcessDepth="
@@ -93,6 +105,7 @@ public final class EngineCfg implements ConfigurationEntry {
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
+        .setTimersDueDateCacheHorizon(timers.getDueDateCacheHorizon())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize())
         .setMaxProcessDepth(getMaxProcessDepth());
   }
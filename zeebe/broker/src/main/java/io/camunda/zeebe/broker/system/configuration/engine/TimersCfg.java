@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import java.time.Duration;
+
+public class TimersCfg implements ConfigurationEntry {
+  private Duration dueDateCacheHorizon = EngineConfiguration.DEFAULT_TIMERS_DUE_DATE_CACHE_HORIZON;
+
+  public Duration getDueDateCacheHorizon() {
+    return dueDateCacheHorizon;
+  }
+
+  public void setDueDateCacheHorizon(final Duration dueDateCacheHorizon) {
+    this.dueDateCacheHorizon = dueDateCacheHorizon;
+  }
+
+  @Override
+  public String toString() {
+    return "TimersCfg{" + "dueDateCacheHorizon=" + dueDateCacheHorizon + '}';
+  }
+}
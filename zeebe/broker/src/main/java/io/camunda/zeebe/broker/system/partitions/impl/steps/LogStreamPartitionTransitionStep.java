@@ -69,6 +69,7 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
 
   private LogStream buildLogStream(final PartitionTransitionContext context) {
     final var flowControlCfg = context.getBrokerCfg().getFlowControl();
+    final var experimentalCfg = context.getBrokerCfg().getExperimental();
     return logStreamBuilderSupplier
         .get()
         .withLogStorage(context.getLogStorage())
@@ -82,6 +83,9 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
                 : context.getBrokerCfg().getBackpressure().buildLimit())
         .withWriteRateLimit(
             flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
+        .withMaxAppendLinger(experimentalCfg.getMaxAppendLinger())
+        .withAppendLingerFlushThreshold(experimentalCfg.getAppendLingerFlushThresholdInBytes())
+        .withLingerScheduler(context.getConcurrencyControl())
         .withMeterRegistry(context.getPartitionTransitionMeterRegistry())
         .build();
   }
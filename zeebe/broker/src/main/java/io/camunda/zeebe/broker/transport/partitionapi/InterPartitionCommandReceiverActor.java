@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
 
 import io.atomix.cluster.MemberId;
@@ -63,11 +64,17 @@ public final class InterPartitionCommandReceiverActor extends Actor
         DefaultSerializers.BASIC::decode,
         this::tryHandleMessage,
         actor::run);
+    communicationService.consume(
+        BATCH_TOPIC_PREFIX + partitionId,
+        DefaultSerializers.BASIC::decode,
+        this::tryHandleBatch,
+        actor::run);
   }
 
   @Override
   protected void onActorClosing() {
     communicationService.unsubscribe(TOPIC_PREFIX + partitionId);
+    communicationService.unsubscribe(BATCH_TOPIC_PREFIX + partitionId);
   }
 
   @Override
@@ -92,4 +99,12 @@ public final class InterPartitionCommandReceiverActor extends Actor
       LOG.error("Error while handling message", e);
     }
   }
+
+  private void tryHandleBatch(final MemberId memberId, final byte[] message) {
+    try {
+      receiver.handleBatch(memberId, message);
+    } catch (final RuntimeException e) {
+      LOG.error("Error while handling batch", e);
+    }
+  }
 }
@@ -10,6 +10,8 @@ package io.camunda.zeebe.broker.transport.partitionapi;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchDecoder;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchDecoder.CommandsDecoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageDecoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderDecoder;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
@@ -26,6 +28,8 @@ import io.camunda.zeebe.protocol.record.intent.management.CheckpointIntent;
 import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -56,7 +60,7 @@ final class InterPartitionCommandReceiverImpl {
       return;
     }
 
-    final var checkpointWritten = writeCheckpoint(decoded);
+    final var checkpointWritten = writeCheckpoint(decoded.checkpointId);
     if (checkpointWritten.isLeft()) {
       // It's unsafe to write this record without first writing the checkpoint, bail out early.
       logCheckpointFailure(memberId, decoded, checkpointWritten);
@@ -66,6 +70,51 @@ final class InterPartitionCommandReceiverImpl {
     writeCommand(decoded).ifLeft(failure -> logWriteFailure(memberId, decoded, failure));
   }
 
+  /**
+   * Handles a batch of commands sent by {@link InterPartitionCommandSenderImpl}. The commands are
+   * written to the log stream in one append; only if the batch is rejected as a whole, e.g. because
+   * it exceeds the maximum batch size, the commands are written one by one.
+   */
+  void handleBatch(final MemberId memberId, final byte[] message) {
+    final var decoded = decoder.decodeBatch(message);
+    LOG.trace("Received batch of {} commands from {}", decoded.commands.size(), memberId);
+
+    if (!diskSpaceAvailable) {
+      LOG.warn(
+          "Ignoring batch of {} commands from {}, checkpoint {}, no disk space available",
+          decoded.commands.size(),
+          memberId,
+          decoded.checkpointId);
+      return;
+    }
+
+    final var checkpointWritten = writeCheckpoint(decoded.checkpointId);
+    if (checkpointWritten.isLeft()) {
+      // It's unsafe to write these records without first writing the checkpoint, bail out early.
+      LOG.warn(
+          "Failed to write new command for checkpoint {} (currently at {}), ignoring batch of {} commands from {} (error = {})",
+          decoded.checkpointId,
+          checkpointId,
+          decoded.commands.size(),
+          memberId,
+          checkpointWritten.getLeft());
+      return;
+    }
+
+    final var written = logStreamWriter.tryWrite(WriteContext.interPartition(), decoded.commands);
+    if (written.isLeft()
+        && written.getLeft() == WriteFailure.INVALID_ARGUMENT
+        && decoded.commands.size() > 1) {
+      for (final var command : decoded.commands) {
+        logStreamWriter
+            .tryWrite(WriteContext.interPartition(), command)
+            .ifLeft(failure -> logBatchWriteFailure(memberId, 1, failure));
+      }
+    } else if (written.isLeft()) {
+      logBatchWriteFailure(memberId, decoded.commands.size(), written.getLeft());
+    }
+  }
+
   private void logCheckpointFailure(
       final MemberId memberId,
       final DecodedMessage decoded,
@@ -90,22 +139,31 @@ final class InterPartitionCommandReceiverImpl {
         failure);
   }
 
-  private Either<WriteFailure, Long> writeCheckpoint(final DecodedMessage decoded) {
-    if (decoded.checkpointId <= checkpointId) {
+  private void logBatchWriteFailure(
+      final MemberId memberId, final int commandCount, final WriteFailure failure) {
+    LOG.warn(
+        "Failed to write {} commands from {} to logstream (error = {})",
+        commandCount,
+        memberId,
+        failure);
+  }
+
+  private Either<WriteFailure, Long> writeCheckpoint(final long receivedCheckpointId) {
+    if (receivedCheckpointId <= checkpointId) {
       // No need to write a new checkpoint create record
       return Either.right(checkpointId);
     }
 
     LOG.debug(
         "Received command with checkpoint {}, current checkpoint is {}",
-        decoded.checkpointId,
+        receivedCheckpointId,
         checkpointId);
     final var metadata =
         new RecordMetadata()
             .recordType(RecordType.COMMAND)
             .intent(CheckpointIntent.CREATE)
             .valueType(ValueType.CHECKPOINT);
-    final var checkpointRecord = new CheckpointRecord().setCheckpointId(decoded.checkpointId);
+    final var checkpointRecord = new CheckpointRecord().setCheckpointId(receivedCheckpointId);
     return logStreamWriter.tryWrite(
         WriteContext.interPartition(), LogAppendEntry.of(metadata, checkpointRecord));
   }
@@ -134,8 +192,12 @@ final class InterPartitionCommandReceiverImpl {
       RecordMetadata metadata,
       UnifiedRecordValue command) {}
 
+  private record DecodedBatch(long checkpointId, List<LogAppendEntry> commands) {}
+
   private static final class Decoder {
     private final InterPartitionMessageDecoder messageDecoder = new InterPartitionMessageDecoder();
+    private final InterPartitionMessageBatchDecoder batchDecoder =
+        new InterPartitionMessageBatchDecoder();
     private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
     DecodedMessage decodeMessage(final byte[] message) {
@@ -164,15 +226,47 @@ final class InterPartitionCommandReceiverImpl {
           messageDecoder.limit() + InterPartitionMessageDecoder.commandHeaderLength();
       final var commandLength = messageDecoder.commandLength();
 
+      final var value = newRecordValue(valueType);
+      value.wrap(messageBuffer, commandOffset, commandLength);
+      return new DecodedMessage(checkpointId, recordKey, recordMetadata, value);
+    }
+
+    DecodedBatch decodeBatch(final byte[] message) {
+      final var messageBuffer = new UnsafeBuffer(message);
+      batchDecoder.wrapAndApplyHeader(messageBuffer, 0, headerDecoder);
+
+      final var checkpointId = batchDecoder.checkpointId();
+      final var commandsDecoder = batchDecoder.commands();
+      final List<LogAppendEntry> commands = new ArrayList<>(commandsDecoder.count());
+      for (final var command : commandsDecoder) {
+        final var valueType = ValueType.get(command.valueType());
+        final var intent = Intent.fromProtocolValue(valueType, command.intent());
+        final var metadata =
+            new RecordMetadata().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+        final var recordKey = command.recordKey();
+
+        // as for single messages, the command bytes are wrapped without parsing them
+        final var commandOffset = batchDecoder.limit() + CommandsDecoder.commandHeaderLength();
+        final var commandLength = command.skipCommand();
+        final var value = newRecordValue(valueType);
+        value.wrap(messageBuffer, commandOffset, commandLength);
+
+        commands.add(
+            recordKey != CommandsDecoder.recordKeyNullValue()
+                ? LogAppendEntry.of(recordKey, metadata, value)
+                : LogAppendEntry.of(metadata, value));
+      }
+
+      return new DecodedBatch(checkpointId, commands);
+    }
+
+    private static UnifiedRecordValue newRecordValue(final ValueType valueType) {
       final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
       if (valueClass == null) {
         throw new IllegalArgumentException(
             "No value type mapped to %s, can't decode message".formatted(valueType));
       }
-      final var value = ReflectUtil.newInstance(valueClass);
-
-      value.wrap(messageBuffer, commandOffset, commandLength);
-      return new DecodedMessage(checkpointId, recordKey, recordMetadata, value);
+      return ReflectUtil.newInstance(valueClass);
     }
   }
 }
@@ -12,26 +12,54 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.utils.serializer.serializers.DefaultSerializers;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchEncoder;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchEncoder.CommandsEncoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageEncoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderEncoder;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
+import io.camunda.zeebe.util.SemanticVersion;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Objects;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.collections.Int2IntHashMap;
-import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntHashSet;
 import org.slf4j.Logger;
 
+/**
+ * Sends commands to other partitions. Commands are not sent right away, but collected in one batch
+ * per receiving partition until {@link #flush()} is called, or the batch is full. This way, a burst
+ * of commands to the same partition, e.g. when distributing a deployment, is sent as one message.
+ * The batches are encoded into reused buffers, only the sent message itself is allocated.
+ *
+ * <p>Older brokers only consume single commands, so commands are only batched if the leader of the
+ * receiving partition is known to consume batches. A batch of a single command is sent as single
+ * command as well.
+ */
 final class InterPartitionCommandSenderImpl implements InterPartitionCommandSender {
 
+  /** Topic of single commands, which is consumed by all brokers. */
   public static final String TOPIC_PREFIX = "inter-partition-";
 
+  /** Topic of batches of commands, which is only consumed by brokers since 8.8. */
+  public static final String BATCH_TOPIC_PREFIX = "inter-partition-batch-";
+
+  /** Must not exceed the maximum count of the group encoding of the batch message. */
+  static final int MAX_BATCH_COMMANDS = 128;
+
+  /** A batch is sent once it reaches this size, to stay well below the maximum message size. */
+  static final int MAX_BATCH_SIZE = 256 * 1024;
+
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private final ClusterCommunicationService communicationService;
 
   private final Int2IntHashMap partitionLeaders = new Int2IntHashMap(-1);
+  private final IntHashSet partitionsReceivingBatches = new IntHashSet();
+  private final Int2ObjectHashMap<PendingBatch> pendingBatches = new Int2ObjectHashMap<>();
+  private final ExpandableArrayBuffer commandBuffer = new ExpandableArrayBuffer();
   private long checkpointId = CheckpointState.NO_CHECKPOINT;
 
   public InterPartitionCommandSenderImpl(final ClusterCommunicationService communicationService) {
@@ -71,58 +99,179 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
         receiverPartitionId,
         partitionLeader);
 
-    final var message =
-        Encoder.encode(checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
+    final var batch = pendingBatches.computeIfAbsent(receiverPartitionId, PendingBatch::new);
+    if (batch.isEmpty()) {
+      batch.start(partitionLeader, checkpointId);
+    }
+    batch.append(valueType, intent, recordKey, command);
 
-    communicationService.unicast(
-        TOPIC_PREFIX + receiverPartitionId,
-        message,
-        DefaultSerializers.BASIC::encode,
-        MemberId.from("" + partitionLeader),
-        true);
+    if (batch.isFull() || !partitionsReceivingBatches.contains(receiverPartitionId)) {
+      send(batch);
+    }
+  }
+
+  /** Sends the pending commands of all partitions. */
+  void flush() {
+    for (final var batch : pendingBatches.values()) {
+      if (!batch.isEmpty()) {
+        send(batch);
+      }
+    }
   }
 
   void setCheckpointId(final long checkpointId) {
+    // all commands of a batch share the checkpoint, so the pending ones must be sent with the old
+    // one
+    flush();
     this.checkpointId = checkpointId;
   }
 
-  void setCurrentLeader(final int partitionId, final int currentLeader) {
+  void setCurrentLeader(
+      final int partitionId, final int currentLeader, final boolean receivesBatches) {
+    // pending commands are sent to the leader which was known when they were sent
+    final var batch = pendingBatches.get(partitionId);
+    if (batch != null && !batch.isEmpty() && batch.leader != currentLeader) {
+      send(batch);
+    }
     partitionLeaders.put(partitionId, currentLeader);
+    if (receivesBatches) {
+      partitionsReceivingBatches.add(partitionId);
+    } else {
+      partitionsReceivingBatches.remove(partitionId);
+    }
+  }
+
+  /**
+   * Returns true if a broker of the given version consumes batches of commands. Brokers which don't
+   * report a valid version are treated as older brokers, which only consume single commands.
+   */
+  static boolean receivesBatches(final String brokerVersion) {
+    return SemanticVersion.parse(brokerVersion)
+        .map(version -> version.major() > 8 || version.major() == 8 && version.minor() >= 8)
+        .orElse(false);
+  }
+
+  private void send(final PendingBatch batch) {
+    if (batch.commandCount == 1) {
+      sendSingleCommand(batch);
+      return;
+    }
+
+    final var commandCount = batch.commandCount;
+    final var message = batch.finish();
+
+    LOG.trace(
+        "Sending batch of {} commands to partition {}, leader {}",
+        commandCount,
+        batch.receiverPartitionId,
+        batch.leader);
+
+    communicationService.unicast(
+        BATCH_TOPIC_PREFIX + batch.receiverPartitionId,
+        message,
+        DefaultSerializers.BASIC::encode,
+        MemberId.from("" + batch.leader),
+        true);
   }
 
-  private static final class Encoder {
+  /** Sends the only command of the batch the way older brokers consume it. */
+  private void sendSingleCommand(final PendingBatch batch) {
+    final var message = batch.finishSingleCommand();
+
+    communicationService.unicast(
+        TOPIC_PREFIX + batch.receiverPartitionId,
+        message,
+        DefaultSerializers.BASIC::encode,
+        MemberId.from("" + batch.leader),
+        true);
+  }
+
+  private final class PendingBatch {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+    private final InterPartitionMessageBatchEncoder batchEncoder =
+        new InterPartitionMessageBatchEncoder();
+    private final ExpandableArrayBuffer singleCommandBuffer = new ExpandableArrayBuffer();
+    private final InterPartitionMessageEncoder singleCommandEncoder =
+        new InterPartitionMessageEncoder();
+    private final int receiverPartitionId;
+    private CommandsEncoder commandsEncoder;
+    private int leader;
+    private long checkpointId;
+    private int commandCount;
+
+    private PendingBatch(final int receiverPartitionId) {
+      this.receiverPartitionId = receiverPartitionId;
+    }
 
-    private static byte[] encode(
-        final long checkpointId,
-        final int receiverPartitionId,
+    private void start(final int leader, final long checkpointId) {
+      this.leader = leader;
+      this.checkpointId = checkpointId;
+      commandsEncoder =
+          batchEncoder
+              .wrapAndApplyHeader(buffer, 0, headerEncoder)
+              .receiverPartitionId(receiverPartitionId)
+              .checkpointId(checkpointId)
+              .commandsCount(MAX_BATCH_COMMANDS);
+    }
+
+    private void append(
         final ValueType valueType,
         final Intent intent,
         final Long recordKey,
         final BufferWriter command) {
-      final var messageLength =
-          MessageHeaderEncoder.ENCODED_LENGTH
-              + InterPartitionMessageEncoder.BLOCK_LENGTH
-              + InterPartitionMessageEncoder.commandHeaderLength()
-              + command.getLength();
-
-      final var headerEncoder = new MessageHeaderEncoder();
-      final var bodyEncoder = new InterPartitionMessageEncoder();
-      final var commandBuffer = new UnsafeBuffer(new byte[command.getLength()]);
-      final var messageBuffer = new UnsafeBuffer(new byte[messageLength]);
+      final var commandLength = command.getLength();
       command.write(commandBuffer, 0);
-      bodyEncoder
-          .wrapAndApplyHeader(messageBuffer, 0, headerEncoder)
-          .checkpointId(checkpointId)
-          .receiverPartitionId(receiverPartitionId)
+
+      commandsEncoder
+          .next()
           .valueType(valueType.value())
           .intent(intent.value())
-          .putCommand(commandBuffer, 0, command.getLength());
+          .recordKey(Objects.requireNonNullElseGet(recordKey, CommandsEncoder::recordKeyNullValue))
+          .putCommand(commandBuffer, 0, commandLength);
+
+      // the first command is also encoded as single command, in case no other command follows
+      if (commandCount == 0) {
+        singleCommandEncoder
+            .wrapAndApplyHeader(singleCommandBuffer, 0, headerEncoder)
+            .checkpointId(checkpointId)
+            .receiverPartitionId(receiverPartitionId)
+            .valueType(valueType.value())
+            .intent(intent.value())
+            .recordKey(
+                Objects.requireNonNullElseGet(
+                    recordKey, InterPartitionMessageEncoder::recordKeyNullValue))
+            .putCommand(commandBuffer, 0, commandLength);
+      }
+      commandCount++;
+    }
+
+    private boolean isEmpty() {
+      return commandCount == 0;
+    }
+
+    private boolean isFull() {
+      return commandCount >= MAX_BATCH_COMMANDS || encodedLength() >= MAX_BATCH_SIZE;
+    }
 
-      bodyEncoder.recordKey(
-          Objects.requireNonNullElseGet(
-              recordKey, InterPartitionMessageEncoder::recordKeyNullValue));
+    private int encodedLength() {
+      return MessageHeaderEncoder.ENCODED_LENGTH + batchEncoder.encodedLength();
+    }
+
+    private byte[] finish() {
+      commandsEncoder.resetCountToIndex();
+      final var message = new byte[encodedLength()];
+      buffer.getBytes(0, message);
+      commandCount = 0;
+      return message;
+    }
 
-      return messageBuffer.byteArray();
+    private byte[] finishSingleCommand() {
+      final var message =
+          new byte[MessageHeaderEncoder.ENCODED_LENGTH + singleCommandEncoder.encodedLength()];
+      singleCommandBuffer.getBytes(0, message);
+      commandCount = 0;
+      return message;
     }
   }
 }
@@ -22,6 +22,7 @@ public final class InterPartitionCommandSenderService extends Actor
 
   final InterPartitionCommandSenderImpl commandSender;
   final int partitionId;
+  private boolean flushScheduled;
 
   public InterPartitionCommandSenderService(
       final ClusterCommunicationService communicationService, final int partitionId) {
@@ -40,7 +41,11 @@ public final class InterPartitionCommandSenderService extends Actor
       final ValueType valueType,
       final Intent intent,
       final UnifiedRecordValue command) {
-    actor.submit(() -> commandSender.sendCommand(receiverPartitionId, valueType, intent, command));
+    actor.submit(
+        () -> {
+          commandSender.sendCommand(receiverPartitionId, valueType, intent, command);
+          scheduleFlush();
+        });
   }
 
   @Override
@@ -51,12 +56,38 @@ public final class InterPartitionCommandSenderService extends Actor
       final Long recordKey,
       final UnifiedRecordValue command) {
     actor.submit(
-        () ->
-            commandSender.sendCommand(receiverPartitionId, valueType, intent, recordKey, command));
+        () -> {
+          commandSender.sendCommand(receiverPartitionId, valueType, intent, recordKey, command);
+          scheduleFlush();
+        });
   }
 
   @Override
   public void onPartitionLeaderUpdated(final int partitionId, final BrokerInfo member) {
-    actor.submit(() -> commandSender.setCurrentLeader(partitionId, member.getNodeId()));
+    final var receivesBatches =
+        InterPartitionCommandSenderImpl.receivesBatches(member.getVersion());
+    actor.submit(
+        () -> commandSender.setCurrentLeader(partitionId, member.getNodeId(), receivesBatches));
+  }
+
+  @Override
+  protected void onActorClosing() {
+    commandSender.flush();
+  }
+
+  /**
+   * Sends the pending commands after all commands which were already submitted to this actor are
+   * handled. A burst of commands is coalesced this way, without delaying a single command.
+   */
+  private void scheduleFlush() {
+    if (!flushScheduled) {
+      flushScheduled = true;
+      actor.submit(this::flush);
+    }
+  }
+
+  private void flush() {
+    flushScheduled = false;
+    commandSender.flush();
   }
 }
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
@@ -35,6 +36,8 @@ import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.impl.SkipPositionsFilter;
+import io.camunda.zeebe.util.health.FailureListener;
+import io.camunda.zeebe.util.health.HealthStatus;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -482,6 +485,69 @@ public final class ExporterDirectorTest {
                     .containsExactly(eventPosition1, eventPosition2));
   }
 
+  @Test
+  public void shouldExportRecordsInBatches() {
+    // given
+    rule.withMaxBatchSize(10);
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final List<Long> positions = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      positions.add(writeEvent());
+    }
+
+    // then
+    for (final ControlledTestExporter exporter : exporters) {
+      Awaitility.await("Exporter has exported all records")
+          .untilAsserted(
+              () ->
+                  assertThat(exporter.getExportedRecords())
+                      .extracting(Record::getPosition)
+                      .containsExactlyElementsOf(positions));
+    }
+  }
+
+  @Test
+  public void shouldRetryOnlyFailedRecordOfBatch() {
+    // given
+    rule.withMaxBatchSize(10);
+    final AtomicLong failCount = new AtomicLong(3);
+    exporters
+        .get(1)
+        .onExport(
+            e -> {
+              if (failCount.getAndDecrement() > 0) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final long eventPosition3 = writeEvent();
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until((r) -> failCount.get() <= -3);
+
+    // the first exporter must not receive the failed record again
+    Awaitility.await("Exporter %s has exported all records".formatted(EXPORTER_ID_1))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(0).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2, eventPosition3));
+    Awaitility.await("Exporter %s has exported all records".formatted(EXPORTER_ID_2))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(eventPosition1, eventPosition2, eventPosition3));
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -774,6 +840,119 @@ public final class ExporterDirectorTest {
     assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2)).isEqualTo(-1);
   }
 
+  @Test
+  public void shouldNotStallOtherExportersWhileOneIsBlocked() throws Exception {
+    // given
+    final CountDownLatch exportingBlocked = new CountDownLatch(1);
+    final CountDownLatch unblockExporting = new CountDownLatch(1);
+    final ControlledTestExporter blockedExporter = exporters.get(0);
+    final ControlledTestExporter otherExporter = exporters.get(1);
+    blockedExporter.onExport(
+        record -> {
+          exportingBlocked.countDown();
+          awaitLatch(unblockExporting);
+        });
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final List<Long> positions = List.of(writeEvent(), writeEvent(), writeEvent());
+    assertThat(exportingBlocked.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+
+    // then
+    Awaitility.await("other exporter has exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(otherExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactlyElementsOf(positions));
+    assertThat(blockedExporter.getExportedRecords()).isEmpty();
+
+    unblockExporting.countDown();
+    Awaitility.await("blocked exporter has caught up")
+        .untilAsserted(
+            () ->
+                assertThat(blockedExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactlyElementsOf(positions));
+  }
+
+  @Test
+  public void shouldTrackExportedPositionPerExporter() throws Exception {
+    // given
+    final CountDownLatch unblockExporting = new CountDownLatch(1);
+    final ControlledTestExporter blockedExporter = exporters.get(0);
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+    blockedExporter.onExport(
+        record -> {
+          // block on the second record
+          if (blockedExporter.getExportedRecords().size() == 1) {
+            awaitLatch(unblockExporting);
+          }
+        });
+    startExporterDirector(exporterDescriptors);
+    final ExportersState state = rule.getExportersState();
+
+    // when
+    final long firstPosition = writeEvent();
+    writeEvent();
+    final long lastPosition = writeEvent();
+
+    // then
+    Awaitility.await("exporter-2 has acknowledged all records")
+        .untilAsserted(() -> assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(lastPosition));
+    Awaitility.await("exporter-1 has acknowledged the records before the blocking one")
+        .untilAsserted(() -> assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(firstPosition));
+
+    unblockExporting.countDown();
+    Awaitility.await("exporter-1 has acknowledged all records")
+        .untilAsserted(() -> assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(lastPosition));
+  }
+
+  @Test
+  public void shouldReturnLowestPositionOfAllExporters() {
+    // given
+    startExporterDirector(exporterDescriptors);
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 2);
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+
+    // when
+    exporters.get(0).getController().updateLastExportedRecordPosition(firstPosition);
+    exporters.get(1).getController().updateLastExportedRecordPosition(secondPosition);
+
+    // then
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(firstPosition);
+
+    // when
+    exporters.get(0).getController().updateLastExportedRecordPosition(secondPosition);
+
+    // then
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(secondPosition);
+  }
+
+  @Test
+  public void shouldFailDirectorIfExporterContainerFails() {
+    // given
+    final FailureListener failureListener = mock(FailureListener.class);
+    exporters
+        .get(0)
+        .onExport(
+            record -> {
+              throw new Error("Export failed (expected)");
+            });
+    startExporterDirector(exporterDescriptors);
+    rule.getDirector().addFailureListener(failureListener);
+
+    // when
+    writeEvent();
+
+    // then
+    verify(failureListener, TIMEOUT).onFailure(any());
+    assertThat(rule.getDirector().getHealthReport().status()).isEqualTo(HealthStatus.UNHEALTHY);
+    assertThat(rule.getDirector().getPhase().join()).isEqualTo(ExporterPhase.CLOSED);
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
@@ -796,6 +975,15 @@ public final class ExporterDirectorTest {
             });
   }
 
+  private static void awaitLatch(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
   private ControlledTestExporter startExporterWithFaultyOpenCall() {
     final ControlledTestExporter exporter = spy(new ControlledTestExporter());
 
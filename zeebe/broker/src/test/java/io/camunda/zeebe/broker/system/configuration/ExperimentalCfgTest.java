@@ -182,6 +182,43 @@ final class ExperimentalCfgTest {
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
 
+  @Test
+  void shouldSetAppendLingerFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.getMaxAppendLinger()).isEqualTo(Duration.ofNanos(500_000));
+    assertThat(experimental.getAppendLingerFlushThresholdInBytes()).isEqualTo(64 * 1024);
+  }
+
+  @Test
+  void shouldSetAppendLingerFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.maxAppendLinger", "1ms");
+    environment.put("zeebe.broker.experimental.appendLingerFlushThreshold", "16KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.getMaxAppendLinger()).isEqualTo(Duration.ofMillis(1));
+    assertThat(experimental.getAppendLingerFlushThresholdInBytes()).isEqualTo(16 * 1024);
+  }
+
+  @Test
+  void shouldNotLingerByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.getMaxAppendLinger()).isZero();
+    assertThat(experimental.getAppendLingerFlushThresholdInBytes()).isEqualTo(32 * 1024);
+  }
+
   @Test
   void shouldHaveDefaultVersionCheckRestriction() {
     // given
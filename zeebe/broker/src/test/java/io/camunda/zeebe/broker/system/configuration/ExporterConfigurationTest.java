@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -28,6 +29,7 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.skipRecords()).isEqualTo(Set.of());
     assertThat(exportingCfg.distributionInterval()).isEqualTo(Duration.ofSeconds(15));
+    assertThat(exportingCfg.maxBatchSize()).isOne();
   }
 
   @Test
@@ -58,7 +60,7 @@ class ExporterConfigurationTest {
   @Test
   void shouldSetSkipPositions() {
     // given
-    final ExportingCfg exportingCfg = new ExportingCfg(Set.of(1L, 2L), null);
+    final ExportingCfg exportingCfg = new ExportingCfg(Set.of(1L, 2L), null, null);
 
     // then
     assertThat(exportingCfg.skipRecords()).isEqualTo(Set.of(1L, 2L));
@@ -101,4 +103,37 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.distributionInterval()).isEqualTo(Duration.ofSeconds(5));
   }
+
+  @Test
+  void shouldSetMaxBatchSizeFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.maxBatchSize", "100");
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.maxBatchSize()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldSetMaxBatchSizeFromConfigurationFile() {
+    // given
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", Map.of());
+    final ExportingCfg exportingCfg = cfg.getExporting();
+
+    // then
+    assertThat(exportingCfg.maxBatchSize()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldRejectNonPositiveMaxBatchSize() {
+    // when - then
+    assertThatThrownBy(() -> new ExportingCfg(null, null, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBatchSize must be >= 1 but was 0");
+  }
 }
@@ -8,9 +8,11 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import org.junit.Test;
 import org.springframework.util.unit.DataSize;
 
@@ -69,6 +71,7 @@ public final class RocksdbCfgTest {
 
     // then
     assertThat(rocksDbConfiguration.getColumnFamilyOptions()).isEmpty();
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamilies()).isEmpty();
     assertThat(rocksDbConfiguration.isStatisticsEnabled()).isFalse();
     assertThat(rocksDbConfiguration.getMemoryLimit())
         .isEqualTo(DataSize.ofMegabytes(512).toBytes());
@@ -110,6 +113,34 @@ public final class RocksdbCfgTest {
         .containsEntry("write_buffer_size", "67108864");
   }
 
+  @Test
+  public void shouldSetDedicatedColumnFamiliesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    final var dedicatedColumnFamilies =
+        rocksdb.createRocksDbConfiguration().getDedicatedColumnFamilies();
+    assertThat(dedicatedColumnFamilies).containsOnlyKeys("JOB_ACTIVATABLE", "TIMER_DUE_DATES");
+    assertThat(dedicatedColumnFamilies.get("JOB_ACTIVATABLE"))
+        .containsEntry("write_buffer_size", "8388608");
+    assertThat(dedicatedColumnFamilies.get("TIMER_DUE_DATES"))
+        .containsEntry("compaction_pri", "kOldestSmallestSeqFirst");
+  }
+
+  @Test
+  public void shouldRejectUnknownDedicatedColumnFamily() {
+    // given
+    final var rocksdb = new RocksdbCfg();
+    rocksdb.setDedicatedColumnFamilies(Map.of("unknown", new Properties()));
+
+    // when - then
+    assertThatThrownBy(() -> rocksdb.init(new BrokerCfg(), ""))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Expected dedicated column family 'unknown' to be one of");
+  }
+
   @Test
   public void shouldEnableStatisticsViaConfig() {
     // when
@@ -7,8 +7,10 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
@@ -31,6 +33,7 @@ import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.management.CheckpointIntent;
 import io.camunda.zeebe.util.Either;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
@@ -54,7 +57,7 @@ final class InterPartitionCommandCheckpointTest {
     this.logStreamWriter = logStreamWriter;
 
     sender = new InterPartitionCommandSenderImpl(communicationService);
-    sender.setCurrentLeader(1, 2);
+    sender.setCurrentLeader(1, 2, true);
     receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
   }
 
@@ -186,10 +189,55 @@ final class InterPartitionCommandCheckpointTest {
     verifyNoInteractions(logStreamWriter);
   }
 
+  @Test
+  void shouldSendPendingCommandsWithPreviousCheckpoint() {
+    // given
+    when(logStreamWriter.tryWrite(any(WriteContext.class), any(LogAppendEntry.class)))
+        .thenReturn(Either.right(1L));
+    when(logStreamWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    receiver.setCheckpointId(5);
+    sender.setCheckpointId(5);
+    sender.sendCommand(1, ValueType.DEPLOYMENT, DeploymentIntent.CREATE, new JobRecord());
+    sender.sendCommand(1, ValueType.DEPLOYMENT, DeploymentIntent.CREATE, new JobRecord());
+
+    // when
+    sender.setCheckpointId(17);
+    sender.sendCommand(1, ValueType.DEPLOYMENT, DeploymentIntent.CREATE, new JobRecord());
+    sender.sendCommand(1, ValueType.DEPLOYMENT, DeploymentIntent.CREATE, new JobRecord());
+    sender.flush();
+
+    // then - the commands sent before the new checkpoint are not part of it
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService, times(2))
+        .unicast(eq(BATCH_TOPIC_PREFIX + 1), messageCaptor.capture(), any(), any(), eq(true));
+    messageCaptor
+        .getAllValues()
+        .forEach(message -> receiver.handleBatch(new MemberId("0"), message));
+
+    final var io = inOrder(logStreamWriter);
+    io.verify(logStreamWriter)
+        .tryWrite(
+            any(WriteContext.class),
+            matchesCommands(ValueType.DEPLOYMENT, DeploymentIntent.CREATE));
+    io.verify(logStreamWriter).tryWrite(any(WriteContext.class), matchesCheckpoint(17));
+    io.verify(logStreamWriter)
+        .tryWrite(
+            any(WriteContext.class),
+            matchesCommands(ValueType.DEPLOYMENT, DeploymentIntent.CREATE));
+    io.verifyNoMoreInteractions();
+  }
+
   private LogAppendEntry matchesMetadata(final ValueType valueType, final Intent intent) {
     return Mockito.argThat(entry -> matchesMetadata(entry, valueType, intent));
   }
 
+  private List<LogAppendEntry> matchesCommands(final ValueType valueType, final Intent intent) {
+    return Mockito.argThat(
+        entries ->
+            entries.size() == 2
+                && entries.stream().allMatch(entry -> matchesMetadata(entry, valueType, intent)));
+  }
+
   private boolean matchesMetadata(
       final LogAppendEntry entry, final ValueType valueType, final Intent intent) {
     final var metadata = (RecordMetadata) entry.recordMetadata();
@@ -206,6 +254,7 @@ final class InterPartitionCommandCheckpointTest {
 
   private void sendAndReceive(final ValueType valueType, final Intent intent) {
     sender.sendCommand(1, valueType, intent, new JobRecord());
+    sender.flush();
 
     final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
     verify(communicationService)
@@ -7,11 +7,16 @@
  */
 package io.camunda.zeebe.broker.transport.partitionapi;
 
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.MAX_BATCH_COMMANDS;
 import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -19,9 +24,13 @@ import static org.mockito.Mockito.withSettings;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.backup.processing.state.CheckpointState;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageEncoder;
+import io.camunda.zeebe.broker.protocol.MessageHeaderEncoder;
 import io.camunda.zeebe.logstreams.impl.log.LogEntryDescriptor;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
@@ -31,7 +40,9 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.camunda.zeebe.util.Either;
+import java.util.List;
 import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -41,6 +52,8 @@ import org.mockito.ArgumentCaptor;
 @Execution(ExecutionMode.CONCURRENT)
 final class InterPartitionCommandReceiverTest {
 
+  private static final String PREVIOUS_BROKER_VERSION = "8.7.5";
+
   @Test
   void shouldWriteSentCommandToLogStream() {
     // given
@@ -70,6 +83,7 @@ final class InterPartitionCommandReceiverTest {
         mock(LogStreamWriter.class, withSettings().defaultAnswer(Answers.RETURNS_SELF));
     when(logStreamWriter.tryWrite(any(WriteContext.class), any(LogAppendEntry.class)))
         .thenReturn(Either.right(1L));
+    when(logStreamWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
     return logStreamWriter;
   }
 
@@ -122,14 +136,7 @@ final class InterPartitionCommandReceiverTest {
     receiver.handleMessage(new MemberId("0"), sentMessage);
 
     // then
-    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
-    verify(logStreamWriter).tryWrite(any(WriteContext.class), entryCaptor.capture());
-    final var metadataWriter = entryCaptor.getValue().recordMetadata();
-    final var metadataBuffer = new ExpandableArrayBuffer();
-    final var metadata = new RecordMetadata();
-    metadataWriter.write(metadataBuffer, 0);
-    metadata.wrap(metadataBuffer, 0, metadataWriter.getLength());
-
+    final var metadata = readMetadata(captureWrittenEntry(logStreamWriter));
     assertThat(metadata.getRecordType()).isEqualTo(RecordType.COMMAND);
     assertThat(metadata.getValueType()).isEqualTo(valueType);
     assertThat(metadata.getIntent()).isEqualTo(intent);
@@ -159,9 +166,7 @@ final class InterPartitionCommandReceiverTest {
     receiver.handleMessage(new MemberId("0"), sentMessage);
 
     // then
-    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
-    verify(logStreamWriter).tryWrite(any(WriteContext.class), entryCaptor.capture());
-    final var valueWriter = entryCaptor.getValue().recordValue();
+    final var valueWriter = captureWrittenEntry(logStreamWriter).recordValue();
     assertThat(valueWriter).isEqualTo(recordValue);
   }
 
@@ -184,14 +189,12 @@ final class InterPartitionCommandReceiverTest {
 
     final LogStreamWriter logStreamWriter = getLogStreamWriter();
     final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
-    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
 
     // when
     receiver.handleMessage(new MemberId("0"), sentMessage);
 
     // then
-    verify(logStreamWriter).tryWrite(any(WriteContext.class), entryCaptor.capture());
-    assertThat(entryCaptor.getValue().key()).isEqualTo(recordKey);
+    assertThat(captureWrittenEntry(logStreamWriter).key()).isEqualTo(recordKey);
   }
 
   @Test
@@ -210,16 +213,284 @@ final class InterPartitionCommandReceiverTest {
 
     final LogStreamWriter logStreamWriter = getLogStreamWriter();
     final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
-    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
 
     // when
     receiver.handleMessage(new MemberId("0"), sentMessage);
 
     // then
+    assertThat(captureWrittenEntry(logStreamWriter).key())
+        .isEqualTo(LogEntryDescriptor.KEY_NULL_VALUE);
+  }
+
+  @Test
+  void shouldWriteCommandsOfBatchInOneAppend() {
+    // given
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+    sender.setCurrentLeader(5, 3, true);
+    final var first =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1);
+    final var second =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(2);
+    final var third =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(3);
+
+    sender.sendCommand(5, ValueType.MESSAGE_SUBSCRIPTION, MessageSubscriptionIntent.CREATE, first);
+    sender.sendCommand(
+        5, ValueType.MESSAGE_SUBSCRIPTION, MessageSubscriptionIntent.CORRELATE, 10L, second);
+    sender.sendCommand(5, ValueType.MESSAGE_SUBSCRIPTION, MessageSubscriptionIntent.DELETE, third);
+    sender.flush();
+
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + 5), messageCaptor.capture(), any(), any(), eq(true));
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+
+    // when
+    receiver.handleBatch(new MemberId("0"), messageCaptor.getValue());
+
+    // then
+    final var entries = captureWrittenEntries(logStreamWriter);
+    assertThat(entries)
+        .extracting(LogAppendEntry::recordValue)
+        .containsExactly(first, second, third);
+    assertThat(entries)
+        .extracting(entry -> readMetadata(entry).getIntent())
+        .containsExactly(
+            MessageSubscriptionIntent.CREATE,
+            MessageSubscriptionIntent.CORRELATE,
+            MessageSubscriptionIntent.DELETE);
+    assertThat(entries)
+        .extracting(LogAppendEntry::key)
+        .containsExactly(LogEntryDescriptor.KEY_NULL_VALUE, 10L, LogEntryDescriptor.KEY_NULL_VALUE);
+  }
+
+  @Test
+  void shouldSendFullBatchWithoutFlush() {
+    // given
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+    sender.setCurrentLeader(5, 3, true);
+
+    // when
+    for (int i = 0; i < MAX_BATCH_COMMANDS + 1; i++) {
+      sender.sendCommand(
+          5,
+          ValueType.MESSAGE_SUBSCRIPTION,
+          MessageSubscriptionIntent.CORRELATE,
+          new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(i));
+    }
+
+    // then - only the full batch is sent, the last command is still pending
+    verify(communicationService, times(1))
+        .unicast(eq(BATCH_TOPIC_PREFIX + 5), any(byte[].class), any(), any(), eq(true));
+  }
+
+  @Test
+  void shouldSendPendingCommandsToPreviousLeader() {
+    // given
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+    sender.setCurrentLeader(5, 3, true);
+    sender.sendCommand(
+        5,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
+
+    // when
+    sender.setCurrentLeader(5, 4, true);
+    sender.sendCommand(
+        5,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
+    sender.flush();
+
+    // then
+    verify(communicationService)
+        .unicast(eq(TOPIC_PREFIX + 5), any(byte[].class), any(), eq(MemberId.from("3")), eq(true));
+    verify(communicationService)
+        .unicast(eq(TOPIC_PREFIX + 5), any(byte[].class), any(), eq(MemberId.from("4")), eq(true));
+  }
+
+  @Test
+  void shouldNotSendCommandsWithoutKnownLeader() {
+    // given
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+
+    // when
+    sender.sendCommand(
+        5,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
+    sender.flush();
+
+    // then
+    verify(communicationService, never()).unicast(any(), any(), any(), any(), eq(true));
+  }
+
+  @Test
+  void shouldWriteCommandsOneByOneIfBatchIsRejected() {
+    // given
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+    sender.setCurrentLeader(5, 3, true);
+    sender.sendCommand(
+        5,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
+    sender.sendCommand(
+        5,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(2));
+    sender.flush();
+
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + 5), messageCaptor.capture(), any(), any(), eq(true));
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    when(logStreamWriter.tryWrite(any(WriteContext.class), anyList()))
+        .thenReturn(Either.left(WriteFailure.INVALID_ARGUMENT));
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+
+    // when
+    receiver.handleBatch(new MemberId("0"), messageCaptor.getValue());
+
+    // then
+    verify(logStreamWriter, times(2)).tryWrite(any(WriteContext.class), any(LogAppendEntry.class));
+  }
+
+  @Test
+  void shouldWriteSingleCommandOfOlderSender() {
+    // given
+    final var recordValue =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1);
+    final var message =
+        encodeSingleCommand(
+            5, ValueType.MESSAGE_SUBSCRIPTION, MessageSubscriptionIntent.CORRELATE, recordValue);
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+
+    // when
+    receiver.handleMessage(new MemberId("0"), message);
+
+    // then
+    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
     verify(logStreamWriter).tryWrite(any(WriteContext.class), entryCaptor.capture());
+    assertThat(entryCaptor.getValue().recordValue()).isEqualTo(recordValue);
     assertThat(entryCaptor.getValue().key()).isEqualTo(LogEntryDescriptor.KEY_NULL_VALUE);
   }
 
+  @Test
+  void shouldSendSingleCommandOfBatchAsSingleCommand() {
+    // given
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+    sender.setCurrentLeader(5, 3, true);
+
+    // when
+    sender.sendCommand(
+        5,
+        ValueType.MESSAGE_SUBSCRIPTION,
+        MessageSubscriptionIntent.CORRELATE,
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1));
+    sender.flush();
+
+    // then
+    verify(communicationService)
+        .unicast(eq(TOPIC_PREFIX + 5), any(byte[].class), any(), any(), eq(true));
+    verify(communicationService, never())
+        .unicast(eq(BATCH_TOPIC_PREFIX + 5), any(byte[].class), any(), any(), eq(true));
+  }
+
+  @Test
+  void shouldSendSingleCommandsToOlderBroker() {
+    // given - the leader of the receiving partition runs a version without batches
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    final var sender = new InterPartitionCommandSenderImpl(communicationService);
+    sender.setCurrentLeader(
+        5, 3, InterPartitionCommandSenderImpl.receivesBatches(PREVIOUS_BROKER_VERSION));
+    final var first =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(1);
+    final var second =
+        new MessageSubscriptionRecord().setProcessInstanceKey(1).setElementInstanceKey(2);
+
+    // when
+    sender.sendCommand(5, ValueType.MESSAGE_SUBSCRIPTION, MessageSubscriptionIntent.CREATE, first);
+    sender.sendCommand(
+        5, ValueType.MESSAGE_SUBSCRIPTION, MessageSubscriptionIntent.CORRELATE, 10L, second);
+    sender.flush();
+
+    // then - the older broker, which only consumes single commands, receives all commands
+    final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService, times(2))
+        .unicast(eq(TOPIC_PREFIX + 5), messageCaptor.capture(), any(), any(), eq(true));
+    verify(communicationService, never())
+        .unicast(eq(BATCH_TOPIC_PREFIX + 5), any(byte[].class), any(), any(), eq(true));
+
+    final LogStreamWriter logStreamWriter = getLogStreamWriter();
+    final var receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+    messageCaptor
+        .getAllValues()
+        .forEach(message -> receiver.handleMessage(new MemberId("0"), message));
+
+    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
+    verify(logStreamWriter, times(2)).tryWrite(any(WriteContext.class), entryCaptor.capture());
+    assertThat(entryCaptor.getAllValues())
+        .extracting(LogAppendEntry::recordValue)
+        .containsExactly(first, second);
+    assertThat(entryCaptor.getAllValues())
+        .extracting(LogAppendEntry::key)
+        .containsExactly(LogEntryDescriptor.KEY_NULL_VALUE, 10L);
+  }
+
+  @Test
+  void shouldOnlySendBatchesToBrokersConsumingThem() {
+    assertThat(InterPartitionCommandSenderImpl.receivesBatches(PREVIOUS_BROKER_VERSION)).isFalse();
+    assertThat(InterPartitionCommandSenderImpl.receivesBatches("8.8.0-SNAPSHOT")).isTrue();
+    assertThat(InterPartitionCommandSenderImpl.receivesBatches("8.8.1")).isTrue();
+    assertThat(InterPartitionCommandSenderImpl.receivesBatches("9.0.0")).isTrue();
+    assertThat(InterPartitionCommandSenderImpl.receivesBatches("")).isFalse();
+  }
+
+  private static LogAppendEntry captureWrittenEntry(final LogStreamWriter logStreamWriter) {
+    final var entryCaptor = ArgumentCaptor.forClass(LogAppendEntry.class);
+    verify(logStreamWriter).tryWrite(any(WriteContext.class), entryCaptor.capture());
+    return entryCaptor.getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<LogAppendEntry> captureWrittenEntries(final LogStreamWriter logStreamWriter) {
+    final ArgumentCaptor<List<LogAppendEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamWriter).tryWrite(any(WriteContext.class), entriesCaptor.capture());
+    return entriesCaptor.getValue();
+  }
+
+  private static RecordMetadata readMetadata(final LogAppendEntry entry) {
+    final var metadataWriter = entry.recordMetadata();
+    final var metadataBuffer = new ExpandableArrayBuffer();
+    final var metadata = new RecordMetadata();
+    metadataWriter.write(metadataBuffer, 0);
+    metadata.wrap(metadataBuffer, 0, metadataWriter.getLength());
+    return metadata;
+  }
+
   private byte[] sendCommand(
       final Integer receiverBrokerId,
       final Integer receiverPartitionId,
@@ -240,9 +511,10 @@ final class InterPartitionCommandReceiverTest {
         mock(ClusterCommunicationService.class);
 
     final var sender = new InterPartitionCommandSenderImpl(communicationService);
-    sender.setCurrentLeader(receiverPartitionId, receiverBrokerId);
+    sender.setCurrentLeader(receiverPartitionId, receiverBrokerId, true);
 
     sender.sendCommand(receiverPartitionId, valueType, intent, recordKey, recordValue);
+    sender.flush();
 
     final var messageCaptor = ArgumentCaptor.forClass(byte[].class);
     verify(communicationService)
@@ -255,4 +527,29 @@ final class InterPartitionCommandReceiverTest {
 
     return messageCaptor.getValue();
   }
+
+  /** Encodes a command the way brokers did before commands were sent in batches. */
+  private static byte[] encodeSingleCommand(
+      final int receiverPartitionId,
+      final ValueType valueType,
+      final Intent intent,
+      final UnifiedRecordValue command) {
+    final var commandBuffer = new UnsafeBuffer(new byte[command.getLength()]);
+    command.write(commandBuffer, 0);
+
+    final var messageBuffer = new ExpandableArrayBuffer();
+    final var encoder =
+        new InterPartitionMessageEncoder()
+            .wrapAndApplyHeader(messageBuffer, 0, new MessageHeaderEncoder())
+            .checkpointId(CheckpointState.NO_CHECKPOINT)
+            .receiverPartitionId(receiverPartitionId)
+            .valueType(valueType.value())
+            .intent(intent.value())
+            .recordKey(InterPartitionMessageEncoder.recordKeyNullValue())
+            .putCommand(commandBuffer, 0, commandBuffer.capacity());
+
+    final var message = new byte[MessageHeaderEncoder.ENCODED_LENGTH + encoder.encodedLength()];
+    messageBuffer.getBytes(0, message);
+    return message;
+  }
 }
@@ -104,6 +104,8 @@ public class Engine implements RecordProcessor {
 
   @Override
   public void replay(final TypedRecord event) {
+    // a failed replay is retried after rolling back the transaction
+    clearStateCaches();
     eventApplier.applyState(
         event.getKey(), event.getIntent(), event.getValue(), event.getRecordVersion());
   }
@@ -112,6 +114,8 @@ public class Engine implements RecordProcessor {
   public ProcessingResult process(
       final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
 
+    clearStateCaches();
+
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
       TypedRecordProcessor<?> currentProcessor = null;
 
@@ -142,6 +146,9 @@ public class Engine implements RecordProcessor {
       final Throwable processingException,
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
+    // the transaction of the failed processing is rolled back
+    clearStateCaches();
+
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
 
       final var typedCommand = (TypedRecord<?>) record;
@@ -169,6 +176,15 @@ public class Engine implements RecordProcessor {
     return processingResultBuilder.build();
   }
 
+  /**
+   * Clears the caches of the state, which are only valid within the transaction of a single
+   * command, as they don't reflect a rollback.
+   */
+  private void clearStateCaches() {
+    processingState.getVariableState().clearCache();
+    processingState.getElementInstanceState().clearCache();
+  }
+
   private boolean shouldProcessCommand(final TypedRecord<?> typedCommand) {
     // There is no ban check needed if the intent is not instance related
     // nor if the intent is to create new instances, which can't be banned yet
@@ -25,6 +25,7 @@ public final class EngineConfiguration {
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
+  public static final Duration DEFAULT_TIMERS_DUE_DATE_CACHE_HORIZON = Duration.ofMinutes(1);
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
   public static final boolean DEFAULT_ENABLE_AUTHORIZATION_CHECKS = false;
 
@@ -40,6 +41,8 @@ public final class EngineConfiguration {
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
 
+  private Duration timersDueDateCacheHorizon = DEFAULT_TIMERS_DUE_DATE_CACHE_HORIZON;
+
   private int validatorsResultsOutputMaxSize = DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE;
 
   private boolean enableAuthorization = DEFAULT_ENABLE_AUTHORIZATION_CHECKS;
@@ -122,6 +125,16 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public Duration getTimersDueDateCacheHorizon() {
+    return timersDueDateCacheHorizon;
+  }
+
+  public EngineConfiguration setTimersDueDateCacheHorizon(
+      final Duration timersDueDateCacheHorizon) {
+    this.timersDueDateCacheHorizon = timersDueDateCacheHorizon;
+    return this;
+  }
+
   public int getValidatorsResultsOutputMaxSize() {
     return validatorsResultsOutputMaxSize;
   }
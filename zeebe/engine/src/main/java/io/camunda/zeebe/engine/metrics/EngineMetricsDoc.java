@@ -260,6 +260,171 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {EngineKeyNames.JOB_ACTION};
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of due timer checks, by whether they were served from the due date cache */
+  TIMER_DUE_DATE_CACHE_CHECKS {
+    @Override
+    public String getDescription() {
+      return "Number of due timer checks, by whether they were served from the due date cache";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.timer.due.date.cache.checks.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {EngineKeyNames.CACHE_RESULT};
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of variable and scope lookups, by whether they were served from the variable cache */
+  VARIABLE_STATE_CACHE_LOOKUPS {
+    @Override
+    public String getDescription() {
+      return "Number of variable and scope lookups, by whether they were served from the variable"
+          + " cache";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.variable.state.cache.lookups.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {EngineKeyNames.CACHE_RESULT};
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of element instance lookups, by whether they were served from the instance cache */
+  ELEMENT_INSTANCE_STATE_CACHE_LOOKUPS {
+    @Override
+    public String getDescription() {
+      return "Number of element instance lookups, by whether they were served from the element"
+          + " instance cache";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.element.instance.state.cache.lookups.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {EngineKeyNames.CACHE_RESULT};
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Current number of timers in the due date cache */
+  TIMER_DUE_DATE_CACHE_SIZE {
+    @Override
+    public String getDescription() {
+      return "Current number of timers in the due date cache";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.timer.due.date.cache.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Current number of (process) message subscriptions waiting for a command to be acknowledged */
+  PENDING_SUBSCRIPTIONS {
+    @Override
+    public String getDescription() {
+      return "Current number of (process) message subscriptions waiting for a command to be acknowledged";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.pending.subscriptions";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {EngineKeyNames.SUBSCRIPTION_TYPE};
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Time spent to check the pending (process) message subscriptions and resend their commands */
+  PENDING_SUBSCRIPTIONS_CHECK_DURATION {
+    @Override
+    public String getDescription() {
+      return "Time spent to check the pending (process) message subscriptions and resend their commands";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.pending.subscriptions.check.duration";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {EngineKeyNames.SUBSCRIPTION_TYPE};
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -350,6 +515,24 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       }
     },
 
+    /** Whether a lookup was served from a cache; see {@link CacheResult} for possible values. */
+    CACHE_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    },
+
+    /**
+     * The kind of pending subscription; see {@link PendingSubscriptionType} for possible values.
+     */
+    SUBSCRIPTION_TYPE {
+      @Override
+      public String asString() {
+        return "type";
+      }
+    },
+
     /**
      * Metrics that are annotated with this label are vitally important for usage tracking and
      * data-based decision-making as part of Camunda's SaaS offering.
@@ -392,6 +575,26 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  public enum CacheResult {
+    HIT,
+    MISS;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
+
+  public enum PendingSubscriptionType {
+    MESSAGE,
+    PROCESS_MESSAGE;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
+
   public enum IncidentAction {
     CREATED,
     RESOLVED;
@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.PENDING_SUBSCRIPTIONS;
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.PENDING_SUBSCRIPTIONS_CHECK_DURATION;
+
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.PendingSubscriptionType;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.camunda.zeebe.util.micrometer.StatefulGauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.IntSupplier;
+
+public final class PendingSubscriptionMetrics {
+  private final StatefulGauge pendingSubscriptions;
+  private final Timer checkDuration;
+  private final IntSupplier pendingCount;
+
+  public PendingSubscriptionMetrics(
+      final MeterRegistry meterRegistry,
+      final PendingSubscriptionType type,
+      final IntSupplier pendingCount) {
+    this.pendingCount = pendingCount;
+    pendingSubscriptions =
+        StatefulGauge.builder(PENDING_SUBSCRIPTIONS.getName())
+            .description(PENDING_SUBSCRIPTIONS.getDescription())
+            .tag(EngineKeyNames.SUBSCRIPTION_TYPE.asString(), type.toString())
+            .register(meterRegistry);
+    checkDuration =
+        MicrometerUtil.buildTimer(PENDING_SUBSCRIPTIONS_CHECK_DURATION)
+            .tag(EngineKeyNames.SUBSCRIPTION_TYPE.asString(), type.toString())
+            .register(meterRegistry);
+  }
+
+  /**
+   * Runs the given check of the pending subscriptions, records how long it took and updates the
+   * number of pending subscriptions.
+   */
+  public void timeCheck(final Runnable check) {
+    checkDuration.record(check);
+    pendingSubscriptions.set(pendingCount.getAsInt());
+  }
+}
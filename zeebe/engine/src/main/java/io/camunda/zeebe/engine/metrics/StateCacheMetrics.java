@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.CacheResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** Counts the lookups of a state cache, by whether they were served from the cache or not. */
+public final class StateCacheMetrics {
+  private final Counter hits;
+  private final Counter misses;
+
+  /**
+   * @param meterDoc the documentation of the lookup counter of the cache, which must have the
+   *     {@link EngineKeyNames#CACHE_RESULT} key name
+   */
+  public StateCacheMetrics(final MeterRegistry meterRegistry, final EngineMetricsDoc meterDoc) {
+    hits = registerCounter(meterRegistry, meterDoc, CacheResult.HIT);
+    misses = registerCounter(meterRegistry, meterDoc, CacheResult.MISS);
+  }
+
+  /** Counts a lookup which was served from the cache. */
+  public void countHit() {
+    hits.increment();
+  }
+
+  /** Counts a lookup which had to read from the state. */
+  public void countMiss() {
+    misses.increment();
+  }
+
+  private Counter registerCounter(
+      final MeterRegistry meterRegistry,
+      final EngineMetricsDoc meterDoc,
+      final CacheResult result) {
+    return Counter.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .tag(EngineKeyNames.CACHE_RESULT.asString(), result.toString())
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.TIMER_DUE_DATE_CACHE_CHECKS;
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.TIMER_DUE_DATE_CACHE_SIZE;
+
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.CacheResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.IntSupplier;
+
+public final class TimerDueDateCacheMetrics {
+  private final Counter hits;
+  private final Counter misses;
+
+  public TimerDueDateCacheMetrics(final MeterRegistry meterRegistry, final IntSupplier cacheSize) {
+    hits = registerCounter(meterRegistry, CacheResult.HIT);
+    misses = registerCounter(meterRegistry, CacheResult.MISS);
+    Gauge.builder(TIMER_DUE_DATE_CACHE_SIZE.getName(), cacheSize::getAsInt)
+        .description(TIMER_DUE_DATE_CACHE_SIZE.getDescription())
+        .register(meterRegistry);
+  }
+
+  /** Counts a check of the due timers which was served from the cache. */
+  public void countHit() {
+    hits.increment();
+  }
+
+  /** Counts a check of the due timers which had to refill the cache from the state. */
+  public void countMiss() {
+    misses.increment();
+  }
+
+  private Counter registerCounter(final MeterRegistry meterRegistry, final CacheResult result) {
+    return Counter.builder(TIMER_DUE_DATE_CACHE_CHECKS.getName())
+        .description(TIMER_DUE_DATE_CACHE_CHECKS.getDescription())
+        .tag(EngineKeyNames.CACHE_RESULT.asString(), result.toString())
+        .register(meterRegistry);
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.PendingSubscriptionMetrics;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
 import io.camunda.zeebe.engine.processing.adhocsubprocess.AdHocSubProcessActivityActivateProcessor;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnStreamProcessor;
@@ -74,7 +75,8 @@ public final class BpmnProcessors {
       final EngineConfiguration config,
       final AuthorizationCheckBehavior authCheckBehavior,
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
-      final ProcessEngineMetrics processEngineMetrics) {
+      final ProcessEngineMetrics processEngineMetrics,
+      final PendingSubscriptionMetrics pendingProcessMessageSubscriptionMetrics) {
     final MutableProcessMessageSubscriptionState subscriptionState =
         processingState.getProcessMessageSubscriptionState();
     final var keyGenerator = processingState.getKeyGenerator();
@@ -96,7 +98,8 @@ public final class BpmnProcessors {
         scheduledTaskState,
         writers,
         clock,
-        transientProcessMessageSubscriptionState);
+        transientProcessMessageSubscriptionState,
+        pendingProcessMessageSubscriptionMetrics);
     addTimerStreamProcessors(
         typedRecordProcessors, timerChecker, processingState, bpmnBehaviors, writers);
     addVariableDocumentStreamProcessors(
@@ -166,7 +169,8 @@ public final class BpmnProcessors {
       final Supplier<ScheduledTaskState> scheduledTaskState,
       final Writers writers,
       final InstantSource clock,
-      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState) {
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final PendingSubscriptionMetrics pendingProcessMessageSubscriptionMetrics) {
     typedRecordProcessors
         .onCommand(
             ValueType.PROCESS_MESSAGE_SUBSCRIPTION,
@@ -194,7 +198,8 @@ public final class BpmnProcessors {
             new PendingProcessMessageSubscriptionChecker(
                 subscriptionCommandSender,
                 scheduledTaskState.get().getPendingProcessMessageSubscriptionState(),
-                clock));
+                clock,
+                pendingProcessMessageSubscriptionMetrics));
   }
 
   private static void addTimerStreamProcessors(
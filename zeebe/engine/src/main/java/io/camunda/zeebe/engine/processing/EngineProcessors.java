@@ -12,7 +12,9 @@ import static io.camunda.zeebe.protocol.record.intent.DeploymentIntent.CREATE;
 import io.camunda.search.clients.SearchClientsProxy;
 import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.PendingSubscriptionType;
 import io.camunda.zeebe.engine.metrics.JobProcessingMetrics;
+import io.camunda.zeebe.engine.metrics.PendingSubscriptionMetrics;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
 import io.camunda.zeebe.engine.processing.batchoperation.BatchOperationSetupProcessors;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
@@ -111,11 +113,20 @@ public final class EngineProcessors {
 
     final DueDateTimerChecker timerChecker =
         new DueDateTimerChecker(
-            scheduledTaskStateFactory.get().getTimerState(), featureFlags, clock);
+            scheduledTaskStateFactory.get().getTimerState(),
+            featureFlags,
+            clock,
+            config.getTimersDueDateCacheHorizon(),
+            typedRecordProcessorContext.getMeterRegistry());
 
     final var jobMetrics = new JobProcessingMetrics(typedRecordProcessorContext.getMeterRegistry());
     final var processEngineMetrics =
         new ProcessEngineMetrics(typedRecordProcessorContext.getMeterRegistry());
+    final var pendingMessageSubscriptionMetrics =
+        new PendingSubscriptionMetrics(
+            typedRecordProcessorContext.getMeterRegistry(),
+            PendingSubscriptionType.MESSAGE,
+            typedRecordProcessorContext.getTransientMessageSubscriptionState()::size);
 
     subscriptionCommandSender.setWriters(writers);
 
@@ -125,6 +136,11 @@ public final class EngineProcessors {
     final var authCheckBehavior = new AuthorizationCheckBehavior(processingState, securityConfig);
     final var transientProcessMessageSubscriptionState =
         typedRecordProcessorContext.getTransientProcessMessageSubscriptionState();
+    final var pendingProcessMessageSubscriptionMetrics =
+        new PendingSubscriptionMetrics(
+            typedRecordProcessorContext.getMeterRegistry(),
+            PendingSubscriptionType.PROCESS_MESSAGE,
+            transientProcessMessageSubscriptionState::size);
     final BpmnBehaviorsImpl bpmnBehaviors =
         createBehaviors(
             processingState,
@@ -174,7 +190,8 @@ public final class EngineProcessors {
         featureFlags,
         commandDistributionBehavior,
         clock,
-        authCheckBehavior);
+        authCheckBehavior,
+        pendingMessageSubscriptionMetrics);
 
     final TypedRecordProcessor<ProcessInstanceRecord> bpmnStreamProcessor =
         addProcessProcessors(
@@ -192,7 +209,8 @@ public final class EngineProcessors {
             config,
             authCheckBehavior,
             transientProcessMessageSubscriptionState,
-            processEngineMetrics);
+            processEngineMetrics,
+            pendingProcessMessageSubscriptionMetrics);
 
     addDecisionProcessors(
         typedRecordProcessors, decisionBehavior, writers, processingState, authCheckBehavior);
@@ -382,7 +400,8 @@ public final class EngineProcessors {
       final EngineConfiguration config,
       final AuthorizationCheckBehavior authCheckBehavior,
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
-      final ProcessEngineMetrics processEngineMetrics) {
+      final ProcessEngineMetrics processEngineMetrics,
+      final PendingSubscriptionMetrics pendingProcessMessageSubscriptionMetrics) {
     return BpmnProcessors.addBpmnStreamProcessor(
         processingState,
         scheduledTaskState,
@@ -398,7 +417,8 @@ public final class EngineProcessors {
         config,
         authCheckBehavior,
         transientProcessMessageSubscriptionState,
-        processEngineMetrics);
+        processEngineMetrics,
+        pendingProcessMessageSubscriptionMetrics);
   }
 
   private static void addDeploymentRelatedProcessorAndServices(
@@ -491,7 +511,8 @@ public final class EngineProcessors {
       final FeatureFlags featureFlags,
       final CommandDistributionBehavior commandDistributionBehavior,
       final InstantSource clock,
-      final AuthorizationCheckBehavior authCheckBehavior) {
+      final AuthorizationCheckBehavior authCheckBehavior,
+      final PendingSubscriptionMetrics pendingMessageSubscriptionMetrics) {
     MessageEventProcessors.addMessageProcessors(
         bpmnBehaviors,
         typedRecordProcessors,
@@ -503,7 +524,8 @@ public final class EngineProcessors {
         featureFlags,
         commandDistributionBehavior,
         clock,
-        authCheckBehavior);
+        authCheckBehavior,
+        pendingMessageSubscriptionMetrics);
   }
 
   private static void addDecisionProcessors(
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.behavior;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+
+/**
+ * Evaluates the input collection of a multi-instance body. The input collection is evaluated on the
+ * activation and on the completion of every child instance, which makes the evaluation of a large
+ * collection the dominating cost of the multi-instance body.
+ *
+ * <p>If the input collection expression refers to a variable (e.g. {@code =items} or {@code
+ * =order.items}), its result depends only on the value of this variable. The evaluated collection
+ * is kept per multi-instance body together with the variable value it was evaluated from, and is
+ * reused as long as the variable has the same value. Comparing the value is much cheaper than
+ * evaluating the expression again, because the evaluation transforms every item of the collection.
+ * A modified collection is still noticed by the next evaluation, like before.
+ */
+public final class MultiInstanceInputCollectionBehavior {
+
+  /**
+   * The cached collections are only reused while the multi-instance body is active, so only a few
+   * of them are needed at the same time. Bodies which are left without completion or termination
+   * (e.g. on a failed processing) are evicted by newer ones.
+   */
+  private static final int MAX_CACHED_COLLECTIONS = 16;
+
+  private final Map<Long, EvaluatedInputCollection> evaluatedCollections =
+      new LinkedHashMap<>(MAX_CACHED_COLLECTIONS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(
+            final Map.Entry<Long, EvaluatedInputCollection> eldest) {
+          return size() > MAX_CACHED_COLLECTIONS;
+        }
+      };
+
+  private final ExpressionProcessor expressionProcessor;
+  private final VariableState variableState;
+
+  MultiInstanceInputCollectionBehavior(
+      final ExpressionProcessor expressionProcessor, final VariableState variableState) {
+    this.expressionProcessor = expressionProcessor;
+    this.variableState = variableState;
+  }
+
+  /**
+   * Returns the input collection of the given multi-instance body.
+   *
+   * @param element the multi-instance body
+   * @param multiInstanceBodyKey the key of the multi-instance body instance
+   * @param scopeKey the scope to evaluate the input collection in, i.e. the multi-instance body or
+   *     one of its child instances
+   * @return either the items of the input collection, or a failure if the evaluation fails
+   */
+  public Either<Failure, List<DirectBuffer>> getInputCollection(
+      final ExecutableMultiInstanceBody element,
+      final long multiInstanceBodyKey,
+      final long scopeKey) {
+    final Expression inputCollection = element.getLoopCharacteristics().getInputCollection();
+    final var variableName = inputCollection.getVariableName();
+    if (variableName.isEmpty()) {
+      return expressionProcessor.evaluateArrayExpression(inputCollection, scopeKey);
+    }
+
+    final var variableValue =
+        variableState.getVariable(scopeKey, BufferUtil.wrapString(variableName.get()));
+    if (variableValue == null) {
+      // the evaluation fails or uses the default value of the expression
+      evaluatedCollections.remove(multiInstanceBodyKey);
+      return expressionProcessor.evaluateArrayExpression(inputCollection, scopeKey);
+    }
+
+    final var evaluatedCollection = evaluatedCollections.get(multiInstanceBodyKey);
+    if (evaluatedCollection != null
+        && evaluatedCollection.expression() == inputCollection
+        && BufferUtil.equals(evaluatedCollection.variableValue(), variableValue)) {
+      return Either.right(evaluatedCollection.items());
+    }
+
+    // the evaluation may read the variable into the same buffer
+    final var copiedVariableValue = BufferUtil.cloneBuffer(variableValue);
+    // the items are accessed by index, which is not constant time for the evaluation result
+    final var result =
+        expressionProcessor
+            .evaluateArrayExpression(inputCollection, scopeKey)
+            .<List<DirectBuffer>>map(List::copyOf);
+    if (result.isRight()) {
+      evaluatedCollections.put(
+          multiInstanceBodyKey,
+          new EvaluatedInputCollection(inputCollection, copiedVariableValue, result.get()));
+    } else {
+      evaluatedCollections.remove(multiInstanceBodyKey);
+    }
+    return result;
+  }
+
+  /**
+   * Discards the evaluated input collection of the given multi-instance body, because the body is
+   * left and the collection is not needed anymore.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body instance
+   */
+  public void discardInputCollection(final long multiInstanceBodyKey) {
+    evaluatedCollections.remove(multiInstanceBodyKey);
+  }
+
+  private record EvaluatedInputCollection(
+      Expression expression, DirectBuffer variableValue, List<DirectBuffer> items) {}
+}
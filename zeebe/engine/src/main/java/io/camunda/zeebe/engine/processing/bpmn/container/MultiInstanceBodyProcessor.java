@@ -16,6 +16,7 @@ import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnEventSubscriptionBeh
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnIncidentBehavior;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnStateBehavior;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnStateTransitionBehavior;
+import io.camunda.zeebe.engine.processing.bpmn.behavior.MultiInstanceInputCollectionBehavior;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.MultiInstanceOutputCollectionBehavior;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
@@ -63,6 +64,7 @@ public final class MultiInstanceBodyProcessor
   private final BpmnEventSubscriptionBehavior eventSubscriptionBehavior;
   private final BpmnStateBehavior stateBehavior;
   private final BpmnIncidentBehavior incidentBehavior;
+  private final MultiInstanceInputCollectionBehavior multiInstanceInputCollectionBehavior;
   private final MultiInstanceOutputCollectionBehavior multiInstanceOutputCollectionBehavior;
   private final BpmnCompensationSubscriptionBehaviour compensationSubscriptionBehaviour;
 
@@ -74,6 +76,7 @@ public final class MultiInstanceBodyProcessor
     stateBehavior = bpmnBehaviors.stateBehavior();
     expressionBehavior = bpmnBehaviors.expressionBehavior();
     incidentBehavior = bpmnBehaviors.incidentBehavior();
+    multiInstanceInputCollectionBehavior = bpmnBehaviors.inputCollectionBehavior();
     multiInstanceOutputCollectionBehavior = bpmnBehaviors.outputCollectionBehavior();
     compensationSubscriptionBehaviour = bpmnBehaviors.compensationSubscriptionBehaviour();
   }
@@ -87,7 +90,7 @@ public final class MultiInstanceBodyProcessor
   public Either<Failure, ?> onActivate(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
     // verify that the input collection variable is present and valid
-    return readInputCollectionVariable(element, context)
+    return readInputCollectionVariable(element, context.getElementInstanceKey(), context)
         .flatMap(
             inputCollection ->
                 eventSubscriptionBehavior
@@ -101,6 +104,7 @@ public final class MultiInstanceBodyProcessor
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
 
     eventSubscriptionBehavior.unsubscribeFromEvents(context);
+    multiInstanceInputCollectionBehavior.discardInputCollection(context.getElementInstanceKey());
 
     element
         .getLoopCharacteristics()
@@ -141,7 +145,8 @@ public final class MultiInstanceBodyProcessor
     final int loopCounter =
         stateBehavior.getElementInstance(childContext).getMultiInstanceLoopCounter();
 
-    return readInputCollectionVariable(multiInstanceBody, childContext)
+    return readInputCollectionVariable(
+            multiInstanceBody, flowScopeContext.getElementInstanceKey(), childContext)
         .flatMap(
             collection -> {
               // the loop counter starts at 1
@@ -185,7 +190,8 @@ public final class MultiInstanceBodyProcessor
     }
 
     // test that input collection variable can be evaluated correctly
-    return readInputCollectionVariable(element, flowScopeContext)
+    return readInputCollectionVariable(
+            element, flowScopeContext.getElementInstanceKey(), flowScopeContext)
         .map(ok -> satisfiesCompletionConditionOrFailure.get());
   }
 
@@ -211,7 +217,9 @@ public final class MultiInstanceBodyProcessor
       }
       return;
     }
-    final var inputCollectionOrFailure = readInputCollectionVariable(element, flowScopeContext);
+    final var inputCollectionOrFailure =
+        readInputCollectionVariable(
+            element, flowScopeContext.getElementInstanceKey(), flowScopeContext);
     if (inputCollectionOrFailure.isLeft()) {
       // this incident is un-resolvable
       incidentBehavior.createIncident(inputCollectionOrFailure.getLeft(), childContext);
@@ -299,6 +307,8 @@ public final class MultiInstanceBodyProcessor
 
     final var flowScopeInstance = stateBehavior.getFlowScopeInstance(flowScopeContext);
 
+    multiInstanceInputCollectionBehavior.discardInputCollection(
+        flowScopeContext.getElementInstanceKey());
     incidentBehavior.resolveIncidents(flowScopeContext);
 
     eventSubscriptionBehavior
@@ -367,10 +377,11 @@ public final class MultiInstanceBodyProcessor
   }
 
   private Either<Failure, List<DirectBuffer>> readInputCollectionVariable(
-      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
-    final Expression inputCollection = element.getLoopCharacteristics().getInputCollection();
-    return expressionBehavior.evaluateArrayExpression(
-        inputCollection, context.getElementInstanceKey());
+      final ExecutableMultiInstanceBody element,
+      final long multiInstanceBodyKey,
+      final BpmnElementContext context) {
+    return multiInstanceInputCollectionBehavior.getInputCollection(
+        element, multiInstanceBodyKey, context.getElementInstanceKey());
   }
 
   private void createInnerInstance(
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.metrics.PendingSubscriptionMetrics;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
@@ -28,6 +29,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
   private final Duration messagesTtlCheckerInterval;
   private final boolean enableMessageTtlCheckerAsync;
   private final InstantSource clock;
+  private final PendingSubscriptionMetrics pendingSubscriptionMetrics;
 
   public MessageObserver(
       final Supplier<ScheduledTaskState> scheduledTaskStateFactory,
@@ -36,7 +38,8 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
       final Duration messagesTtlCheckerInterval,
       final int messagesTtlCheckerBatchLimit,
       final boolean enableMessageTtlCheckerAsync,
-      final InstantSource clock) {
+      final InstantSource clock,
+      final PendingSubscriptionMetrics pendingSubscriptionMetrics) {
     this.subscriptionCommandSender = subscriptionCommandSender;
     this.scheduledTaskStateFactory = scheduledTaskStateFactory;
     this.pendingState = pendingState;
@@ -44,6 +47,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
     this.messagesTtlCheckerBatchLimit = messagesTtlCheckerBatchLimit;
     this.enableMessageTtlCheckerAsync = enableMessageTtlCheckerAsync;
     this.clock = clock;
+    this.pendingSubscriptionMetrics = pendingSubscriptionMetrics;
   }
 
   @Override
@@ -79,7 +83,8 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
             subscriptionCommandSender,
             pendingState,
             SUBSCRIPTION_TIMEOUT.toMillis(),
-            context.getClock());
+            context.getClock(),
+            pendingSubscriptionMetrics);
     scheduleService.runAtFixedRate(SUBSCRIPTION_CHECK_INTERVAL, pendingSubscriptionChecker);
   }
 }
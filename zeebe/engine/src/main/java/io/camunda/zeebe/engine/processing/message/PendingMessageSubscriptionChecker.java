@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.metrics.PendingSubscriptionMetrics;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.MessageSubscription;
@@ -24,21 +25,25 @@ public final class PendingMessageSubscriptionChecker implements Runnable {
   private final long subscriptionTimeout;
 
   private final InstantSource clock;
+  private final PendingSubscriptionMetrics metrics;
 
   public PendingMessageSubscriptionChecker(
       final SubscriptionCommandSender commandSender,
       final PendingMessageSubscriptionState state,
       final long subscriptionTimeout,
-      final InstantSource clock) {
+      final InstantSource clock,
+      final PendingSubscriptionMetrics metrics) {
     this.commandSender = commandSender;
     this.state = state;
     this.subscriptionTimeout = subscriptionTimeout;
     this.clock = clock;
+    this.metrics = metrics;
   }
 
   @Override
   public void run() {
-    state.visitPending(clock.millis() - subscriptionTimeout, this::sendCommand);
+    metrics.timeCheck(
+        () -> state.visitPending(clock.millis() - subscriptionTimeout, this::sendCommand));
   }
 
   private boolean sendCommand(final MessageSubscription subscription) {
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.metrics.PendingSubscriptionMetrics;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.state.immutable.PendingProcessMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.ProcessMessageSubscription;
@@ -29,14 +30,17 @@ public final class PendingProcessMessageSubscriptionChecker
   private ProcessingScheduleService scheduleService;
   private boolean schouldRescheduleTimer = false;
   private final InstantSource clock;
+  private final PendingSubscriptionMetrics metrics;
 
   public PendingProcessMessageSubscriptionChecker(
       final SubscriptionCommandSender commandSender,
       final PendingProcessMessageSubscriptionState pendingState,
-      final InstantSource clock) {
+      final InstantSource clock,
+      final PendingSubscriptionMetrics metrics) {
     this.commandSender = commandSender;
     this.pendingState = pendingState;
     this.clock = clock;
+    this.metrics = metrics;
     subscriptionTimeoutInMillis = SUBSCRIPTION_TIMEOUT.toMillis();
   }
 
@@ -80,8 +84,10 @@ public final class PendingProcessMessageSubscriptionChecker
   }
 
   private void checkPendingSubscriptions() {
-    pendingState.visitPending(
-        clock.millis() - subscriptionTimeoutInMillis, this::sendPendingCommand);
+    metrics.timeCheck(
+        () ->
+            pendingState.visitPending(
+                clock.millis() - subscriptionTimeoutInMillis, this::sendPendingCommand));
     rescheduleTimer();
   }
 
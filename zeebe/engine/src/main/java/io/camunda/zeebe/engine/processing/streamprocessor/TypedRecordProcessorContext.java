@@ -40,6 +40,8 @@ public interface TypedRecordProcessorContext {
 
   ControllableStreamClock getClock();
 
+  TransientPendingSubscriptionState getTransientMessageSubscriptionState();
+
   TransientPendingSubscriptionState getTransientProcessMessageSubscriptionState();
 
   MeterRegistry getMeterRegistry();
@@ -119,6 +119,11 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
     return clock;
   }
 
+  @Override
+  public TransientPendingSubscriptionState getTransientMessageSubscriptionState() {
+    return transientMessageSubscriptionState;
+  }
+
   @Override
   public TransientPendingSubscriptionState getTransientProcessMessageSubscriptionState() {
     return transientProcessMessageSubscriptionState;
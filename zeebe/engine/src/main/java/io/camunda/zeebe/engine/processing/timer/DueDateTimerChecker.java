@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import io.camunda.zeebe.engine.metrics.TimerDueDateCacheMetrics;
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
@@ -17,6 +18,7 @@ import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import io.camunda.zeebe.util.FeatureFlags;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
 import java.util.function.Function;
@@ -26,26 +28,59 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private static final double GIVE_YIELD_FACTOR = 0.5;
   private final DueDateChecker dueDateChecker;
+  private final TimerDueDateWheel dueDateWheel;
 
+  /**
+   * @param dueDateCacheHorizon timers due within this horizon are cached in memory, see {@link
+   *     TimerDueDateWheel}; caching is disabled if it is zero
+   */
   public DueDateTimerChecker(
       final TimerInstanceState timerInstanceState,
       final FeatureFlags featureFlags,
-      final InstantSource clock) {
+      final InstantSource clock,
+      final Duration dueDateCacheHorizon,
+      final MeterRegistry meterRegistry) {
+    final TriggerTimersSideEffect triggerTimers;
+    if (dueDateCacheHorizon.toMillis() >= TIMER_RESOLUTION) {
+      dueDateWheel = new TimerDueDateWheel(TIMER_RESOLUTION, dueDateCacheHorizon);
+      triggerTimers =
+          new TriggerTimersSideEffect(
+              timerInstanceState,
+              clock,
+              featureFlags.yieldingDueDateChecker(),
+              dueDateWheel,
+              new TimerDueDateCacheMetrics(meterRegistry, dueDateWheel::size));
+    } else {
+      dueDateWheel = null;
+      triggerTimers =
+          new TriggerTimersSideEffect(
+              timerInstanceState, clock, featureFlags.yieldingDueDateChecker());
+    }
+
     dueDateChecker =
         new DueDateChecker(
-            TIMER_RESOLUTION,
-            featureFlags.enableTimerDueDateCheckerAsync(),
-            new TriggerTimersSideEffect(
-                timerInstanceState, clock, featureFlags.yieldingDueDateChecker()),
-            clock);
+            TIMER_RESOLUTION, featureFlags.enableTimerDueDateCheckerAsync(), triggerTimers, clock);
   }
 
-  public void scheduleTimer(final long dueDate) {
+  /**
+   * Schedules the checker for a timer whose creation was committed, and adds it to the cached due
+   * dates. Must not be called before the creation was committed, as the checker may run
+   * concurrently and would consider the timer to be removed.
+   */
+  public void scheduleTimer(
+      final long elementInstanceKey, final long timerKey, final long dueDate) {
+    if (dueDateWheel != null) {
+      dueDateWheel.add(dueDate, elementInstanceKey, timerKey);
+    }
     dueDateChecker.schedule(dueDate);
   }
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (dueDateWheel != null) {
+      // the wheel is refilled from the recovered state on the next check
+      dueDateWheel.clear();
+    }
     dueDateChecker.onRecovered(context);
   }
 
@@ -76,14 +111,30 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
     private final TimerInstanceState timerInstanceState;
     private final boolean yieldControl;
+    private final TimerDueDateWheel dueDateWheel;
+    private final TimerDueDateCacheMetrics metrics;
+
+    /** Due date of the first timer after the horizon of the wheel, as of the last refill. */
+    private long nextDueDateAfterHorizon = -1L;
 
     public TriggerTimersSideEffect(
         final TimerInstanceState timerInstanceState,
         final InstantSource clock,
         final boolean yieldControl) {
+      this(timerInstanceState, clock, yieldControl, null, null);
+    }
+
+    TriggerTimersSideEffect(
+        final TimerInstanceState timerInstanceState,
+        final InstantSource clock,
+        final boolean yieldControl,
+        final TimerDueDateWheel dueDateWheel,
+        final TimerDueDateCacheMetrics metrics) {
       this.timerInstanceState = timerInstanceState;
       this.clock = clock;
       this.yieldControl = yieldControl;
+      this.dueDateWheel = dueDateWheel;
+      this.metrics = metrics;
     }
 
     @Override
@@ -101,7 +152,69 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
         timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
       }
 
-      return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
+      if (dueDateWheel == null) {
+        return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
+      }
+
+      if (dueDateWheel.needsRefill(now)) {
+        metrics.countMiss();
+        if (!refill(now, yieldAfter)) {
+          // the refill took the time of this run, continue with the next one
+          return now;
+        }
+      } else {
+        metrics.countHit();
+      }
+
+      return triggerDueTimers(now, timerVisitor);
+    }
+
+    private long triggerDueTimers(final long now, final TimerVisitor timerVisitor) {
+      for (final var dueTimer : dueDateWheel.dueTimers(now)) {
+        final var timer =
+            timerInstanceState.get(dueTimer.elementInstanceKey(), dueTimer.timerKey());
+        if (timer == null) {
+          // the timer was triggered or canceled meanwhile
+          dueDateWheel.remove(dueTimer);
+        } else if (!timerVisitor.visit(timer)) {
+          return dueTimer.dueDate();
+        }
+        // a triggered timer stays in the wheel until the trigger command is processed, so it is
+        // triggered again if writing the command fails; until then, the command is not written
+        // twice
+      }
+
+      final long nextDueDate = dueDateWheel.earliestDueDateAfter(now);
+      return nextDueDate > 0 ? nextDueDate : nextDueDateAfterHorizon;
+    }
+
+    /**
+     * Adds the timers which are due within the new horizon from the state to the wheel.
+     *
+     * @return {@code false} if the refill did not complete because it had to yield
+     */
+    private boolean refill(final long now, final long yieldAfter) {
+      final var refill = dueDateWheel.startRefill(now);
+      final long nextDueDate =
+          timerInstanceState.visitDueDates(
+              refill.from(),
+              refill.until(),
+              (dueDate, elementInstanceKey, timerKey) -> {
+                if (yieldControl && clock.millis() >= yieldAfter) {
+                  return false;
+                }
+                dueDateWheel.add(dueDate, elementInstanceKey, timerKey);
+                return true;
+              });
+
+      if (nextDueDate > 0 && nextDueDate < refill.until()) {
+        // continue where we stopped with the next refill
+        dueDateWheel.limitHorizon(nextDueDate);
+        return false;
+      }
+
+      nextDueDateAfterHorizon = nextDueDate;
+      return true;
     }
   }
 
@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A hashed timing wheel which keeps the timers that are due within a horizon in memory, such that
+ * the {@link DueDateTimerChecker} can find due timers without iterating over the due dates in the
+ * state.
+ *
+ * <p>The wheel is the lower level of a two level hierarchy: timers which are due after the horizon
+ * are only kept in the state. Once the horizon moves on, the wheel is refilled from the state (see
+ * {@link #startRefill(long)}), which cascades the timers that are due within the new horizon into
+ * the wheel. Timers which are due after the horizon are ignored by {@link #add(long, long, long)},
+ * as they will be picked up by the next refill.
+ *
+ * <p>Entries may be outdated, i.e. the timer may have been triggered or canceled meanwhile. The
+ * wheel does not track removals from the state, as these could still be rolled back. Instead, the
+ * caller has to look up the timers returned by {@link #dueTimers(long)} in the state, and {@link
+ * #remove(DueTimer) remove} the entries of timers which were triggered or no longer exist.
+ *
+ * <p>This class is thread safe. Timers are added by the stream processor after their creation was
+ * committed, while the checker may run on a different actor.
+ */
+final class TimerDueDateWheel {
+
+  // limits the memory of the wheel for large horizons; a bucket may then hold the timers of
+  // multiple rounds of the wheel, which are told apart by their due dates
+  private static final int MAX_BUCKETS = 4096;
+
+  // timers with equal due dates are triggered in the order of their keys, as without the wheel
+  private static final Comparator<DueTimer> DUE_TIMER_ORDER =
+      Comparator.comparingLong(DueTimer::dueDate)
+          .thenComparingLong(DueTimer::elementInstanceKey)
+          .thenComparingLong(DueTimer::timerKey);
+
+  private final long tickMillis;
+  private final long horizonMillis;
+  private final List<Set<DueTimer>> buckets;
+
+  /** Exclusive; all timers due before are in the wheel, unless they were removed. */
+  private long loadedUntil = Long.MIN_VALUE;
+
+  /** The lowest tick which may contain a timer, or {@link Long#MAX_VALUE} if the wheel is empty. */
+  private long cursorTick = Long.MAX_VALUE;
+
+  private int size;
+
+  TimerDueDateWheel(final long tickMillis, final Duration horizon) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException(
+          "Expected tick to be positive, but was %d ms".formatted(tickMillis));
+    }
+    if (horizon.toMillis() < tickMillis) {
+      throw new IllegalArgumentException(
+          "Expected horizon to be at least one tick (%d ms), but was %s"
+              .formatted(tickMillis, horizon));
+    }
+
+    this.tickMillis = tickMillis;
+    horizonMillis = horizon.toMillis();
+
+    final int bucketCount = (int) Math.min(MAX_BUCKETS, horizonMillis / tickMillis + 1);
+    buckets = new ArrayList<>(bucketCount);
+    for (int i = 0; i < bucketCount; i++) {
+      buckets.add(new HashSet<>());
+    }
+  }
+
+  /**
+   * Adds a timer to the wheel, if it is due before the end of the current horizon.
+   *
+   * @return {@code true} if the timer was added, {@code false} if it is due after the horizon and
+   *     will be added by the next refill
+   */
+  synchronized boolean add(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (dueDate >= loadedUntil) {
+      return false;
+    }
+
+    final long tick = tick(dueDate);
+    if (bucket(tick).add(new DueTimer(dueDate, elementInstanceKey, timerKey))) {
+      size++;
+      cursorTick = Math.min(cursorTick, tick);
+    }
+    return true;
+  }
+
+  synchronized void remove(final DueTimer timer) {
+    if (bucket(tick(timer.dueDate())).remove(timer)) {
+      size--;
+      if (size == 0) {
+        cursorTick = Long.MAX_VALUE;
+      }
+    }
+  }
+
+  /**
+   * @return {@code true} if at least half of the horizon has passed since the last refill, or the
+   *     wheel was never filled
+   */
+  synchronized boolean needsRefill(final long now) {
+    return loadedUntil == Long.MIN_VALUE || now >= loadedUntil - horizonMillis / 2;
+  }
+
+  /**
+   * Moves the end of the horizon to {@code now + horizon}. Must be called before the wheel is
+   * refilled from the state, so that timers which are created concurrently to the refill are not
+   * dropped by {@link #add(long, long, long)}.
+   *
+   * @return the range of due dates which must be refilled from the state
+   */
+  synchronized Refill startRefill(final long now) {
+    final long from = loadedUntil == Long.MIN_VALUE ? 0 : loadedUntil;
+    loadedUntil = Math.max(loadedUntil, now + horizonMillis);
+    return new Refill(from, loadedUntil);
+  }
+
+  /**
+   * Moves the end of the horizon back, if a refill stopped early. Timers due after the given date
+   * are then loaded by the next refill.
+   */
+  synchronized void limitHorizon(final long until) {
+    loadedUntil = Math.min(loadedUntil, until);
+  }
+
+  /** Forgets all timers, e.g. when the state is recovered. The next check will refill the wheel. */
+  synchronized void clear() {
+    buckets.forEach(Set::clear);
+    size = 0;
+    cursorTick = Long.MAX_VALUE;
+    loadedUntil = Long.MIN_VALUE;
+  }
+
+  /**
+   * Returns the timers in the wheel which are due at or before {@code now}, in the same order as
+   * the due dates in the state, i.e. by due date, element instance key and timer key. The timers
+   * stay in the wheel until they are {@link #remove(DueTimer) removed}.
+   */
+  synchronized List<DueTimer> dueTimers(final long now) {
+    final long nowTick = tick(now);
+    skipEmptyBuckets(nowTick);
+    if (cursorTick > nowTick) {
+      return List.of();
+    }
+
+    final List<DueTimer> dueTimers = new ArrayList<>();
+    final long ticks = Math.min(nowTick - cursorTick + 1, buckets.size());
+    for (long i = 0; i < ticks; i++) {
+      for (final DueTimer timer : bucket(cursorTick + i)) {
+        if (timer.dueDate() <= now) {
+          dueTimers.add(timer);
+        }
+      }
+    }
+    dueTimers.sort(DUE_TIMER_ORDER);
+    return dueTimers;
+  }
+
+  /**
+   * Returns the earliest due date of the timers in the wheel which are due after the given
+   * timestamp, or {@code -1} if there is none.
+   */
+  synchronized long earliestDueDateAfter(final long timestamp) {
+    if (size == 0) {
+      return -1;
+    }
+
+    // the first bucket which contains a timer of its own round holds the earliest timer
+    final long firstTick = Math.max(cursorTick, tick(timestamp));
+    for (long tick = firstTick; tick < firstTick + buckets.size(); tick++) {
+      long earliest = Long.MAX_VALUE;
+      for (final DueTimer timer : bucket(tick)) {
+        if (timer.dueDate() > timestamp && tick(timer.dueDate()) == tick) {
+          earliest = Math.min(earliest, timer.dueDate());
+        }
+      }
+      if (earliest != Long.MAX_VALUE) {
+        return earliest;
+      }
+    }
+
+    // all remaining timers are at least one round ahead
+    return buckets.stream()
+        .flatMap(Set::stream)
+        .mapToLong(DueTimer::dueDate)
+        .filter(dueDate -> dueDate > timestamp)
+        .min()
+        .orElse(-1);
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  private void skipEmptyBuckets(final long nowTick) {
+    for (int skipped = 0;
+        size > 0 && cursorTick <= nowTick && skipped < buckets.size();
+        skipped++) {
+      if (!bucket(cursorTick).isEmpty()) {
+        return;
+      }
+      cursorTick++;
+    }
+  }
+
+  private long tick(final long timestamp) {
+    return Math.floorDiv(timestamp, tickMillis);
+  }
+
+  private Set<DueTimer> bucket(final long tick) {
+    return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+  }
+
+  record DueTimer(long dueDate, long elementInstanceKey, long timerKey) {}
+
+  /** A range of due dates, [{@code from}, {@code until}), to refill from the state. */
+  record Refill(long from, long until) {}
+}
@@ -37,6 +37,15 @@ public interface JobState {
 
   boolean isInState(long key, State state);
 
+  /**
+   * Visits the activatable jobs of the given type which belong to one of the given tenants. The
+   * jobs are visited ordered by their key across all given tenants, so no tenant is preferred over
+   * another. The jobs of other tenants are not visited at all.
+   *
+   * @param type the type of the jobs to visit
+   * @param tenantIds the tenants to visit the jobs of
+   * @param callback called for each visited job; the iteration stops if it returns false
+   */
   void forEachActivatableJobs(
       DirectBuffer type,
       final List<String> tenantIds,
@@ -19,6 +19,16 @@ public interface TimerInstanceState {
    */
   long processTimersWithDueDateBefore(long timestamp, TimerVisitor consumer);
 
+  /**
+   * Visits the due dates of the timers with a due date in the range [{@code fromInclusive}, {@code
+   * toExclusive}), ordered by due date, without reading the timers themselves.
+   *
+   * @return due date of the first timer which was not visited, i.e. the first timer after the range
+   *     or the one the {@code visitor} returned {@code false} for (or {@code -1} if no such timer
+   *     exists)
+   */
+  long visitDueDates(long fromInclusive, long toExclusive, TimerDueDateVisitor visitor);
+
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
    * iteration.
@@ -36,4 +46,13 @@ public interface TimerInstanceState {
      */
     boolean visit(TimerInstance timer);
   }
+
+  @FunctionalInterface
+  interface TimerDueDateVisitor {
+
+    /**
+     * @return {@code true} to continue with the next due date, or {@code false} to stop
+     */
+    boolean visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
 }
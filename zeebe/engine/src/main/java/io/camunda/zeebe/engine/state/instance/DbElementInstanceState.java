@@ -17,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc;
+import io.camunda.zeebe.engine.metrics.StateCacheMetrics;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
@@ -33,11 +35,20 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class DbElementInstanceState implements MutableElementInstanceState {
 
+  /**
+   * Upper bound of cached element instances, to limit the memory of the cache if a single command
+   * touches a lot of instances, e.g. when terminating a large scope.
+   */
+  private static final int MAX_CACHED_INSTANCES = 256;
+
+  private static final DirectBuffer MISSING_INSTANCE = new UnsafeBuffer(0, 0);
+
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbForeignKey<DbLong>>, DbNil>
       parentChildColumnFamily;
   private final DbCompositeKey<DbForeignKey<DbLong>, DbForeignKey<DbLong>> parentChildKey;
@@ -74,6 +85,13 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil>
       processInstanceKeyByProcessDefinitionKeyColumnFamily;
 
+  // caches the serialized element instances which are read or written while processing a command;
+  // a single step usually reads the same element instance, its flow scope and their parents
+  // several times. the cache is written through on every modification and cleared by clearCache()
+  // between commands
+  private final Long2ObjectHashMap<DirectBuffer> cachedInstances = new Long2ObjectHashMap<>();
+  private final StateCacheMetrics cacheMetrics;
+
   public DbElementInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
@@ -134,6 +152,10 @@ public final class DbElementInstanceState implements MutableElementInstanceState
             transactionContext,
             processInstanceKeyByProcessDefinitionKey,
             DbNil.INSTANCE);
+
+    cacheMetrics =
+        new StateCacheMetrics(
+            zeebeDb.getMeterRegistry(), EngineMetricsDoc.ELEMENT_INSTANCE_STATE_CACHE_LOOKUPS);
   }
 
   @Override
@@ -172,6 +194,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     parentKey.inner().wrapLong(parent);
     parentChildColumnFamily.deleteIfExists(parentChildKey);
     elementInstanceColumnFamily.deleteExisting(elementInstanceKey);
+    cacheInstance(key, MISSING_INSTANCE);
     variableState.removeScope(key);
     awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
     removeNumberOfTakenSequenceFlows(key);
@@ -202,6 +225,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     parentKey.inner().wrapLong(instance.getParentKey());
 
     elementInstanceColumnFamily.insert(elementInstanceKey, instance);
+    cacheInstance(instance);
     parentChildColumnFamily.insert(parentChildKey, DbNil.INSTANCE);
     variableState.createScope(elementInstanceKey.getValue(), parentKey.inner().getValue());
 
@@ -218,6 +242,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     elementInstanceKey.wrapLong(scopeInstance.getKey());
     parentKey.inner().wrapLong(scopeInstance.getParentKey());
     elementInstanceColumnFamily.update(elementInstanceKey, scopeInstance);
+    cacheInstance(scopeInstance);
   }
 
   @Override
@@ -316,9 +341,28 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   @Override
   public ElementInstance getInstance(final long key) {
+    final DirectBuffer cachedInstance = cachedInstances.get(key);
+    if (cachedInstance != null) {
+      cacheMetrics.countHit();
+      return cachedInstance == MISSING_INSTANCE ? null : deserialize(cachedInstance);
+    }
+
+    cacheMetrics.countMiss();
     elementInstanceKey.wrapLong(key);
     final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
-    return copyElementInstance(elementInstance);
+    if (elementInstance == null) {
+      cacheInstance(key, MISSING_INSTANCE);
+      return null;
+    }
+
+    final DirectBuffer serializedInstance = serialize(elementInstance);
+    cacheInstance(key, serializedInstance);
+    return deserialize(serializedInstance);
+  }
+
+  @Override
+  public void clearCache() {
+    cachedInstances.clear();
   }
 
   @Override
@@ -481,17 +525,44 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   private ElementInstance copyElementInstance(final ElementInstance elementInstance) {
     if (elementInstance != null) {
-      final byte[] bytes = new byte[elementInstance.getLength()];
-      final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
-
-      elementInstance.write(buffer, 0);
-      final ElementInstance copiedElementInstance = new ElementInstance();
-      copiedElementInstance.wrap(buffer, 0, elementInstance.getLength());
-      return copiedElementInstance;
+      return deserialize(serialize(elementInstance));
     }
     return null;
   }
 
+  private DirectBuffer serialize(final ElementInstance elementInstance) {
+    final byte[] bytes = new byte[elementInstance.getLength()];
+    final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
+    elementInstance.write(buffer, 0);
+    return buffer;
+  }
+
+  /**
+   * Returns a new instance, which can be modified freely, as it only reads from the given buffer.
+   * This allows handing out multiple instances of the same cached buffer.
+   */
+  private ElementInstance deserialize(final DirectBuffer serializedInstance) {
+    final ElementInstance elementInstance = new ElementInstance();
+    elementInstance.wrap(serializedInstance, 0, serializedInstance.capacity());
+    return elementInstance;
+  }
+
+  private void cacheInstance(final ElementInstance instance) {
+    if (isCacheable(instance.getKey())) {
+      cachedInstances.put(instance.getKey(), serialize(instance));
+    }
+  }
+
+  private void cacheInstance(final long key, final DirectBuffer serializedInstance) {
+    if (isCacheable(key)) {
+      cachedInstances.put(key, serializedInstance);
+    }
+  }
+
+  private boolean isCacheable(final long key) {
+    return cachedInstances.size() < MAX_CACHED_INSTANCES || cachedInstances.containsKey(key);
+  }
+
   private void removeNumberOfTakenSequenceFlows(final long flowScopeKey) {
     this.flowScopeKey.wrapLong(flowScopeKey);
 
@@ -15,8 +15,6 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
-import io.camunda.zeebe.db.impl.DbTenantAwareKey;
-import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.processing.identity.AuthorizedTenants;
 import io.camunda.zeebe.engine.state.immutable.JobState;
@@ -24,18 +22,30 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
+  // activatable jobs are looked up in chunks with a single multi-get each; the first chunk matches
+  // the default batch size of job workers, and the chunk size grows with every further chunk
+  private static final int MIN_ACTIVATABLE_JOBS_CHUNK_SIZE = 32;
+  private static final int MAX_ACTIVATABLE_JOBS_CHUNK_SIZE = 256;
+  private static final int TENANT_ACTIVATABLE_JOB_KEYS_CHUNK_SIZE = 32;
+
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
   // see https://github.com/zeebe-io/zeebe/issues/1914
@@ -50,14 +60,14 @@ public final class DbJobState implements JobState, MutableJobState {
   private final JobStateValue jobState = new JobStateValue();
   private final ColumnFamily<DbForeignKey<DbLong>, JobStateValue> statesJobColumnFamily;
 
-  // [[type, key], tenant_id] => nil
+  // [[type, tenant_id], key] => nil
   private final DbString jobTypeKey;
   private final DbString tenantIdKey;
-  private final DbCompositeKey<DbString, DbForeignKey<DbLong>> typeJobKey;
-  private final DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>
-      tenantAwareTypeJobKey;
+  private final DbCompositeKey<DbString, DbString> typeTenantKey;
+  private final DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>
+      typeTenantJobKey;
   private final ColumnFamily<
-          DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
+          DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>, DbNil>
       activatableColumnFamily;
 
   // timeout => key
@@ -71,6 +81,8 @@ public final class DbJobState implements JobState, MutableJobState {
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       backoffColumnFamily;
   private long nextBackOffDueDate;
+  private final LongArrayList activatableJobKeys = new LongArrayList();
+  private int activatableJobsChunkSize;
 
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -87,14 +99,11 @@ public final class DbJobState implements JobState, MutableJobState {
 
     jobTypeKey = new DbString();
     tenantIdKey = new DbString();
-    typeJobKey = new DbCompositeKey<>(jobTypeKey, fkJob);
-    tenantAwareTypeJobKey = new DbTenantAwareKey<>(tenantIdKey, typeJobKey, PlacementType.SUFFIX);
+    typeTenantKey = new DbCompositeKey<>(jobTypeKey, tenantIdKey);
+    typeTenantJobKey = new DbCompositeKey<>(typeTenantKey, fkJob);
     activatableColumnFamily =
         zeebeDb.createColumnFamily(
-            ZbColumnFamilies.JOB_ACTIVATABLE,
-            transactionContext,
-            tenantAwareTypeJobKey,
-            DbNil.INSTANCE);
+            ZbColumnFamilies.JOB_ACTIVATABLE, transactionContext, typeTenantJobKey, DbNil.INSTANCE);
 
     deadlineKey = new DbLong();
     deadlineJobKey = new DbCompositeKey<>(deadlineKey, fkJob);
@@ -407,19 +416,73 @@ public final class DbJobState implements JobState, MutableJobState {
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
+    activatableJobsChunkSize = MIN_ACTIVATABLE_JOBS_CHUNK_SIZE;
 
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((tenantAwareCompositeKey, zbNil) -> {
-          final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
-          final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
+    if (tenantIds.size() == 1) {
+      forEachActivatableJobsOfTenant(tenantIds.getFirst(), callback);
+    } else {
+      forEachActivatableJobsOfTenants(tenantIds, callback);
+    }
+  }
 
-          if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+  /**
+   * The jobs are grouped by type and tenant, so the jobs of a single tenant can be visited with a
+   * single prefix iteration, without visiting the jobs of other tenants.
+   */
+  private void forEachActivatableJobsOfTenant(
+      final String tenantId, final BiFunction<Long, JobRecord, Boolean> callback) {
+    final var visitedCompletely = new MutableBoolean(true);
+    tenantIdKey.wrapString(tenantId);
+    activatableColumnFamily.whileEqualPrefix(
+        typeTenantKey,
+        (key, nil) -> {
+          activatableJobKeys.addLong(key.second().inner().getValue());
+          if (activatableJobKeys.size() < activatableJobsChunkSize) {
+            return true;
           }
-          // we want to continue with the iteration
-          return true;
-        }));
+
+          visitedCompletely.set(visitActivatableJobs(callback));
+          return visitedCompletely.get();
+        });
+
+    if (visitedCompletely.get()) {
+      visitActivatableJobs(callback);
+    }
+    activatableJobKeys.clear();
+  }
+
+  /**
+   * Merges the jobs of the given tenants by their key, such that the jobs are visited in the same
+   * order as if they were not grouped by tenant. Each tenant's job keys are read in chunks by a
+   * prefix iteration, and the tenant with the lowest next job key is picked next.
+   */
+  private void forEachActivatableJobsOfTenants(
+      final List<String> tenantIds, final BiFunction<Long, JobRecord, Boolean> callback) {
+    final var tenants =
+        new PriorityQueue<>(
+            Math.max(1, tenantIds.size()),
+            Comparator.comparingLong(TenantActivatableJobKeys::nextKey));
+    for (final String tenantId : new LinkedHashSet<>(tenantIds)) {
+      final var tenant = new TenantActivatableJobKeys(tenantId);
+      if (tenant.hasNext()) {
+        tenants.add(tenant);
+      }
+    }
+
+    while (!tenants.isEmpty()) {
+      final var tenant = tenants.poll();
+      activatableJobKeys.addLong(tenant.nextKey());
+      if (tenant.advance()) {
+        tenants.add(tenant);
+      }
+
+      if (activatableJobKeys.size() >= activatableJobsChunkSize
+          && !visitActivatableJobs(callback)) {
+        return;
+      }
+    }
+
+    visitActivatableJobs(callback);
   }
 
   @Override
@@ -473,6 +536,44 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  /**
+   * Visits the jobs of the collected activatable job keys, looking them up with a single multi-get.
+   *
+   * @return true if all jobs were visited, false if the callback stopped the visit
+   */
+  private boolean visitActivatableJobs(final BiFunction<Long, JobRecord, Boolean> callback) {
+    if (activatableJobKeys.isEmpty()) {
+      return true;
+    }
+
+    final var visitedCompletely = new MutableBoolean(true);
+    final var visitedJobs = new MutableInteger();
+    jobsColumnFamily.multiGet(
+        keys ->
+            activatableJobKeys.forEachOrderedLong(
+                key -> {
+                  jobKey.wrapLong(key);
+                  keys.accept(jobKey);
+                }),
+        (key, job) -> {
+          visitedJobs.increment();
+          visitedCompletely.set(callback.apply(key.getValue(), job.getRecord()));
+          return visitedCompletely.get();
+        });
+
+    if (visitedCompletely.get() && visitedJobs.get() < activatableJobKeys.size()) {
+      LOG.warn(
+          "Expected to find {} activatable jobs, but only {} jobs were found",
+          activatableJobKeys.size(),
+          visitedJobs.get());
+    }
+
+    activatableJobKeys.clear();
+    activatableJobsChunkSize =
+        Math.min(activatableJobsChunkSize * 2, MAX_ACTIVATABLE_JOBS_CHUNK_SIZE);
+    return visitedCompletely.get();
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
@@ -507,7 +608,7 @@ public final class DbJobState implements JobState, MutableJobState {
     tenantIdKey.wrapString(tenantId);
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
-    activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+    activatableColumnFamily.upsert(typeTenantJobKey, DbNil.INSTANCE);
   }
 
   private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
@@ -516,7 +617,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     jobTypeKey.wrapBuffer(type);
     tenantIdKey.wrapString(tenantId);
-    activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+    activatableColumnFamily.deleteIfExists(typeTenantJobKey);
   }
 
   private void addJobDeadline(final long job, final long deadline) {
@@ -550,4 +651,54 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily.deleteIfExists(backoffJobKey);
     }
   }
+
+  /** Reads the keys of the activatable jobs of one tenant in chunks, ordered by the key. */
+  private final class TenantActivatableJobKeys {
+    private final String tenantId;
+    private final LongArrayList keys = new LongArrayList();
+    private int position;
+    private boolean hasMoreKeys = true;
+
+    private TenantActivatableJobKeys(final String tenantId) {
+      this.tenantId = tenantId;
+      readNextKeys(0);
+    }
+
+    private boolean hasNext() {
+      return position < keys.size();
+    }
+
+    private long nextKey() {
+      return keys.getLong(position);
+    }
+
+    /**
+     * Moves to the next key of the tenant, and reads the next chunk of keys if needed.
+     *
+     * @return true if the tenant has another key, otherwise false
+     */
+    private boolean advance() {
+      position++;
+      if (!hasNext() && hasMoreKeys) {
+        readNextKeys(keys.getLong(keys.size() - 1) + 1);
+      }
+      return hasNext();
+    }
+
+    private void readNextKeys(final long startAtKey) {
+      keys.clear();
+      position = 0;
+
+      tenantIdKey.wrapString(tenantId);
+      jobKey.wrapLong(startAtKey);
+      activatableColumnFamily.whileEqualPrefix(
+          typeTenantKey,
+          typeTenantJobKey,
+          (key, nil) -> {
+            keys.addLong(key.second().inner().getValue());
+            return keys.size() < TENANT_ACTIVATABLE_JOB_KEYS_CHUNK_SIZE;
+          });
+      hasMoreKeys = keys.size() == TENANT_ACTIVATABLE_JOB_KEYS_CHUNK_SIZE;
+    }
+  }
 }
@@ -122,6 +122,34 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  @Override
+  public long visitDueDates(
+      final long fromInclusive, final long toExclusive, final TimerDueDateVisitor visitor) {
+    nextDueDate = -1L;
+
+    dueDate.wrapLong(Math.max(0, fromInclusive));
+    elementInstanceKey.inner().wrapLong(0);
+    timerKey.wrapLong(0);
+    dueDateColumnFamily.whileTrue(
+        dueDateCompositeKey,
+        (key, nil) -> {
+          final var dueDate = key.first().getValue();
+          final boolean visited =
+              dueDate < toExclusive
+                  && visitor.visit(
+                      dueDate,
+                      key.second().first().inner().getValue(),
+                      key.second().second().getValue());
+
+          if (!visited) {
+            nextDueDate = dueDate;
+          }
+          return visited;
+        });
+
+    return nextDueDate;
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
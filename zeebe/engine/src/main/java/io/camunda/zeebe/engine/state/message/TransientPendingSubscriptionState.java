@@ -7,48 +7,93 @@
  */
 package io.camunda.zeebe.engine.state.message;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * This class is used by {@link DbProcessMessageSubscriptionState} and {@link
  * DbMessageSubscriptionState} to keep track of pending (process) message subscriptions. {@link
  * PendingSubscription PendingSubscriptions} are added with a last sent time. The time can be
  * updated with {@link #update(PendingSubscription, long)}. Pending subscriptions are retrieved with
- * {@link #entriesBefore(long)}, ordered by the last sent time. <br>
+ * {@link #entriesBefore(long)}, ordered by the last sent time. The entries are kept in an index
+ * ordered by the last sent time, so updating or removing an entry takes O(log n) and retrieving the
+ * pending subscriptions only visits the ones which are due. <br>
  * This class is thread safe. It's intended use is that one thread is adding, removing and updating
  * entries while another thread is "observing" the entries by calling {@link #entriesBefore(long)}.
  * <br>
  * The iterable returned by {@link #entriesBefore(long)} may return outdated entries (i.e. entries
  * which last sent time was updated so that those entries should not have been returned) and already
- * removed entries. For the intended use, this is not a problem.
+ * removed entries. An entry which is updated concurrently may also be returned twice, or not at
+ * all. For the intended use, this is not a problem.
  */
 public final class TransientPendingSubscriptionState {
 
-  // Reconsider thread-safety implications when changing the map implementation.
+  // Reconsider thread-safety implications when changing the map or index implementation.
   private final Map<PendingSubscription, Long> pending = new ConcurrentHashMap<>();
+  private final NavigableSet<PendingEntry> pendingBySentTime = new ConcurrentSkipListSet<>();
 
   public void add(final PendingSubscription pendingSubscription, final long lastSentTime) {
-    pending.put(pendingSubscription, lastSentTime);
+    update(pendingSubscription, lastSentTime);
   }
 
   public void update(final PendingSubscription pendingSubscription, final long lastSentTime) {
-    pending.put(pendingSubscription, lastSentTime);
+    // the index is only modified while holding the map entry, so it never diverges from the map
+    pending.compute(
+        pendingSubscription,
+        (subscription, previousSentTime) -> {
+          if (previousSentTime != null) {
+            pendingBySentTime.remove(new PendingEntry(previousSentTime, subscription));
+          }
+          pendingBySentTime.add(new PendingEntry(lastSentTime, subscription));
+          return lastSentTime;
+        });
   }
 
   public void remove(final PendingSubscription pendingSubscription) {
-    pending.remove(pendingSubscription);
+    pending.computeIfPresent(
+        pendingSubscription,
+        (subscription, sentTime) -> {
+          pendingBySentTime.remove(new PendingEntry(sentTime, subscription));
+          return null;
+        });
+  }
+
+  /** Returns the number of pending subscriptions. */
+  public int size() {
+    return pending.size();
   }
 
   Iterable<PendingSubscription> entriesBefore(final long deadline) {
-    return pending.entrySet().stream()
-        .sorted(Map.Entry.comparingByValue())
-        .takeWhile(entry -> entry.getValue() < deadline)
-        .map(Entry::getKey)
-        .collect(Collectors.toList());
+    final List<PendingSubscription> entries = new ArrayList<>();
+    for (final PendingEntry entry : pendingBySentTime) {
+      if (entry.sentTime() >= deadline) {
+        break;
+      }
+      entries.add(entry.subscription());
+    }
+    return entries;
   }
 
   public record PendingSubscription(long elementInstanceKey, String messageName, String tenantId) {}
+
+  private record PendingEntry(long sentTime, PendingSubscription subscription)
+      implements Comparable<PendingEntry> {
+    private static final Comparator<String> NULLABLE_STRING =
+        Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<PendingEntry> ORDER =
+        Comparator.comparingLong(PendingEntry::sentTime)
+            .thenComparingLong(entry -> entry.subscription().elementInstanceKey())
+            .thenComparing(entry -> entry.subscription().messageName(), NULLABLE_STRING)
+            .thenComparing(entry -> entry.subscription().tenantId(), NULLABLE_STRING);
+
+    @Override
+    public int compareTo(final PendingEntry other) {
+      return ORDER.compare(this, other);
+    }
+  }
 }
@@ -34,6 +34,7 @@ import io.camunda.zeebe.engine.state.migration.to_8_4.DbSignalSubscriptionMigrat
 import io.camunda.zeebe.engine.state.migration.to_8_5.DbColumnFamilyCorrectionMigrationState;
 import io.camunda.zeebe.engine.state.migration.to_8_6.DbDistributionMigrationState;
 import io.camunda.zeebe.engine.state.migration.to_8_7.DbDistributionMigrationState8dot7;
+import io.camunda.zeebe.engine.state.migration.to_8_8.DbJobMigrationState8dot8;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableEventScopeInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageSubscriptionState;
@@ -131,6 +132,7 @@ public class DbMigrationState implements MutableMigrationState {
   private final DbColumnFamilyCorrectionMigrationState columnFamilyCorrectionMigrationState;
   private final DbDistributionMigrationState distributionState;
   private final DbDistributionMigrationState8dot7 distributionState8dot7;
+  private final DbJobMigrationState8dot8 jobState8dot8;
 
   public DbMigrationState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -291,6 +293,7 @@ public class DbMigrationState implements MutableMigrationState {
 
     distributionState = new DbDistributionMigrationState(zeebeDb, transactionContext);
     distributionState8dot7 = new DbDistributionMigrationState8dot7(zeebeDb, transactionContext);
+    jobState8dot8 = new DbJobMigrationState8dot8(zeebeDb, transactionContext);
   }
 
   @Override
@@ -518,4 +521,9 @@ public class DbMigrationState implements MutableMigrationState {
   public void migrateIdempotentCommandDistribution() {
     distributionState8dot7.migrateIdempotentCommandDistributions();
   }
+
+  @Override
+  public void migrateActivatableJobsByTenant() {
+    jobState8dot8.migrateActivatableJobsByTenant();
+  }
 }
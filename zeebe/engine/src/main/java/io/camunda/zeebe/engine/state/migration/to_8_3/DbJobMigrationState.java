@@ -39,7 +39,7 @@ public class DbJobMigrationState {
     to.tenantIdKey.wrapString(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
 
     /*
-    `DEPRECATED_JOB_ACTIVATABLE` -> `JOB_ACTIVATABLE`
+    `DEPRECATED_JOB_ACTIVATABLE` -> `DEPRECATED_JOB_ACTIVATABLE_BY_TYPE`
     - Suffix tenant to key
     */
     iterator.drain(
@@ -78,7 +78,7 @@ public class DbJobMigrationState {
       tenantAwareTypeJobKey = new DbTenantAwareKey<>(tenantIdKey, typeJobKey, PlacementType.SUFFIX);
       activatableColumnFamily =
           zeebeDb.createColumnFamily(
-              ZbColumnFamilies.JOB_ACTIVATABLE,
+              ZbColumnFamilies.DEPRECATED_JOB_ACTIVATABLE_BY_TYPE,
               transactionContext,
               tenantAwareTypeJobKey,
               DbNil.INSTANCE);
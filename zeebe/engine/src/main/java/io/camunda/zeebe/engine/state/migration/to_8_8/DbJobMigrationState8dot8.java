@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_8;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.state.migration.MemoryBoundedColumnIteration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+public class DbJobMigrationState8dot8 {
+
+  private final DbLong fromJobKey;
+  private final DbString fromJobTypeKey;
+  private final DbString fromTenantIdKey;
+
+  /** [[type, key], tenant_id] => nil */
+  private final ColumnFamily<
+          DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
+      fromActivatableColumnFamily;
+
+  private final DbLong toJobKey;
+  private final DbString toJobTypeKey;
+  private final DbString toTenantIdKey;
+  private final DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>
+      toTypeTenantJobKey;
+
+  /** [[type, tenant_id], key] => nil */
+  private final ColumnFamily<
+          DbCompositeKey<DbCompositeKey<DbString, DbString>, DbForeignKey<DbLong>>, DbNil>
+      toActivatableColumnFamily;
+
+  public DbJobMigrationState8dot8(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    fromJobKey = new DbLong();
+    fromJobTypeKey = new DbString();
+    fromTenantIdKey = new DbString();
+    fromActivatableColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.DEPRECATED_JOB_ACTIVATABLE_BY_TYPE,
+            transactionContext,
+            new DbTenantAwareKey<>(
+                fromTenantIdKey,
+                new DbCompositeKey<>(
+                    fromJobTypeKey, new DbForeignKey<>(fromJobKey, ZbColumnFamilies.JOBS)),
+                PlacementType.SUFFIX),
+            DbNil.INSTANCE);
+
+    toJobKey = new DbLong();
+    toJobTypeKey = new DbString();
+    toTenantIdKey = new DbString();
+    toTypeTenantJobKey =
+        new DbCompositeKey<>(
+            new DbCompositeKey<>(toJobTypeKey, toTenantIdKey),
+            new DbForeignKey<>(toJobKey, ZbColumnFamilies.JOBS));
+    toActivatableColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.JOB_ACTIVATABLE,
+            transactionContext,
+            toTypeTenantJobKey,
+            DbNil.INSTANCE);
+  }
+
+  public void migrateActivatableJobsByTenant() {
+    /*
+    `DEPRECATED_JOB_ACTIVATABLE_BY_TYPE` -> `JOB_ACTIVATABLE`
+    - Move the tenant from the end of the key to after the type
+    */
+    new MemoryBoundedColumnIteration()
+        .drain(
+            fromActivatableColumnFamily,
+            (key, value) -> {
+              toJobTypeKey.wrapBuffer(fromJobTypeKey.getBuffer());
+              toTenantIdKey.wrapBuffer(fromTenantIdKey.getBuffer());
+              toJobKey.wrapLong(fromJobKey.getValue());
+              toActivatableColumnFamily.insert(toTypeTenantJobKey, DbNil.INSTANCE);
+            });
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_8;
+
+import io.camunda.zeebe.engine.state.migration.MigrationTask;
+import io.camunda.zeebe.engine.state.migration.MigrationTaskContext;
+import io.camunda.zeebe.engine.state.migration.MutableMigrationTaskContext;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+/**
+ * Moves the activatable jobs from {@link ZbColumnFamilies#DEPRECATED_JOB_ACTIVATABLE_BY_TYPE},
+ * where they are keyed by {@code [[type, key], tenant_id]}, to {@link
+ * ZbColumnFamilies#JOB_ACTIVATABLE}, where they are keyed by {@code [[type, tenant_id], key]}.
+ */
+public final class JobActivatableByTenantMigration implements MigrationTask {
+
+  @Override
+  public String getIdentifier() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public boolean needsToRun(final MigrationTaskContext context) {
+    return !context.processingState().isEmpty(ZbColumnFamilies.DEPRECATED_JOB_ACTIVATABLE_BY_TYPE);
+  }
+
+  @Override
+  public void runMigration(final MutableMigrationTaskContext context) {
+    context.processingState().getMigrationState().migrateActivatableJobsByTenant();
+  }
+}
@@ -95,4 +95,11 @@ public interface MutableElementInstanceState extends ElementInstanceState {
    * @param processDefinitionKey the key of the process definition to delete the reference for
    */
   void deleteProcessInstanceKeyByDefinitionKey(long processInstanceKey, long processDefinitionKey);
+
+  /**
+   * Clears the cache of the element instances which were read or written since the last call. Must
+   * be called before processing a command and after a failed processing, because a rollback of the
+   * transaction is not reflected in the cache.
+   */
+  void clearCache();
 }
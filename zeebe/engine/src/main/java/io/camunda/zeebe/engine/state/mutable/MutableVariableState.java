@@ -83,4 +83,11 @@ public interface MutableVariableState extends VariableState {
    * @param scopeKey the key identifying the scope for which the variable document is stored
    */
   void removeVariableDocumentState(long scopeKey);
+
+  /**
+   * Clears the cache of the scopes and variables which were read since the last call. Must be
+   * called before processing a command and after a failed processing, because a rollback of the
+   * transaction is not reflected in the cache.
+   */
+  void clearCache();
 }
@@ -13,6 +13,8 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc;
+import io.camunda.zeebe.engine.metrics.StateCacheMetrics;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.instance.VariableDocumentState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
@@ -22,7 +24,9 @@ import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentReco
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -30,12 +34,23 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  /**
+   * Upper bound of cached parent scopes and variables, to limit the memory of the cache if a single
+   * command reads a lot of variables.
+   */
+  private static final int MAX_CACHED_ENTRIES = 1024;
+
+  private static final long UNKNOWN_PARENT = Long.MIN_VALUE;
+  private static final DirectBuffer MISSING_VARIABLE = new UnsafeBuffer(0, 0);
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -67,6 +82,16 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // caches the scope hierarchy and the variables which are read while processing a command; a
+  // command usually resolves the same variables multiple times (e.g. input mappings, conditions,
+  // correlation keys), each of which walks up the scope hierarchy
+  // the cache is updated on every modification and cleared by clearCache() between commands
+  private final Long2LongHashMap cachedParentScopes = new Long2LongHashMap(UNKNOWN_PARENT);
+  private final Long2ObjectHashMap<Map<DirectBuffer, DirectBuffer>> cachedVariables =
+      new Long2ObjectHashMap<>();
+  private int cachedVariablesCount;
+  private final StateCacheMetrics cacheMetrics;
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -93,6 +118,10 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKey,
             variableDocumentStateToRead);
+
+    cacheMetrics =
+        new StateCacheMetrics(
+            zeebeDb.getMeterRegistry(), EngineMetricsDoc.VARIABLE_STATE_CACHE_LOOKUPS);
   }
 
   @Override
@@ -127,6 +156,11 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+
+    final var variablesOfScope = cachedVariables.get(scopeKey);
+    if (variablesOfScope != null && variablesOfScope.remove(variableNameView) != null) {
+      cachedVariablesCount--;
+    }
   }
 
   @Override
@@ -135,6 +169,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    cachedParentScopes.remove(childKey);
   }
 
   @Override
@@ -146,26 +181,35 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    cachedParentScopes.remove(scopeKey);
   }
 
   @Override
   public void removeAllVariables(final long scopeKey) {
-    visitVariablesLocal(
-        scopeKey,
-        dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
-        () -> false);
+    variablesColumnFamily.writeBatch(
+        batch ->
+            visitVariablesLocal(
+                scopeKey,
+                dbString -> true,
+                (dbString, variable1) -> batch.deleteExisting(scopeKeyVariableNameKey),
+                () -> false));
+
+    final var variablesOfScope = cachedVariables.remove(scopeKey);
+    if (variablesOfScope != null) {
+      cachedVariablesCount -= variablesOfScope.size();
+    }
   }
 
   @Override
-  public DirectBuffer getVariableLocal(final long scopeKey, final DirectBuffer name) {
-    final VariableInstance variable = getVariableLocal(scopeKey, name, 0, name.capacity());
+  public void clearCache() {
+    cachedParentScopes.clear();
+    cachedVariables.clear();
+    cachedVariablesCount = 0;
+  }
 
-    if (variable != null) {
-      return variable.getValue();
-    } else {
-      return null;
-    }
+  @Override
+  public DirectBuffer getVariableLocal(final long scopeKey, final DirectBuffer name) {
+    return getCachedVariableLocal(scopeKey, name, 0, name.capacity());
   }
 
   /**
@@ -197,11 +241,11 @@ public class DbVariableState implements MutableVariableState {
 
     long currentScopeKey = scopeKey;
     do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+      final DirectBuffer value =
+          getCachedVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
-      if (variable != null) {
-        return variable.getValue();
+      if (value != null) {
+        return value;
       }
 
       currentScopeKey = getParentScopeKey(currentScopeKey);
@@ -250,16 +294,29 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+    // look up the requested variables of each scope at once, instead of iterating over all
+    // variables of the scope, which usually has many more variables than requested
+    long currentScope = scopeKey;
+    do {
+      this.scopeKey.wrapLong(currentScope);
+      variablesColumnFamily.multiGet(
+          keys ->
+              variablesToCollect.forEach(
+                  name -> {
+                    variableName.wrapBuffer(name);
+                    keys.accept(scopeKeyVariableNameKey);
+                  }),
+          (key, value) -> {
+            final DirectBuffer name = key.second().getBuffer();
+            writer.writeString(name);
+            writer.writeRaw(value.getValue());
+
+            variablesToCollect.remove(name);
+            return true;
+          });
 
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+      currentScope = getParentScopeKey(currentScope);
+    } while (!variablesToCollect.isEmpty() && currentScope >= 0);
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -319,10 +376,21 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
-    childKey.wrapLong(childScopeKey);
+    final long cachedParentScopeKey = cachedParentScopes.get(childScopeKey);
+    if (cachedParentScopeKey != UNKNOWN_PARENT) {
+      cacheMetrics.countHit();
+      return cachedParentScopeKey;
+    }
 
+    cacheMetrics.countMiss();
+    childKey.wrapLong(childScopeKey);
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    final long parentScopeKeyValue = parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+
+    if (cachedParentScopes.size() < MAX_CACHED_ENTRIES) {
+      cachedParentScopes.put(childScopeKey, parentScopeKeyValue);
+    }
+    return parentScopeKeyValue;
   }
 
   @Override
@@ -344,6 +412,42 @@ public class DbVariableState implements MutableVariableState {
     return Optional.ofNullable(variableDocumentStateByScopeKeyColumnFamily.get(this.scopeKey));
   }
 
+  /**
+   * Returns the value of the variable from the cache, or reads it from the state and caches it. The
+   * absence of a variable is cached as well, because most lookups walk up the scope hierarchy and
+   * miss on the inner scopes.
+   */
+  private DirectBuffer getCachedVariableLocal(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    variableNameView.wrap(name, nameOffset, nameLength);
+
+    Map<DirectBuffer, DirectBuffer> variablesOfScope = cachedVariables.get(scopeKey);
+    if (variablesOfScope != null) {
+      final DirectBuffer cachedValue = variablesOfScope.get(variableNameView);
+      if (cachedValue != null) {
+        cacheMetrics.countHit();
+        return cachedValue == MISSING_VARIABLE ? null : cachedValue;
+      }
+    }
+
+    cacheMetrics.countMiss();
+    final VariableInstance variable = getVariableLocal(scopeKey, name, nameOffset, nameLength);
+    if (cachedVariablesCount >= MAX_CACHED_ENTRIES) {
+      return variable != null ? variable.getValue() : null;
+    }
+
+    final DirectBuffer value =
+        variable != null ? BufferUtil.cloneBuffer(variable.getValue()) : MISSING_VARIABLE;
+    if (variablesOfScope == null) {
+      variablesOfScope = new HashMap<>();
+      cachedVariables.put(scopeKey, variablesOfScope);
+    }
+    variablesOfScope.put(BufferUtil.cloneBuffer(variableNameView), value);
+    cachedVariablesCount++;
+
+    return value == MISSING_VARIABLE ? null : value;
+  }
+
   private VariableInstance getVariableLocal(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
     this.scopeKey.wrapLong(scopeKey);
@@ -400,6 +504,6 @@ public class DbVariableState implements MutableVariableState {
 
           return !completionCondition.getAsBoolean();
         });
-    return false;
+    return completionCondition.getAsBoolean();
   }
 }
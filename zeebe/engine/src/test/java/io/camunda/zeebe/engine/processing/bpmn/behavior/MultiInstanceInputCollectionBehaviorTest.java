@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.behavior;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.util.Either;
+import java.util.List;
+import java.util.Optional;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class MultiInstanceInputCollectionBehaviorTest {
+
+  private static final long BODY_KEY = 1L;
+  private static final long SCOPE_KEY = 2L;
+  private static final DirectBuffer INPUT_COLLECTION = wrapString("items");
+
+  private final ExpressionProcessor expressionProcessor = mock(ExpressionProcessor.class);
+  private final VariableState variableState = mock(VariableState.class);
+  private final Expression inputCollection = mock(Expression.class);
+  private final ExecutableMultiInstanceBody element = mock(ExecutableMultiInstanceBody.class);
+  private final List<DirectBuffer> items = List.of(asMsgPack("1"), asMsgPack("2"));
+
+  private MultiInstanceInputCollectionBehavior inputCollectionBehavior;
+
+  @BeforeEach
+  void setUp() {
+    when(inputCollection.getVariableName()).thenReturn(Optional.of("items"));
+    when(element.getLoopCharacteristics())
+        .thenReturn(
+            new ExecutableLoopCharacteristics(
+                false,
+                Optional.empty(),
+                inputCollection,
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty()));
+    when(expressionProcessor.evaluateArrayExpression(eq(inputCollection), anyLong()))
+        .thenReturn(Either.right(items));
+    when(variableState.getVariable(anyLong(), eq(INPUT_COLLECTION)))
+        .thenReturn(asMsgPack("[1, 2]"));
+
+    inputCollectionBehavior =
+        new MultiInstanceInputCollectionBehavior(expressionProcessor, variableState);
+  }
+
+  @Test
+  void shouldReuseEvaluatedCollectionIfVariableIsUnchanged() {
+    // given
+    inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+
+    // when
+    final var result = inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+
+    // then
+    assertThat(result.get()).containsExactlyElementsOf(items);
+    verify(expressionProcessor, times(1)).evaluateArrayExpression(any(), anyLong());
+  }
+
+  @Test
+  void shouldEvaluateCollectionAgainIfVariableIsChanged() {
+    // given
+    inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+    final var changedItems = List.of(asMsgPack("3"));
+    when(variableState.getVariable(anyLong(), eq(INPUT_COLLECTION))).thenReturn(asMsgPack("[3]"));
+    when(expressionProcessor.evaluateArrayExpression(eq(inputCollection), anyLong()))
+        .thenReturn(Either.right(changedItems));
+
+    // when
+    final var result = inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+
+    // then
+    assertThat(result.get()).containsExactlyElementsOf(changedItems);
+    verify(expressionProcessor, times(2)).evaluateArrayExpression(any(), anyLong());
+  }
+
+  @Test
+  void shouldEvaluateCollectionAgainIfEvaluationFailed() {
+    // given
+    when(expressionProcessor.evaluateArrayExpression(eq(inputCollection), anyLong()))
+        .thenReturn(Either.left(new Failure("expected failure")));
+    inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+
+    // when
+    final var result = inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+
+    // then
+    assertThat(result.isLeft()).isTrue();
+    verify(expressionProcessor, times(2)).evaluateArrayExpression(any(), anyLong());
+  }
+
+  @Test
+  void shouldEvaluateCollectionAgainIfDiscarded() {
+    // given
+    inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+    inputCollectionBehavior.discardInputCollection(BODY_KEY);
+
+    // when
+    inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+
+    // then
+    verify(expressionProcessor, times(2)).evaluateArrayExpression(any(), anyLong());
+  }
+
+  @Test
+  void shouldEvaluateCollectionOfOtherBody() {
+    // given
+    inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+
+    // when
+    inputCollectionBehavior.getInputCollection(element, BODY_KEY + 1, SCOPE_KEY);
+
+    // then
+    verify(expressionProcessor, times(2)).evaluateArrayExpression(any(), anyLong());
+  }
+
+  @Test
+  void shouldAlwaysEvaluateCollectionIfNotReferringToVariable() {
+    // given
+    when(inputCollection.getVariableName()).thenReturn(Optional.empty());
+    inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+
+    // when
+    inputCollectionBehavior.getInputCollection(element, BODY_KEY, SCOPE_KEY);
+
+    // then
+    verify(expressionProcessor, times(2)).evaluateArrayExpression(any(), anyLong());
+  }
+}
@@ -11,12 +11,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.metrics.TimerDueDateCacheMetrics;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.TriggerTimersSideEffect;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.YieldingDecorator;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
@@ -25,13 +27,22 @@ import io.camunda.zeebe.engine.state.instance.TimerInstance;
 import io.camunda.zeebe.protocol.record.intent.TimerIntent;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 
 class DueDateTimerCheckerTest {
 
@@ -114,6 +125,180 @@ class DueDateTimerCheckerTest {
     }
   }
 
+  @Nested
+  final class CachedTriggerTimersSideEffectTest {
+
+    private static final Duration HORIZON = Duration.ofSeconds(1);
+
+    private final TestActorClock testActorClock = new TestActorClock();
+    private final TestTimerInstanceState timerInstanceState =
+        new TestTimerInstanceState(testActorClock);
+    private final TimerDueDateWheel wheel = new TimerDueDateWheel(100, HORIZON);
+    private final List<Long> triggeredTimers = new ArrayList<>();
+    private final TaskResultBuilder taskResultBuilder = mock(TaskResultBuilder.class);
+
+    @BeforeEach
+    void setUpMocks() {
+      when(taskResultBuilder.appendCommandRecord(anyLong(), eq(TimerIntent.TRIGGER), any()))
+          .thenAnswer(this::recordTrigger);
+    }
+
+    @Test
+    void shouldTriggerTimersFromRefilledWheel() {
+      // given
+      timerInstanceState.addTimer(1, 200);
+      timerInstanceState.addTimer(2, 100);
+      final var sut = createSideEffect(false);
+
+      // when
+      final long nextDueDate = sut.apply(taskResultBuilder);
+      testActorClock.setTime(250);
+      sut.apply(taskResultBuilder);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(100);
+      assertThat(triggeredTimers).containsExactly(2L, 1L);
+      assertThat(timerInstanceState.visitedDueDates).isEqualTo(2);
+      assertThat(timerInstanceState.scans).isZero();
+    }
+
+    @Test
+    void shouldNotTriggerTimerWhichWasCanceled() {
+      // given
+      timerInstanceState.addTimer(1, 100);
+      timerInstanceState.addTimer(2, 200);
+      final var sut = createSideEffect(false);
+      sut.apply(taskResultBuilder);
+
+      // when
+      timerInstanceState.removeTimer(1);
+      testActorClock.setTime(250);
+      sut.apply(taskResultBuilder);
+
+      // then
+      assertThat(triggeredTimers).containsExactly(2L);
+      assertThat(wheel.size())
+          .describedAs("the canceled timer is removed, the triggered one is kept until processed")
+          .isEqualTo(1);
+    }
+
+    @Test
+    void shouldContinueWithNextTimerWhenBatchIsFull() {
+      // given
+      timerInstanceState.addTimer(1, 100);
+      timerInstanceState.addTimer(2, 200);
+      timerInstanceState.addTimer(3, 300);
+      final var sut = createSideEffect(true);
+      sut.apply(taskResultBuilder);
+      doAnswer(this::recordTrigger)
+          .doReturn(false)
+          .when(taskResultBuilder)
+          .appendCommandRecord(anyLong(), eq(TimerIntent.TRIGGER), any());
+
+      // when
+      testActorClock.setTime(350);
+      final long nextDueDate = sut.apply(taskResultBuilder);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(200);
+      assertThat(triggeredTimers).containsExactly(1L);
+
+      // when - the trigger command of the first timer was processed
+      timerInstanceState.removeTimer(1);
+      doAnswer(this::recordTrigger)
+          .when(taskResultBuilder)
+          .appendCommandRecord(anyLong(), eq(TimerIntent.TRIGGER), any());
+      sut.apply(taskResultBuilder);
+
+      // then
+      assertThat(triggeredTimers).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void shouldYieldAndContinueRefillWhereItStopped() {
+      // given
+      for (int i = 1; i <= 10; i++) {
+        timerInstanceState.addTimer(i, i);
+      }
+      timerInstanceState.millisPerVisit = 10;
+      final var sut = createSideEffect(true);
+
+      // when
+      final long nextRun = sut.apply(taskResultBuilder);
+
+      // then - yields after visiting the due dates for half of the timer resolution
+      assertThat(nextRun).isZero();
+      assertThat(triggeredTimers).isEmpty();
+      assertThat(wheel.size()).isEqualTo(5);
+
+      // when
+      timerInstanceState.millisPerVisit = 0;
+      sut.apply(taskResultBuilder);
+
+      // then
+      assertThat(triggeredTimers).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+      assertThat(timerInstanceState.visitedDueDates)
+          .describedAs("each due date is visited once, as the refill continues where it stopped")
+          .isEqualTo(10);
+    }
+
+    @Test
+    void shouldRefillTimerDueAfterHorizonFromState() {
+      // given
+      timerInstanceState.addTimer(1, 5_000);
+      final var sut = createSideEffect(false);
+
+      // when
+      final long nextDueDate = sut.apply(taskResultBuilder);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(5_000);
+      assertThat(wheel.size()).isZero();
+
+      // when
+      testActorClock.setTime(5_000);
+      sut.apply(taskResultBuilder);
+
+      // then
+      assertThat(triggeredTimers).containsExactly(1L);
+      assertThat(timerInstanceState.scans).isZero();
+    }
+
+    @Test
+    void shouldCascadeTimerCreatedAfterHorizonIntoWheel() {
+      // given
+      final var sut = createSideEffect(false);
+      sut.apply(taskResultBuilder);
+
+      // when - a timer after the horizon is not cached, the half-horizon refill picks it up
+      timerInstanceState.addTimer(1, 1_200);
+      wheel.add(1_200, 1, 1);
+      testActorClock.setTime(600);
+      final long nextDueDate = sut.apply(taskResultBuilder);
+      testActorClock.setTime(1_200);
+      sut.apply(taskResultBuilder);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(1_200);
+      assertThat(triggeredTimers).containsExactly(1L);
+      assertThat(timerInstanceState.scans).isZero();
+    }
+
+    private boolean recordTrigger(final InvocationOnMock invocation) {
+      triggeredTimers.add(invocation.getArgument(0));
+      return true;
+    }
+
+    private TriggerTimersSideEffect createSideEffect(final boolean yieldControl) {
+      return new TriggerTimersSideEffect(
+          timerInstanceState,
+          testActorClock,
+          yieldControl,
+          wheel,
+          new TimerDueDateCacheMetrics(new SimpleMeterRegistry(), wheel::size));
+    }
+  }
+
   @Nested
   final class YieldingDecoratorTest {
 
@@ -202,6 +387,66 @@ class DueDateTimerCheckerTest {
     }
   }
 
+  /** Keeps the timers in memory, and advances the clock for each visited due date if set. */
+  private static final class TestTimerInstanceState implements TimerInstanceState {
+
+    private final NavigableMap<Long, TimerInstance> timersByDueDate = new TreeMap<>();
+    private final Map<Long, TimerInstance> timersByKey = new HashMap<>();
+    private final TestActorClock testActorClock;
+    private long millisPerVisit;
+    private int visitedDueDates;
+    private int scans;
+
+    private TestTimerInstanceState(final TestActorClock testActorClock) {
+      this.testActorClock = testActorClock;
+    }
+
+    /** Adds a timer whose element instance key equals its key; due dates must be unique. */
+    private void addTimer(final long key, final long dueDate) {
+      final var timer = new TimerInstance();
+      timer.setKey(key);
+      timer.setElementInstanceKey(key);
+      timer.setDueDate(dueDate);
+      timer.setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+      timersByDueDate.put(dueDate, timer);
+      timersByKey.put(key, timer);
+    }
+
+    private void removeTimer(final long key) {
+      final var timer = timersByKey.remove(key);
+      timersByDueDate.remove(timer.getDueDate());
+    }
+
+    @Override
+    public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+      scans++;
+      return -1;
+    }
+
+    @Override
+    public long visitDueDates(
+        final long fromInclusive, final long toExclusive, final TimerDueDateVisitor visitor) {
+      for (final var timer : timersByDueDate.tailMap(fromInclusive).values()) {
+        if (timer.getDueDate() >= toExclusive
+            || !visitor.visit(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey())) {
+          return timer.getDueDate();
+        }
+        visitedDueDates++;
+        testActorClock.setTime(testActorClock.millis() + millisPerVisit);
+      }
+      return -1;
+    }
+
+    @Override
+    public void forEachTimerForElementInstance(
+        final long elementInstanceKey, final Consumer<TimerInstance> action) {}
+
+    @Override
+    public TimerInstance get(final long elementInstanceKey, final long timerKey) {
+      return timersByKey.get(timerKey);
+    }
+  }
+
   private final class TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers
       implements TimerInstanceState {
 
@@ -225,6 +470,12 @@ class DueDateTimerCheckerTest {
       return 0;
     }
 
+    @Override
+    public long visitDueDates(
+        final long fromInclusive, final long toExclusive, final TimerDueDateVisitor visitor) {
+      return -1;
+    }
+
     @Override
     public void forEachTimerForElementInstance(
         final long elementInstanceKey, final Consumer<TimerInstance> action) {}
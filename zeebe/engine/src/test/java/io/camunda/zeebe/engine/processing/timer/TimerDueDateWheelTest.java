@@ -0,0 +1,224 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.engine.processing.timer.TimerDueDateWheel.DueTimer;
+import io.camunda.zeebe.engine.processing.timer.TimerDueDateWheel.Refill;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class TimerDueDateWheelTest {
+
+  private static final long TICK = 100;
+  private static final Duration HORIZON = Duration.ofSeconds(10);
+
+  private TimerDueDateWheel wheel;
+
+  @BeforeEach
+  void setup() {
+    wheel = new TimerDueDateWheel(TICK, HORIZON);
+  }
+
+  @Test
+  void shouldRejectHorizonShorterThanTick() {
+    assertThatThrownBy(() -> new TimerDueDateWheel(TICK, Duration.ofMillis(TICK - 1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldNeedRefillIfNeverFilled() {
+    assertThat(wheel.needsRefill(0)).isTrue();
+  }
+
+  @Test
+  void shouldRefillFromStartOnFirstRefill() {
+    // when
+    final Refill refill = wheel.startRefill(1_000);
+
+    // then
+    assertThat(refill).isEqualTo(new Refill(0, 11_000));
+    assertThat(wheel.needsRefill(1_000)).isFalse();
+  }
+
+  @Test
+  void shouldRefillIncrementallyAfterHalfOfHorizon() {
+    // given
+    wheel.startRefill(1_000);
+
+    // when
+    final boolean needsRefill = wheel.needsRefill(6_000);
+    final Refill refill = wheel.startRefill(6_000);
+
+    // then
+    assertThat(needsRefill).isTrue();
+    assertThat(refill).isEqualTo(new Refill(11_000, 16_000));
+  }
+
+  @Test
+  void shouldNotAddTimerDueAfterHorizon() {
+    // given
+    wheel.startRefill(0);
+
+    // when
+    final boolean added = wheel.add(10_000, 1, 2);
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldNotAddTimerBeforeFirstRefill() {
+    // when
+    final boolean added = wheel.add(1_000, 1, 2);
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldReturnDueTimersOrderedByDueDate() {
+    // given
+    wheel.startRefill(0);
+    wheel.add(3_050, 3, 30);
+    wheel.add(1_000, 1, 10);
+    wheel.add(3_010, 2, 20);
+    wheel.add(5_000, 4, 40);
+
+    // when
+    final var dueTimers = wheel.dueTimers(4_000);
+
+    // then
+    assertThat(dueTimers)
+        .containsExactly(
+            new DueTimer(1_000, 1, 10), new DueTimer(3_010, 2, 20), new DueTimer(3_050, 3, 30));
+    assertThat(wheel.size()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldReturnTimersWithEqualDueDatesOrderedByKeys() {
+    // given
+    wheel.startRefill(0);
+    for (int i = 20; i > 0; i--) {
+      wheel.add(1_000, 1, i);
+    }
+    wheel.add(1_000, 0, 30);
+
+    // when
+    final var dueTimers = wheel.dueTimers(1_000);
+
+    // then
+    assertThat(dueTimers)
+        .extracting(DueTimer::timerKey)
+        .containsExactly(
+            30L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L,
+            19L, 20L);
+  }
+
+  @Test
+  void shouldNotReturnTimerDueLaterInSameTick() {
+    // given
+    wheel.startRefill(0);
+    wheel.add(1_050, 1, 10);
+
+    // when
+    final var dueTimers = wheel.dueTimers(1_020);
+
+    // then
+    assertThat(dueTimers).isEmpty();
+    assertThat(wheel.earliestDueDateAfter(1_020)).isEqualTo(1_050);
+  }
+
+  @Test
+  void shouldRemoveTimer() {
+    // given
+    wheel.startRefill(0);
+    wheel.add(1_000, 1, 10);
+    wheel.add(2_000, 2, 20);
+
+    // when
+    wheel.remove(new DueTimer(1_000, 1, 10));
+
+    // then
+    assertThat(wheel.size()).isOne();
+    assertThat(wheel.dueTimers(5_000)).containsExactly(new DueTimer(2_000, 2, 20));
+  }
+
+  @Test
+  void shouldReturnEarliestDueDateAfterTimestamp() {
+    // given
+    wheel.startRefill(0);
+    wheel.add(1_000, 1, 10);
+    wheel.add(4_000, 2, 20);
+    wheel.add(7_000, 3, 30);
+
+    // when - then
+    assertThat(wheel.earliestDueDateAfter(0)).isEqualTo(1_000);
+    assertThat(wheel.earliestDueDateAfter(1_000)).isEqualTo(4_000);
+    assertThat(wheel.earliestDueDateAfter(7_000)).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldReturnNoDueDateIfEmpty() {
+    // given
+    wheel.startRefill(0);
+
+    // when - then
+    assertThat(wheel.earliestDueDateAfter(0)).isEqualTo(-1);
+    assertThat(wheel.dueTimers(Long.MAX_VALUE / 2)).isEmpty();
+  }
+
+  @Test
+  void shouldLimitHorizon() {
+    // given
+    wheel.startRefill(0);
+
+    // when
+    wheel.limitHorizon(2_000);
+
+    // then
+    assertThat(wheel.add(2_000, 1, 10)).isFalse();
+    assertThat(wheel.needsRefill(1_000)).isTrue();
+    assertThat(wheel.startRefill(1_000)).isEqualTo(new Refill(2_000, 11_000));
+  }
+
+  @Test
+  void shouldKeepTimersOfDifferentRoundsInSameBucket() {
+    // given - a horizon which spans more than the maximum number of buckets
+    final var largeWheel = new TimerDueDateWheel(1, Duration.ofSeconds(10));
+    largeWheel.startRefill(0);
+    largeWheel.add(5_000, 1, 10);
+    largeWheel.add(5_000 + 4_096, 2, 20);
+
+    // when - then
+    assertThat(largeWheel.dueTimers(6_000)).containsExactly(new DueTimer(5_000, 1, 10));
+    assertThat(largeWheel.earliestDueDateAfter(5_000)).isEqualTo(5_000 + 4_096);
+    assertThat(largeWheel.dueTimers(10_000))
+        .containsExactly(new DueTimer(5_000, 1, 10), new DueTimer(5_000 + 4_096, 2, 20));
+  }
+
+  @Test
+  void shouldClearTimers() {
+    // given
+    wheel.startRefill(0);
+    wheel.add(1_000, 1, 10);
+
+    // when
+    wheel.clear();
+
+    // then
+    assertThat(wheel.size()).isZero();
+    assertThat(wheel.needsRefill(0)).isTrue();
+    assertThat(wheel.startRefill(0)).isEqualTo(new Refill(0, 10_000));
+  }
+}
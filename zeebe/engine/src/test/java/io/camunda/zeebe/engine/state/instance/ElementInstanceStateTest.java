@@ -512,6 +512,73 @@ public final class ElementInstanceStateTest {
     assertThat(metadata.getRequestStreamId()).isEqualTo(streamId);
   }
 
+  @Test
+  public void shouldNotShareInstancesReturnedFromLookup() {
+    // given
+    elementInstanceState.newInstance(
+        100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    final ElementInstance instance = elementInstanceState.getInstance(100);
+
+    // when
+    instance.setState(ProcessInstanceIntent.ELEMENT_TERMINATING);
+    instance.getValue().setElementId("other");
+
+    // then
+    assertElementInstance(elementInstanceState.getInstance(100), 0);
+  }
+
+  @Test
+  public void shouldGetUpdatedInstanceAfterLookup() {
+    // given
+    final ElementInstance parent =
+        elementInstanceState.newInstance(
+            100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    assertElementInstance(elementInstanceState.getInstance(100), 0);
+
+    // when
+    elementInstanceState.newInstance(
+        parent, 101, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.updateInstance(
+        101, instance -> instance.setState(ProcessInstanceIntent.ELEMENT_ACTIVATED));
+
+    // then
+    assertElementInstance(elementInstanceState.getInstance(100), 1);
+    assertThat(elementInstanceState.getInstance(101).getState())
+        .isEqualTo(ProcessInstanceIntent.ELEMENT_ACTIVATED);
+  }
+
+  @Test
+  public void shouldNotGetRemovedInstanceAfterLookup() {
+    // given
+    final ElementInstance parent =
+        elementInstanceState.newInstance(
+            100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parent, 101, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    assertThat(elementInstanceState.getInstance(101)).isNotNull();
+    assertElementInstance(elementInstanceState.getInstance(100), 1);
+
+    // when
+    elementInstanceState.removeInstance(101);
+
+    // then
+    assertThat(elementInstanceState.getInstance(101)).isNull();
+    assertElementInstance(elementInstanceState.getInstance(100), 0);
+  }
+
+  @Test
+  public void shouldGetInstanceCreatedAfterMissedLookup() {
+    // given
+    assertThat(elementInstanceState.getInstance(100)).isNull();
+
+    // when
+    elementInstanceState.newInstance(
+        100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+    // then
+    assertElementInstance(elementInstanceState.getInstance(100), 0);
+  }
+
   private void assertElementInstance(final ElementInstance elementInstance, final int childCount) {
     Assertions.assertThat(elementInstance.getKey()).isEqualTo(100);
     Assertions.assertThat(elementInstance.getState())
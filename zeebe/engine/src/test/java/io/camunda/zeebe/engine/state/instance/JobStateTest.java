@@ -29,6 +29,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
@@ -641,6 +642,121 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListActivatableJobsOnlyForGivenTenants() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord("tenant-a").setType(type));
+    jobState.create(2L, newJobRecord("tenant-b").setType(type));
+    jobState.create(3L, newJobRecord("tenant-c").setType(type));
+    jobState.create(4L, newJobRecord("tenant-a").setType(type));
+    jobState.create(5L, newJobRecord("tenant-ab").setType(type));
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, "tenant-a", "tenant-c");
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsOfAllTenants() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord("tenant-a").setType(type));
+    jobState.create(2L, newJobRecord("tenant-a").setType(type));
+    jobState.create(3L, newJobRecord("tenant-b").setType(type));
+    final List<Long> jobKeys = new ArrayList<>();
+
+    // when
+    jobState.forEachActivatableJobs(
+        type,
+        List.of("tenant-a", "tenant-b"),
+        (key, job) -> {
+          jobKeys.add(key);
+          return jobKeys.size() < 2;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldListManyActivatableJobsOfAllTenantsInOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final List<Long> expectedKeys = LongStream.rangeClosed(1, 500).boxed().toList();
+    expectedKeys.forEach(
+        key ->
+            jobState.create(
+                key, newJobRecord(key % 3 == 0 ? "tenant-a" : "tenant-b").setType(type)));
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, "tenant-b", "tenant-a");
+
+    // then
+    assertThat(jobKeys).containsExactlyElementsOf(expectedKeys);
+  }
+
+  @Test
+  public void shouldStopListingManyActivatableJobsOfAllTenants() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    LongStream.rangeClosed(1, 500)
+        .forEach(
+            key ->
+                jobState.create(
+                    key, newJobRecord(key % 2 == 0 ? "tenant-a" : "tenant-b").setType(type)));
+    final List<Long> jobKeys = new ArrayList<>();
+
+    // when
+    jobState.forEachActivatableJobs(
+        type,
+        List.of("tenant-a", "tenant-b"),
+        (key, job) -> {
+          jobKeys.add(key);
+          return jobKeys.size() < 100;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactlyElementsOf(LongStream.rangeClosed(1, 100).boxed().toList());
+  }
+
+  @Test
+  public void shouldListManyActivatableJobsInOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final List<Long> expectedKeys = LongStream.rangeClosed(1, 500).boxed().toList();
+    expectedKeys.forEach(key -> jobState.create(key, newJobRecord().setType(type)));
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // then
+    assertThat(jobKeys).containsExactlyElementsOf(expectedKeys);
+  }
+
+  @Test
+  public void shouldStopListingManyActivatableJobs() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    LongStream.rangeClosed(1, 500)
+        .forEach(key -> jobState.create(key, newJobRecord().setType(type)));
+    final List<Long> jobKeys = new ArrayList<>();
+
+    // when
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        (key, job) -> {
+          jobKeys.add(key);
+          return jobKeys.size() < 100;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactlyElementsOf(LongStream.rangeClosed(1, 100).boxed().toList());
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
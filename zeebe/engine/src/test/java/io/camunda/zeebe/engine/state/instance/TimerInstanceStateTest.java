@@ -170,6 +170,65 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldVisitDueDatesInRange() {
+    // given
+    createTimerInstance(1, 11, 1000L);
+    createTimerInstance(2, 12, 2000L);
+    createTimerInstance(3, 13, 3000L);
+    createTimerInstance(4, 14, 4000L);
+
+    // when
+    final List<Long> timerKeys = new ArrayList<>();
+    final long nextDueDate =
+        state.visitDueDates(
+            2000L,
+            4000L,
+            (dueDate, elementInstanceKey, timerKey) -> {
+              assertThat(elementInstanceKey).isEqualTo(timerKey - 10);
+              timerKeys.add(timerKey);
+              return true;
+            });
+
+    // then
+    assertThat(timerKeys).containsExactly(12L, 13L);
+    assertThat(nextDueDate).isEqualTo(4000L);
+  }
+
+  @Test
+  public void shouldVisitDueDatesUntilNotConsumed() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+
+    // when
+    final List<Long> dueDates = new ArrayList<>();
+    final long nextDueDate =
+        state.visitDueDates(
+            0L,
+            Long.MAX_VALUE,
+            (dueDate, elementInstanceKey, timerKey) -> {
+              dueDates.add(dueDate);
+              return false;
+            });
+
+    // then
+    assertThat(dueDates).containsExactly(1000L);
+    assertThat(nextDueDate).isEqualTo(1000L);
+  }
+
+  @Test
+  public void shouldReturnNegativeDueDateIfNoTimersAfterRange() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+
+    // when
+    final long nextDueDate = state.visitDueDates(0L, 2000L, (dueDate, e, t) -> true);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
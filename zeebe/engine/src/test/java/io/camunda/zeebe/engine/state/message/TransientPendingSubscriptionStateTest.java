@@ -145,4 +145,37 @@ public class TransientPendingSubscriptionStateTest {
                     new PendingSubscription(1, "message", TenantOwned.DEFAULT_TENANT_IDENTIFIER),
                     500));
   }
+
+  @Test
+  public void shouldNotReturnEntriesAtTheirPreviousSentTime() {
+    // given
+    final var subscription =
+        new PendingSubscription(1, "message", TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    sut.add(subscription, 500);
+
+    // when
+    sut.update(subscription, 2000);
+    final var actual = sut.entriesBefore(1000);
+
+    // then
+    assertThat(actual).isEmpty();
+    assertThat(sut.entriesBefore(3000)).containsExactly(subscription);
+  }
+
+  @Test
+  public void shouldCountPendingEntries() {
+    // given
+    final var subscription =
+        new PendingSubscription(1, "message", TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    sut.add(subscription, 500);
+    sut.add(new PendingSubscription(2, "message", TenantOwned.DEFAULT_TENANT_IDENTIFIER), 600);
+    sut.update(subscription, 700);
+
+    // when
+    sut.remove(new PendingSubscription(2, "message", TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+
+    // then
+    assertThat(sut.size()).isOne();
+    assertThat(sut.entriesBefore(Long.MAX_VALUE)).containsExactly(subscription);
+  }
 }
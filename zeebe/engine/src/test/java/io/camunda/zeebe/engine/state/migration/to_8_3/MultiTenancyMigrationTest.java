@@ -44,6 +44,7 @@ import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyMessageSubscr
 import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyProcessMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyProcessState;
 import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyProcessState.LegacyProcessVersionManager;
+import io.camunda.zeebe.engine.state.migration.to_8_8.JobActivatableByTenantMigration;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
 import io.camunda.zeebe.model.bpmn.Bpmn;
@@ -913,7 +914,10 @@ public class MultiTenancyMigrationTest {
       legacyState.create(jobKey, jobRecord);
 
       // when
-      sut.runMigration(new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState));
+      final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+      sut.runMigration(context);
+      // the job state reads the activatable jobs in the layout of 8.8, which is migrated to next
+      new JobActivatableByTenantMigration().runMigration(context);
 
       // then
       final List<JobRecord> actualJobs = new ArrayList<>();
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_8;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
+import io.camunda.zeebe.engine.state.migration.MigrationTaskContextImpl;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.stream.impl.ClusterContextImpl;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+public class JobActivatableByTenantMigrationTest {
+
+  final JobActivatableByTenantMigration sut = new JobActivatableByTenantMigration();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
+
+  private DbJobState jobState;
+  private DbLong legacyJobKey;
+  private DbString legacyJobType;
+  private DbString legacyTenantId;
+  private DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>> legacyKey;
+  private ColumnFamily<DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
+      legacyActivatableColumnFamily;
+
+  @BeforeEach
+  void setup() {
+    jobState = new DbJobState(zeebeDb, transactionContext);
+
+    legacyJobKey = new DbLong();
+    legacyJobType = new DbString();
+    legacyTenantId = new DbString();
+    legacyKey =
+        new DbTenantAwareKey<>(
+            legacyTenantId,
+            new DbCompositeKey<>(
+                legacyJobType, new DbForeignKey<>(legacyJobKey, ZbColumnFamilies.JOBS)),
+            PlacementType.SUFFIX);
+    legacyActivatableColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.DEPRECATED_JOB_ACTIVATABLE_BY_TYPE,
+            transactionContext,
+            legacyKey,
+            DbNil.INSTANCE);
+  }
+
+  @Test
+  void shouldNotRunWithoutLegacyActivatableJobs() {
+    // given
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+
+    // when
+    final var needsToRun = sut.needsToRun(context);
+
+    // then
+    assertThat(needsToRun).isFalse();
+  }
+
+  @Test
+  void shouldMigrateActivatableJobsByTenant() {
+    // given
+    createLegacyActivatableJob(1L, "type", "tenant-a");
+    createLegacyActivatableJob(2L, "type", "tenant-b");
+    createLegacyActivatableJob(3L, "type", "tenant-a");
+    createLegacyActivatableJob(4L, "other-type", "tenant-a");
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+
+    // when
+    assertThat(sut.needsToRun(context)).isTrue();
+    sut.runMigration(context);
+
+    // then
+    assertThat(sut.needsToRun(context)).isFalse();
+    assertThat(legacyActivatableColumnFamily.isEmpty()).isTrue();
+    assertThat(getActivatableKeys("type", "tenant-a")).containsExactly(1L, 3L);
+    assertThat(getActivatableKeys("type", "tenant-b")).containsExactly(2L);
+    assertThat(getActivatableKeys("other-type", "tenant-a")).containsExactly(4L);
+    assertThat(getActivatableKeys("other-type", "tenant-b")).isEmpty();
+  }
+
+  private void createLegacyActivatableJob(
+      final long key, final String type, final String tenantId) {
+    final var job =
+        new JobRecord().setType(type).setTenantId(tenantId).setRetries(3).setDeadline(1000L);
+    jobState.create(key, job);
+    // the job state made the job activatable in the new layout, move it to the legacy one
+    jobState.activate(key, job);
+
+    legacyJobKey.wrapLong(key);
+    legacyJobType.wrapString(type);
+    legacyTenantId.wrapString(tenantId);
+    legacyActivatableColumnFamily.insert(legacyKey, DbNil.INSTANCE);
+  }
+
+  private List<Long> getActivatableKeys(final String type, final String tenantId) {
+    final List<Long> keys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        wrapString(type), List.of(tenantId), (key, job) -> keys.add(key));
+    return keys;
+  }
+}
@@ -462,6 +462,54 @@ public final class VariableStateTest {
             tuple(keyVariableC, child, wrapString("c"), wrapString("3")));
   }
 
+  @Test
+  public void shouldGetUpdatedVariableAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    assertEquality(variableState.getVariable(child, wrapString("a")), "1");
+
+    // when
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+    setVariableLocal(parent, wrapString("a"), asMsgPack("3"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+    assertEquality(variableState.getVariable(parent, wrapString("a")), "3");
+    assertEquality(variableState.getVariableLocal(parent, wrapString("a")), "3");
+  }
+
+  @Test
+  public void shouldNotGetRemovedVariableAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(child, wrapString("a"), asMsgPack("1"));
+    assertEquality(variableState.getVariable(child, wrapString("a")), "1");
+
+    // when
+    variableState.removeAllVariables(child);
+
+    // then
+    assertThat(variableState.getVariable(child, wrapString("a"))).isNull();
+    assertThat(variableState.getVariableLocal(child, wrapString("a"))).isNull();
+  }
+
+  @Test
+  public void shouldNotReturnParentOfRemovedScopeAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(parent);
+
+    // when
+    variableState.removeScope(child);
+
+    // then
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(VariableState.NO_PARENT);
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
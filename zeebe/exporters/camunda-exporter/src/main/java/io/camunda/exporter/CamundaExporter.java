@@ -33,6 +33,7 @@ import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
 import io.camunda.exporter.store.BatchRequest;
 import io.camunda.exporter.store.ExporterBatchWriter;
+import io.camunda.exporter.store.ExporterBatchWriter.Batch;
 import io.camunda.exporter.tasks.BackgroundTaskManager;
 import io.camunda.exporter.tasks.BackgroundTaskManagerFactory;
 import io.camunda.search.schema.MappingSource;
@@ -56,6 +57,9 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,6 +80,9 @@ public class CamundaExporter implements Exporter {
   private boolean zeebeIndicesVersion87Exist = false;
   private SearchEngineClient searchEngineClient;
   private int partitionId;
+  // only set if bulks are flushed asynchronously
+  private ExecutorService flushExecutor;
+  private InFlightFlush inFlightFlush;
 
   public CamundaExporter() {
     // the metadata will be initialized on open
@@ -135,6 +142,11 @@ public class CamundaExporter implements Exporter {
     }
 
     writer = createBatchWriter(); // move before schemaManager.isSchemaReadyForUse()?
+    if (configuration.getBulk().isAsync()) {
+      flushExecutor =
+          Executors.newSingleThreadExecutor(
+              Thread.ofPlatform().name("camunda-exporter-flush-" + partitionId).daemon().factory());
+    }
 
     checkImportersCompletedAndReschedule();
     controller.readMetadata().ifPresent(metadata::deserialize);
@@ -149,6 +161,7 @@ public class CamundaExporter implements Exporter {
 
     if (writer != null) {
       try {
+        completeInFlightFlush(true);
         flush();
         updateLastExportedPosition(lastPosition);
       } catch (final Exception e) {
@@ -156,6 +169,10 @@ public class CamundaExporter implements Exporter {
       }
     }
 
+    if (flushExecutor != null) {
+      flushExecutor.shutdownNow();
+    }
+
     if (clientAdapter != null) {
       try {
         clientAdapter.close();
@@ -209,6 +226,9 @@ public class CamundaExporter implements Exporter {
       return;
     }
 
+    // acknowledge the bulk in flight as soon as it is complete, without waiting for it
+    completeInFlightFlush(false);
+
     if (writer.getBatchSize() == 0) {
       metrics.startFlushLatencyMeasurement();
     }
@@ -219,6 +239,11 @@ public class CamundaExporter implements Exporter {
     lastPosition = record.getPosition();
 
     if (shouldFlush()) {
+      if (flushExecutor != null) {
+        flushAsync();
+        return;
+      }
+
       try (final var ignored = metrics.measureFlushDuration()) {
         flush();
         metrics.stopFlushLatencyMeasurement();
@@ -334,8 +359,13 @@ processing records from previous version
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition(lastPosition);
+      if (flushExecutor == null) {
+        flush();
+        updateLastExportedPosition(lastPosition);
+      } else if (completeInFlightFlush(false)) {
+        // only flush if the previous bulk is done, to not block the exporter on a periodic flush
+        flushAsync();
+      }
     } catch (final Exception e) {
       LOG.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -395,11 +425,97 @@ processing records from previous version
     }
   }
 
+  /**
+   * Detaches the cached entities from the writer and executes them as a bulk in the background,
+   * such that the next records can be cached in the meantime. At most one bulk is in flight: if the
+   * previous bulk is not complete yet, this waits for it first. The position of the bulk is only
+   * acknowledged once it was executed successfully, see {@link #completeInFlightFlush(boolean)}.
+   */
+  private void flushAsync() {
+    completeInFlightFlush(true);
+
+    if (writer.getBatchSize() == 0) {
+      updateLastExportedPosition(lastPosition);
+      return;
+    }
+
+    metrics.recordBulkSize(writer.getBatchSize());
+    metrics.stopFlushLatencyMeasurement();
+    final Batch batch = writer.detach();
+
+    CompletableFuture<Void> execution;
+    try {
+      final BatchRequest batchRequest = clientAdapter.createBatchRequest();
+      batch.writeTo(batchRequest);
+      execution = CompletableFuture.runAsync(() -> execute(batch, batchRequest), flushExecutor);
+    } catch (final PersistenceException e) {
+      // the batch is retried with the next flush, same as if the execution had failed
+      execution = CompletableFuture.failedFuture(e);
+    }
+
+    // the metadata is serialized now, as it may be modified by the next records in the meantime
+    inFlightFlush = new InFlightFlush(batch, lastPosition, metadata.serialize(), execution);
+  }
+
+  /**
+   * Completes the bulk in flight, if any. If it was executed successfully, its position is
+   * acknowledged. If it failed, it is retried synchronously, such that bulks are always applied in
+   * order; if the retry fails as well, an {@link ExporterException} is thrown and the bulk is
+   * retried again on the next call.
+   *
+   * @param wait if true, waits for the bulk in flight to complete
+   * @return true if there is no bulk in flight anymore
+   */
+  private boolean completeInFlightFlush(final boolean wait) {
+    if (inFlightFlush == null) {
+      return true;
+    }
+
+    final var execution = inFlightFlush.execution();
+    if (!execution.isDone()) {
+      if (!wait) {
+        return false;
+      }
+
+      try (final var ignored = metrics.measureFlushWait()) {
+        execution.handle((ok, error) -> null).join();
+      }
+    }
+
+    if (execution.isCompletedExceptionally()) {
+      metrics.recordFailedFlush();
+      LOG.warn("Failed to flush bulk in the background, retrying", execution.exceptionNow());
+
+      final BatchRequest batchRequest = clientAdapter.createBatchRequest();
+      try (final var ignored = metrics.measureFlushDuration()) {
+        inFlightFlush.batch().writeTo(batchRequest);
+        inFlightFlush.batch().execute(batchRequest);
+      } catch (final PersistenceException ex) {
+        throw new ExporterException(ex.getMessage(), ex);
+      }
+    }
+
+    controller.updateLastExportedRecordPosition(inFlightFlush.position(), inFlightFlush.metadata());
+    inFlightFlush = null;
+    return true;
+  }
+
+  private void execute(final Batch batch, final BatchRequest batchRequest) {
+    try (final var ignored = metrics.measureFlushDuration()) {
+      batch.execute(batchRequest);
+    } catch (final PersistenceException ex) {
+      throw new ExporterException(ex.getMessage(), ex);
+    }
+  }
+
   private void updateLastExportedPosition(final long lastPosition) {
     final var serialized = metadata.serialize();
     controller.updateLastExportedRecordPosition(lastPosition, serialized);
   }
 
+  private record InFlightFlush(
+      Batch batch, long position, byte[] metadata, CompletableFuture<Void> execution) {}
+
   private record CamundaExporterRecordFilter() implements RecordFilter {
     private static final Set<ValueType> VALUE_TYPES_2_EXPORT =
         Set.of(
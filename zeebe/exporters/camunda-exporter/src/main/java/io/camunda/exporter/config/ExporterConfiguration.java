@@ -122,6 +122,8 @@ public class ExporterConfiguration {
     private int delay = 5;
     // bulk size before flush
     private int size = 1_000;
+    // execute the bulk request in the background, while the next bulk is collected
+    private boolean async = false;
 
     public int getDelay() {
       return delay;
@@ -139,9 +141,17 @@ public class ExporterConfiguration {
       this.size = size;
     }
 
+    public boolean isAsync() {
+      return async;
+    }
+
+    public void setAsync(final boolean async) {
+      this.async = async;
+    }
+
     @Override
     public String toString() {
-      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + '}';
+      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + ", async=" + async + '}';
     }
   }
 
@@ -111,6 +111,14 @@ public class CamundaExporterMetrics {
         .minimumExpectedValue(Duration.ofMillis(10));
   }
 
+  public ResourceSample measureFlushWait() {
+    return Timer.resource(meterRegistry, meterName("flush.wait.seconds"))
+        .description(
+            "Time the exporter was blocked waiting for the previous bulk to complete, before it could flush the next one")
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofMillis(1));
+  }
+
   public void measureArchiverSearch(final Timer.Sample sample) {
     sample.stop(archiverSearchTimer);
   }
@@ -27,7 +27,7 @@ import java.util.function.BiConsumer;
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ExporterBatchWriter {
   private final Map<ValueType, List<ExportHandler>> handlers = new HashMap<>();
-  private final Map<EntityIdAndEntityType, EntityAndHandlers> cachedEntities = new HashMap<>();
+  private Map<EntityIdAndEntityType, EntityAndHandlers> cachedEntities = new HashMap<>();
   private BiConsumer<String, Error> customErrorHandlers;
 
   public void addRecord(final Record<?> record) {
@@ -72,16 +72,21 @@ public class ExporterBatchWriter {
       return;
     }
 
-    for (final var entityAndHandler : cachedEntities.values()) {
-      final ExporterEntity entity = entityAndHandler.entity();
-      for (final var handler : entityAndHandler.handlers()) {
-        handler.flush(entity, batchRequest);
-      }
-    }
+    writeEntities(cachedEntities, batchRequest);
     batchRequest.execute(customErrorHandlers);
     reset();
   }
 
+  /**
+   * Detaches all cached entities from the writer as a {@link Batch}, such that the writer can
+   * already cache the entities of the next records while the batch is flushed.
+   */
+  public Batch detach() {
+    final var batch = new Batch(cachedEntities, customErrorHandlers);
+    cachedEntities = new HashMap<>();
+    return batch;
+  }
+
   public void reset() {
     cachedEntities.clear();
   }
@@ -118,6 +123,48 @@ public class ExporterBatchWriter {
     }
   }
 
+  private static void writeEntities(
+      final Map<EntityIdAndEntityType, EntityAndHandlers> entities, final BatchRequest batchRequest)
+      throws PersistenceException {
+    for (final var entityAndHandler : entities.values()) {
+      final ExporterEntity entity = entityAndHandler.entity();
+      for (final var handler : entityAndHandler.handlers()) {
+        handler.flush(entity, batchRequest);
+      }
+    }
+  }
+
+  /**
+   * The entities of a batch of records which were detached from the writer. The batch keeps its
+   * entities until it is discarded, so it can be written to a new request if executing the previous
+   * one failed.
+   */
+  public static final class Batch {
+    private final Map<EntityIdAndEntityType, EntityAndHandlers> entities;
+    private final BiConsumer<String, Error> customErrorHandlers;
+
+    private Batch(
+        final Map<EntityIdAndEntityType, EntityAndHandlers> entities,
+        final BiConsumer<String, Error> customErrorHandlers) {
+      this.entities = entities;
+      this.customErrorHandlers = customErrorHandlers;
+    }
+
+    public int size() {
+      return entities.size();
+    }
+
+    /** Adds the updates of all entities of this batch to the given request. */
+    public void writeTo(final BatchRequest batchRequest) throws PersistenceException {
+      writeEntities(entities, batchRequest);
+    }
+
+    /** Executes a request previously filled via {@link #writeTo(BatchRequest)}. */
+    public void execute(final BatchRequest batchRequest) throws PersistenceException {
+      batchRequest.execute(customErrorHandlers);
+    }
+  }
+
   private record EntityIdAndEntityType(String entityId, Class<?> entityType) {}
 
   private record EntityAndHandlers(ExporterEntity entity, Set<ExportHandler> handlers) {}
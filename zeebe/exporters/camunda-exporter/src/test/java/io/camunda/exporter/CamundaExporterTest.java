@@ -9,11 +9,17 @@ package io.camunda.exporter;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,14 +29,24 @@ import io.camunda.exporter.cache.ExporterEntityCacheProvider;
 import io.camunda.exporter.cache.form.CachedFormEntity;
 import io.camunda.exporter.cache.process.CachedProcessEntity;
 import io.camunda.exporter.config.ExporterConfiguration;
+import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.store.BatchRequest;
 import io.camunda.search.schema.SearchEngineClient;
 import io.camunda.search.test.utils.TestObjectMapper;
 import io.camunda.webapps.schema.entities.usertask.TaskEntity.TaskImplementation;
+import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
 import io.camunda.zeebe.exporter.test.ExporterTestContext;
 import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.UserIntent;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,7 +67,7 @@ final class CamundaExporterTest {
       new ExporterTestContext()
           .setConfiguration(new ExporterTestConfiguration<>("test", configuration));
   private final ExporterTestController testController = new ExporterTestController();
-  private ClientAdapter stubbedClientAdapterInUse;
+  private StubClientAdapter stubbedClientAdapterInUse;
 
   @SuppressWarnings("FieldCanBeLocal")
   @AutoClose
@@ -88,6 +104,7 @@ final class CamundaExporterTest {
   }
 
   private static final class StubClientAdapter implements ClientAdapter {
+    private final Queue<BatchRequest> batchRequests = new ArrayDeque<>();
     private final ExporterEntityCacheProvider entityCacheProvider =
         new NoopExporterEntityCacheProvider();
     private final SearchEngineClient client =
@@ -107,10 +124,19 @@ final class CamundaExporterTest {
 
     @Override
     public BatchRequest createBatchRequest() {
+      final var batchRequest = batchRequests.poll();
+      if (batchRequest != null) {
+        return batchRequest;
+      }
+
       return mock(
           BatchRequest.class, Mockito.withSettings().defaultAnswer(Answers.RETURNS_SMART_NULLS));
     }
 
+    private void enqueueBatchRequests(final BatchRequest... batchRequests) {
+      this.batchRequests.addAll(List.of(batchRequests));
+    }
+
     @Override
     public ExporterEntityCacheProvider getExporterEntityCacheProvider() {
       return entityCacheProvider;
@@ -175,4 +201,107 @@ final class CamundaExporterTest {
       assertThat(actual.getFirstUserTaskKey(TaskImplementation.ZEEBE_USER_TASK)).isEqualTo(10);
     }
   }
+
+  @Nested
+  final class AsyncFlushTest {
+    private final ProtocolFactory factory = new ProtocolFactory();
+
+    @BeforeEach
+    void setup() {
+      configuration.getBulk().setAsync(true);
+      configuration.getBulk().setSize(1);
+      configuration.getIndex().setShouldWaitForImporters(false);
+      exporter = new CamundaExporter(resourceProvider);
+    }
+
+    @Test
+    void shouldAcknowledgePositionOnlyAfterBulkCompleted() throws Exception {
+      // given
+      final var bulkCanComplete = new CountDownLatch(1);
+      final var batchRequest = mock(BatchRequest.class, Answers.RETURNS_SELF);
+      doAnswer(
+              invocation -> {
+                bulkCanComplete.await();
+                return null;
+              })
+          .when(batchRequest)
+          .execute(any());
+      stubbedClientAdapterInUse.enqueueBatchRequests(batchRequest);
+      exporter.configure(testContext);
+      exporter.open(testController);
+
+      // when
+      final var record = generateUserRecord();
+      exporter.export(record);
+
+      // then
+      verify(batchRequest, Mockito.timeout(5_000)).execute(any());
+      assertThat(testController.getPosition()).isEqualTo(-1);
+
+      // when
+      bulkCanComplete.countDown();
+
+      // then
+      await("position is acknowledged once the bulk completed")
+          .untilAsserted(
+              () -> {
+                testController.runScheduledTasks(
+                    Duration.ofSeconds(configuration.getBulk().getDelay()));
+                assertThat(testController.getPosition()).isEqualTo(record.getPosition());
+              });
+    }
+
+    @Test
+    void shouldRetryFailedBulkBeforeFlushingNextOne() throws Exception {
+      // given
+      final var failingRequest = mock(BatchRequest.class, Answers.RETURNS_SELF);
+      final var retryRequest = mock(BatchRequest.class, Answers.RETURNS_SELF);
+      final var nextRequest = mock(BatchRequest.class, Answers.RETURNS_SELF);
+      doThrow(new PersistenceException("expected")).when(failingRequest).execute(any());
+      stubbedClientAdapterInUse.enqueueBatchRequests(failingRequest, retryRequest, nextRequest);
+      exporter.configure(testContext);
+      exporter.open(testController);
+
+      final var firstRecord = generateUserRecord();
+      exporter.export(firstRecord);
+      verify(failingRequest, Mockito.timeout(5_000)).execute(any());
+
+      // when
+      final var secondRecord = generateUserRecord();
+      exporter.export(secondRecord);
+
+      // then
+      final var inOrder = inOrder(failingRequest, retryRequest, nextRequest);
+      inOrder.verify(failingRequest).execute(any());
+      inOrder.verify(retryRequest).execute(any());
+      inOrder.verify(nextRequest, Mockito.timeout(5_000)).execute(any());
+      assertThat(testController.getPosition()).isGreaterThanOrEqualTo(firstRecord.getPosition());
+    }
+
+    @Test
+    void shouldRethrowIfRetryOfFailedBulkFails() throws Exception {
+      // given
+      final var failingRequest = mock(BatchRequest.class, Answers.RETURNS_SELF);
+      final var failingRetryRequest = mock(BatchRequest.class, Answers.RETURNS_SELF);
+      doThrow(new PersistenceException("expected")).when(failingRequest).execute(any());
+      doThrow(new PersistenceException("expected")).when(failingRetryRequest).execute(any());
+      stubbedClientAdapterInUse.enqueueBatchRequests(failingRequest, failingRetryRequest);
+      exporter.configure(testContext);
+      exporter.open(testController);
+
+      final var firstRecord = generateUserRecord();
+      exporter.export(firstRecord);
+      verify(failingRequest, Mockito.timeout(5_000)).execute(any());
+
+      // when - then
+      assertThatThrownBy(() -> exporter.export(generateUserRecord()))
+          .isInstanceOf(ExporterException.class);
+      assertThat(testController.getPosition()).isEqualTo(-1);
+    }
+
+    private Record<?> generateUserRecord() {
+      return factory.generateRecord(
+          ValueType.USER, r -> r.withBrokerVersion("8.8.0"), UserIntent.CREATED);
+    }
+  }
 }
@@ -134,4 +134,52 @@ class ExporterBatchWriterTest {
     verify(batchRequest).execute(any());
     assertThat(batchWriter.getBatchSize()).isEqualTo(0);
   }
+
+  @Test
+  void shouldDetachCachedEntitiesAsBatch() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    final String id = "1";
+    final TestExporterEntity entity = new TestExporterEntity().setId(id);
+    when(handler.handlesRecord(eq(record))).thenReturn(true);
+    when(handler.generateIds(eq(record))).thenReturn(List.of(id));
+    when(handler.createNewEntity(eq(id))).thenReturn(entity);
+    batchWriter.addRecord(record);
+
+    // when
+    final var batch = batchWriter.detach();
+
+    // then
+    assertThat(batch.size()).isEqualTo(1);
+    assertThat(batchWriter.getBatchSize()).isEqualTo(0);
+
+    final BatchRequest batchRequest = mock(BatchRequest.class);
+    batch.writeTo(batchRequest);
+    verify(handler).flush(entity, batchRequest);
+    verify(batchRequest, never()).execute(any());
+  }
+
+  @Test
+  void shouldWriteDetachedBatchAgainToNewRequest() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    final String id = "1";
+    final TestExporterEntity entity = new TestExporterEntity().setId(id);
+    when(handler.handlesRecord(eq(record))).thenReturn(true);
+    when(handler.generateIds(eq(record))).thenReturn(List.of(id));
+    when(handler.createNewEntity(eq(id))).thenReturn(entity);
+    batchWriter.addRecord(record);
+    final var batch = batchWriter.detach();
+    final BatchRequest failedRequest = mock(BatchRequest.class);
+    batch.writeTo(failedRequest);
+
+    // when
+    final BatchRequest retryRequest = mock(BatchRequest.class);
+    batch.writeTo(retryRequest);
+    batch.execute(retryRequest);
+
+    // then
+    verify(handler).flush(entity, retryRequest);
+    verify(retryRequest).execute(any());
+  }
 }
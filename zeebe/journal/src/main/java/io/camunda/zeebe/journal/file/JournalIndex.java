@@ -31,6 +31,24 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Restores an entry which was indexed before, e.g. from a {@link PersistedSegmentIndex}.
+   *
+   * @param index the index of the entry
+   * @param position the position of the entry within its segment
+   * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   */
+  void restore(long index, int position, long asqn);
+
+  /**
+   * Visits all indexed entries with an index in the given range in ascending order.
+   *
+   * @param fromIndex the lowest index to visit, inclusive
+   * @param toIndex the highest index to visit, inclusive
+   * @param consumer called with each indexed entry
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryConsumer consumer);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +107,15 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  @FunctionalInterface
+  interface IndexedEntryConsumer {
+
+    /**
+     * @param index the index of the entry
+     * @param position the position of the entry within its segment
+     * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+     */
+    void accept(long index, int position, long asqn);
+  }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The entries of the {@link JournalIndex} which belong to a sealed segment, persisted next to the
+ * segment when it is sealed. When the journal is opened again, they are restored into the index, so
+ * that looking up an index or an asqn in a sealed segment does not have to scan the segment from
+ * the start until a reader has indexed it again.
+ *
+ * <p>The file is only a cache: it is written without flushing, and a missing, corrupted or outdated
+ * file is ignored, in which case the segment is indexed lazily by its readers as before.
+ *
+ * <p>The file has the following layout, in little endian:
+ *
+ * <pre>
+ * | version (byte) | segment id (long) | first index (long) | last index (long) |
+ * | last position (int) | entry count (int) | entries (long index, int position, long asqn)... |
+ * | checksum (long) |
+ * </pre>
+ *
+ * where the checksum is the CRC32C of all preceding bytes.
+ */
+final class PersistedSegmentIndex {
+
+  static final byte VERSION = 1;
+
+  private static final Logger LOG = LoggerFactory.getLogger(PersistedSegmentIndex.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int HEADER_LENGTH =
+      Byte.BYTES + Long.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final String TMP_SUFFIX = ".tmp";
+
+  private final long segmentId;
+  private final long firstIndex;
+  private final long lastIndex;
+  private final int lastPosition;
+  private final ByteBuffer entries;
+
+  private PersistedSegmentIndex(
+      final long segmentId,
+      final long firstIndex,
+      final long lastIndex,
+      final int lastPosition,
+      final ByteBuffer entries) {
+    this.segmentId = segmentId;
+    this.firstIndex = firstIndex;
+    this.lastIndex = lastIndex;
+    this.lastPosition = lastPosition;
+    this.entries = entries;
+  }
+
+  /**
+   * Writes the entries of the given index which belong to the segment described by the given
+   * descriptor to the given file. Failures are logged and otherwise ignored, as the file is only an
+   * optimization.
+   */
+  static void write(final Path file, final SegmentDescriptor descriptor, final JournalIndex index) {
+    final var entries = new EntriesWriter();
+    index.forEach(descriptor.index(), descriptor.lastIndex(), entries);
+
+    final int checksumOffset = entries.length;
+    final var buffer = ByteBuffer.wrap(entries.content).order(ENDIANNESS);
+    buffer
+        .put(VERSION)
+        .putLong(descriptor.id())
+        .putLong(descriptor.index())
+        .putLong(descriptor.lastIndex())
+        .putInt(descriptor.lastPosition())
+        .putInt(entries.count);
+    buffer.putLong(checksumOffset, checksum(buffer, checksumOffset));
+
+    final var tmpFile = file.resolveSibling(file.getFileName() + TMP_SUFFIX);
+    try {
+      Files.write(tmpFile, Arrays.copyOf(entries.content, checksumOffset + Long.BYTES));
+      Files.move(
+          tmpFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to persist the index of segment {} to {}; it will be rebuilt lazily on restart",
+          descriptor.id(),
+          file,
+          e);
+      delete(tmpFile);
+    }
+  }
+
+  /**
+   * Reads the persisted index from the given file.
+   *
+   * @return the persisted index, or null if the file does not exist or is not a valid index file
+   */
+  static PersistedSegmentIndex read(final Path file) {
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(file);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      LOG.debug("Failed to read the persisted segment index {}, ignoring it", file, e);
+      return null;
+    }
+
+    final var buffer = ByteBuffer.wrap(content).order(ENDIANNESS);
+    if (content.length < HEADER_LENGTH + Long.BYTES || buffer.get(0) != VERSION) {
+      LOG.debug("Ignoring persisted segment index {} with unknown format", file);
+      return null;
+    }
+
+    final int checksumOffset = content.length - Long.BYTES;
+    final int entryCount = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    if (entryCount < 0
+        || (long) entryCount * ENTRY_LENGTH != checksumOffset - HEADER_LENGTH
+        || buffer.getLong(checksumOffset) != checksum(buffer, checksumOffset)) {
+      LOG.debug("Ignoring corrupted persisted segment index {}", file);
+      return null;
+    }
+
+    buffer.position(Byte.BYTES);
+    final long segmentId = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastPosition = buffer.getInt();
+    final var entries = buffer.position(HEADER_LENGTH).limit(checksumOffset).slice();
+    return new PersistedSegmentIndex(
+        segmentId, firstIndex, lastIndex, lastPosition, entries.order(ENDIANNESS));
+  }
+
+  static void delete(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.debug("Failed to delete persisted segment index {}", file, e);
+    }
+  }
+
+  /**
+   * Returns true if this index was persisted for the segment with the given descriptor, i.e. when
+   * the segment was sealed with the same last entry.
+   */
+  boolean describes(final SegmentDescriptor descriptor) {
+    return segmentId == descriptor.id()
+        && firstIndex == descriptor.index()
+        && lastIndex == descriptor.lastIndex()
+        && lastPosition == descriptor.lastPosition();
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  /** Restores all persisted entries into the given index. */
+  void restoreInto(final JournalIndex index) {
+    final var view = entries.duplicate().order(ENDIANNESS);
+    while (view.hasRemaining()) {
+      index.restore(view.getLong(), view.getInt(), view.getLong());
+    }
+  }
+
+  private static long checksum(final ByteBuffer buffer, final int length) {
+    final var crc = new CRC32C();
+    crc.update(buffer.array(), 0, length);
+    return crc.getValue();
+  }
+
+  /** Serializes the visited entries after the space reserved for the header. */
+  private static final class EntriesWriter implements JournalIndex.IndexedEntryConsumer {
+    private byte[] content = new byte[HEADER_LENGTH + ENTRY_LENGTH * 16 + Long.BYTES];
+    private int length = HEADER_LENGTH;
+    private int count;
+
+    @Override
+    public void accept(final long index, final int position, final long asqn) {
+      if (content.length - length < ENTRY_LENGTH + Long.BYTES) {
+        content = Arrays.copyOf(content, content.length * 2);
+      }
+
+      ByteBuffer.wrap(content, length, ENTRY_LENGTH)
+          .order(ENDIANNESS)
+          .putLong(index)
+          .putInt(position)
+          .putLong(asqn);
+      length += ENTRY_LENGTH;
+      count++;
+    }
+  }
+}
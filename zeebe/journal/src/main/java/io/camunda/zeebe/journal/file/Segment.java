@@ -272,6 +272,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
       return;
     }
 
+    // the persisted index is not needed by the remaining readers, and must not outlive the segment
+    PersistedSegmentIndex.delete(file.indexFile());
     final var target = file.getFileMarkedForDeletion();
     try {
       FileUtil.moveDurably(file.file().toPath(), target);
@@ -287,7 +289,34 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptorSerializer.writeTo(descriptor, buffer);
   }
 
+  /**
+   * Persists the index entries of this segment, such that they can be restored when the journal is
+   * opened again. Must be called after {@link #updateDescriptor()}, once the segment is sealed.
+   */
+  void persistIndex() {
+    PersistedSegmentIndex.write(file.indexFile(), descriptor, index);
+  }
+
+  /**
+   * Restores the index entries persisted when this segment was sealed, if they match the segment.
+   *
+   * @return true if the entries were restored, false otherwise
+   */
+  boolean restorePersistedIndex() {
+    final var persistedIndex = PersistedSegmentIndex.read(file.indexFile());
+    if (persistedIndex == null
+        || !persistedIndex.describes(descriptor)
+        || persistedIndex.lastIndex() != writer.getLastIndex()) {
+      return false;
+    }
+
+    persistedIndex.restoreInto(index);
+    return true;
+  }
+
   void resetLastEntryInDescriptor() {
+    // the persisted index may contain entries which are truncated now
+    PersistedSegmentIndex.delete(file.indexFile());
     descriptor = descriptor.reset();
     descriptorSerializer.writeTo(descriptor, buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
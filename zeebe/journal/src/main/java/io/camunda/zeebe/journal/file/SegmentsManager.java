@@ -384,6 +384,12 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        // the entries of a sealed segment were flushed before the journal was closed, so the index
+        // persisted when sealing it can be restored instead of rebuilding it lazily via the readers
+        if (segment.lastIndex() <= lastFlushedIndex && segment.restorePersistedIndex()) {
+          LOG.trace("Restored persisted index of segment {}", segment);
+        }
+
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -450,6 +456,7 @@ final class SegmentsManager implements AutoCloseable {
                 "Failed to delete log segment '%s' when handling corruption.", file.getName()),
             e);
       }
+      PersistedSegmentIndex.delete(new SegmentFile(file).indexFile());
     }
   }
 
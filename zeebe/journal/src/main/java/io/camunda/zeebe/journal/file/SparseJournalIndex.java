@@ -16,19 +16,35 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.StampedLock;
 
+/**
+ * A {@link JournalIndex} which indexes every n-th entry, where n is the given density. The entries
+ * are kept in sorted primitive arrays. Indexing an entry does not allocate (except for growing the
+ * arrays), and lookups are binary searches.
+ *
+ * <p>Entries are almost always indexed in ascending order by the writer, which makes inserting an
+ * append to the arrays. Readers may index entries out of order when seeking in a segment which was
+ * not indexed yet; these are inserted at their sorted slot. Compacting the index (see {@link
+ * #deleteUntil(long)}) only moves the start of the arrays, which are shifted down lazily when they
+ * need to grow.
+ *
+ * <p>The index is written by the journal writer and read concurrently by journal readers, so all
+ * accesses are guarded by a {@link StampedLock}. Lookups first try an optimistic read, which does
+ * not write to shared memory, and only fall back to a read lock on contention.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final StampedLock lock = new StampedLock();
+
+  // index -> position of the indexed entries
+  private final SortedLongTable positions = new SortedLongTable();
+  // index -> asqn of the indexed entries which have an asqn; as the asqn is increasing with the
+  // index, the values of this table are sorted as well and can be binary searched
+  private final SortedLongTable asqns = new SortedLongTable();
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +54,70 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
+      restore(index, position, indexedEntry.asqn());
+    }
+  }
+
+  @Override
+  public void restore(final long index, final int position, final long asqn) {
+    final long stamp = lock.writeLock();
+    try {
+      positions.put(index, position);
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+        asqns.put(index, asqn);
       }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    final long stamp = lock.readLock();
+    try {
+      final int end = positions.head + positions.size;
+      for (int slot = positions.ceilingSlotByKey(fromIndex);
+          slot < end && positions.keyAt(slot) <= toIndex;
+          slot++) {
+        final long index = positions.keyAt(slot);
+        final int asqnSlot = asqns.floorSlotByKey(index);
+        final long asqn =
+            asqnSlot >= 0 && asqns.keyAt(asqnSlot) == index
+                ? asqns.valueAt(asqnSlot)
+                : SegmentedJournal.ASQN_IGNORE;
+        consumer.accept(index, (int) positions.valueAt(slot), asqn);
+      }
+    } finally {
+      lock.unlockRead(stamp);
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    long stamp = lock.tryOptimisticRead();
+    long foundIndex = -1;
+    long foundPosition = -1;
+    if (stamp != 0) {
+      final int slot = positions.floorSlotByKey(index);
+      if (slot >= 0) {
+        foundIndex = positions.keyAt(slot);
+        foundPosition = positions.valueAt(slot);
+      }
+    }
+
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        final int slot = positions.floorSlotByKey(index);
+        foundIndex = slot >= 0 ? positions.keyAt(slot) : -1;
+        foundPosition = slot >= 0 ? positions.valueAt(slot) : -1;
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return foundIndex >= 0 ? new IndexInfo(foundIndex, (int) foundPosition) : null;
   }
 
   @Override
@@ -60,46 +127,61 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+    long stamp = lock.tryOptimisticRead();
+    long foundIndex = -1;
+    if (stamp != 0) {
+      foundIndex = findAsqn(asqn, indexUpperBound);
+    }
+
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        foundIndex = findAsqn(asqn, indexUpperBound);
+      } finally {
+        lock.unlockRead(stamp);
       }
     }
-    return null;
+
+    return foundIndex >= 0 ? foundIndex : null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final long stamp = lock.writeLock();
+    try {
+      positions.truncateAfterKey(index);
+      asqns.truncateAfterKey(index);
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    final long stamp = lock.writeLock();
+    try {
+      positions.truncateBeforeKey(index);
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+      // keep the last asqn entry before the given index, such that looking up an asqn which lies
+      // in between still returns the closest lower index
+      final int asqnSlot = asqns.floorSlotByKey(index);
+      if (asqnSlot >= 0) {
+        asqns.truncateBeforeKey(asqns.keyAt(asqnSlot));
+      }
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    final long stamp = lock.writeLock();
+    try {
+      positions.clear();
+      asqns.clear();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
@@ -111,4 +193,162 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  /** Must be called with a (possibly optimistic) read stamp. */
+  private long findAsqn(final long asqn, final long indexUpperBound) {
+    final int slot = asqns.floorSlotByValue(asqn);
+    if (slot < 0) {
+      return -1;
+    }
+
+    final long index = asqns.keyAt(slot);
+    if (index <= indexUpperBound) {
+      return index;
+    }
+
+    final int boundedSlot = asqns.floorSlotByKey(indexUpperBound);
+    return boundedSlot >= 0 ? asqns.keyAt(boundedSlot) : -1;
+  }
+
+  /**
+   * Two parallel arrays of keys and values, where the live entries are in the range {@code [head,
+   * head + size)} and the keys are sorted ascending. Not thread-safe; reads may happen
+   * optimistically while a writer modifies the table, so reads never throw on inconsistent state
+   * and the caller has to validate the result.
+   */
+  private static final class SortedLongTable {
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    void put(final long key, final long value) {
+      final int end = head + size;
+      if (size == 0 || keys[end - 1] < key) {
+        ensureCapacityForOneMore();
+        keys[head + size] = key;
+        values[head + size] = value;
+        size++;
+        return;
+      }
+
+      final int slot = binarySearch(keys, head, end, key);
+      if (slot >= 0) {
+        values[slot] = value;
+        return;
+      }
+
+      // growing may move the live entries to the front, so remember the slot relative to the head
+      final int insertOffset = -(slot + 1) - head;
+      ensureCapacityForOneMore();
+      final int insertAt = head + insertOffset;
+      final int entriesToShift = size - insertOffset;
+      System.arraycopy(keys, insertAt, keys, insertAt + 1, entriesToShift);
+      System.arraycopy(values, insertAt, values, insertAt + 1, entriesToShift);
+      keys[insertAt] = key;
+      values[insertAt] = value;
+      size++;
+    }
+
+    int floorSlotByKey(final long key) {
+      return floorSlot(keys, key);
+    }
+
+    /** Returns the slot of the first entry with a key greater than or equal to the given key. */
+    int ceilingSlotByKey(final long key) {
+      final int slot = binarySearch(keys, head, head + size, key);
+      return slot >= 0 ? slot : -(slot + 1);
+    }
+
+    int floorSlotByValue(final long value) {
+      return floorSlot(values, value);
+    }
+
+    long keyAt(final int slot) {
+      final long[] currentKeys = keys;
+      return slot < currentKeys.length ? currentKeys[slot] : -1;
+    }
+
+    long valueAt(final int slot) {
+      final long[] currentValues = values;
+      return slot < currentValues.length ? currentValues[slot] : -1;
+    }
+
+    /** Removes all entries with a key greater than the given key. */
+    void truncateAfterKey(final long key) {
+      final int slot = floorSlotByKey(key);
+      size = slot < 0 ? 0 : slot - head + 1;
+    }
+
+    /** Removes all entries with a key lower than the given key. */
+    void truncateBeforeKey(final long key) {
+      final int end = head + size;
+      final int slot = binarySearch(keys, head, end, key);
+      final int firstRetained = slot >= 0 ? slot : -(slot + 1);
+      size = end - firstRetained;
+      head = size == 0 ? 0 : firstRetained;
+    }
+
+    void clear() {
+      head = 0;
+      size = 0;
+    }
+
+    private int floorSlot(final long[] sorted, final long searchKey) {
+      // read the bounds once and clamp them, as this may run concurrently to a writer
+      final int from = Math.max(0, head);
+      final int to = Math.min(from + size, sorted.length);
+      if (to <= from) {
+        return -1;
+      }
+
+      final int slot = binarySearch(sorted, from, to, searchKey);
+      final int floor = slot >= 0 ? slot : -(slot + 1) - 1;
+      return floor >= from ? floor : -1;
+    }
+
+    private void ensureCapacityForOneMore() {
+      if (head + size < keys.length) {
+        return;
+      }
+
+      if (head > 0 && size < keys.length / 2) {
+        // enough space was freed by compaction, shift the live entries to the front
+        System.arraycopy(keys, head, keys, 0, size);
+        System.arraycopy(values, head, values, 0, size);
+      } else {
+        final int newCapacity = Math.max(INITIAL_CAPACITY, size * 2);
+        final long[] newKeys = new long[newCapacity];
+        final long[] newValues = new long[newCapacity];
+        System.arraycopy(keys, head, newKeys, 0, size);
+        System.arraycopy(values, head, newValues, 0, size);
+        keys = newKeys;
+        values = newValues;
+      }
+      head = 0;
+    }
+
+    /**
+     * Same contract as {@link java.util.Arrays#binarySearch(long[], int, int, long)}, which is not
+     * used as it validates the range and would throw on an inconsistent optimistic read.
+     */
+    private static int binarySearch(
+        final long[] sorted, final int fromInclusive, final int toExclusive, final long key) {
+      int low = fromInclusive;
+      int high = toExclusive - 1;
+
+      while (low <= high) {
+        final int mid = (low + high) >>> 1;
+        final long midValue = sorted[mid];
+        if (midValue < key) {
+          low = mid + 1;
+        } else if (midValue > key) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -(low + 1);
+    }
+  }
 }
@@ -16,6 +16,7 @@ import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -293,6 +294,78 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldRestorePersistedIndexOfSealedSegments() throws Exception {
+    // given - segments of 3 entries, where only the last entry of a segment is indexed on load
+    final var factory = new TestJournalFactory("test", 3);
+    try (final var journal = factory.journal(factory.segmentsManager(directory))) {
+      for (int asqn = 1; asqn <= 7; asqn++) {
+        journal.append(asqn, factory.entry());
+      }
+      journal.flush();
+    }
+
+    // when
+    final var index = new SparseJournalIndex(1);
+    segments =
+        factory.segmentsManager(directory, factory.segmentLoader(), factory.metaStore(), index);
+    segments.open();
+
+    // then
+    assertThat(index.lookup(1)).extracting(IndexInfo::index).isEqualTo(1L);
+    assertThat(index.lookup(5)).extracting(IndexInfo::index).isEqualTo(5L);
+    assertThat(index.lookupAsqn(4)).isEqualTo(4L);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedPersistedIndex() throws Exception {
+    // given
+    final var factory = new TestJournalFactory("test", 3);
+    final Path indexFile;
+    try (final var journal = factory.journal(factory.segmentsManager(directory))) {
+      for (int asqn = 1; asqn <= 4; asqn++) {
+        journal.append(asqn, factory.entry());
+      }
+      journal.flush();
+      indexFile = journal.getFirstSegment().file().indexFile();
+    }
+    final var content = Files.readAllBytes(indexFile);
+    content[content.length / 2] ^= 1;
+    Files.write(indexFile, content);
+
+    // when
+    final var index = new SparseJournalIndex(1);
+    segments =
+        factory.segmentsManager(directory, factory.segmentLoader(), factory.metaStore(), index);
+    segments.open();
+
+    // then - the segment is indexed lazily again
+    assertThat(index.lookup(2)).isNull();
+    assertThat(segments.getFirstSegment().lastIndex()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldDeletePersistedIndexOnTruncation() {
+    // given
+    final var factory = new TestJournalFactory("test", 3);
+    try (final var journal = factory.journal(factory.segmentsManager(directory))) {
+      for (int asqn = 1; asqn <= 7; asqn++) {
+        journal.append(asqn, factory.entry());
+      }
+      final var firstIndexFile = journal.getFirstSegment().file().indexFile();
+      final var secondIndexFile = journal.getSegment(4).file().indexFile();
+      assertThat(firstIndexFile).exists();
+      assertThat(secondIndexFile).exists();
+
+      // when
+      journal.deleteAfter(2);
+
+      // then
+      assertThat(firstIndexFile).doesNotExist();
+      assertThat(secondIndexFile).doesNotExist();
+    }
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
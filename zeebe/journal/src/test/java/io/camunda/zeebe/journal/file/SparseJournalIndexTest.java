@@ -22,6 +22,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /** Sparse journal index test. */
@@ -265,4 +267,84 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldFindIndexedOutOfOrder() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when - a reader indexes a skipped entry
+    index.index(asJournalRecord(10, 100), 20);
+
+    // then
+    assertEquals(10, index.lookup(14).index());
+    assertEquals(20, index.lookup(14).position());
+    assertEquals(15, index.lookup(15).index());
+    assertEquals(10, index.lookupAsqn(149));
+    assertEquals(10, index.lookupAsqn(150, 14));
+  }
+
+  @Test
+  void shouldFindIndexAfterCompactingAndGrowing() {
+    // given - every index is added
+    final JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteUntil(900);
+    for (int i = 1_001; i <= 2_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertNull(index.lookup(899));
+    assertEquals(900, index.lookup(900).index());
+    assertEquals(1_500, index.lookup(1_500).index());
+    assertEquals(3_000, index.lookup(1_500).position());
+    assertEquals(2_000, index.lookup(Long.MAX_VALUE).index());
+    assertEquals(1_500, index.lookupAsqn(15_005));
+  }
+
+  @Test
+  void shouldVisitIndexedEntriesInRange() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    for (int i = 1; i <= 25; i++) {
+      index.index(asJournalRecord(i, i % 10 == 0 ? SegmentedJournal.ASQN_IGNORE : i * 10L), i * 2);
+    }
+    final List<List<Long>> visited = new ArrayList<>();
+
+    // when
+    index.forEach(6, 20, (i, position, asqn) -> visited.add(List.of(i, (long) position, asqn)));
+
+    // then
+    assertThat(visited)
+        .containsExactly(
+            List.of(10L, 20L, SegmentedJournal.ASQN_IGNORE),
+            List.of(15L, 30L, 150L),
+            List.of(20L, 40L, SegmentedJournal.ASQN_IGNORE));
+  }
+
+  @Test
+  void shouldFindRestoredEntries() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when - restored out of order, below the already indexed entry
+    index.restore(5, 10, 50);
+    index.restore(10, 20, SegmentedJournal.ASQN_IGNORE);
+
+    // then
+    assertEquals(5, index.lookup(9).index());
+    assertEquals(10, index.lookup(9).position());
+    assertEquals(20, index.lookup(14).position());
+    assertEquals(5, index.lookupAsqn(149));
+    assertEquals(15, index.lookupAsqn(150));
+    assertThat(index.hasIndexed(12)).isTrue();
+  }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.List;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Multiple sequenced batches with consecutive positions, which are appended to the log storage as a
+ * single block. The batches are serialized back to back, which is the same framing as if all
+ * entries were part of one batch.
+ *
+ * <p>The storage only notifies about the highest position of the block, while the delegate listener
+ * expects to be notified about the highest position of every batch, e.g. to track the in-flight
+ * appends in the flow control. This is translated here.
+ */
+final class CombinedAppend implements BufferWriter, AppendListener {
+  private final List<SequencedBatch> batches;
+  private final AppendListener delegate;
+  private final int length;
+
+  CombinedAppend(
+      final List<SequencedBatch> batches, final int length, final AppendListener delegate) {
+    this.batches = batches;
+    this.length = length;
+    this.delegate = delegate;
+  }
+
+  long lowestPosition() {
+    return batches.getFirst().firstPosition();
+  }
+
+  long highestPosition() {
+    return highestPosition(batches.getLast());
+  }
+
+  @Override
+  public int getLength() {
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    int currentOffset = offset;
+    for (final var batch : batches) {
+      batch.write(buffer, currentOffset);
+      currentOffset += batch.length();
+    }
+  }
+
+  @Override
+  public void onWrite(final long index, final long highestPosition) {
+    for (final var batch : batches) {
+      delegate.onWrite(index, highestPosition(batch));
+    }
+  }
+
+  @Override
+  public void onCommit(final long index, final long highestPosition) {
+    for (final var batch : batches) {
+      delegate.onCommit(index, highestPosition(batch));
+    }
+  }
+
+  private static long highestPosition(final SequencedBatch batch) {
+    return batch.firstPosition() + batch.entries().size() - 1;
+  }
+}
@@ -12,7 +12,9 @@ import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.InstantSource;
 import java.util.Objects;
 
@@ -25,6 +27,9 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private InstantSource clock;
   private Limit requestLimit;
   private RateLimit writeRateLimit;
+  private Duration maxAppendLinger = Duration.ZERO;
+  private int appendLingerFlushThreshold = Integer.MAX_VALUE;
+  private ConcurrencyControl lingerScheduler;
   private MeterRegistry meterRegistry;
 
   @Override
@@ -69,6 +74,24 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withMaxAppendLinger(final Duration maxAppendLinger) {
+    this.maxAppendLinger = maxAppendLinger;
+    return this;
+  }
+
+  @Override
+  public LogStreamBuilder withAppendLingerFlushThreshold(final int flushThreshold) {
+    appendLingerFlushThreshold = flushThreshold;
+    return this;
+  }
+
+  @Override
+  public LogStreamBuilder withLingerScheduler(final ConcurrencyControl lingerScheduler) {
+    this.lingerScheduler = lingerScheduler;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withMeterRegistry(final MeterRegistry meterRegistry) {
     this.meterRegistry = meterRegistry;
@@ -87,6 +110,9 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
         clock,
         requestLimit,
         writeRateLimit,
+        maxAppendLinger,
+        appendLingerFlushThreshold,
+        lingerScheduler,
         meterRegistry);
   }
 
@@ -94,6 +120,28 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     Objects.requireNonNull(logStorage, "Must specify a log storage");
     Objects.requireNonNull(clock, "Must specify a clock source");
     Objects.requireNonNull(meterRegistry, "Must specify a meter registry");
+    Objects.requireNonNull(maxAppendLinger, "Must specify a maximum append linger");
+
+    if (maxAppendLinger.isNegative()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected maximum append linger to be zero or positive, but was '%s'",
+              maxAppendLinger));
+    }
+
+    if (maxAppendLinger.isPositive() && lingerScheduler == null) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected a linger scheduler to be specified, as the maximum append linger is '%s'",
+              maxAppendLinger));
+    }
+
+    if (appendLingerFlushThreshold <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected append linger flush threshold to be positive, but was '%d'",
+              appendLingerFlushThreshold));
+    }
 
     if (maxFragmentSize < MINIMUM_FRAGMENT_SIZE) {
       throw new IllegalArgumentException(
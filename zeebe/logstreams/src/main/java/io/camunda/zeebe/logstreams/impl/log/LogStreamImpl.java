@@ -18,7 +18,9 @@ import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorage.CommitListener;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.InstantSource;
 import java.util.Collection;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -46,6 +48,9 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final InstantSource clock,
       final Limit requestLimit,
       final RateLimit writeRateLimit,
+      final Duration maxAppendLinger,
+      final int appendLingerFlushThreshold,
+      final ConcurrencyControl lingerScheduler,
       final MeterRegistry meterRegistry) {
     this.logName = logName;
 
@@ -60,7 +65,10 @@ public final class LogStreamImpl implements LogStream, CommitListener {
             maxFragmentSize,
             clock,
             new SequencerMetrics(meterRegistry),
-            flowControl);
+            flowControl,
+            maxAppendLinger,
+            appendLingerFlushThreshold,
+            lingerScheduler);
     logStorage.addCommitListener(this);
   }
 
@@ -69,6 +77,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     closed = true;
     LOG.debug("Closing {} with {} readers", logName, readers.size());
     readers.forEach(LogStreamReader::close);
+    sequencer.stopLingering();
     logStorage.removeCommitListener(this);
   }
 
@@ -19,11 +19,15 @@ import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.util.Either;
 import java.io.Closeable;
+import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,19 +36,48 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Optionally, the sequencer can linger before appending, to combine concurrent writes into one
+ * larger append. This trades a bounded amount of latency for fewer, larger entries in the log
+ * storage, which have to be flushed and replicated. The linger is adaptive: the sequencer only
+ * lingers while writes arrive frequently enough that others are expected to follow shortly, and
+ * lingers for a few of the recent intervals between writes, at most for the configured maximum.
+ * Pending writes are appended once they reach the flush threshold, or would exceed the maximum
+ * fragment size when combined with the next write. Otherwise, they are appended by a timer on the
+ * given linger scheduler, usually the actor of the partition, which has a millisecond resolution.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+
+  /** The number of write intervals to linger for, i.e. the expected number of combined writes. */
+  private static final int LINGER_WRITES = 4;
+
+  private static final long MIN_LINGER_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
   private final int maxFragmentSize;
 
   private volatile long position;
   private volatile boolean isClosed = false;
+  private volatile boolean isLingering;
   private final ReentrantLock lock = new ReentrantLock();
   private final LogStorage logStorage;
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
   private final FlowControl flowControl;
 
+  private final long maxLingerNanos;
+  private final int lingerFlushThreshold;
+  private final ConcurrencyControl lingerScheduler;
+
+  // guarded by the lock; only used if lingering is enabled
+  private final List<SequencedBatch> pendingBatches = new ArrayList<>();
+  private int pendingLength;
+  private long pendingSinceNanos;
+  private long flushCount;
+  private boolean isFlushScheduled;
+  private long lastWriteNanos;
+  private long averageWriteIntervalNanos;
+
   Sequencer(
       final LogStorage logStorage,
       final long initialPosition,
@@ -52,6 +85,36 @@ final class Sequencer implements LogStreamWriter, Closeable {
       final InstantSource clock,
       final SequencerMetrics sequencerMetrics,
       final FlowControl flowControl) {
+    this(
+        logStorage,
+        initialPosition,
+        maxFragmentSize,
+        clock,
+        sequencerMetrics,
+        flowControl,
+        Duration.ZERO,
+        maxFragmentSize,
+        null);
+  }
+
+  /**
+   * @param maxLinger the maximum time to linger before appending pending writes; lingering is
+   *     disabled if it is zero
+   * @param lingerFlushThreshold the length in bytes at which pending writes are appended without
+   *     waiting for the linger to expire
+   * @param lingerScheduler the actor on which the timers to append pending writes are scheduled;
+   *     must be given if lingering is enabled
+   */
+  Sequencer(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int maxFragmentSize,
+      final InstantSource clock,
+      final SequencerMetrics sequencerMetrics,
+      final FlowControl flowControl,
+      final Duration maxLinger,
+      final int lingerFlushThreshold,
+      final ConcurrencyControl lingerScheduler) {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
     this.logStorage = logStorage;
     this.clock = Objects.requireNonNull(clock);
@@ -60,6 +123,15 @@ final class Sequencer implements LogStreamWriter, Closeable {
     this.sequencerMetrics =
         Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
     this.flowControl = flowControl;
+    maxLingerNanos = maxLinger.toNanos();
+    this.lingerFlushThreshold = Math.min(lingerFlushThreshold, maxFragmentSize);
+    averageWriteIntervalNanos = maxLingerNanos;
+    lastWriteNanos = System.nanoTime();
+    isLingering = maxLingerNanos > 0;
+    this.lingerScheduler =
+        isLingering
+            ? Objects.requireNonNull(lingerScheduler, "must specify a linger scheduler")
+            : null;
   }
 
   /** {@inheritDoc} */
@@ -115,7 +187,11 @@ final class Sequencer implements LogStreamWriter, Closeable {
           new SequencedBatch(
               clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
       flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
+      if (lingerScheduler == null) {
+        logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
+      } else {
+        appendOrLinger(sequencedBatch);
+      }
       position = currentPosition + batchSize;
       return Either.right(highestPosition);
     } finally {
@@ -133,6 +209,113 @@ final class Sequencer implements LogStreamWriter, Closeable {
   public void close() {
     LOG.info("Closing sequencer for writing");
     isClosed = true;
+    stopLingering();
+  }
+
+  /**
+   * Appends all pending writes and stops lingering, such that later writes are appended right away.
+   * Writes which were already accepted must be appended, as their positions were handed out.
+   */
+  void stopLingering() {
+    if (lingerScheduler == null) {
+      return;
+    }
+
+    isLingering = false;
+    lock.lock();
+    try {
+      flushPending(System.nanoTime());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void appendOrLinger(final SequencedBatch batch) {
+    final long now = System.nanoTime();
+    final long lingerNanos = nextLingerNanos(now);
+    if (pendingLength + batch.length() > maxFragmentSize) {
+      flushPending(now);
+    }
+
+    if (pendingBatches.isEmpty()) {
+      pendingSinceNanos = now;
+    }
+    pendingBatches.add(batch);
+    pendingLength += batch.length();
+
+    // writes which race with stopping are appended right away, the scheduler may be closed
+    if (lingerNanos == 0 || pendingLength >= lingerFlushThreshold || !isLingering) {
+      flushPending(now);
+    } else if (!isFlushScheduled) {
+      isFlushScheduled = true;
+      final long scheduledFlush = flushCount;
+      final var linger = Duration.ofNanos(lingerNanos);
+      // timers can only be scheduled from within the actor, while writes come from other actors
+      lingerScheduler.run(
+          () -> lingerScheduler.schedule(linger, () -> flushLingering(scheduledFlush)));
+    }
+  }
+
+  /**
+   * Updates the moving average of the intervals between writes, and derives from it how long a new
+   * write should linger. Intervals are capped at the maximum linger, such that a single long pause
+   * doesn't disable lingering for a long time once writes are frequent again.
+   *
+   * @return the time to linger in nanoseconds, or zero if the write should be appended right away
+   */
+  private long nextLingerNanos(final long now) {
+    final long interval = Math.min(now - lastWriteNanos, maxLingerNanos);
+    lastWriteNanos = now;
+    averageWriteIntervalNanos += (interval - averageWriteIntervalNanos) / LINGER_WRITES;
+
+    if (averageWriteIntervalNanos * 2 > maxLingerNanos) {
+      // less than two more writes are expected within the linger, it's not worth the latency
+      return 0;
+    }
+    return Math.clamp(
+        averageWriteIntervalNanos * LINGER_WRITES,
+        Math.min(MIN_LINGER_NANOS, maxLingerNanos),
+        maxLingerNanos);
+  }
+
+  private void flushLingering(final long scheduledFlush) {
+    lock.lock();
+    try {
+      // the pending writes may have been flushed already, and new ones started to linger since
+      if (flushCount == scheduledFlush) {
+        flushPending(System.nanoTime());
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void flushPending(final long now) {
+    // a scheduled timer is not canceled, it won't flush anything as the flush count changes
+    isFlushScheduled = false;
+    if (pendingBatches.isEmpty()) {
+      return;
+    }
+
+    final int batchCount = pendingBatches.size();
+    if (batchCount == 1) {
+      final var batch = pendingBatches.getFirst();
+      logStorage.append(
+          batch.firstPosition(),
+          batch.firstPosition() + batch.entries().size() - 1,
+          batch,
+          flowControl);
+    } else {
+      final var append =
+          new CombinedAppend(List.copyOf(pendingBatches), pendingLength, flowControl);
+      logStorage.append(append.lowestPosition(), append.highestPosition(), append, append);
+    }
+
+    sequencerMetrics.observeLingerTime(now - pendingSinceNanos);
+    sequencerMetrics.observeAppendBatchCount(batchCount);
+    pendingBatches.clear();
+    pendingLength = 0;
+    flushCount++;
   }
 
   private static boolean isEntryValid(final LogAppendEntry entry) {
@@ -7,8 +7,10 @@
  */
 package io.camunda.zeebe.logstreams.impl.log;
 
+import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.APPEND_BATCH_COUNT;
 import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.BATCH_LENGTH_BYTES;
 import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.BATCH_SIZE;
+import static io.camunda.zeebe.logstreams.impl.log.SequencerMetrics.SequencerMetricsDoc.LINGER_TIME;
 
 import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
@@ -16,10 +18,15 @@ import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Meter.Type;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 final class SequencerMetrics {
   private final DistributionSummary batchSize;
   private final DistributionSummary batchLengthBytes;
+  private final DistributionSummary appendBatchCount;
+  private final Timer lingerTime;
 
   SequencerMetrics(final MeterRegistry meterRegistry) {
     batchSize =
@@ -32,6 +39,16 @@ final class SequencerMetrics {
             .description(BATCH_LENGTH_BYTES.getDescription())
             .serviceLevelObjectives(BATCH_LENGTH_BYTES.getDistributionSLOs())
             .register(meterRegistry);
+    appendBatchCount =
+        DistributionSummary.builder(APPEND_BATCH_COUNT.getName())
+            .description(APPEND_BATCH_COUNT.getDescription())
+            .serviceLevelObjectives(APPEND_BATCH_COUNT.getDistributionSLOs())
+            .register(meterRegistry);
+    lingerTime =
+        Timer.builder(LINGER_TIME.getName())
+            .description(LINGER_TIME.getDescription())
+            .serviceLevelObjectives(LINGER_TIME.getTimerSLOs())
+            .register(meterRegistry);
   }
 
   void observeBatchSize(final int size) {
@@ -43,6 +60,14 @@ final class SequencerMetrics {
     batchLengthBytes.record(batchLengthKiloBytes);
   }
 
+  void observeAppendBatchCount(final int count) {
+    appendBatchCount.record(count);
+  }
+
+  void observeLingerTime(final long lingerNanos) {
+    lingerTime.record(lingerNanos, TimeUnit.NANOSECONDS);
+  }
+
   @SuppressWarnings("NullableProblems")
   public enum SequencerMetricsDoc implements ExtendedMeterDocumentation {
     /** Histogram over the number of entries in each batch that is appended */
@@ -104,6 +129,78 @@ final class SequencerMetrics {
         return BUCKETS;
       }
 
+      @Override
+      public KeyName[] getAdditionalKeyNames() {
+        return PartitionKeyNames.values();
+      }
+    },
+
+    /** Histogram over the number of batches which are combined into one append, when lingering */
+    APPEND_BATCH_COUNT {
+      private static final double[] BUCKETS = {1, 2, 3, 5, 10, 25, 50, 100, 250, 500};
+
+      @Override
+      public String getDescription() {
+        return "Histogram over the number of batches which are combined into one append, when"
+            + " lingering";
+      }
+
+      @Override
+      public String getName() {
+        return "zeebe.sequencer.append.batch.count";
+      }
+
+      @Override
+      public Type getType() {
+        return Type.DISTRIBUTION_SUMMARY;
+      }
+
+      @Override
+      public double[] getDistributionSLOs() {
+        return BUCKETS;
+      }
+
+      @Override
+      public KeyName[] getAdditionalKeyNames() {
+        return PartitionKeyNames.values();
+      }
+    },
+
+    /** Time the first batch of an append waited for other batches to be combined with */
+    LINGER_TIME {
+      private static final Duration[] BUCKETS = {
+        Duration.ofNanos(10_000),
+        Duration.ofNanos(50_000),
+        Duration.ofNanos(100_000),
+        Duration.ofNanos(250_000),
+        Duration.ofNanos(500_000),
+        Duration.ofMillis(1),
+        Duration.ofMillis(2),
+        Duration.ofMillis(5),
+        Duration.ofMillis(10),
+        Duration.ofMillis(50)
+      };
+
+      @Override
+      public String getDescription() {
+        return "Time the first batch of an append waited for other batches to be combined with";
+      }
+
+      @Override
+      public String getName() {
+        return "zeebe.sequencer.linger.time";
+      }
+
+      @Override
+      public Type getType() {
+        return Type.TIMER;
+      }
+
+      @Override
+      public Duration[] getTimerSLOs() {
+        return BUCKETS;
+      }
+
       @Override
       public KeyName[] getAdditionalKeyNames() {
         return PartitionKeyNames.values();
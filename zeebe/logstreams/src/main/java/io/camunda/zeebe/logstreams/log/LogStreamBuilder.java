@@ -10,7 +10,9 @@ package io.camunda.zeebe.logstreams.log;
 import com.netflix.concurrency.limits.Limit;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.InstantSource;
 
 /** Builder pattern for the {@link LogStream} */
@@ -57,6 +59,37 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
+  /**
+   * The maximum time to linger before appending written batches to the log storage, in order to
+   * combine concurrent writes into a single append. The actual linger adapts to the rate of writes,
+   * and writes are appended right away if they are infrequent. Lingering is disabled if this is
+   * zero, which is the default.
+   *
+   * @param maxAppendLinger the maximum time to linger
+   * @return this builder
+   */
+  LogStreamBuilder withMaxAppendLinger(Duration maxAppendLinger);
+
+  /**
+   * The combined length, in bytes, at which lingering batches are appended without waiting for the
+   * linger to expire. It is capped at the maximum fragment size, which is also the default.
+   *
+   * @param flushThreshold the length in bytes at which lingering batches are appended
+   * @return this builder
+   */
+  LogStreamBuilder withAppendLingerFlushThreshold(int flushThreshold);
+
+  /**
+   * The actor on which the timers to append lingering batches are scheduled, usually the actor of
+   * the partition. It is required if lingering is enabled via {@link
+   * #withMaxAppendLinger(Duration)}, and bounds the resolution of the linger to the millisecond
+   * resolution of actor timers.
+   *
+   * @param lingerScheduler the actor to schedule the linger timers on
+   * @return this builder
+   */
+  LogStreamBuilder withLingerScheduler(ConcurrencyControl lingerScheduler);
+
   /**
    * Sets the meter registry to collect metrics on.
    *
@@ -8,24 +8,35 @@
 package io.camunda.zeebe.logstreams.impl.log;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
 import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.test.util.asserts.EitherAssert;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
+import org.agrona.CloseHelper;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -247,6 +258,139 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void combinesLingeringWritesIntoOneAppend() {
+    // given
+    final var entry = TestEntry.ofDefaults();
+    final int batchLength = SequencedBatchSerializer.calculateBatchLength(List.of(entry));
+    final var logStorage = new ListLogStorage();
+    final var appendedPositions = new CopyOnWriteArrayList<Long>();
+    logStorage.setPositionListener(appendedPositions::add);
+    final var sequencer =
+        newLingeringSequencer(
+            logStorage,
+            Duration.ofHours(1),
+            4 * batchLength,
+            Mockito.mock(ConcurrencyControl.class));
+
+    // when
+    for (int i = 1; i <= 18; i++) {
+      sequencer.tryWrite(WriteContext.internal(), List.of(entry), i * 100L);
+    }
+
+    // then -- the first writes are appended right away, until writes are known to be frequent
+    Assertions.assertThat(appendedPositions).containsExactly(1L, 2L, 6L, 10L, 14L, 18L);
+    final var events = new ArrayList<long[]>();
+    try (final var reader = new LogStreamReaderImpl(logStorage.newReader())) {
+      reader.seekToFirstEvent();
+      reader.forEachRemaining(
+          event -> events.add(new long[] {event.getPosition(), event.getSourceEventPosition()}));
+    }
+    Assertions.assertThat(events)
+        .hasSize(18)
+        .allSatisfy(event -> Assertions.assertThat(event[1]).isEqualTo(event[0] * 100));
+  }
+
+  @Test
+  void appendsLingeringWritesAfterLinger() {
+    // given
+    final var logStorage = new ListLogStorage();
+    final var appendedPositions = new CopyOnWriteArrayList<Long>();
+    logStorage.setPositionListener(appendedPositions::add);
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+    final var actor = Actor.newActor().name("linger").build();
+    scheduler.submitActor(actor).join();
+    final var sequencer =
+        newLingeringSequencer(logStorage, Duration.ofMillis(100), Integer.MAX_VALUE, actor);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+    }
+
+    // then
+    Awaitility.await("until all writes are appended")
+        .untilAsserted(() -> Assertions.assertThat(appendedPositions).endsWith(10L));
+    Assertions.assertThat(appendedPositions).hasSizeLessThan(10);
+    CloseHelper.quietCloseAll(sequencer, scheduler);
+  }
+
+  @Test
+  void appendsLingeringWritesOnClose() {
+    // given
+    final var logStorage = new ListLogStorage();
+    final var appendedPositions = new CopyOnWriteArrayList<Long>();
+    logStorage.setPositionListener(appendedPositions::add);
+    final var sequencer =
+        newLingeringSequencer(
+            logStorage,
+            Duration.ofHours(1),
+            Integer.MAX_VALUE,
+            Mockito.mock(ConcurrencyControl.class));
+    for (int i = 0; i < 10; i++) {
+      sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+    }
+
+    // when
+    sequencer.close();
+
+    // then
+    Assertions.assertThat(appendedPositions).endsWith(10L);
+  }
+
+  @Test
+  void notifiesFlowControlAboutEveryCombinedBatch() {
+    // given
+    final var flowControl =
+        Mockito.spy(new FlowControl(new LogStreamMetrics(new SimpleMeterRegistry())));
+    final var sequencer =
+        new Sequencer(
+            new ListLogStorage(),
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            flowControl,
+            Duration.ofHours(1),
+            Integer.MAX_VALUE,
+            Mockito.mock(ConcurrencyControl.class));
+    final var entries = List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    for (int i = 0; i < 5; i++) {
+      sequencer.tryWrite(WriteContext.internal(), entries);
+    }
+
+    // when
+    sequencer.close();
+
+    // then
+    for (long highestPosition = 2; highestPosition <= 10; highestPosition += 2) {
+      Mockito.verify(flowControl).onWrite(anyLong(), eq(highestPosition));
+      Mockito.verify(flowControl).onCommit(anyLong(), eq(highestPosition));
+    }
+  }
+
+  private Sequencer newLingeringSequencer(
+      final LogStorage logStorage,
+      final Duration maxLinger,
+      final int flushThreshold,
+      final ConcurrencyControl lingerScheduler) {
+    return new Sequencer(
+        logStorage,
+        1,
+        4 * 1024 * 1024,
+        InstantSource.system(),
+        new SequencerMetrics(new SimpleMeterRegistry()),
+        new FlowControl(new LogStreamMetrics(new SimpleMeterRegistry())),
+        maxLinger,
+        flushThreshold,
+        lingerScheduler);
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.value;
+
+import io.camunda.zeebe.msgpack.property.BaseProperty;
+import java.util.Arrays;
+import java.util.List;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+
+/**
+ * A perfect hash table from the keys of the declared properties of an {@link ObjectValue} to their
+ * position in the declaration list. The table is built once for a fixed set of keys, by searching
+ * for a seed (and if necessary a larger table) for which no two keys map to the same slot. A lookup
+ * then hashes the key bytes once and compares against at most one declared key.
+ */
+final class DeclaredPropertyIndex {
+  static final int NOT_FOUND = -1;
+
+  private static final int MAX_SEEDS_PER_SIZE = 64;
+  private static final int MAX_TABLE_SIZE_FACTOR = 16;
+
+  private final int[] slots;
+  private final int mask;
+  private final int seed;
+
+  private DeclaredPropertyIndex(final int[] slots, final int seed) {
+    this.slots = slots;
+    mask = slots.length - 1;
+    this.seed = seed;
+  }
+
+  static DeclaredPropertyIndex of(final List<? extends BaseProperty<?>> properties) {
+    final int size = properties.size();
+    final int[] keyHashes = new int[size];
+    for (int i = 0; i < size; i++) {
+      final StringValue key = properties.get(i).getKey();
+      keyHashes[i] = hash(key.getValue(), 0, key.getLength());
+    }
+
+    final int minTableSize = BitUtil.findNextPositivePowerOfTwo(Math.max(2, size * 2));
+    for (int tableSize = minTableSize;
+        tableSize <= minTableSize * MAX_TABLE_SIZE_FACTOR;
+        tableSize <<= 1) {
+      final int[] slots = new int[tableSize];
+      for (int seed = 1; seed <= MAX_SEEDS_PER_SIZE; seed++) {
+        if (tryFill(slots, keyHashes, seed)) {
+          return new DeclaredPropertyIndex(slots, seed);
+        }
+      }
+    }
+
+    // only possible with duplicate keys or colliding hashes; the caller falls back to a scan
+    return null;
+  }
+
+  /**
+   * Returns the position of the declared property which may have the given key. The caller still
+   * has to compare the key of the property at that position, as keys which are not declared map to
+   * arbitrary slots.
+   */
+  int lookup(final DirectBuffer buffer, final int offset, final int length) {
+    return slots[slot(hash(buffer, offset, length), seed, mask)] - 1;
+  }
+
+  private static boolean tryFill(final int[] slots, final int[] keyHashes, final int seed) {
+    Arrays.fill(slots, 0);
+    final int mask = slots.length - 1;
+    for (int i = 0; i < keyHashes.length; i++) {
+      final int slot = slot(keyHashes[i], seed, mask);
+      if (slots[slot] != 0) {
+        return false;
+      }
+      // store the position + 1, such that 0 denotes an empty slot
+      slots[slot] = i + 1;
+    }
+    return true;
+  }
+
+  private static int slot(final int hash, final int seed, final int mask) {
+    int h = hash * (0x9E3779B9 * seed);
+    h ^= h >>> 16;
+    return h & mask;
+  }
+
+  private static int hash(final DirectBuffer buffer, final int offset, final int length) {
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + buffer.getByte(offset + i);
+    }
+    return hash;
+  }
+}
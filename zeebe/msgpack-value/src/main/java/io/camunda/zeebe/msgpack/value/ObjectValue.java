@@ -21,6 +21,10 @@ public class ObjectValue extends BaseValue {
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>(0);
 
   private final StringValue decodedKey = new StringValue();
+  // built on the first read, as properties may be declared after construction; stays null if no
+  // perfect hash could be found, in which case the declared properties are scanned
+  private DeclaredPropertyIndex declaredPropertyIndex;
+  private boolean isDeclaredPropertyIndexBuilt;
 
   /**
    * Creates a new ObjectValue
@@ -34,6 +38,8 @@ public class ObjectValue extends BaseValue {
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    declaredPropertyIndex = null;
+    isDeclaredPropertyIndexBuilt = false;
     return this;
   }
 
@@ -96,23 +102,19 @@ public class ObjectValue extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    // properties are written in the order they are declared, so the next key is most likely the
+    // one of the property after the last one read
+    int expectedPosition = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
       BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      final int position = findDeclaredProperty(decodedKey, expectedPosition);
+      if (position != DeclaredPropertyIndex.NOT_FOUND) {
+        prop = declaredProperties.get(position);
+        expectedPosition = position + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
@@ -133,6 +135,34 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private int findDeclaredProperty(final StringValue key, final int expectedPosition) {
+    final int declaredSize = declaredProperties.size();
+    if (expectedPosition < declaredSize
+        && declaredProperties.get(expectedPosition).getKey().equals(key)) {
+      return expectedPosition;
+    }
+
+    if (!isDeclaredPropertyIndexBuilt) {
+      declaredPropertyIndex = DeclaredPropertyIndex.of(declaredProperties);
+      isDeclaredPropertyIndexBuilt = true;
+    }
+
+    if (declaredPropertyIndex != null) {
+      final int position = declaredPropertyIndex.lookup(key.getValue(), 0, key.getLength());
+      return position != DeclaredPropertyIndex.NOT_FOUND
+              && declaredProperties.get(position).getKey().equals(key)
+          ? position
+          : DeclaredPropertyIndex.NOT_FOUND;
+    }
+
+    for (int k = 0; k < declaredSize; ++k) {
+      if (declaredProperties.get(k).getKey().equals(key)) {
+        return k;
+      }
+    }
+    return DeclaredPropertyIndex.NOT_FOUND;
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
@@ -12,9 +12,14 @@ import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.msgpack.property.BooleanProperty;
 import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Nested;
@@ -127,4 +132,74 @@ public class UnpackedObjectTest {
       assertThat(newSchemaObject.getLength()).isEqualTo(length);
     }
   }
+
+  @Nested
+  class PropertyLookup {
+
+    @Test
+    void shouldReadManyPropertiesInAnyOrder() {
+      // given
+      final int propertyCount = 64;
+      final var properties = new LongProperty[propertyCount];
+      final var unpackedObject = new UnpackedObject(propertyCount);
+      for (int i = 0; i < propertyCount; i++) {
+        properties[i] = new LongProperty("prop" + i);
+        unpackedObject.declareProperty(properties[i]);
+      }
+
+      final var order = IntStream.range(0, propertyCount).boxed().collect(Collectors.toList());
+      Collections.shuffle(order, new Random(42));
+      final var buffer =
+          MsgPackUtil.encodeMsgPack(
+              writer -> {
+                writer.writeMapHeader(propertyCount + 1);
+                for (final int i : order) {
+                  writer.writeString(BufferUtil.wrapString("prop" + i));
+                  writer.writeInteger(i);
+                }
+                writer.writeString(BufferUtil.wrapString("undeclaredProp"));
+                writer.writeInteger(-1);
+              });
+
+      // when
+      unpackedObject.wrap(buffer);
+
+      // then
+      for (int i = 0; i < propertyCount; i++) {
+        assertThat(properties[i].getValue()).isEqualTo(i);
+      }
+      assertThat(MsgPackUtil.asMap(BufferUtil.createCopy(unpackedObject)))
+          .hasSize(propertyCount + 1)
+          .containsEntry("undeclaredProp", -1L);
+    }
+
+    @Test
+    void shouldReadPropertyDeclaredAfterFirstRead() {
+      // given
+      final var firstProperty = new LongProperty("firstProp");
+      final var secondProperty = new LongProperty("secondProp", 0L);
+      final var unpackedObject = new UnpackedObject(2);
+      unpackedObject.declareProperty(firstProperty);
+
+      final var buffer =
+          MsgPackUtil.encodeMsgPack(
+              writer -> {
+                writer.writeMapHeader(2);
+                writer.writeString(BufferUtil.wrapString("secondProp"));
+                writer.writeInteger(2L);
+                writer.writeString(BufferUtil.wrapString("firstProp"));
+                writer.writeInteger(1L);
+              });
+      unpackedObject.wrap(buffer);
+
+      // when
+      unpackedObject.declareProperty(secondProperty);
+      unpackedObject.wrap(buffer);
+
+      // then
+      assertThat(firstProperty.getValue()).isEqualTo(1L);
+      assertThat(secondProperty.getValue()).isEqualTo(2L);
+      assertThat(unpackedObject.getLength()).isEqualTo(buffer.capacity());
+    }
+  }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding common records from their msgpack encoding. The records are encoded either with
+ * their properties in declaration order, as the broker writes them, or in reversed order, which is
+ * the worst case for matching the decoded keys against the declared properties.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RecordDecodingPerformanceTest {
+
+  @Param({"job", "userTask", "processInstance"})
+  public String recordType;
+
+  @Param({"declared", "reversed"})
+  public String keyOrder;
+
+  private UnpackedObject record;
+  private DirectBuffer encoded;
+
+  @Setup
+  public void setup() {
+    final Supplier<UnpackedObject> recordFactory =
+        switch (recordType) {
+          case "job" -> JobRecord::new;
+          case "userTask" -> UserTaskRecord::new;
+          case "processInstance" -> ProcessInstanceRecord::new;
+          default -> throw new IllegalArgumentException(recordType);
+        };
+
+    final var declaredOrder = BufferUtil.createCopy(newRecord(recordType));
+    encoded = "reversed".equals(keyOrder) ? reverseKeys(declaredOrder) : declaredOrder;
+    record = recordFactory.get();
+  }
+
+  @JMHTest("measureDecoding")
+  void shouldDecodeJobRecordIndependentlyOfKeyOrder() {
+    // given
+    final var declaredOrderScore = new double[1];
+    decodingTestCase("declared")
+        .run()
+        .satisfies(result -> declaredOrderScore[0] = result.getPrimaryResult().getScore());
+
+    // when
+    final var assertResult = decodingTestCase("reversed").run();
+
+    // then - matching each key against all declared properties would be several times slower
+    assertResult.isAtLeast(declaredOrderScore[0], 0.5);
+  }
+
+  @Benchmark
+  public UnpackedObject measureDecoding() {
+    record.wrap(encoded);
+    return record;
+  }
+
+  private static UnpackedObject newRecord(final String recordType) {
+    return switch (recordType) {
+      case "job" ->
+          new JobRecord()
+              .setType("payment-service")
+              .setWorker("payment-worker-1")
+              .setRetries(3)
+              .setDeadline(1_700_000_000_000L)
+              .setBpmnProcessId("order-process")
+              .setProcessDefinitionKey(2251799813685249L)
+              .setProcessDefinitionVersion(4)
+              .setProcessInstanceKey(2251799813685251L)
+              .setElementId("charge-payment")
+              .setElementInstanceKey(2251799813685260L)
+              .setVariables(
+                  BufferUtil.wrapArray(
+                      MsgPackConverter.convertToMsgPack("{\"orderId\":\"order-1234\"}")))
+              .setTenantId("<default>");
+      case "userTask" ->
+          new UserTaskRecord()
+              .setUserTaskKey(2251799813685300L)
+              .setAssignee("demo")
+              .setCandidateGroupsList(List.of("accounting", "sales"))
+              .setCandidateUsersList(List.of("alice", "bob"))
+              .setDueDate("2025-01-01T00:00:00Z")
+              .setFormKey(2251799813685200L)
+              .setBpmnProcessId("order-process")
+              .setProcessDefinitionKey(2251799813685249L)
+              .setProcessDefinitionVersion(4)
+              .setElementId("approve-order")
+              .setElementInstanceKey(2251799813685260L)
+              .setCreationTimestamp(1_700_000_000_000L)
+              .setPriority(50);
+      case "processInstance" ->
+          new ProcessInstanceRecord()
+              .setBpmnProcessId("order-process")
+              .setProcessDefinitionKey(2251799813685249L)
+              .setVersion(4)
+              .setProcessInstanceKey(2251799813685251L)
+              .setElementId("charge-payment")
+              .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+              .setFlowScopeKey(2251799813685251L)
+              .setTenantId("<default>");
+      default -> throw new IllegalArgumentException(recordType);
+    };
+  }
+
+  /** Re-encodes the given msgpack map with its entries in reversed order. */
+  private static DirectBuffer reverseKeys(final DirectBuffer encoded) {
+    final var reader = new MsgPackReader().wrap(encoded, 0, encoded.capacity());
+    final int size = reader.readMapHeader();
+    final int[] entryOffsets = new int[size + 1];
+    for (int i = 0; i < size; i++) {
+      entryOffsets[i] = reader.getOffset();
+      reader.skipValue();
+      reader.skipValue();
+    }
+    entryOffsets[size] = reader.getOffset();
+
+    final var result = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(result, 0);
+    writer.writeMapHeader(size);
+    for (int i = size - 1; i >= 0; i--) {
+      writer.writeRaw(encoded, entryOffsets[i], entryOffsets[i + 1] - entryOffsets[i]);
+    }
+    return new UnsafeBuffer(result, 0, writer.getOffset());
+  }
+
+  private static JMHTestCase decodingTestCase(final String keyOrder) {
+    return JMHTestCase.of(
+        RecordDecodingPerformanceTest.class,
+        "measureDecoding",
+        options -> options.param("recordType", "job").param("keyOrder", keyOrder));
+  }
+}
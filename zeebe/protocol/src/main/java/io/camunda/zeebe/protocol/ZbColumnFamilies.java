@@ -162,7 +162,8 @@ public enum ZbColumnFamilies implements EnumValue {
   MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY(74),
   PROCESS_SUBSCRIPTION_BY_KEY(75),
 
-  JOB_ACTIVATABLE(76),
+  @Deprecated
+  DEPRECATED_JOB_ACTIVATABLE_BY_TYPE(76),
 
   SIGNAL_SUBSCRIPTION_BY_NAME_AND_KEY(77),
   SIGNAL_SUBSCRIPTION_BY_KEY_AND_NAME(78),
@@ -239,7 +240,9 @@ public enum ZbColumnFamilies implements EnumValue {
   RELATIONS_BY_ENTITY(124),
   ENTITIES_BY_RELATION(125),
 
-  USER_TASK_INITIAL_ASSIGNEE(126);
+  USER_TASK_INITIAL_ASSIGNEE(126),
+
+  JOB_ACTIVATABLE(127);
 
   private final int value;
 
@@ -212,7 +212,7 @@ public class ActorControl implements ConcurrencyControl {
           "Incorrect usage of actor.call(...) cannot be called from current actor.");
     }
 
-    final ActorJob job = new ActorJob();
+    final ActorJob job = newJob(runner);
     final ActorFuture<T> future = job.setCallable(callable);
     job.onJobAddedToTask(task);
     task.submit(job);
@@ -249,13 +249,7 @@ public class ActorControl implements ConcurrencyControl {
   public void submit(final Runnable action) {
     final ActorThread currentThread = ActorThread.current();
     final ActorTask currentTask = currentThread == null ? null : currentThread.getCurrentTask();
-    final ActorJob job;
-
-    if (currentThread != null && currentTask == task) {
-      job = currentThread.newJob();
-    } else {
-      job = new ActorJob();
-    }
+    final ActorJob job = newJob(currentThread);
 
     job.setRunnable(action);
     job.onJobAddedToTask(task);
@@ -336,13 +330,21 @@ public class ActorControl implements ConcurrencyControl {
       newJob.onJobAddedToTask(task);
       task.insertJob(newJob);
     } else {
-      final ActorJob job = new ActorJob();
+      final ActorJob job = newJob(currentActorThread);
       job.setRunnable(runnable);
       job.onJobAddedToTask(task);
       task.submit(job);
     }
   }
 
+  /**
+   * Jobs which are submitted from an actor thread are taken from the thread's pool. They are
+   * recycled by the thread which executes them, once they are done.
+   */
+  private static ActorJob newJob(final ActorThread currentThread) {
+    return currentThread != null ? currentThread.newJob() : new ActorJob();
+  }
+
   public boolean isClosing() {
     ensureCalledFromWithinActor("isClosing()");
     return task.isClosing();
@@ -18,7 +18,6 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Queue;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
@@ -45,7 +44,6 @@ public class ActorTask {
   ActorJob currentJob;
   boolean shouldYield;
   final AtomicReference<TaskSchedulingState> schedulingState = new AtomicReference<>();
-  final AtomicLong stateCount = new AtomicLong(0);
   private final CompletableActorFuture<Void> jobClosingTaskFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
@@ -320,20 +318,18 @@ public class ActorTask {
     }
   }
 
-  boolean casStateCount(final long expectedCount) {
-    return stateCount.compareAndSet(expectedCount, expectedCount + 1);
-  }
-
   boolean casState(final TaskSchedulingState expectedState, final TaskSchedulingState newState) {
     return schedulingState.compareAndSet(expectedState, newState);
   }
 
-  public boolean claim(final long stateCount) {
-    if (casStateCount(stateCount)) {
-      return true;
-    }
-
-    return false;
+  /**
+   * Claims a queued task for execution. A task may be referenced by multiple task queues, e.g. if
+   * it was stolen and submitted again, but only one thread can claim it per submission.
+   *
+   * @return true if the task was claimed by the calling thread
+   */
+  public boolean claim() {
+    return casState(TaskSchedulingState.QUEUED, TaskSchedulingState.ACTIVE);
   }
 
   /**
@@ -344,7 +340,8 @@ public class ActorTask {
     // take copy of subscriptions list: once we set the state to WAITING, the task could be woken up
     // by another
     // thread. That thread could modify the subscriptions array.
-    final List<ActorSubscription> subscriptionsRef = new ArrayList<>(subscriptions);
+    final List<ActorSubscription> subscriptionsRef =
+        subscriptions.isEmpty() ? List.of() : new ArrayList<>(subscriptions);
 
     // first set state to waiting
     schedulingState.set(TaskSchedulingState.WAITING);
@@ -461,10 +458,6 @@ public class ActorTask {
     shouldYield = true;
   }
 
-  public long getStateCount() {
-    return stateCount.get();
-  }
-
   public String getName() {
     return actor.getName();
   }
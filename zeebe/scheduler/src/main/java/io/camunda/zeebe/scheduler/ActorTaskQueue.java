@@ -7,198 +7,114 @@
  */
 package io.camunda.zeebe.scheduler;
 
-import static org.agrona.UnsafeAccess.UNSAFE;
-
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+
+/**
+ * The queue of tasks of a single {@link ActorThread}. Any thread may append tasks, but only the
+ * owning thread pops them, while the other threads of the group may steal tasks from it.
+ *
+ * <p>The tasks are kept in an array backed {@link ManyToOneConcurrentArrayQueue}, so appending a
+ * task does not allocate a queue node. Stealing a task does not remove it from the queue: a task is
+ * executed by whichever thread {@link ActorTask#claim() claims} it first, and the owning thread
+ * skips the tasks it fails to claim when popping them.
+ *
+ * <p>If the array is full, e.g. because the owning thread is blocked for a long time, tasks are
+ * appended to an unbounded overflow queue instead, which is drained first by the owning thread.
+ */
+public final class ActorTaskQueue {
+  static final int DEFAULT_CAPACITY = 8 * 1024;
 
-/** Adapted from Agrona's {@link ManyToOneConcurrentLinkedQueue}. */
-@SuppressWarnings("restriction")
-public final class ActorTaskQueue extends ActorTaskQueueHead {
-  @SuppressWarnings("unused")
-  protected long p31, p32, p33, p34, p35, p36, p37, p38, p39, p40, p41, p42, p43, p44, p45;
-  private final ActorTaskQueueNode empty = new ActorTaskQueueNode();
+  private final StealableArrayQueue tasks;
+  private final Queue<ActorTask> overflow = new ConcurrentLinkedQueue<>();
 
   public ActorTaskQueue() {
-    headOrdered(empty);
-    UNSAFE.putOrderedObject(this, TAIL_OFFSET, empty);
+    this(DEFAULT_CAPACITY);
+  }
+
+  ActorTaskQueue(final int capacity) {
+    tasks = new StealableArrayQueue(capacity);
   }
 
-  /** appends a task at the end (tail) of the list */
+  /** appends a task at the end (tail) of the queue */
   public void append(final ActorTask task) {
-    // TODO: make garbage free again
-    final ActorTaskQueueNode tail = new ActorTaskQueueNode();
-    tail.task = task;
-    tail.stateCount = task.getStateCount();
-    final ActorTaskQueueNode previousTail = swapTail(tail);
-    previousTail.nextOrdered(tail);
-    tail.prevOrdered(previousTail);
+    if (!tasks.offer(task)) {
+      overflow.offer(task);
+    }
   }
 
   /**
-   * Attempts to steal a task from this list. The operation does not actually remove the task.
+   * Attempts to steal a task from this queue. The operation does not actually remove the task.
    * Instead, it modifies the task's state.
    *
-   * @return the actor which was stolen or null in case no actor is available
+   * @return the task which was stolen or null in case no task is available
    */
   public ActorTask trySteal() {
-    ActorTaskQueueNode node = tail;
+    final ActorTask task = tasks.trySteal();
+    if (task != null || overflow.isEmpty()) {
+      return task;
+    }
 
-    while (node != null && node != empty) {
-      final ActorTask task = node.task;
-      if (task.claim(node.stateCount)) {
-        return task;
+    for (final ActorTask overflowTask : overflow) {
+      if (overflowTask.claim()) {
+        return overflowTask;
       }
-
-      node = node.prev;
     }
 
     return null;
   }
 
   public ActorTask pop() {
-    ActorTask task = null;
-    ActorTaskQueueNode node = null;
-
-    do {
-      node = poll();
-
-      if (node != empty && node != null) {
-        final ActorTask t = node.task;
-        if (t.claim(node.stateCount)) {
-          task = t;
-          break;
-        }
+    // tasks only overflow if the array was full, so they must not wait until it is empty again
+    ActorTask task;
+    while ((task = overflow.poll()) != null) {
+      if (task.claim()) {
+        return task;
       }
-    } while (node != null && node != empty);
-
-    return task;
-  }
-
-  private ActorTaskQueueNode poll() {
-    ActorTaskQueueNode value = null;
-    final ActorTaskQueueNode head = this.head;
-    ActorTaskQueueNode next = head.next;
-
-    if (null != next) {
-      value = next;
-      head.prevOrdered(null);
-      head.nextOrdered(null);
+    }
 
-      if (null == next.next) {
-        final ActorTaskQueueNode tail = this.tail;
-        if (tail == next && casTail(tail, empty)) {
-          next = empty;
-        }
+    while ((task = tasks.poll()) != null) {
+      if (task.claim()) {
+        return task;
       }
-
-      headOrdered(next);
     }
 
-    return value;
-  }
-
-  public ActorTaskQueueNode peek() {
-    final ActorTaskQueueNode next = head.next;
-    return next == empty ? null : next;
+    return null;
   }
 
   public boolean isEmpty() {
-    return head == tail;
-  }
-
-  private void headOrdered(final ActorTaskQueueNode head) {
-    UNSAFE.putOrderedObject(this, HEAD_OFFSET, head);
-  }
-
-  private ActorTaskQueueNode swapTail(final ActorTaskQueueNode newTail) {
-    return (ActorTaskQueueNode) UNSAFE.getAndSetObject(this, TAIL_OFFSET, newTail);
+    return tasks.isEmpty() && overflow.isEmpty();
   }
 
-  private boolean casTail(
-      final ActorTaskQueueNode expectedNode, final ActorTaskQueueNode updateNode) {
-    return UNSAFE.compareAndSwapObject(this, TAIL_OFFSET, expectedNode, updateNode);
-  }
-}
+  private static final class StealableArrayQueue extends ManyToOneConcurrentArrayQueue<ActorTask> {
+    private static final VarHandle BUFFER_HANDLE =
+        MethodHandles.arrayElementVarHandle(Object[].class);
 
-@SuppressWarnings("restriction")
-class ActorTaskQueueNode {
-  protected static final long PREV_OFFSET;
-  protected static final long NEXT_OFFSET;
-
-  static {
-    try {
-      PREV_OFFSET = UNSAFE.objectFieldOffset(ActorTaskQueueNode.class.getDeclaredField("prev"));
-      NEXT_OFFSET = UNSAFE.objectFieldOffset(ActorTaskQueueNode.class.getDeclaredField("next"));
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
+    private StealableArrayQueue(final int capacity) {
+      super(capacity);
     }
-  }
-
-  @SuppressFBWarnings(
-      value = "UWF_UNWRITTEN_FIELD",
-      justification = "Written using UNSAFE (see NEXT_OFFSET usage)")
-  volatile ActorTaskQueueNode next;
-
-  @SuppressFBWarnings(
-      value = "UWF_UNWRITTEN_FIELD",
-      justification = "Written using UNSAFE (see PREV_OFFSET usage)")
-  volatile ActorTaskQueueNode prev;
-
-  long stateCount;
-  ActorTask task;
-
-  void nextOrdered(final ActorTaskQueueNode t) {
-    assert t != this;
-    UNSAFE.putOrderedObject(this, NEXT_OFFSET, t);
-  }
-
-  void prevOrdered(final ActorTaskQueueNode t) {
-    assert t != this;
-    UNSAFE.putObjectVolatile(this, PREV_OFFSET, t);
-  }
 
-  public void setTask(final ActorTask task) {
-    this.task = task;
-  }
-}
+    /**
+     * Scans the queued tasks from the tail to the head without removing them, and claims the first
+     * task which can be claimed. Concurrent appends and pops may replace the tasks while scanning,
+     * which is safe since only a queued task can be claimed.
+     */
+    private ActorTask trySteal() {
+      final Object[] slots = buffer;
+      final long mask = capacity - 1;
+      final long head = removedCount();
+
+      for (long sequence = addedCount() - 1; sequence >= head; sequence--) {
+        final ActorTask task = (ActorTask) BUFFER_HANDLE.getAcquire(slots, (int) (sequence & mask));
+        if (task != null && task.claim()) {
+          return task;
+        }
+      }
 
-@SuppressWarnings("restriction")
-class ActorTaskQueuePadding1 {
-  protected static final long HEAD_OFFSET;
-  protected static final long TAIL_OFFSET;
-  protected static final long PREV_OFFSET;
-  protected static final long NEXT_OFFSET;
-  protected static final long STATE_COUNT_OFFSET;
-
-  static {
-    try {
-      HEAD_OFFSET = UNSAFE.objectFieldOffset(ActorTaskQueueHead.class.getDeclaredField("head"));
-      TAIL_OFFSET = UNSAFE.objectFieldOffset(ActorTaskQueueTail.class.getDeclaredField("tail"));
-      PREV_OFFSET = UNSAFE.objectFieldOffset(ActorTaskQueueNode.class.getDeclaredField("prev"));
-      NEXT_OFFSET = UNSAFE.objectFieldOffset(ActorTaskQueueNode.class.getDeclaredField("next"));
-      STATE_COUNT_OFFSET = UNSAFE.objectFieldOffset(ActorTask.class.getDeclaredField("stateCount"));
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
+      return null;
     }
   }
-
-  @SuppressWarnings("unused")
-  protected long p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11, p12, p13, p14, p15;
-}
-
-/** Value for the tail that is expected to be padded. */
-class ActorTaskQueueTail extends ActorTaskQueuePadding1 {
-  protected volatile ActorTaskQueueNode tail;
-}
-
-/** Pad out a cache line between the tail and the head to prevent false sharing. */
-class ActorTaskQueuePadding2 extends ActorTaskQueueTail {
-  @SuppressWarnings("unused")
-  protected long p16, p17, p18, p19, p20, p21, p22, p23, p24, p25, p26, p27, p28, p29, p30;
-}
-
-/** Value for the head that is expected to be padded. */
-class ActorTaskQueueHead extends ActorTaskQueuePadding2 {
-  protected volatile ActorTaskQueueNode head;
 }
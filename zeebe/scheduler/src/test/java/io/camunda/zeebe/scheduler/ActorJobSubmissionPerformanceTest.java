@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures the latency from submitting a job to another actor until it is executed, by passing a
+ * message back and forth between two actors. Run the benchmark with {@code -prof gc} to see the
+ * allocation rate per submitted job as well.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ActorJobSubmissionPerformanceTest {
+  private static final int ROUND_TRIPS = 1_000;
+
+  // the jobs and the task queues don't allocate, but the actors' job queues still allocate a node
+  // per submitted job and setting up the MDC allocates per execution; without pooling, the job and
+  // the task queue node alone add ~80 bytes
+  private static final double MAX_ALLOCATED_BYTES_PER_JOB = 128;
+
+  private ActorScheduler scheduler;
+  private PingPongActor ping;
+  private PingPongActor pong;
+
+  @Setup
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(0)
+            .build();
+    scheduler.start();
+
+    ping = new PingPongActor(true);
+    pong = new PingPongActor(false);
+    ping.peer = pong;
+    pong.peer = ping;
+    scheduler.submitActor(ping).join();
+    scheduler.submitActor(pong).join();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @JMHTest("measureSubmitToExecute")
+  void shouldNotAllocateJobsWhenSubmittingFromActors() {
+    // given
+    final var testCase =
+        JMHTestCase.of(
+            ActorJobSubmissionPerformanceTest.class,
+            "measureSubmitToExecute",
+            options -> options.addProfiler(GCProfiler.class));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.satisfies(
+        result ->
+            assertThat(result.getSecondaryResults().get("gc.alloc.rate.norm").getScore())
+                .isLessThan(MAX_ALLOCATED_BYTES_PER_JOB));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(2 * ROUND_TRIPS)
+  public long measureSubmitToExecute() {
+    final long round = ping.completedRounds;
+    ping.actor.run(ping.startRound);
+
+    while (ping.completedRounds == round) {
+      Thread.onSpinWait();
+    }
+
+    return round;
+  }
+
+  private static final class PingPongActor extends Actor {
+    private final Runnable startRound = this::startRound;
+    private final Runnable receive = this::receive;
+    private final boolean initiator;
+    private PingPongActor peer;
+    private int remainingRoundTrips;
+    private volatile long completedRounds;
+
+    private PingPongActor(final boolean initiator) {
+      this.initiator = initiator;
+    }
+
+    private void startRound() {
+      remainingRoundTrips = ROUND_TRIPS;
+      peer.actor.run(peer.receive);
+    }
+
+    private void receive() {
+      if (!initiator || --remainingRoundTrips > 0) {
+        peer.actor.run(peer.receive);
+      } else {
+        completedRounds++;
+      }
+    }
+  }
+}
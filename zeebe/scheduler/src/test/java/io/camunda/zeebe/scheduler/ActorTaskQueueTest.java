@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState;
+import org.junit.jupiter.api.Test;
+
+final class ActorTaskQueueTest {
+
+  @Test
+  void shouldPopTasksInOrder() {
+    // given
+    final var queue = new ActorTaskQueue();
+    final var first = queuedTask();
+    final var second = queuedTask();
+    queue.append(first);
+    queue.append(second);
+
+    // when - then
+    assertThat(queue.pop()).isSameAs(first);
+    assertThat(queue.pop()).isSameAs(second);
+    assertThat(queue.pop()).isNull();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldClaimPoppedTask() {
+    // given
+    final var queue = new ActorTaskQueue();
+    final var task = queuedTask();
+    queue.append(task);
+
+    // when
+    queue.pop();
+
+    // then
+    assertThat(task.getState()).isEqualTo(TaskSchedulingState.ACTIVE);
+  }
+
+  @Test
+  void shouldStealNewestTask() {
+    // given
+    final var queue = new ActorTaskQueue();
+    final var first = queuedTask();
+    final var second = queuedTask();
+    queue.append(first);
+    queue.append(second);
+
+    // when
+    final var stolen = queue.trySteal();
+
+    // then
+    assertThat(stolen).isSameAs(second);
+    assertThat(second.getState()).isEqualTo(TaskSchedulingState.ACTIVE);
+    assertThat(first.getState()).isEqualTo(TaskSchedulingState.QUEUED);
+  }
+
+  @Test
+  void shouldSkipStolenTaskOnPop() {
+    // given
+    final var queue = new ActorTaskQueue();
+    final var first = queuedTask();
+    final var second = queuedTask();
+    queue.append(first);
+    queue.append(second);
+    queue.trySteal();
+
+    // when - then
+    assertThat(queue.pop()).isSameAs(first);
+    assertThat(queue.pop()).isNull();
+    assertThat(queue.trySteal()).isNull();
+  }
+
+  @Test
+  void shouldClaimResubmittedTaskOnlyOnce() {
+    // given - a stolen task which is queued again
+    final var queue = new ActorTaskQueue();
+    final var task = queuedTask();
+    queue.append(task);
+    queue.trySteal();
+    task.schedulingState.set(TaskSchedulingState.QUEUED);
+    queue.append(task);
+
+    // when - then
+    assertThat(queue.pop()).isSameAs(task);
+    assertThat(queue.pop()).isNull();
+  }
+
+  @Test
+  void shouldAppendToOverflowIfFull() {
+    // given
+    final var queue = new ActorTaskQueue(2);
+    final var tasks = new ActorTask[] {queuedTask(), queuedTask(), queuedTask(), queuedTask()};
+    for (final var task : tasks) {
+      queue.append(task);
+    }
+
+    // when - then
+    assertThat(queue.trySteal()).isSameAs(tasks[1]);
+    assertThat(queue.pop()).isSameAs(tasks[2]);
+    assertThat(queue.pop()).isSameAs(tasks[3]);
+    assertThat(queue.pop()).isSameAs(tasks[0]);
+    assertThat(queue.pop()).isNull();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldStealFromOverflow() {
+    // given
+    final var queue = new ActorTaskQueue(2);
+    final var tasks = new ActorTask[] {queuedTask(), queuedTask(), queuedTask()};
+    for (final var task : tasks) {
+      queue.append(task);
+    }
+
+    // when - then
+    assertThat(queue.trySteal()).isSameAs(tasks[1]);
+    assertThat(queue.trySteal()).isSameAs(tasks[0]);
+    assertThat(queue.trySteal()).isSameAs(tasks[2]);
+    assertThat(queue.trySteal()).isNull();
+  }
+
+  private static ActorTask queuedTask() {
+    final var task = new ActorTask(new Actor() {});
+    task.schedulingState.set(TaskSchedulingState.QUEUED);
+    return task;
+  }
+}
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Set;
+import java.util.SortedMap;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +32,14 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Reuses the files of the latest persisted snapshot which are also part of this snapshot, such
+   * that they don't have to be received again. A file is only reused if it has the same name and
+   * checksum in both snapshots. Chunks of reused files must not be applied anymore.
+   *
+   * @param fileChecksums the checksums of all files of this snapshot, by file name
+   * @return the future with the names of the reused files
+   */
+  ActorFuture<Set<String>> reuseFiles(SortedMap<String, Long> fileChecksums);
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,12 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Skips all chunks with the given names, e.g. because the receiver of the snapshot has these
+   * files already. The chunks are skipped until the reader is {@link #reset()}.
+   *
+   * @param chunkNames the names of the chunks to skip
+   */
+  void skip(final Set<String> chunkNames);
 }
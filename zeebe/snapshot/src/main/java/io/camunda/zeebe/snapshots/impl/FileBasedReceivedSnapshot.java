@@ -18,10 +18,14 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,17 +33,21 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedReceivedSnapshot.class);
   private static final int BLOCK_SIZE = 512 * 1024;
+  // RocksDB never modifies a written SST file, so a file with the same name and checksum can be
+  // shared between snapshots
+  private static final String REUSABLE_FILE_SUFFIX = ".sst";
 
   private final Path directory;
   private final ConcurrencyControl actor;
   private final FileBasedSnapshotStoreImpl snapshotStore;
 
   private final FileBasedSnapshotId snapshotId;
+  private final Set<String> reusedFiles = new HashSet<>();
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
-  private SfvChecksumImpl checksumCollection;
+  private final SfvChecksumImpl checksumCollection = new SfvChecksumImpl();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -85,24 +93,22 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
-
-    final var tmpSnapshotDirectory = directory;
-    try {
-      FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
-    } catch (final IOException e) {
+    if (reusedFiles.contains(chunkName)) {
+      // the file is a link to the file of the latest snapshot, which must not be modified
       throw new SnapshotWriteException(
-          String.format("Failed to ensure that directory %s exists.", tmpSnapshotDirectory), e);
+          String.format(
+              "Expected to receive no chunk of file %s of snapshot %s, because the file is reused from the latest snapshot",
+              chunkName, snapshotId));
     }
 
-    final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
+    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    ensureDirectoryExists();
+
+    final var snapshotFile = directory.resolve(chunkName);
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
 
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
-    }
     checksumCollection.updateFromBytes(
         snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
@@ -115,6 +121,68 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  @Override
+  public ActorFuture<Set<String>> reuseFiles(final SortedMap<String, Long> fileChecksums) {
+    return actor.call(() -> reuseFilesInternal(fileChecksums));
+  }
+
+  private Set<String> reuseFilesInternal(final SortedMap<String, Long> fileChecksums)
+      throws SnapshotWriteException {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot().orElse(null);
+    if (latestSnapshot == null
+        || fileChecksums.isEmpty()
+        || snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString())) {
+      return Set.copyOf(reusedFiles);
+    }
+
+    ensureDirectoryExists();
+
+    final var latestChecksums = latestSnapshot.getChecksums().getChecksums();
+    // the last file is always received, such that the snapshot is completed with its last chunk
+    final var lastFileName = fileChecksums.lastKey();
+    for (final var fileChecksum : fileChecksums.entrySet()) {
+      final var fileName = fileChecksum.getKey();
+      final var snapshotFile = directory.resolve(fileName);
+      if (!fileName.endsWith(REUSABLE_FILE_SUFFIX)
+          || fileName.equals(lastFileName)
+          || !fileChecksum.getValue().equals(latestChecksums.get(fileName))
+          || Files.exists(snapshotFile)) {
+        continue;
+      }
+
+      try {
+        Files.createLink(snapshotFile, latestSnapshot.getPath().resolve(fileName));
+      } catch (final IOException | UnsupportedOperationException e) {
+        LOGGER.debug(
+            "Failed to reuse file {} of snapshot {}, the file will be received instead",
+            fileName,
+            latestSnapshot.getId(),
+            e);
+        continue;
+      }
+
+      checksumCollection.updateFromChecksum(snapshotFile, fileChecksum.getValue());
+      reusedFiles.add(fileName);
+    }
+
+    LOGGER.debug(
+        "Reuse {} of {} files of snapshot {} from snapshot {}",
+        reusedFiles.size(),
+        fileChecksums.size(),
+        snapshotId,
+        latestSnapshot.getId());
+    return Set.copyOf(reusedFiles);
+  }
+
+  private void ensureDirectoryExists() throws SnapshotWriteException {
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
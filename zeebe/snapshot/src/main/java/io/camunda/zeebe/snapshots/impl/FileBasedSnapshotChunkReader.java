@@ -16,6 +16,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -26,6 +27,7 @@ import java.util.TreeSet;
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final NavigableSet<CharSequence> skippedChunks = new TreeSet<>(CharSequence::compare);
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
@@ -59,6 +61,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public void reset() {
+    skippedChunks.clear();
     chunksView = new TreeSet<>(chunks);
   }
 
@@ -70,9 +73,12 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
     final var chunkId = new SnapshotChunkId(id);
 
-    offset = chunkId.offset();
+    final var fileName = chunkId.fileName();
+    // a skipped file is not read at all, so the reader continues with the start of the next file
+    offset = skippedChunks.contains(fileName) ? 0 : chunkId.offset();
 
-    chunksView = new TreeSet<>(chunks.tailSet(chunkId.fileName(), true));
+    chunksView = new TreeSet<>(chunks.tailSet(fileName, true));
+    chunksView.removeAll(skippedChunks);
   }
 
   @Override
@@ -89,9 +95,20 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void skip(final Set<String> chunkNames) {
+    if (!chunksView.isEmpty() && chunkNames.contains(chunksView.first().toString())) {
+      offset = 0;
+    }
+
+    skippedChunks.addAll(chunkNames);
+    chunksView.removeAll(skippedChunks);
+  }
+
   @Override
   public void close() {
     chunks.clear();
+    skippedChunks.clear();
     chunksView.clear();
   }
 
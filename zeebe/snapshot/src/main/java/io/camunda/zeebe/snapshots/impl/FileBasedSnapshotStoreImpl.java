@@ -189,8 +189,10 @@ public final class FileBasedSnapshotStoreImpl {
 
     try {
       final var expectedChecksum = SnapshotChecksum.read(checksumPath);
-      final var actualChecksum =
-          SnapshotChecksum.calculateWithProvidedChecksums(path, checksumProvider);
+      final ImmutableChecksumsSFV actualChecksum;
+      try (final var ignored = snapshotMetrics.startChecksumTimer()) {
+        actualChecksum = SnapshotChecksum.calculateWithProvidedChecksums(path, checksumProvider);
+      }
       if (!actualChecksum.sameChecksums(expectedChecksum)) {
         LOGGER.warn(
             "Expected snapshot {} to have checksums {}, but the actual checksums are {}; the snapshot is most likely corrupted. The startup will fail if there is no other valid snapshot and the log has been compacted.",
@@ -85,7 +85,11 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
                       directory)));
 
         } else {
-          checksum = SnapshotChecksum.calculateWithProvidedChecksums(directory, checksumProvider);
+          try (final var checksumTimer = snapshotMetrics.startChecksumTimer()) {
+            checksum =
+                SnapshotChecksum.calculateWithProvidedChecksums(
+                    directory, checksumProvider, snapshotStore.getLatestSnapshot().orElse(null));
+          }
 
           snapshot = null;
           isValid = true;
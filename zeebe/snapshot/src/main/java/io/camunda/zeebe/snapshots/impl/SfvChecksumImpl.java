@@ -12,8 +12,9 @@ import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
-import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Map.Entry;
@@ -44,6 +45,8 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
   private static final String FILE_CRC_SEPARATOR_REGEX = " {3}";
   private static final Pattern FILE_CRC_PATTERN =
       Pattern.compile("(.*)" + FILE_CRC_SEPARATOR_REGEX + "([0-9a-fA-F]{1,16})");
+  // bounds the address space used when mapping large files for checksum computation
+  private static final long MAPPED_REGION_SIZE = 64 * 1024 * 1024;
   private final SortedMap<String, Long> checksums = new TreeMap<>();
   private String snapshotDirectoryComment;
 
@@ -93,19 +96,29 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
 
   @Override
   public void updateFromFile(final Path filePath) throws IOException {
-    final String fileName = filePath.getFileName().toString();
+    updateFromChecksum(filePath, computeChecksum(filePath));
+  }
 
+  /**
+   * Computes the CRC32C checksum of the given file. The file is memory mapped region by region,
+   * such that its content is never copied onto the heap; each region is unmapped right after it was
+   * read, so that the mapping does not outlive the call.
+   */
+  static long computeChecksum(final Path filePath) throws IOException {
     final Checksum checksum = new CRC32C();
-    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
     try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
-      readBuffer.clear();
-      while (channel.read(readBuffer) > 0) {
-        readBuffer.flip();
-        checksum.update(readBuffer);
-        readBuffer.clear();
+      final long size = channel.size();
+      for (long position = 0; position < size; position += MAPPED_REGION_SIZE) {
+        final long length = Math.min(MAPPED_REGION_SIZE, size - position);
+        final MappedByteBuffer region = channel.map(MapMode.READ_ONLY, position, length);
+        try {
+          checksum.update(region);
+        } finally {
+          IoUtil.unmap(region);
+        }
       }
     }
-    checksums.put(fileName, checksum.getValue());
+    return checksum.getValue();
   }
 
   @Override
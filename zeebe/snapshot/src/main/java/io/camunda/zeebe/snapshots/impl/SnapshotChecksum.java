@@ -10,18 +10,35 @@ package io.camunda.zeebe.snapshots.impl;
 import io.camunda.zeebe.snapshots.CRC32CChecksumProvider;
 import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
+import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.RandomAccessFile;
-import java.io.UncheckedIOException;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 final class SnapshotChecksum {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotChecksum.class);
+
+  // Shared by all snapshot stores, so that persisting snapshots of many partitions at once does not
+  // spawn more checksum threads than the machine can run; idle threads are released after a while.
+  private static final ExecutorService CHECKSUM_EXECUTOR = createChecksumExecutor();
+
   private SnapshotChecksum() {
     throw new IllegalStateException("Utility class");
   }
@@ -38,36 +55,144 @@ final class SnapshotChecksum {
   }
 
   public static MutableChecksumsSFV calculate(final Path snapshotDirectory) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, snapshotPath -> Map.of());
+    return createChecksumForSnapshot(snapshotDirectory, snapshotPath -> Map.of(), null);
   }
 
   public static MutableChecksumsSFV calculateWithProvidedChecksums(
       final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, provider);
+    return createChecksumForSnapshot(snapshotDirectory, provider, null);
   }
 
-  private static MutableChecksumsSFV createChecksumForSnapshot(
-      final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
+  /**
+   * Same as {@link #calculateWithProvidedChecksums(Path, CRC32CChecksumProvider)}, but reuses the
+   * checksum of every file which is a hard link to the same file of the given previous snapshot,
+   * e.g. SST files which did not change between two RocksDB checkpoints.
+   */
+  public static MutableChecksumsSFV calculateWithProvidedChecksums(
+      final Path snapshotDirectory,
+      final CRC32CChecksumProvider provider,
+      final PersistedSnapshot previousSnapshot)
+      throws IOException {
+    return createChecksumForSnapshot(snapshotDirectory, provider, previousSnapshot);
+  }
 
+  private static MutableChecksumsSFV createChecksumForSnapshot(
+      final Path snapshotDirectory,
+      final CRC32CChecksumProvider provider,
+      final PersistedSnapshot previousSnapshot)
+      throws IOException {
+    final List<Path> files;
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
-      final SfvChecksumImpl sfvChecksum = new SfvChecksumImpl();
-      final Map<String, Long> fullFileChecksums = provider.getSnapshotChecksums(snapshotDirectory);
-      fileStream.forEachOrdered(path -> updateChecksum(sfvChecksum, fullFileChecksums, path));
-
-      // While persisting transient snapshot, the checksum of metadata file is added at the end.
-      // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
-      // the file name, the sorted file list will have a differnt order and thus result in a
-      // different checksum.
-      final var metadataFile =
-          snapshotDirectory.resolve(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
-      if (metadataFile.toFile().exists()) {
-        sfvChecksum.updateFromFile(metadataFile);
+      files = fileStream.toList();
+    }
+
+    final SfvChecksumImpl sfvChecksum = new SfvChecksumImpl();
+    final Map<String, Long> fullFileChecksums = provider.getSnapshotChecksums(snapshotDirectory);
+    final List<Path> filesToRead = new ArrayList<>();
+    for (final var file : files) {
+      Long knownChecksum = fullFileChecksums.get(file.getFileName().toString());
+      if (knownChecksum == null) {
+        knownChecksum = findReusableChecksum(file, previousSnapshot);
       }
-      return sfvChecksum;
+
+      if (knownChecksum != null) {
+        sfvChecksum.updateFromChecksum(file, knownChecksum);
+      } else {
+        filesToRead.add(file);
+      }
+    }
+    updateFromFiles(sfvChecksum, filesToRead);
+
+    // While persisting transient snapshot, the checksum of metadata file is added at the end.
+    // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
+    // the file name, the sorted file list will have a differnt order and thus result in a
+    // different checksum.
+    final var metadataFile =
+        snapshotDirectory.resolve(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
+    if (metadataFile.toFile().exists()) {
+      sfvChecksum.updateFromFile(metadataFile);
+    }
+    return sfvChecksum;
+  }
+
+  /**
+   * Computes the checksums of the given files on the shared checksum executor. A single file is
+   * computed on the calling thread, as there is nothing to parallelize.
+   */
+  private static void updateFromFiles(final MutableChecksumsSFV checksum, final List<Path> files)
+      throws IOException {
+    if (files.size() == 1) {
+      checksum.updateFromFile(files.getFirst());
+      return;
+    }
+
+    final List<Future<Long>> futures = new ArrayList<>(files.size());
+    try {
+      for (final var file : files) {
+        futures.add(CHECKSUM_EXECUTOR.submit(() -> SfvChecksumImpl.computeChecksum(file)));
+      }
+
+      for (int i = 0; i < files.size(); i++) {
+        checksum.updateFromChecksum(files.get(i), awaitChecksum(files.get(i), futures.get(i)));
+      }
+    } finally {
+      // no-op if all checksums were computed; otherwise avoid reading files nobody waits for
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private static long awaitChecksum(final Path file, final Future<Long> checksum)
+      throws IOException {
+    try {
+      return checksum.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(
+          "Interrupted while computing the checksum of file %s".formatted(file));
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof final IOException ioException) {
+        throw ioException;
+      }
+      throw new IOException("Failed to compute the checksum of file %s".formatted(file), e);
     }
   }
 
+  private static Long findReusableChecksum(
+      final Path file, final PersistedSnapshot previousSnapshot) {
+    if (previousSnapshot == null) {
+      return null;
+    }
+
+    final String fileName = file.getFileName().toString();
+    final Long checksum = previousSnapshot.getChecksums().getChecksums().get(fileName);
+    if (checksum == null) {
+      return null;
+    }
+
+    // a hard link shares its content with the previous snapshot's file, so the checksum still holds
+    try {
+      return Files.isSameFile(file, previousSnapshot.getPath().resolve(fileName)) ? checksum : null;
+    } catch (final IOException e) {
+      LOGGER.trace("Failed to compare {} with the previous snapshot, computing checksum", file, e);
+      return null;
+    }
+  }
+
+  private static ExecutorService createChecksumExecutor() {
+    final var threadCount = Math.clamp(Runtime.getRuntime().availableProcessors(), 1, 4);
+    final var executor =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            Thread.ofPlatform().name("zb-snapshot-checksum-", 0).daemon().factory());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   private static boolean isNotMetadataFile(final Path file) {
     return !file.getFileName().toString().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
   }
@@ -86,20 +211,4 @@ final class SnapshotChecksum {
       channel.force(true);
     }
   }
-
-  private static void updateChecksum(
-      final MutableChecksumsSFV checksum,
-      final Map<String, Long> fullFileChecksums,
-      final Path file) {
-    final String fileName = file.getFileName().toString();
-    if (fullFileChecksums.containsKey(fileName)) {
-      checksum.updateFromChecksum(file, fullFileChecksums.get(fileName));
-    } else {
-      try {
-        checksum.updateFromFile(file);
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
-    }
-  }
 }
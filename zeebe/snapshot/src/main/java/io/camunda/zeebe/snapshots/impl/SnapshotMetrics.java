@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.snapshots.impl;
 
+import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_CHECKSUM_DURATION;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_CHUNK_COUNT;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_COUNT;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_DURATION;
@@ -33,6 +34,7 @@ public final class SnapshotMetrics {
   private final Timer snapshotPersistDuration;
   private final DistributionSummary snapshotFileSize;
   private final Timer snapshotDuration;
+  private final Timer snapshotChecksumDuration;
   private final Counter snapshotCount;
 
   public SnapshotMetrics(final MeterRegistry registry) {
@@ -41,6 +43,8 @@ public final class SnapshotMetrics {
     snapshotDuration = MicrometerUtil.buildTimer(SNAPSHOT_DURATION).register(registry);
     snapshotPersistDuration =
         MicrometerUtil.buildTimer(SNAPSHOT_PERSIST_DURATION).register(registry);
+    snapshotChecksumDuration =
+        MicrometerUtil.buildTimer(SNAPSHOT_CHECKSUM_DURATION).register(registry);
     snapshotFileSize = MicrometerUtil.buildSummary(SNAPSHOT_FILE_SIZE).register(registry);
     snapshotCount =
         Counter.builder(SNAPSHOT_COUNT.getName())
@@ -78,4 +82,8 @@ public final class SnapshotMetrics {
   CloseableSilently startPersistTimer() {
     return MicrometerUtil.timer(snapshotPersistDuration, Timer.start(clock));
   }
+
+  CloseableSilently startChecksumTimer() {
+    return MicrometerUtil.timer(snapshotChecksumDuration, Timer.start(clock));
+  }
 }
@@ -128,6 +128,28 @@ public enum SnapshotMetricsDoc implements ExtendedMeterDocumentation {
       return PartitionKeyNames.values();
     }
   },
+  /** Approximate duration of computing the checksums of all files of a snapshot */
+  SNAPSHOT_CHECKSUM_DURATION {
+    @Override
+    public String getDescription() {
+      return "Approximate duration of computing the checksums of all files of a snapshot";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.snapshot.checksum.duration";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
   /** Approximate size of snapshot files */
   SNAPSHOT_FILE_SIZE {
     private static final double[] BUCKETS = {.01, .1, .5, 1, 5, 10, 25, 50, 100, 250, 500};
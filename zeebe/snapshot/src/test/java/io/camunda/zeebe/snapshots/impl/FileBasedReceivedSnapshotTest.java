@@ -349,6 +349,101 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseUnchangedFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var latestSnapshot =
+        receiveSnapshot(
+                takePersistedSnapshot(
+                    1L, Map.of("000001.sst", "sst1", "000002.sst", "sst2", "MANIFEST", "m1")))
+            .persist()
+            .join();
+    final var snapshotToSend =
+        takePersistedSnapshot(
+            2L,
+            Map.of(
+                "000001.sst",
+                "sst1",
+                "000002.sst",
+                "changed",
+                "000003.sst",
+                "sst3",
+                "MANIFEST",
+                "m2"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    final var reusedFiles =
+        receivedSnapshot.reuseFiles(snapshotToSend.getChecksums().getChecksums()).join();
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.skip(reusedFiles);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+
+    // then
+    assertThat(reusedFiles).containsExactly("000001.sst");
+    assertThat(
+            Files.isSameFile(
+                receivedSnapshot.getPath().resolve("000001.sst"),
+                latestSnapshot.getPath().resolve("000001.sst")))
+        .describedAs("the unchanged file is linked to the file of the latest snapshot")
+        .isTrue();
+
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+    assertThat(persistedSnapshot.getChecksums().sameChecksums(snapshotToSend.getChecksums()))
+        .isTrue();
+    assertThat(persistedSnapshot.getPath().resolve("000001.sst")).hasContent("sst1");
+    assertThat(persistedSnapshot.getPath().resolve("000002.sst")).hasContent("changed");
+  }
+
+  @Test
+  public void shouldNotReuseAlreadyReceivedFile() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L, Map.of("000001.sst", "sst1", "MANIFEST", "m1")))
+        .persist()
+        .join();
+    final var snapshotToSend =
+        takePersistedSnapshot(2L, Map.of("000001.sst", "sst1", "MANIFEST", "m2"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+    }
+
+    // when
+    final var reusedFiles =
+        receivedSnapshot.reuseFiles(snapshotToSend.getChecksums().getChecksums()).join();
+
+    // then
+    assertThat(reusedFiles).isEmpty();
+  }
+
+  @Test
+  public void shouldNotWriteChunkOfReusedFile() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L, Map.of("000001.sst", "sst1", "MANIFEST", "m1")))
+        .persist()
+        .join();
+    final var snapshotToSend =
+        takePersistedSnapshot(2L, Map.of("000001.sst", "sst1", "MANIFEST", "m2"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+    receivedSnapshot.reuseFiles(snapshotToSend.getChecksums().getChecksums()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      final var reusedFileChunk = snapshotChunkReader.next();
+
+      // then
+      assertThatCode(() -> receivedSnapshot.apply(reusedFileChunk).join())
+          .hasCauseInstanceOf(SnapshotWriteException.class)
+          .hasMessageContaining("Expected to receive no chunk of file 000001.sst");
+    }
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -363,16 +458,21 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
     final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.junit.Rule;
@@ -164,6 +165,64 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
   }
 
+  @Test
+  public void shouldSkipChunks() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<ByteBuffer>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.next();
+
+      // when
+      snapshotChunkReader.skip(Set.of("file2"));
+
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.nextId());
+        snapshotChunkReader.next();
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds).containsExactly(asByteBuffer("file3__0"));
+  }
+
+  @Test
+  public void shouldSkipChunksWhenSeekingToSkippedChunk() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.skip(Set.of("file2"));
+
+      // when
+      snapshotChunkReader.seek(asByteBuffer("file2__0"));
+
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds).containsExactly("file3");
+  }
+
+  @Test
+  public void shouldNotSkipChunksAfterReset() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.skip(Set.of("file2"));
+
+      // when
+      snapshotChunkReader.reset();
+
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
+  }
+
   @Test
   public void shouldThrowExceptionOnReachingLimit() throws IOException {
     // given
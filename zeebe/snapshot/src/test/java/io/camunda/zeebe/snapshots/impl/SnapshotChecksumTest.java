@@ -21,6 +21,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.Map;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 import org.agrona.IoUtil;
@@ -211,6 +212,83 @@ public final class SnapshotChecksumTest {
     assertThat(checksumCalculatedInSteps.sameChecksums(checksumCalculatedAtOnce)).isTrue();
   }
 
+  @Test
+  void shouldCalculateChecksumOfEachFile() throws IOException {
+    // given
+    final var folder = createTempDir("many");
+    for (int i = 0; i < 16; i++) {
+      createChunk(folder, "file" + i + ".sst");
+    }
+
+    // when
+    final var actual = SnapshotChecksum.calculate(folder);
+
+    // then
+    assertThat(actual.getChecksums()).hasSize(16);
+    for (int i = 0; i < 16; i++) {
+      final var fileName = "file" + i + ".sst";
+      final Checksum checksum = new CRC32C();
+      checksum.update(Files.readAllBytes(folder.resolve(fileName)));
+      assertThat(actual.getChecksums()).containsEntry(fileName, checksum.getValue());
+    }
+  }
+
+  @Test
+  void shouldReuseChecksumOfFileHardLinkedFromPreviousSnapshot() throws IOException {
+    // given
+    final var previousFolder = createTempDir("previous");
+    createChunk(previousFolder, "file1.sst");
+    // use a checksum which cannot be computed from the file to verify it was reused
+    final var previousChecksums = new SfvChecksumImpl();
+    previousChecksums.updateFromChecksum(previousFolder.resolve("file1.sst"), 0xCAFEL);
+    final var previousSnapshot = previousSnapshot(previousFolder, previousChecksums);
+
+    final var folder = createTempDir("current");
+    Files.createLink(folder.resolve("file1.sst"), previousFolder.resolve("file1.sst"));
+    createChunk(folder, "file2.sst");
+
+    // when
+    final var actual =
+        SnapshotChecksum.calculateWithProvidedChecksums(folder, path -> Map.of(), previousSnapshot);
+
+    // then
+    assertThat(actual.getChecksums())
+        .containsEntry("file1.sst", 0xCAFEL)
+        .containsEntry("file2.sst", SfvChecksumImpl.computeChecksum(folder.resolve("file2.sst")));
+  }
+
+  @Test
+  void shouldNotReuseChecksumOfFileCopiedFromPreviousSnapshot() throws IOException {
+    // given
+    final var previousFolder = createTempDir("previous");
+    createChunk(previousFolder, "file1.sst");
+    final var previousChecksums = new SfvChecksumImpl();
+    previousChecksums.updateFromChecksum(previousFolder.resolve("file1.sst"), 0xCAFEL);
+    final var previousSnapshot = previousSnapshot(previousFolder, previousChecksums);
+
+    final var folder = createTempDir("current");
+    Files.copy(previousFolder.resolve("file1.sst"), folder.resolve("file1.sst"));
+
+    // when
+    final var actual =
+        SnapshotChecksum.calculateWithProvidedChecksums(folder, path -> Map.of(), previousSnapshot);
+
+    // then
+    assertThat(actual.sameChecksums(SnapshotChecksum.calculate(folder))).isTrue();
+  }
+
+  private FileBasedSnapshot previousSnapshot(
+      final Path directory, final ImmutableChecksumsSFV checksums) {
+    return new FileBasedSnapshot(
+        directory,
+        directory.resolveSibling("previous.checksum"),
+        checksums,
+        null,
+        null,
+        s -> {},
+        null);
+  }
+
   private Path createTempDir(final String name) throws IOException {
     final var path = temporaryFolder.resolve(name);
     FileUtil.ensureDirectoryExists(path);
@@ -37,6 +37,9 @@ import java.util.zip.CRC32C;
 
 public class TestFileBasedSnapshotStore implements ReceivableSnapshotStore {
 
+  // an immutable file which is part of every snapshot, such that it can be reused on replication
+  private static final String SHARED_CHUNK = "chunk-shared.sst";
+
   private final FileBasedSnapshotStoreImpl snapshotStore;
 
   public TestFileBasedSnapshotStore(
@@ -119,7 +122,10 @@ public class TestFileBasedSnapshotStore implements ReceivableSnapshotStore {
         IntStream.range(0, size)
             .boxed()
             .map(i -> "chunk-" + i)
-            .collect(Collectors.toMap(k -> k, v -> String.valueOf(random.nextLong())));
+            .collect(
+                Collectors.toMap(
+                    k -> k, v -> String.valueOf(random.nextLong()), (a, b) -> a, HashMap::new));
+    chunks.put(SHARED_CHUNK, SHARED_CHUNK);
     final var transientSnapshot =
         snapshotStore.newTransientSnapshot(index, term, index, index).get();
     transientSnapshot.take(p -> writeSnapshot(p, chunks)).join();
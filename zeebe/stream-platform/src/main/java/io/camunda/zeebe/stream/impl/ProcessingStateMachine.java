@@ -39,6 +39,7 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
+import io.camunda.zeebe.stream.impl.records.CopiedRecords;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
@@ -94,6 +95,13 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If group commit is enabled (see {@link StreamProcessorContext#getMaxCommandsInGroupCommit()}),
+ * {@code updateState()} may defer the commit of the current transaction and continue with the next
+ * command on the log instead. The state changes of all commands in such a group are then committed
+ * together, and only afterwards the responses are sent and the side effects of each command are
+ * executed in order. Before processing a command which joins an open group, a save point is set on
+ * the transaction, such that an error only rolls back the changes of the failing command.
  */
 public final class ProcessingStateMachine {
 
@@ -108,6 +116,8 @@ public final class ProcessingStateMachine {
       "Expected to execute side effects for record '{} {}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_UPDATE_STATE_FAILED =
       "Expected to successfully update state for record '{} {}', but caught an exception. Retry.";
+  private static final String ERROR_MESSAGE_GROUP_COMMIT_FAILED =
+      "Expected to commit the state changes of %d commands up to the command at position %d, but caught an exception. The state changes cannot be rolled back without losing the changes of already written commands.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING =
       "Expected to process record '{} {}' successfully on stream processor, but caught recoverable exception. Retry processing.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_UNRECOVERABLE =
@@ -158,6 +168,11 @@ public final class ProcessingStateMachine {
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
   private final int maxCommandsInBatch;
+  private final int maxCommandsInGroupCommit;
+  // commands which were processed and written, but whose state changes are not committed yet
+  private final List<ProcessedCommand> uncommittedCommands = new ArrayList<>();
+  // commands which were committed, but whose side effects were not executed yet
+  private final ArrayDeque<ProcessedCommand> committedCommands = new ArrayDeque<>();
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
@@ -180,6 +195,7 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    maxCommandsInGroupCommit = context.getMaxCommandsInGroupCommit();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -225,10 +241,12 @@ public final class ProcessingStateMachine {
       //  * and there is no next record on the log
       //  * and this was the last record written (records that have been written to the dispatcher
       //    might not be written to the log yet, which means they will appear shortly after this)
+      //  * and there are no processed commands left whose state changes are not committed yet
       reachedEnd =
           isEventOrRejection.applies(previousRecord)
               && !hasNext
-              && lastWrittenPosition <= previousRecord.getPosition();
+              && lastWrittenPosition <= previousRecord.getPosition()
+              && uncommittedCommands.isEmpty();
     }
 
     if (shouldProcessNext.getAsBoolean() && hasNext && !inProcessing) {
@@ -239,6 +257,10 @@ public final class ProcessingStateMachine {
       } else {
         skipRecord();
       }
+    } else if (!inProcessing && !uncommittedCommands.isEmpty()) {
+      // there is no further command to join the group right now, so we don't delay its commit
+      inProcessing = true;
+      commitState(false);
     }
   }
 
@@ -276,6 +298,10 @@ public final class ProcessingStateMachine {
       typedCommand.wrap(loggedEvent, metadata, value);
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      if (!uncommittedCommands.isEmpty()) {
+        // on error, we only want to roll back the changes of this command, not the whole group
+        zeebeDbTransaction.setSavePoint();
+      }
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
@@ -437,7 +463,13 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              if (uncommittedCommands.isEmpty()) {
+                zeebeDbTransaction.rollback();
+              } else {
+                zeebeDbTransaction.rollbackToSavePoint();
+                // the save point is consumed by the rollback, but we may need to roll back again
+                zeebeDbTransaction.setSavePoint();
+              }
               return true;
             },
             abortCondition);
@@ -637,13 +669,63 @@ public final class ProcessingStateMachine {
   }
 
   private void updateState() {
+    if (shouldDeferCommit()) {
+      deferCommit();
+    } else {
+      commitState(true);
+    }
+  }
+
+  /**
+   * The commit is only deferred if group commit is enabled, the group is not full yet, we are not
+   * handling an error, and there are more records on the log, which might be commands joining the
+   * group. If the next records turn out to be no commands, the group is committed in {@link
+   * #tryToReadNextRecord()}.
+   */
+  private boolean shouldDeferCommit() {
+    return uncommittedCommands.size() + 1 < maxCommandsInGroupCommit
+        && errorHandlingPhase == ErrorHandlingPhase.NO_ERROR
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext();
+  }
+
+  private void deferCommit() {
+    // the reader and the record values are reused for the next command, so we need a copy
+    uncommittedCommands.add(
+        new ProcessedCommand(
+            CopiedRecords.createCopiedTypedRecord(context.getPartitionId(), currentRecord),
+            currentProcessingResult,
+            pendingResponses,
+            processingTimer));
+    lastWrittenPosition = writtenPosition;
+
+    markProcessingCompleted();
+    actor.submit(this::tryToReadNextRecord);
+  }
+
+  /**
+   * Commits the current transaction, which contains the state changes of all uncommitted commands
+   * and, if {@code includesCurrentCommand} is set, of the current command.
+   */
+  private void commitState(final boolean includesCurrentCommand) {
+    final int groupSize = uncommittedCommands.size() + (includesCurrentCommand ? 1 : 0);
+    final long lastCommandPosition =
+        includesCurrentCommand
+            ? currentRecord.getPosition()
+            : uncommittedCommands.getLast().command().getPosition();
+
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.commit();
-              lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
+              try (final var timer = processingMetrics.startGroupCommitDurationTimer()) {
+                zeebeDbTransaction.commit();
+              }
+              processingMetrics.observeGroupCommitSize(groupSize);
+              lastSuccessfulProcessedRecordPosition = lastCommandPosition;
               processingMetrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
-              lastWrittenPosition = writtenPosition;
+              if (includesCurrentCommand) {
+                lastWrittenPosition = writtenPosition;
+              }
               return true;
             },
             abortCondition);
@@ -651,7 +733,15 @@ public final class ProcessingStateMachine {
     actor.runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
-          if (throwable != null) {
+          if (throwable != null && (!includesCurrentCommand || !uncommittedCommands.isEmpty())) {
+            // rolling back would discard the state changes of deferred commands which were already
+            // written and whose follow-up records are on the log; only a replay can restore them.
+            // This applies to a group of a single deferred command as well, as the current record
+            // is no longer the command which was processed.
+            throw new UnrecoverableException(
+                ERROR_MESSAGE_GROUP_COMMIT_FAILED.formatted(groupSize, lastCommandPosition),
+                throwable);
+          } else if (throwable != null) {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentRecord, metadata, throwable);
             onError(
                 throwable,
@@ -660,7 +750,13 @@ public final class ProcessingStateMachine {
                   updateState();
                 });
           } else {
-            scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
+            committedCommands.addAll(uncommittedCommands);
+            uncommittedCommands.clear();
+            if (includesCurrentCommand) {
+              committedCommands.addLast(
+                  new ProcessedCommand(
+                      typedCommand, currentProcessingResult, pendingResponses, processingTimer));
+            }
             executeSideEffects();
           }
         });
@@ -670,26 +766,22 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(
             () -> {
-              // TODO refactor this into two parallel tasks, which are then combined, and on the
-              // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
+              // side effects are executed in the order of processing; if one command's side
+              // effects need to be retried, the already executed ones are not repeated
+              while (!committedCommands.isEmpty()) {
+                final var committedCommand = committedCommands.peekFirst();
+                final var command = committedCommand.command();
+                scheduledCommandCache.remove(command.getIntent(), command.getKey());
+                // TODO refactor this into two parallel tasks, which are then combined, and on the
+                // completion of which the process continues
+                writeResponses(committedCommand.responses());
+                if (!executePostCommitTasks(committedCommand.result())) {
+                  return false;
+                }
+
+                completeCommand(committedCommands.removeFirst());
               }
-              return executePostCommitTasks();
+              return true;
             },
             abortCondition);
 
@@ -701,10 +793,9 @@ public final class ProcessingStateMachine {
                 ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
           }
 
-          notifyProcessedListener(typedCommand);
-
-          // observe the processing duration
-          processingTimer.close();
+          while (!committedCommands.isEmpty()) {
+            completeCommand(committedCommands.removeFirst());
+          }
 
           // continue with next record
           markProcessingCompleted();
@@ -712,9 +803,35 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  private void writeResponses(final Collection<ProcessingResponse> responses) {
+    for (final var processingResponse : responses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
+  private void completeCommand(final ProcessedCommand processedCommand) {
+    notifyProcessedListener(processedCommand.command());
+
+    // observe the processing duration
+    processedCommand.processingTimer().close();
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
     }
   }
 
@@ -772,6 +889,12 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  private record ProcessedCommand(
+      TypedRecord<?> command,
+      ProcessingResult result,
+      Collection<ProcessingResponse> responses,
+      CloseableSilently processingTimer) {}
+
   @FunctionalInterface
   private interface NextProcessingStep {
     void run() throws Exception;
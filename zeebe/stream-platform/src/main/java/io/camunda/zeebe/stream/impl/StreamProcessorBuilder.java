@@ -147,6 +147,11 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxCommandsInGroupCommit() < 1) {
+      throw new IllegalArgumentException(
+          "Group commit limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxCommandsInGroupCommit()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,6 +159,11 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxCommandsInGroupCommit(final int maxCommandsInGroupCommit) {
+    streamProcessorContext.maxCommandsInGroupCommit(maxCommandsInGroupCommit);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
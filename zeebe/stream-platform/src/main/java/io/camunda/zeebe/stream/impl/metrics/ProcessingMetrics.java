@@ -43,6 +43,8 @@ public class ProcessingMetrics {
   private final Counter batchProcessingRetries;
   private final EnumMeter<ErrorHandlingPhase> errorHandlingPhase;
   private final Timer processingLatency;
+  private final DistributionSummary groupCommitSize;
+  private final Timer groupCommitDuration;
 
   public ProcessingMetrics(final MeterRegistry registry) {
     this.registry = registry;
@@ -60,6 +62,8 @@ public class ProcessingMetrics {
             ErrorHandlingPhaseKeys.ERROR_HANDLING_PHASE,
             registry);
     processingLatency = registerProcessingLatency();
+    groupCommitSize = registerGroupCommitSize();
+    groupCommitDuration = registerTimer(StreamMetricsDoc.GROUP_COMMIT_DURATION);
 
     // initialize as no error to start with
     errorHandlingPhase.state(ErrorHandlingPhase.NO_ERROR);
@@ -73,6 +77,14 @@ public class ProcessingMetrics {
     batchProcessingCommands.record(commandCount);
   }
 
+  public CloseableSilently startGroupCommitDurationTimer() {
+    return MicrometerUtil.timer(groupCommitDuration, Timer.start(registry.config().clock()));
+  }
+
+  public void observeGroupCommitSize(final int commandCount) {
+    groupCommitSize.record(commandCount);
+  }
+
   public void countRetry() {
     batchProcessingRetries.increment();
   }
@@ -135,6 +147,14 @@ public class ProcessingMetrics {
     return batchProcessingCommands;
   }
 
+  private DistributionSummary registerGroupCommitSize() {
+    final var meterDoc = StreamMetricsDoc.GROUP_COMMIT_SIZE;
+    return DistributionSummary.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .serviceLevelObjectives(meterDoc.getDistributionSLOs())
+        .register(registry);
+  }
+
   private Counter registerBatchProcessingRetries() {
     final Counter batchProcessingRetries;
     final var retriesDoc = StreamMetricsDoc.BATCH_PROCESSING_RETRIES;
@@ -126,6 +126,65 @@ public enum StreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Records the distribution of processed commands which were committed in a single transaction */
+  GROUP_COMMIT_SIZE {
+    private static final double[] BUCKETS = {1, 2, 4, 8, 16, 32, 64, 128};
+
+    @Override
+    public String getDescription() {
+      return "Records the distribution of processed commands which were committed in a single transaction";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.stream.processor.group.commit.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+  },
+
+  /** Time spent in committing the state changes of one or more processed commands (in seconds) */
+  GROUP_COMMIT_DURATION {
+    private static final Duration[] BUCKETS = {
+      Duration.ofNanos(10_000), // 10 micros
+      Duration.ofNanos(100_000), // 100 micros
+      Duration.ofMillis(1),
+      Duration.ofMillis(10),
+      Duration.ofMillis(100),
+      Duration.ofMillis(250),
+      Duration.ofMillis(500),
+      Duration.ofSeconds(1)
+    };
+
+    @Override
+    public String getDescription() {
+      return "Time spent in committing the state changes of one or more processed commands (in seconds)";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.stream.processor.group.commit.duration";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return BUCKETS;
+    }
+  },
+
   /**
    * The current phase of error handling the processor is in; see {@link
    * io.camunda.zeebe.stream.impl.ProcessingStateMachine.ErrorHandlingPhase} for possible values.
@@ -0,0 +1,225 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionOperation;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransaction;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.verification.VerificationWithTimeout;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorGroupCommitTest {
+
+  private static final long TIMEOUT_MILLIS = 2_000L;
+  private static final VerificationWithTimeout TIMEOUT = timeout(TIMEOUT_MILLIS);
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @BeforeEach
+  void setup() {
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    when(recordProcessor.process(any(), any()))
+        .thenAnswer(
+            invocation ->
+                respondWithEvent(invocation.getArgument(0), invocation.getArgument(1)).build());
+  }
+
+  @Test
+  void shouldSendResponsesOnlyAfterGroupWasCommitted() {
+    // given
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), false, cfg -> cfg.maxCommandsInGroupCommit(10), true);
+
+    // when
+    final var lastCommandPosition =
+        streamPlatform.writeBatch(
+            RecordToWrite.userCommand()
+                .processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.userCommand()
+                .processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+            RecordToWrite.userCommand()
+                .processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)));
+    streamPlatform.resumeProcessing();
+
+    // then
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var responseWriter = streamPlatform.getMockCommandResponseWriter();
+    final var inOrder = inOrder(recordProcessor, responseWriter);
+    inOrder.verify(recordProcessor, TIMEOUT.times(3)).process(any(), any());
+    inOrder.verify(responseWriter, TIMEOUT.times(3)).tryWriteResponse(anyInt(), anyLong());
+
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    await("Last processed position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(lastCommandPosition));
+  }
+
+  @Test
+  void shouldOnlyRollbackFailedCommandOfGroup() {
+    // given
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(
+            invocation ->
+                respondWithEvent(invocation.getArgument(0), invocation.getArgument(1)).build())
+        .doThrow(new RuntimeException("expected"))
+        .doAnswer(
+            invocation ->
+                respondWithEvent(invocation.getArgument(0), invocation.getArgument(1)).build())
+        .when(recordProcessor)
+        .process(any(), any());
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), false, cfg -> cfg.maxCommandsInGroupCommit(10), true);
+
+    // when
+    final var lastCommandPosition =
+        streamPlatform.writeBatch(
+            RecordToWrite.userCommand()
+                .processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.userCommand()
+                .processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+            RecordToWrite.userCommand()
+                .processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)));
+    streamPlatform.resumeProcessing();
+
+    // then
+    verify(recordProcessor, TIMEOUT.times(3)).process(any(), any());
+    verify(recordProcessor, TIMEOUT.times(1)).onProcessingError(any(), any(), any());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    await("Last processed position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(lastCommandPosition));
+  }
+
+  @Test
+  void shouldFailOnFailedCommitOfDeferredCommand() {
+    // given - the command is deferred as its follow-up event is read next, and the group of the
+    // single deferred command is committed once the event was skipped
+    final var failCommit = new AtomicBoolean();
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(
+            invocation -> {
+              failCommit.set(true);
+              return respondWithEvent(invocation.getArgument(0), invocation.getArgument(1)).build();
+            })
+        .when(recordProcessor)
+        .process(any(), any());
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(),
+        false,
+        cfg ->
+            cfg.maxCommandsInGroupCommit(10).zeebeDb(failingOnCommit(cfg.getZeebeDb(), failCommit)),
+        true);
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.userCommand().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+    streamPlatform.resumeProcessing();
+
+    // then
+    await("StreamProcessor fails as the written command cannot be rolled back")
+        .untilAsserted(() -> assertThat(streamPlatform.getStreamProcessor().isFailed()).isTrue());
+    verify(recordProcessor, times(1)).process(any(), any());
+    verify(recordProcessor, never()).onProcessingError(any(), any(), any());
+    verify(streamPlatform.getMockCommandResponseWriter(), never())
+        .tryWriteResponse(anyInt(), anyLong());
+  }
+
+  private ZeebeDb<?> failingOnCommit(final ZeebeDb<?> zeebeDb, final AtomicBoolean failCommit) {
+    final var failingDb = mock(ZeebeDb.class, delegatesTo(zeebeDb));
+    doAnswer(
+            invocation -> {
+              final var context = zeebeDb.createContext();
+              final var transaction =
+                  mock(ZeebeTransaction.class, delegatesTo(context.getCurrentTransaction()));
+              doAnswer(
+                      commit -> {
+                        if (failCommit.get()) {
+                          throw new RuntimeException("expected");
+                        }
+                        return commit.callRealMethod();
+                      })
+                  .when(transaction)
+                  .commit();
+              return new TransactionContext() {
+                @Override
+                public void runInTransaction(final TransactionOperation operations) {
+                  context.runInTransaction(operations);
+                }
+
+                @Override
+                public ZeebeDbTransaction getCurrentTransaction() {
+                  context.getCurrentTransaction();
+                  return transaction;
+                }
+              };
+            })
+        .when(failingDb)
+        .createContext();
+    return failingDb;
+  }
+
+  private ProcessingResultBuilder respondWithEvent(
+      final TypedRecord<?> command, final ProcessingResultBuilder resultBuilder) {
+    resultBuilder.appendRecordReturnEither(
+        command.getKey(),
+        Records.processInstance(1),
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .intent(ELEMENT_ACTIVATED)
+            .rejectionType(RejectionType.NULL_VAL)
+            .rejectionReason(""));
+    return resultBuilder.withResponse(
+        RecordType.EVENT,
+        command.getKey(),
+        ELEMENT_ACTIVATED,
+        Records.processInstance(1),
+        ValueType.PROCESS_INSTANCE,
+        RejectionType.NULL_VAL,
+        "",
+        command.getRequestId(),
+        command.getRequestStreamId());
+  }
+}
@@ -44,6 +44,22 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of multiple keys at once, with a single lookup in the database, which is
+   * considerably cheaper than calling {@link #get(DbKey)} for each of them. The keys are added by
+   * the given {@code keys} consumer; they are serialized immediately, so the same key instance can
+   * be reused for all of them.
+   *
+   * <p>Afterwards, the visitor is called for every key which exists in the column family, in the
+   * order in which the keys were added. The visitor can indicate via the return value, whether it
+   * should be called for the remaining keys or not. Like with iterations, the given key and value
+   * reflect the current visit and should not be stored.
+   *
+   * @param keys the consumer which adds the keys to look up
+   * @param visitor the visitor which visits the found key-value pairs
+   */
+  void multiGet(Consumer<Consumer<KeyType>> keys, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -150,6 +166,20 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void deleteIfExists(KeyType key);
 
+  /**
+   * Applies multiple mutations to the column family at once. The mutations are collected by the
+   * given consumer and written together when it returns, which is considerably cheaper than
+   * applying them one by one when many keys are mutated, e.g. when removing all entries of a
+   * prefix. The preconditions of all mutations are checked with a single lookup before anything is
+   * written; if one of them is violated, none of the mutations are applied.
+   *
+   * <p>The mutations are only visible once the batch is applied, and nested batches on the same
+   * column family are not supported. See {@link ColumnFamilyWriteBatch} for details.
+   *
+   * @param mutations the consumer which collects the mutations of the batch
+   */
+  void writeBatch(Consumer<ColumnFamilyWriteBatch<KeyType, ValueType>> mutations);
+
   /**
    * Checks for key existence in the column family.
    *
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+import java.util.function.Consumer;
+
+/**
+ * Collects mutations of a column family, which are applied together when the batch is complete. See
+ * {@link ColumnFamily#writeBatch(Consumer)}.
+ *
+ * <p>The given keys and values are serialized immediately, so they can be reused for the next
+ * mutation. The preconditions of all mutations are checked against the state before the batch is
+ * applied, which means that a key should be mutated at most once within the same batch.
+ *
+ * @param <KeyType> the type of the keys
+ * @param <ValueType> the type of the values
+ */
+public interface ColumnFamilyWriteBatch<KeyType extends DbKey, ValueType extends DbValue> {
+
+  /**
+   * Inserts a new key value pair into the column family.
+   *
+   * @throws ZeebeDbInconsistentException when the batch is applied, if key already exists
+   */
+  void insert(KeyType key, ValueType value);
+
+  /**
+   * Updates the value of an existing key in the column family.
+   *
+   * @throws ZeebeDbInconsistentException when the batch is applied, if key does not exist
+   */
+  void update(KeyType key, ValueType value);
+
+  /** Inserts or updates a key value pair in the column family. */
+  void upsert(KeyType key, ValueType value);
+
+  /**
+   * Deletes the key-value pair with the given key if it exists in the column family
+   *
+   * @throws ZeebeDbInconsistentException when the batch is applied, if the key does not exist
+   */
+  void deleteExisting(KeyType key);
+
+  /**
+   * Deletes the key-value pair if the key does exist in the column family. No-op if the key does
+   * not exist.
+   */
+  void deleteIfExists(KeyType key);
+}
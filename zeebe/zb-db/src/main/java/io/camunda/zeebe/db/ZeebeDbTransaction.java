@@ -38,4 +38,24 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction, such that a later call to {@link
+   * #rollbackToSavePoint()} discards only the changes made after this point. This allows to keep
+   * multiple units of work in one transaction, while still being able to undo the last one.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest save point set via {@link #setSavePoint()}, discards
+   * all changes made after it. The transaction stays open and can be committed afterwards.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown, or if no
+   *     save point was set
+   */
+  void rollbackToSavePoint() throws Exception;
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -20,7 +22,8 @@ public final class RocksDbConfiguration {
   /**
    * WARN: It is safe to disable wal as long as there is only one column family. With more than one
    * column family, consistency across multiple column family is ensured by WAL while taking a
-   * checkpoint.
+   * checkpoint. This is why atomic flushes are enabled when {@link #dedicatedColumnFamilies} are
+   * configured: the checkpoint then flushes all column families together.
    *
    * <p>http://rocksdb.org/blog/2015/11/10/use-checkpoints-for-efficient-snapshots.html >>> The
    * Checkpoint feature enables RocksDB to create a consistent snapshot of a given RocksDB database
@@ -44,6 +47,21 @@ public final class RocksDbConfiguration {
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
   private Properties columnFamilyOptions = new Properties();
+
+  /**
+   * Logical column families, by name, which are stored in their own RocksDB column family instead
+   * of sharing the default one with all others, mapped to the options of that RocksDB column
+   * family. Families which are read and written at a much higher rate than the rest of the state
+   * (e.g. due dates or activatable jobs) benefit from having their own memtables, compactions and
+   * filters. An empty set of options means that the same options as for the default column family
+   * are used.
+   *
+   * <p>Entries of a logical column family are moved lazily into its dedicated RocksDB column family
+   * when it is first accessed; entries of a RocksDB column family which is no longer configured are
+   * moved back into the default one when the database is opened.
+   */
+  private Map<String, Properties> dedicatedColumnFamilies = new HashMap<>();
+
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
   private int maxWriteBufferNumber = DEFAULT_MAX_WRITE_BUFFER_NUMBER;
@@ -83,6 +101,16 @@ public final class RocksDbConfiguration {
     return this;
   }
 
+  public Map<String, Properties> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setDedicatedColumnFamilies(
+      final Map<String, Properties> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+    return this;
+  }
+
   public boolean isStatisticsEnabled() {
     return statisticsEnabled;
   }
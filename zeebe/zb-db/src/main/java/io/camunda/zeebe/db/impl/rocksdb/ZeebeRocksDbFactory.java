@@ -19,9 +19,12 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
@@ -99,7 +102,7 @@ public final class ZeebeRocksDbFactory<
 
     try {
       return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+          snapshotOnlyOptions, options, pathName.getAbsolutePath(), managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -108,15 +111,29 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
-    // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    // the table config (and with it the block cache) is shared by all column families which use
+    // the default options; column family options have to be closed as last
+    final var tableConfig = createTableFormatConfig(managedResources);
+    final var columnFamilyOptions =
+        createColumnFamilyOptions(rocksDbConfiguration.getColumnFamilyOptions(), tableConfig);
     managedResources.add(columnFamilyOptions);
+    final var dedicatedColumnFamilyOptions = new HashMap<String, ColumnFamilyOptions>();
+    rocksDbConfiguration
+        .getDedicatedColumnFamilies()
+        .forEach(
+            (name, properties) -> {
+              final var options = createDedicatedColumnFamilyOptions(properties, tableConfig);
+              managedResources.add(options);
+              dedicatedColumnFamilyOptions.put(name, options);
+            });
     final var dbOptions = createDefaultDbOptions(managedResources);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, dedicatedColumnFamilyOptions);
   }
 
   private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+    final var hasDedicatedColumnFamilies =
+        !rocksDbConfiguration.getDedicatedColumnFamilies().isEmpty();
     final var props = new Properties();
     props.put("file_checksum_gen_factory", "FileChecksumGenCrc32cFactory");
     //    Enables full file checksum
@@ -129,8 +146,11 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
-            .setCreateMissingColumnFamilies(false)
+            // we only use the default CF, unless some are configured to be dedicated
+            .setCreateMissingColumnFamilies(hasDedicatedColumnFamilies)
+            // with the WAL disabled, only flushing all column families together guarantees that a
+            // checkpoint is consistent across them
+            .setAtomicFlush(hasDedicatedColumnFamilies)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
             .setAvoidFlushDuringRecovery(true)
@@ -168,14 +188,45 @@ public final class ZeebeRocksDbFactory<
    * @return Options which are used on all column families
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
-    final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
+    return createColumnFamilyOptions(
+        rocksDbConfiguration.getColumnFamilyOptions(), createTableFormatConfig(closeables));
+  }
+
+  /**
+   * @return Options which are used on the given dedicated column family
+   */
+  ColumnFamilyOptions createDedicatedColumnFamilyOptions(
+      final String name, final List<AutoCloseable> closeables) {
+    return createDedicatedColumnFamilyOptions(
+        rocksDbConfiguration.getDedicatedColumnFamilies().get(name),
+        createTableFormatConfig(closeables));
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final Properties userProvidedColumnFamilyOptions, final TableFormatConfig tableConfig) {
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
     if (hasUserOptions) {
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(tableConfig);
+  }
+
+  /**
+   * Dedicated column families share the block cache and the memory budget with the default column
+   * family, so the user provided options are layered on top of the default options, instead of
+   * replacing them. RocksDB can only parse options into new options, so the user provided options
+   * are parsed first, and the defaults are applied to every option which was not provided.
+   */
+  private ColumnFamilyOptions createDedicatedColumnFamilyOptions(
+      final Properties userProvidedColumnFamilyOptions, final TableFormatConfig tableConfig) {
+    final var columnFamilyOptions =
+        userProvidedColumnFamilyOptions.isEmpty()
+            ? new ColumnFamilyOptions()
+            : createFromUserOptions(userProvidedColumnFamilyOptions);
+    return applyDefaultColumnFamilyOptions(
+        columnFamilyOptions, tableConfig, userProvidedColumnFamilyOptions.stringPropertyNames());
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -195,13 +246,27 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
-    final var columnFamilyOptions = new ColumnFamilyOptions();
+      final TableFormatConfig tableConfig) {
+    return applyDefaultColumnFamilyOptions(new ColumnFamilyOptions(), tableConfig, Set.of());
+  }
+
+  /**
+   * Applies the default options to the given column family options, except for the given options
+   * which were configured by the user.
+   */
+  private ColumnFamilyOptions applyDefaultColumnFamilyOptions(
+      final ColumnFamilyOptions columnFamilyOptions,
+      final TableFormatConfig tableConfig,
+      final Set<String> configuredOptions) {
+    final BiConsumer<String, Runnable> setDefault =
+        (option, setter) -> {
+          if (!configuredOptions.contains(option)) {
+            setter.run();
+          }
+        };
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    final var blockCacheMemory = getBlockCacheMemory();
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -214,69 +279,117 @@ public final class ZeebeRocksDbFactory<
     // create
     // a filter for each memtable, allowing us to skip the prefixes if possible
     final var memtablePrefixFilterMemory = 0.15;
+    // every RocksDB column family has its own memtables, so the budget is split between them
+    final var columnFamilyCount = 1 + rocksDbConfiguration.getDedicatedColumnFamilies().size();
     final var memtableMemory =
         Math.round(
-            ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
+            ((totalMemoryBudget - blockCacheMemory)
+                    / (double) (maxConcurrentMemtableCount * columnFamilyCount))
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
-
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
-      columnFamilyOptions.setSstPartitionerFactory(
-          new SstPartitionerFixedPrefixFactory(Long.BYTES));
+      setDefault.accept(
+          "sst_partitioner_factory",
+          () ->
+              columnFamilyOptions.setSstPartitionerFactory(
+                  new SstPartitionerFixedPrefixFactory(Long.BYTES)));
     }
 
-    return columnFamilyOptions
-        // to extract our column family type (used as prefix) and seek faster
-        .useFixedLengthPrefixExtractor(Long.BYTES)
-        .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
-        // memtables
-        // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
-        // files
-        // this is also a candidate for tuning, it was a rough guess
-        .setMinWriteBufferNumberToMerge(rocksDbConfiguration.getMinWriteBufferNumberToMerge())
-        .setMaxWriteBufferNumberToMaintain(maxConcurrentMemtableCount)
-        .setMaxWriteBufferNumber(maxConcurrentMemtableCount)
-        .setWriteBufferSize(memtableMemory)
-        // compaction
-        .setLevelCompactionDynamicLevelBytes(true)
-        .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst)
-        .setCompactionStyle(CompactionStyle.LEVEL)
-        // L-0 means immediately flushed memtables
-        .setLevel0FileNumCompactionTrigger(maxConcurrentMemtableCount)
-        .setLevel0SlowdownWritesTrigger(
-            maxConcurrentMemtableCount + (maxConcurrentMemtableCount / 2))
-        .setLevel0StopWritesTrigger(maxConcurrentMemtableCount * 2)
-        // configure 4 levels: L1 = 32mb, L2 = 320mb, L3 = 3.2Gb, L4 >= 3.2Gb
-        // level 1 and 2 are uncompressed, level 3 and above are compressed using a CPU-cheap
-        // compression algo. compressed blocks are stored in the OS page cache, and uncompressed in
-        // the LRUCache created above. note L0 is always uncompressed
-        .setNumLevels(4)
-        .setMaxBytesForLevelBase(32 * 1024 * 1024L)
-        .setMaxBytesForLevelMultiplier(10)
-        .setCompressionPerLevel(
-            List.of(
-                CompressionType.NO_COMPRESSION,
-                CompressionType.NO_COMPRESSION,
-                CompressionType.LZ4_COMPRESSION,
-                CompressionType.LZ4_COMPRESSION))
-        // Target file size for compaction.
-        // Defines the desired SST file size for different levels (but not guaranteed, it is usually
-        // lower)
-        // L0 is what gets merged and flushed, e.g. 3 memtables to X, and target file size and
-        // multiplier is for L1 and other levels.
-        // L1 => 8Mb, L2 => 16Mb, L3 => 32Mb
-        // As levels get bigger, we want to have a good balance between the number of files and the
-        // individual file sizes
-        // https://github.com/facebook/rocksdb/blob/fd0d35d390e212b617e90d7567102d3e5fd1c706/include/rocksdb/advanced_options.h#L417-L429
-        .setTargetFileSizeBase(8 * 1024 * 1024L)
-        .setTargetFileSizeMultiplier(2)
-        // misc
-        .setTableFormatConfig(tableConfig);
+    // to extract our column family type (used as prefix) and seek faster
+    setDefault.accept(
+        "prefix_extractor", () -> columnFamilyOptions.useFixedLengthPrefixExtractor(Long.BYTES));
+    setDefault.accept(
+        "memtable_prefix_bloom_size_ratio",
+        () -> columnFamilyOptions.setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory));
+    // memtables
+    // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
+    // files
+    // this is also a candidate for tuning, it was a rough guess
+    setDefault.accept(
+        "min_write_buffer_number_to_merge",
+        () ->
+            columnFamilyOptions.setMinWriteBufferNumberToMerge(
+                rocksDbConfiguration.getMinWriteBufferNumberToMerge()));
+    setDefault.accept(
+        "max_write_buffer_number_to_maintain",
+        () -> columnFamilyOptions.setMaxWriteBufferNumberToMaintain(maxConcurrentMemtableCount));
+    setDefault.accept(
+        "max_write_buffer_number",
+        () -> columnFamilyOptions.setMaxWriteBufferNumber(maxConcurrentMemtableCount));
+    setDefault.accept(
+        "write_buffer_size", () -> columnFamilyOptions.setWriteBufferSize(memtableMemory));
+    // compaction
+    setDefault.accept(
+        "level_compaction_dynamic_level_bytes",
+        () -> columnFamilyOptions.setLevelCompactionDynamicLevelBytes(true));
+    setDefault.accept(
+        "compaction_pri",
+        () -> columnFamilyOptions.setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst));
+    setDefault.accept(
+        "compaction_style", () -> columnFamilyOptions.setCompactionStyle(CompactionStyle.LEVEL));
+    // L-0 means immediately flushed memtables
+    setDefault.accept(
+        "level0_file_num_compaction_trigger",
+        () -> columnFamilyOptions.setLevel0FileNumCompactionTrigger(maxConcurrentMemtableCount));
+    setDefault.accept(
+        "level0_slowdown_writes_trigger",
+        () ->
+            columnFamilyOptions.setLevel0SlowdownWritesTrigger(
+                maxConcurrentMemtableCount + (maxConcurrentMemtableCount / 2)));
+    setDefault.accept(
+        "level0_stop_writes_trigger",
+        () -> columnFamilyOptions.setLevel0StopWritesTrigger(maxConcurrentMemtableCount * 2));
+    // configure 4 levels: L1 = 32mb, L2 = 320mb, L3 = 3.2Gb, L4 >= 3.2Gb
+    // level 1 and 2 are uncompressed, level 3 and above are compressed using a CPU-cheap
+    // compression algo. compressed blocks are stored in the OS page cache, and uncompressed in
+    // the LRUCache created above. note L0 is always uncompressed
+    setDefault.accept("num_levels", () -> columnFamilyOptions.setNumLevels(4));
+    setDefault.accept(
+        "max_bytes_for_level_base",
+        () -> columnFamilyOptions.setMaxBytesForLevelBase(32 * 1024 * 1024L));
+    setDefault.accept(
+        "max_bytes_for_level_multiplier",
+        () -> columnFamilyOptions.setMaxBytesForLevelMultiplier(10));
+    setDefault.accept(
+        "compression_per_level",
+        () ->
+            columnFamilyOptions.setCompressionPerLevel(
+                List.of(
+                    CompressionType.NO_COMPRESSION,
+                    CompressionType.NO_COMPRESSION,
+                    CompressionType.LZ4_COMPRESSION,
+                    CompressionType.LZ4_COMPRESSION)));
+    // Target file size for compaction.
+    // Defines the desired SST file size for different levels (but not guaranteed, it is usually
+    // lower)
+    // L0 is what gets merged and flushed, e.g. 3 memtables to X, and target file size and
+    // multiplier is for L1 and other levels.
+    // L1 => 8Mb, L2 => 16Mb, L3 => 32Mb
+    // As levels get bigger, we want to have a good balance between the number of files and the
+    // individual file sizes
+    // https://github.com/facebook/rocksdb/blob/fd0d35d390e212b617e90d7567102d3e5fd1c706/include/rocksdb/advanced_options.h#L417-L429
+    setDefault.accept(
+        "target_file_size_base", () -> columnFamilyOptions.setTargetFileSizeBase(8 * 1024 * 1024L));
+    setDefault.accept(
+        "target_file_size_multiplier", () -> columnFamilyOptions.setTargetFileSizeMultiplier(2));
+    // misc
+    // the table factory may be configured by its type, or directly as block based table factory
+    if (!configuredOptions.contains("block_based_table_factory")) {
+      setDefault.accept(
+          "table_factory", () -> columnFamilyOptions.setTableFormatConfig(tableConfig));
+    }
+
+    return columnFamilyOptions;
+  }
+
+  private long getBlockCacheMemory() {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return rocksDbConfiguration.getMemoryLimit() / 3;
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  private TableFormatConfig createTableFormatConfig(final List<AutoCloseable> closeables) {
+    final var blockCacheMemory = getBlockCacheMemory();
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
     final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * Serializes puts and deletes of a single column family in RocksDB's write batch format (see {@code
+ * db/write_batch.cc}), without going through JNI for every entry. The serialized batch can then be
+ * applied to a transaction with a single native call, see {@link ZeebeTransaction#write(byte[])}.
+ *
+ * <p>The format consists of a header with the sequence number (fixed 64 bit) and the entry count
+ * (fixed 32 bit), followed by the entries. Each entry starts with its type, followed by the column
+ * family id as varint unless it is the default column family, then the key and, for puts, the
+ * value, each of them prefixed with their length as varint.
+ */
+final class SerializedWriteBatch {
+
+  private static final int COUNT_OFFSET = Long.BYTES;
+  private static final int HEADER_LENGTH = COUNT_OFFSET + Integer.BYTES;
+  private static final byte TYPE_DELETION = 0x0;
+  private static final byte TYPE_VALUE = 0x1;
+  private static final byte TYPE_COLUMN_FAMILY_DELETION = 0x4;
+  private static final byte TYPE_COLUMN_FAMILY_VALUE = 0x5;
+  private static final int DEFAULT_COLUMN_FAMILY_ID = 0;
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private final long columnFamilyPrefix;
+  private final int columnFamilyId;
+  private int length;
+  private int count;
+  private int lastKeyOffset;
+  private int lastKeyLength;
+
+  SerializedWriteBatch(final long columnFamilyPrefix, final int columnFamilyId) {
+    this.columnFamilyPrefix = columnFamilyPrefix;
+    this.columnFamilyId = columnFamilyId;
+    reset();
+  }
+
+  void reset() {
+    buffer.setMemory(0, HEADER_LENGTH, (byte) 0);
+    length = HEADER_LENGTH;
+    count = 0;
+  }
+
+  void put(final DbKey key, final DbValue value) {
+    writeType(TYPE_VALUE, TYPE_COLUMN_FAMILY_VALUE);
+    writeKey(key);
+    final int valueLength = value.getLength();
+    writeVarInt(valueLength);
+    value.write(buffer, length);
+    length += valueLength;
+    count++;
+  }
+
+  void delete(final DbKey key) {
+    writeType(TYPE_DELETION, TYPE_COLUMN_FAMILY_DELETION);
+    writeKey(key);
+    count++;
+  }
+
+  /**
+   * @return a copy of the key of the last put or delete, including the column family prefix
+   */
+  byte[] copyLastKey() {
+    return Arrays.copyOfRange(buffer.byteArray(), lastKeyOffset, lastKeyOffset + lastKeyLength);
+  }
+
+  boolean isEmpty() {
+    return count == 0;
+  }
+
+  byte[] toByteArray() {
+    buffer.putInt(COUNT_OFFSET, count, ByteOrder.LITTLE_ENDIAN);
+    return Arrays.copyOf(buffer.byteArray(), length);
+  }
+
+  private void writeType(final byte defaultColumnFamilyType, final byte columnFamilyType) {
+    if (columnFamilyId == DEFAULT_COLUMN_FAMILY_ID) {
+      buffer.putByte(length++, defaultColumnFamilyType);
+    } else {
+      buffer.putByte(length++, columnFamilyType);
+      writeVarInt(columnFamilyId);
+    }
+  }
+
+  private void writeKey(final DbKey key) {
+    lastKeyLength = Long.BYTES + key.getLength();
+    writeVarInt(lastKeyLength);
+    lastKeyOffset = length;
+    buffer.putLong(length, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    key.write(buffer, length + Long.BYTES);
+    length += lastKeyLength;
+  }
+
+  private void writeVarInt(final int value) {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      buffer.putByte(length++, (byte) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+    buffer.putByte(length++, (byte) remaining);
+  }
+}
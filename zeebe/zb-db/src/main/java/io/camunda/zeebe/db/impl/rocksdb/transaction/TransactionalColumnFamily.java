@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
+import io.camunda.zeebe.db.ColumnFamilyWriteBatch;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.ContainsForeignKeys;
 import io.camunda.zeebe.db.DbKey;
@@ -19,12 +20,18 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +63,9 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final TransactionalWriteBatch writeBatch;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final long columnFamilyNativeHandle;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -72,8 +82,11 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    columnFamilyHandle = transactionDb.getColumnFamilyHandle(columnFamily);
+    columnFamilyNativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily);
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
+    writeBatch = new TransactionalWriteBatch(columnFamily.getValue(), columnFamilyHandle.getID());
   }
 
   @Override
@@ -87,7 +100,7 @@ class TransactionalColumnFamily<
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -106,7 +119,7 @@ class TransactionalColumnFamily<
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -124,7 +137,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -141,7 +154,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             final byte[] value =
                 transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
+                    columnFamilyNativeHandle,
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
                     columnFamilyContext.getKeyLength());
@@ -156,6 +169,39 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void multiGet(
+      final Consumer<Consumer<KeyType>> keys,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            final List<byte[]> serializedKeys = new ArrayList<>();
+            keys.accept(
+                key -> {
+                  columnFamilyContext.writeKey(key);
+                  serializedKeys.add(
+                      Arrays.copyOf(
+                          columnFamilyContext.getKeyBufferArray(),
+                          columnFamilyContext.getKeyLength()));
+                });
+            if (serializedKeys.isEmpty()) {
+              return;
+            }
+
+            final var values =
+                transaction.multiGet(
+                    transactionDb.getDefaultReadOptions(), columnFamilyHandle, serializedKeys);
+            for (int i = 0; i < serializedKeys.size(); i++) {
+              final byte[] value = values.get(i);
+              if (value != null && !visit(serializedKeys.get(i), value, visitor)) {
+                return;
+              }
+            }
+          });
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -226,7 +272,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
           });
@@ -240,13 +286,29 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
           });
     }
   }
 
+  @Override
+  public void writeBatch(final Consumer<ColumnFamilyWriteBatch<KeyType, ValueType>> mutations) {
+    try (final var timer = metrics.measurePutLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            writeBatch.open(transaction);
+            try {
+              mutations.accept(writeBatch);
+              writeBatch.apply();
+            } finally {
+              writeBatch.close();
+            }
+          });
+    }
+  }
+
   @Override
   public boolean exists(final KeyType key) {
     try (final var timer = metrics.measureGetLatency()) {
@@ -255,7 +317,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             final byte[] value =
                 transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
+                    columnFamilyNativeHandle,
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
                     columnFamilyContext.getKeyLength());
@@ -308,7 +370,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -324,7 +386,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -346,7 +408,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, columnFamilyHandle);
   }
 
   /**
@@ -404,7 +466,7 @@ class TransactionalColumnFamily<
                   break;
                 }
 
-                shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+                shouldVisitNext = visit(keyBytes, iterator.value(), visitor);
               }
             }
           });
@@ -458,20 +520,137 @@ class TransactionalColumnFamily<
   }
 
   private boolean visit(
-      final KeyType keyInstance,
-      final ValueType valueInstance,
-      final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
-      final RocksIterator iterator) {
-    final var keyBytes = iterator.key();
-
-    columnFamilyContext.wrapKeyView(keyBytes);
-    columnFamilyContext.wrapValueView(iterator.value());
+      final byte[] key, final byte[] value, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    columnFamilyContext.wrapKeyView(key);
+    columnFamilyContext.wrapValueView(value);
 
     final DirectBuffer keyViewBuffer = columnFamilyContext.getKeyView();
     keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
     final DirectBuffer valueViewBuffer = columnFamilyContext.getValueView();
     valueInstance.wrap(valueViewBuffer, 0, valueViewBuffer.capacity());
 
-    return iteratorConsumer.visit(keyInstance, valueInstance);
+    return visitor.visit(keyInstance, valueInstance);
+  }
+
+  /**
+   * Collects the mutations of {@link #writeBatch(Consumer)}. The mutations are serialized right
+   * away, while the keys which have to be checked for existence are collected and then checked with
+   * a single multi-get before the batch is written to the transaction.
+   */
+  private final class TransactionalWriteBatch
+      implements ColumnFamilyWriteBatch<KeyType, ValueType> {
+    private final SerializedWriteBatch serializedBatch;
+    private final List<byte[]> keysToCheck = new ArrayList<>();
+    private final BitSet keysExpectedToExist = new BitSet();
+    private ZeebeTransaction transaction;
+
+    private TransactionalWriteBatch(final long columnFamilyPrefix, final int columnFamilyId) {
+      serializedBatch = new SerializedWriteBatch(columnFamilyPrefix, columnFamilyId);
+    }
+
+    @Override
+    public void insert(final KeyType key, final ValueType value) {
+      ensureOpen();
+      assertForeignKeysExistUnchecked(key, value);
+      serializedBatch.put(key, value);
+      checkExistence(false);
+    }
+
+    @Override
+    public void update(final KeyType key, final ValueType value) {
+      ensureOpen();
+      assertForeignKeysExistUnchecked(key, value);
+      serializedBatch.put(key, value);
+      checkExistence(true);
+    }
+
+    @Override
+    public void upsert(final KeyType key, final ValueType value) {
+      ensureOpen();
+      assertForeignKeysExistUnchecked(key, value);
+      serializedBatch.put(key, value);
+    }
+
+    @Override
+    public void deleteExisting(final KeyType key) {
+      ensureOpen();
+      serializedBatch.delete(key);
+      checkExistence(true);
+    }
+
+    @Override
+    public void deleteIfExists(final KeyType key) {
+      ensureOpen();
+      serializedBatch.delete(key);
+    }
+
+    private void open(final ZeebeTransaction transaction) {
+      if (this.transaction != null) {
+        throw new IllegalStateException(
+            "Nested write batches on the same column family are not supported");
+      }
+      this.transaction = transaction;
+    }
+
+    private void apply() throws Exception {
+      assertPreconditions();
+      if (!serializedBatch.isEmpty()) {
+        transaction.write(serializedBatch.toByteArray());
+      }
+    }
+
+    private void close() {
+      transaction = null;
+      serializedBatch.reset();
+      keysToCheck.clear();
+      keysExpectedToExist.clear();
+    }
+
+    private void ensureOpen() {
+      if (transaction == null) {
+        throw new IllegalStateException(
+            "Expected write batch to be open, but it was used outside of writeBatch()");
+      }
+    }
+
+    private void checkExistence(final boolean expectedToExist) {
+      if (!consistencyChecksSettings.enablePreconditions()) {
+        return;
+      }
+      keysExpectedToExist.set(keysToCheck.size(), expectedToExist);
+      keysToCheck.add(serializedBatch.copyLastKey());
+    }
+
+    private void assertForeignKeysExistUnchecked(final KeyType key, final ValueType value) {
+      try {
+        assertForeignKeysExist(transaction, key, value);
+      } catch (final Exception e) {
+        LangUtil.rethrowUnchecked(e);
+      }
+    }
+
+    private void assertPreconditions() throws Exception {
+      if (keysToCheck.isEmpty()) {
+        return;
+      }
+
+      final var values =
+          transaction.multiGet(
+              transactionDb.getDefaultReadOptions(), columnFamilyHandle, keysToCheck);
+      for (int i = 0; i < keysToCheck.size(); i++) {
+        final boolean exists = values.get(i) != null;
+        if (exists != keysExpectedToExist.get(i)) {
+          columnFamilyContext.wrapKeyView(keysToCheck.get(i));
+          final DirectBuffer keyView = columnFamilyContext.getKeyView();
+          keyInstance.wrap(keyView, 0, keyView.capacity());
+          throw new ZeebeDbInconsistentException(
+              "Key "
+                  + keyInstance
+                  + " in ColumnFamily "
+                  + columnFamily
+                  + (exists ? " already exists" : " does not exist"));
+        }
+      }
+    }
   }
 }
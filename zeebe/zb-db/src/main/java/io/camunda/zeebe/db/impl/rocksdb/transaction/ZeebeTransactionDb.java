@@ -18,28 +18,42 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDBMetricExporter;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -47,6 +61,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     implements ZeebeDb<ColumnFamilyNames>, TransactionRenovator {
 
   private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final int MAX_MOVE_BATCH_SIZE = 2 * 1024;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
   private final OptimisticTransactionDB optimisticTransactionDB;
@@ -56,6 +71,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  private final Map<String, ColumnFamilyHandle> dedicatedHandles;
+  private final Map<String, Long> dedicatedNativeHandles = new HashMap<>();
+  private final Set<String> migratedColumnFamilies = ConcurrentHashMap.newKeySet();
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
   private final MeterRegistry meterRegistry;
@@ -63,6 +81,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> dedicatedHandles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
@@ -71,6 +90,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
       final MeterRegistry meterRegistry) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.dedicatedHandles = dedicatedHandles;
+    dedicatedHandles.forEach(
+        (name, handle) -> dedicatedNativeHandles.put(name, getNativeHandle(handle)));
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
@@ -103,28 +125,54 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final AccessMetricsConfiguration metrics,
           final Supplier<MeterRegistry> meterRegistryFactory)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    // besides the default column family, open all dedicated column families: the configured ones
+    // and those which were configured previously, as their entries have to be moved back
+    final var dedicatedCfOptions = options.dedicatedCfOptions();
+    final var dedicatedNames = new TreeSet<>(dedicatedCfOptions.keySet());
+    dedicatedNames.addAll(listDedicatedColumnFamilies(options, path));
+    final List<ColumnFamilyDescriptor> cfDescriptors = new ArrayList<>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    dedicatedNames.forEach(
+        name ->
+            cfDescriptors.add(
+                new ColumnFamilyDescriptor(
+                    name.getBytes(StandardCharsets.UTF_8),
+                    dedicatedCfOptions.getOrDefault(name, options.cfOptions()))));
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
     closables.add(defaultColumnFamilyHandle);
 
+    final Map<String, ColumnFamilyHandle> dedicatedHandles = new HashMap<>();
+    for (final var handle : cfHandles.subList(1, cfHandles.size())) {
+      final var name = new String(handle.getName(), StandardCharsets.UTF_8);
+      if (dedicatedCfOptions.containsKey(name)) {
+        closables.add(handle);
+        dedicatedHandles.put(name, handle);
+      } else {
+        try (handle) {
+          moveBackToDefaultColumnFamily(
+              optimisticTransactionDB, rocksDbConfiguration, defaultColumnFamilyHandle, handle);
+        }
+      }
+    }
+
     final var meterRegistry = meterRegistryFactory.get();
     closables.add(() -> MicrometerUtil.close(meterRegistry));
 
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
+        dedicatedHandles,
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
@@ -133,6 +181,88 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         meterRegistry);
   }
 
+  private static List<String> listDedicatedColumnFamilies(
+      final RocksDbOptions options, final String path) throws RocksDBException {
+    if (!Files.exists(Path.of(path, "CURRENT"))) {
+      return List.of();
+    }
+
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      return RocksDB.listColumnFamilies(listOptions, path).stream()
+          .filter(name -> !Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY))
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private static void moveBackToDefaultColumnFamily(
+      final RocksDB db,
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ColumnFamilyHandle defaultHandle,
+      final ColumnFamilyHandle handle)
+      throws RocksDBException {
+    final var name = new String(handle.getName(), StandardCharsets.UTF_8);
+    LOG.info(
+        "Column family {} is no longer configured to be dedicated, moving its entries back to the default column family",
+        name);
+    try (final var writeOptions =
+            new WriteOptions().setDisableWAL(rocksDbConfiguration.isWalDisabled());
+        final var flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      moveEntries(db, writeOptions, handle, defaultHandle, null);
+      // the entries must be persisted before their origin is dropped, as the WAL may be disabled
+      db.flush(flushOptions, defaultHandle);
+      db.dropColumnFamily(handle);
+    }
+  }
+
+  /**
+   * Moves all entries with the given prefix, or all entries if the prefix is null, from the source
+   * to the target column family. The entries are moved in chunks, each of which is written
+   * atomically, so that an entry is never lost or visible in both column families.
+   */
+  private static void moveEntries(
+      final RocksDB db,
+      final WriteOptions writeOptions,
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target,
+      final byte[] prefix)
+      throws RocksDBException {
+    long movedEntries = 0;
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var iterator = db.newIterator(source, readOptions);
+        final var batch = new WriteBatch()) {
+      if (prefix == null) {
+        iterator.seekToFirst();
+      } else {
+        iterator.seek(prefix);
+      }
+
+      for (; iterator.isValid(); iterator.next()) {
+        final var key = iterator.key();
+        if (prefix != null
+            && !BufferUtil.startsWith(prefix, 0, prefix.length, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(target, key, iterator.value());
+        batch.delete(source, key);
+        if (batch.count() >= MAX_MOVE_BATCH_SIZE) {
+          db.write(writeOptions, batch);
+          movedEntries += batch.count() / 2;
+          batch.clear();
+        }
+      }
+      iterator.status();
+
+      if (batch.count() > 0) {
+        db.write(writeOptions, batch);
+        movedEntries += batch.count() / 2;
+      }
+    }
+
+    LOG.debug("Moved {} entries between column families", movedEntries);
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -146,16 +276,24 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
+  /**
+   * @return the handle of the RocksDB column family in which the given logical column family is
+   *     stored
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final Enum<?> columnFamily) {
+    return dedicatedHandles.getOrDefault(columnFamily.name(), defaultHandle);
+  }
+
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
   }
 
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  protected long getColumnFamilyNativeHandle(final Enum<?> columnFamily) {
+    return dedicatedNativeHandles.getOrDefault(columnFamily.name(), defaultNativeHandle);
   }
 
   @Override
@@ -170,6 +308,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           case NONE -> new NoopColumnFamilyMetrics();
           case FINE -> new FineGrainedColumnFamilyMetrics(columnFamily, meterRegistry);
         };
+    migrateToDedicatedColumnFamily(columnFamily);
     return new TransactionalColumnFamily<>(
         this,
         consistencyChecksSettings,
@@ -180,6 +319,29 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         metrics);
   }
 
+  /**
+   * Entries of a logical column family which was previously stored in the default column family are
+   * moved into its dedicated column family the first time it is accessed after opening the
+   * database. This is done lazily, as only the logical column family knows its prefix.
+   */
+  private void migrateToDedicatedColumnFamily(final ColumnFamilyNames columnFamily) {
+    final var handle = dedicatedHandles.get(columnFamily.name());
+    if (handle == null || !migratedColumnFamilies.add(columnFamily.name())) {
+      return;
+    }
+
+    final var prefix = new byte[Long.BYTES];
+    new UnsafeBuffer(prefix).putLong(0, columnFamily.getValue(), ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    try {
+      moveEntries(optimisticTransactionDB, defaultWriteOptions, defaultHandle, handle, prefix);
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to move the entries of %s into its dedicated column family"
+              .formatted(columnFamily),
+          e);
+    }
+  }
+
   @Override
   public void createSnapshot(final File snapshotDir) {
     try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
@@ -197,12 +359,29 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     String propertyValue = null;
     try {
       propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (propertyValue != null && !dedicatedHandles.isEmpty()) {
+        propertyValue = sumOverDedicatedColumnFamilies(propertyName, propertyValue);
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
     return Optional.ofNullable(propertyValue);
   }
 
+  private String sumOverDedicatedColumnFamilies(
+      final String propertyName, final String defaultValue) throws RocksDBException {
+    // numeric properties (e.g. sizes) are summed up, so that they still describe the whole state
+    try {
+      long sum = Long.parseLong(defaultValue);
+      for (final var handle : dedicatedHandles.values()) {
+        sum += Long.parseLong(optimisticTransactionDB.getProperty(handle, propertyName));
+      }
+      return String.valueOf(sum);
+    } catch (final NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
   @Override
   public TransactionContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
@@ -466,6 +466,166 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  @Test
+  public void shouldMultiGetExistingKeysInOrder() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        keyCollector -> {
+          for (final long key : List.of(3L, 4L, 1L)) {
+            this.key.wrapLong(key);
+            keyCollector.accept(this.key);
+          }
+        },
+        (key, value) -> {
+          keys.add(key.getValue());
+          values.add(value.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(keys).containsExactly(3L, 1L);
+    assertThat(values).containsExactly(30L, 10L);
+  }
+
+  @Test
+  public void shouldStopMultiGetVisit() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.multiGet(
+        keyCollector -> {
+          for (final long key : List.of(1L, 2L)) {
+            this.key.wrapLong(key);
+            keyCollector.accept(this.key);
+          }
+        },
+        (key, value) -> {
+          keys.add(key.getValue());
+          return false;
+        });
+
+    // then
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldWriteBatch() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+
+    // when
+    columnFamily.writeBatch(
+        batch -> {
+          key.wrapLong(1);
+          batch.deleteExisting(key);
+          key.wrapLong(2);
+          value.wrapLong(21);
+          batch.update(key, value);
+          key.wrapLong(4);
+          value.wrapLong(40);
+          batch.insert(key, value);
+          key.wrapLong(5);
+          value.wrapLong(50);
+          batch.upsert(key, value);
+          key.wrapLong(6);
+          batch.deleteIfExists(key);
+        });
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final List<Long> values = new ArrayList<>();
+    columnFamily.forEach(
+        (key, value) -> {
+          keys.add(key.getValue());
+          values.add(value.getValue());
+        });
+    assertThat(keys).containsExactly(2L, 3L, 4L, 5L);
+    assertThat(values).containsExactly(21L, 30L, 40L, 50L);
+  }
+
+  @Test
+  public void shouldWriteBatchWithLargeValues() {
+    // given
+    final var stringValue = new DbString();
+    final var stringColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, stringValue);
+    final var largeValue = "x".repeat(100_000);
+
+    // when
+    stringColumnFamily.writeBatch(
+        batch -> {
+          for (int i = 0; i < 10; i++) {
+            key.wrapLong(i);
+            stringValue.wrapString(largeValue + i);
+            batch.insert(key, stringValue);
+          }
+        });
+
+    // then
+    key.wrapLong(7);
+    assertThat(stringColumnFamily.get(key).toString()).isEqualTo(largeValue + 7);
+    assertThat(stringColumnFamily.count()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldNotWriteBatchIfPreconditionIsViolated() {
+    // given
+    upsertKeyValuePair(1, 10);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                columnFamily.writeBatch(
+                    batch -> {
+                      key.wrapLong(2);
+                      value.wrapLong(20);
+                      batch.insert(key, value);
+                      key.wrapLong(1);
+                      batch.insert(key, value);
+                    }))
+        .hasMessageContaining("Key DbLong{1} in ColumnFamily DEFAULT already exists")
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+
+    // then
+    key.wrapLong(2);
+    assertThat(columnFamily.exists(key)).isFalse();
+    key.wrapLong(1);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldThrowOnDeleteExistingInBatch() {
+    assertThatThrownBy(
+            () ->
+                columnFamily.writeBatch(
+                    batch -> {
+                      key.wrapLong(1);
+                      batch.deleteExisting(key);
+                    }))
+        .hasMessageContaining("does not exist")
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
+  @Test
+  public void shouldThrowOnNestedWriteBatch() {
+    assertThatThrownBy(() -> columnFamily.writeBatch(batch -> columnFamily.writeBatch(b -> {})))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Nested write batches");
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+
+final class DedicatedColumnFamiliesTest {
+
+  private static final int ENTRY_COUNT = 5_000;
+
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+
+  @Test
+  void shouldStoreEntriesInDedicatedColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    final var factory = createFactory(Map.of(TestColumnFamilies.ONE.name(), new Properties()));
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      fill(db, TestColumnFamilies.ONE);
+      fill(db, TestColumnFamilies.TWO);
+      final var column = createColumnFamily(db, TestColumnFamilies.ONE);
+      column.writeBatch(
+          batch -> {
+            key.wrapLong(ENTRY_COUNT);
+            value.wrapString("batch");
+            batch.insert(key, value);
+          });
+
+      // then
+      assertThat(column.count()).isEqualTo(ENTRY_COUNT + 1);
+      assertThat(createColumnFamily(db, TestColumnFamilies.TWO).count()).isEqualTo(ENTRY_COUNT);
+      key.wrapLong(ENTRY_COUNT);
+      assertThat(column.get(key).toString()).isEqualTo("batch");
+    }
+
+    assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "ONE");
+  }
+
+  @Test
+  void shouldMoveEntriesIntoDedicatedColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    try (final var db = createFactory(Map.of()).createDb(path)) {
+      fill(db, TestColumnFamilies.ONE);
+      fill(db, TestColumnFamilies.TWO);
+    }
+
+    // when
+    final var factory = createFactory(Map.of(TestColumnFamilies.ONE.name(), new Properties()));
+    try (final var db = factory.createDb(path)) {
+      // then
+      assertFilled(db, TestColumnFamilies.ONE);
+      assertFilled(db, TestColumnFamilies.TWO);
+    }
+
+    assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "ONE");
+  }
+
+  @Test
+  void shouldMoveEntriesBackToDefaultColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    final var properties = new Properties();
+    properties.put("write_buffer_size", String.valueOf(4 * 1024 * 1024));
+    try (final var db =
+        createFactory(Map.of(TestColumnFamilies.ONE.name(), properties)).createDb(path)) {
+      fill(db, TestColumnFamilies.ONE);
+      fill(db, TestColumnFamilies.TWO);
+    }
+
+    // when
+    try (final var db = createFactory(Map.of()).createDb(path)) {
+      // then
+      assertFilled(db, TestColumnFamilies.ONE);
+      assertFilled(db, TestColumnFamilies.TWO);
+    }
+
+    assertThat(listColumnFamilies(path)).containsExactly("default");
+  }
+
+  @Test
+  void shouldIncludeDedicatedColumnFamiliesInSnapshot(
+      final @TempDir File path, final @TempDir File tempDir) throws Exception {
+    // given
+    final var factory = createFactory(Map.of(TestColumnFamilies.ONE.name(), new Properties()));
+    final var snapshotPath = new File(tempDir, "snapshot");
+    final var snapshotOnlyPath = new File(tempDir, "snapshotOnly");
+    try (final var db = factory.createDb(path)) {
+      fill(db, TestColumnFamilies.ONE);
+      fill(db, TestColumnFamilies.TWO);
+
+      // when
+      db.createSnapshot(snapshotPath);
+    }
+    try (final var db = factory.openSnapshotOnlyDb(snapshotPath)) {
+      db.createSnapshot(snapshotOnlyPath);
+    }
+
+    // then
+    try (final var db = factory.createDb(snapshotOnlyPath)) {
+      assertFilled(db, TestColumnFamilies.ONE);
+      assertFilled(db, TestColumnFamilies.TWO);
+    }
+  }
+
+  private ZeebeRocksDbFactory<TestColumnFamilies> createFactory(
+      final Map<String, Properties> dedicatedColumnFamilies) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration()
+            .setDedicatedColumnFamilies(new HashMap<>(dedicatedColumnFamilies)),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1),
+        SimpleMeterRegistry::new);
+  }
+
+  private ColumnFamily<DbLong, DbString> createColumnFamily(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily) {
+    return db.createColumnFamily(columnFamily, db.createContext(), key, value);
+  }
+
+  private void fill(final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily) {
+    final var column = createColumnFamily(db, columnFamily);
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      key.wrapLong(i);
+      value.wrapString(columnFamily.name() + i);
+      column.insert(key, value);
+    }
+  }
+
+  private void assertFilled(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily) {
+    final var column = createColumnFamily(db, columnFamily);
+    final List<String> values = new ArrayList<>();
+    column.forEach((k, v) -> values.add(v.toString()));
+
+    assertThat(values).hasSize(ENTRY_COUNT);
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      key.wrapLong(i);
+      assertThat(column.get(key).toString()).isEqualTo(columnFamily.name() + i);
+    }
+  }
+
+  private List<String> listColumnFamilies(final File path) throws Exception {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    DEFAULT,
+    ONE,
+    TWO;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
@@ -27,6 +27,7 @@ import io.camunda.zeebe.util.ByteValue;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Stream;
 import org.assertj.core.api.ThrowingConsumer;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 
@@ -112,6 +114,36 @@ final class ZeebeRocksDbFactoryTest {
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize, 7);
   }
 
+  @Test
+  void shouldLayerDedicatedColumnFamilyOptionsOnDefaults() {
+    // given
+    final var customProperties = new Properties();
+    customProperties.put("compaction_pri", "kByCompensatedSize");
+    final var factory =
+        new ZeebeRocksDbFactory<>(
+            new RocksDbConfiguration()
+                .setDedicatedColumnFamilies(Map.of("DEDICATED", customProperties)),
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+
+    // when
+    final var defaults = factory.createColumnFamilyOptions(new ArrayList<>());
+    final var dedicatedOptions =
+        factory.createDedicatedColumnFamilyOptions("DEDICATED", new ArrayList<>());
+
+    // then
+    assertThat(dedicatedOptions.tableFormatConfig()).isInstanceOf(BlockBasedTableConfig.class);
+    // the memtable budget is shared with the default column family
+    assertThat(dedicatedOptions)
+        .extracting(
+            ColumnFamilyOptions::writeBufferSize,
+            ColumnFamilyOptions::compactionPriority,
+            ColumnFamilyOptions::numLevels)
+        .containsExactly(defaults.writeBufferSize(), CompactionPriority.ByCompensatedSize, 4);
+    assertThat(dedicatedOptions.writeBufferSize()).isEqualTo(25352238L);
+  }
+
   @Test
   void shouldFailIfPropertiesDoesNotExist(final @TempDir File pathName) {
     // given